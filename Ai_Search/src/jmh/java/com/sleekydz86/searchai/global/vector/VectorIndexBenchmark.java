@@ -0,0 +1,169 @@
+package com.sleekydz86.searchai.global.vector;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * HnswIndex 재현율/처리량 측정 (합성 청크 임베딩)
+ * 군집(1,000개씩) 중심 주변에 흩어진 벡터 n개를 넣고, 전수 비교(exactSearch) 결과를 정답으로 ef별 recall@k와 단일 스레드 QPS를 잰다.
+ * 필터 검색은 노드 10%만 통과하는 조건으로 따로 잰다.
+ * 벡터 i는 시드로 다시 만들 수 있어 n이 커도 힙에 벡터를 들고 있지 않는다.
+ * 실행: java -cp ... com.sleekydz86.searchai.global.vector.VectorIndexBenchmark [n] [dimension] [queries] [k] [m] [efConstruction]
+ */
+public class VectorIndexBenchmark {
+
+    private static final long SEED = 20_240_601L;
+    private static final int CLUSTER_SIZE = 1_000;
+    // 군집 중심과 같은 크기의 잡음이라 이웃 군집과 겹치고, 군집 안에서도 top-k가 잡음으로 갈림
+    private static final float NOISE = 1.0f;
+    private static final int[] EF_VALUES = {16, 32, 64, 128, 256};
+
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int dimension = args.length > 1 ? Integer.parseInt(args[1]) : 128;
+        int queries = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int k = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int m = args.length > 4 ? Integer.parseInt(args[4]) : 16;
+        int efConstruction = args.length > 5 ? Integer.parseInt(args[5]) : 100;
+
+        System.out.printf("벡터 %,d, 차원 %d, 질의 %d, k %d, M %d, efConstruction %d%n",
+                n, dimension, queries, k, m, efConstruction);
+        float[][] centers = new float[Math.max(1, n / CLUSTER_SIZE)][];
+        SplittableRandom centerRandom = new SplittableRandom(SEED);
+        for (int c = 0; c < centers.length; c++) {
+            centers[c] = gaussian(centerRandom, dimension, 1f);
+        }
+
+        Path dir = Files.createTempDirectory("hnsw-bench");
+        try {
+            long start = System.nanoTime();
+            try (HnswIndex index = HnswIndex.open(dir, dimension, m, efConstruction)) {
+                for (int i = 0; i < n; i++) {
+                    index.add(point(centers, i, dimension));
+                    if ((i + 1) % 100_000 == 0) {
+                        System.out.printf("  %,d개 추가 (%.0f vectors/s)%n", i + 1,
+                                (i + 1) / ((System.nanoTime() - start) / 1e9));
+                    }
+                }
+                index.save();
+            }
+            double buildSeconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("build  : %.1fs (%,.0f vectors/s), 디스크 %,d MB%n", buildSeconds, n / buildSeconds,
+                    directorySize(dir) >> 20);
+
+            // 저장한 파일을 다시 매핑해서 검색 (위층 그래프만 힙에 올라옴)
+            long openStart = System.nanoTime();
+            try (HnswIndex index = HnswIndex.open(dir, dimension, m, efConstruction)) {
+                System.out.printf("reopen : %.0fms%n", (System.nanoTime() - openStart) / 1e6);
+
+                float[][] queryVectors = new float[queries][];
+                SplittableRandom queryRandom = new SplittableRandom(SEED + 1);
+                for (int q = 0; q < queries; q++) {
+                    float[] noise = gaussian(queryRandom, dimension, NOISE);
+                    float[] center = centers[queryRandom.nextInt(centers.length)];
+                    for (int d = 0; d < dimension; d++) {
+                        noise[d] += center[d];
+                    }
+                    queryVectors[q] = noise;
+                }
+
+                run(index, queryVectors, k, null, "전체");
+                run(index, queryVectors, k, node -> node % 10 == 0, "필터 10%");
+            }
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    private static void run(HnswIndex index, float[][] queries, int k, IntPredicate filter, String label) {
+        long exactStart = System.nanoTime();
+        Set<Integer>[] truth = exact(index, queries, k, filter);
+        double exactQps = queries.length / ((System.nanoTime() - exactStart) / 1e9);
+        System.out.printf("[%s] brute force        : recall@%d 1.000, %,8.1f qps%n", label, k, exactQps);
+
+        for (int ef : EF_VALUES) {
+            // 한 번 돌려 JIT과 페이지 캐시를 데운 뒤 측정
+            for (float[] query : queries) {
+                index.search(query, k, ef, filter);
+            }
+            int hits = 0;
+            long[] latencies = new long[queries.length];
+            long start = System.nanoTime();
+            for (int q = 0; q < queries.length; q++) {
+                long queryStart = System.nanoTime();
+                List<ScoredNode> result = index.search(queries[q], k, ef, filter);
+                latencies[q] = System.nanoTime() - queryStart;
+                for (ScoredNode node : result) {
+                    if (truth[q].contains(node.id())) {
+                        hits++;
+                    }
+                }
+            }
+            double qps = queries.length / ((System.nanoTime() - start) / 1e9);
+            Arrays.sort(latencies);
+            System.out.printf("[%s] hnsw ef=%-4d       : recall@%d %.3f, %,8.1f qps, p99 %.2fms%n", label, ef, k,
+                    (double) hits / (queries.length * k), qps, latencies[(int) (latencies.length * 0.99)] / 1e6);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Integer>[] exact(HnswIndex index, float[][] queries, int k, IntPredicate filter) {
+        Set<Integer>[] truth = new Set[queries.length];
+        for (int q = 0; q < queries.length; q++) {
+            IntStream nodes = IntStream.range(0, index.size());
+            if (filter != null) {
+                nodes = nodes.filter(filter);
+            }
+            truth[q] = new HashSet<>();
+            for (ScoredNode node : index.exactSearch(queries[q], k, nodes)) {
+                truth[q].add(node.id());
+            }
+        }
+        return truth;
+    }
+
+    // 벡터 i = 군집 (i % 군집 수) 중심 + 잡음 (i로 시드를 정해 언제든 같은 값)
+    private static float[] point(float[][] centers, int i, int dimension) {
+        float[] vector = gaussian(new SplittableRandom(SEED ^ (i * 0x9E3779B97F4A7C15L)), dimension, NOISE);
+        float[] center = centers[i % centers.length];
+        for (int d = 0; d < dimension; d++) {
+            vector[d] += center[d];
+        }
+        return vector;
+    }
+
+    private static float[] gaussian(SplittableRandom random, int dimension, float scale) {
+        float[] vector = new float[dimension];
+        for (int d = 0; d < dimension; d++) {
+            // Box-Muller
+            double u = 1.0 - random.nextDouble();
+            double v = random.nextDouble();
+            vector[d] = (float) (Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v)) * scale;
+        }
+        return vector;
+    }
+
+    private static long directorySize(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            long total = 0;
+            for (Path file : files.toList()) {
+                total += Files.size(file);
+            }
+            return total;
+        }
+    }
+}
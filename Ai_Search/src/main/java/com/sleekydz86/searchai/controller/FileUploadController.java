@@ -1,18 +1,29 @@
 package com.sleekydz86.searchai.controller;
 
+import com.sleekydz86.searchai.global.beans.Document;
+import com.sleekydz86.searchai.global.beans.SearchFilter;
+import com.sleekydz86.searchai.global.rag.DocumentTextExtractor;
+import com.sleekydz86.searchai.global.vector.ChunkStore;
+import com.sleekydz86.searchai.service.DocumentService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/rag")
 @Slf4j
+@RequiredArgsConstructor
 public class FileUploadController {
 
+    private final DocumentService documentService;
+
     @PostMapping("/upload")
     public ResponseEntity<Map<String, Object>> uploadFile(@RequestParam("file") MultipartFile file) {
         Map<String, Object> response = new HashMap<>();
@@ -26,15 +37,26 @@ public class FileUploadController {
 
             log.info("파일 업로드 요청: 파일명={}, 크기={} bytes", file.getOriginalFilename(), file.getSize());
 
+            ChunkStore.StoredDocument stored = documentService.ingest(file.getOriginalFilename(), file.getBytes());
+
             response.put("status", 200);
             response.put("msg", "파일이 성공적으로 업로드되었습니다.");
             response.put("filename", file.getOriginalFilename());
             response.put("size", file.getSize());
+            response.put("documentId", stored.id());
+            response.put("chunks", stored.chunkCount());
 
             log.info("파일 업로드 성공: {}", file.getOriginalFilename());
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            log.warn("파일 업로드 거부: {}", e.getMessage());
+
+            response.put("status", 400);
+            response.put("msg", e.getMessage());
+
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
             log.error("파일 업로드 중 오류 발생: {}", e.getMessage(), e);
 
@@ -45,14 +67,21 @@ public class FileUploadController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<Document>> search(@RequestParam("question") String question,
+                                                 @RequestParam(value = "fileName", required = false) Set<String> fileNames,
+                                                 @RequestParam(value = "fileType", required = false) Set<String> fileTypes) {
+        return ResponseEntity.ok(documentService.doSearch(question, new SearchFilter(fileNames, fileTypes)));
+    }
+
     @GetMapping("/status")
     public ResponseEntity<Map<String, Object>> getUploadStatus() {
         Map<String, Object> response = new HashMap<>();
         response.put("status", 200);
         response.put("msg", "Upload service is running");
         response.put("maxFileSize", "10MB");
-        response.put("supportedFormats", new String[]{"txt", "pdf", "md", "docx"});
+        response.put("supportedFormats", DocumentTextExtractor.SUPPORTED_TYPES);
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.sleekydz86.searchai.global.beans;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 지식 베이스 검색 필터 (비어 있는 조건은 적용하지 않음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchFilter {
+
+    // 업로드 파일명
+    private Set<String> fileNames;
+    // 파일 형식 (txt, md, pdf)
+    private Set<String> fileTypes;
+
+    public boolean isEmpty() {
+        return (fileNames == null || fileNames.isEmpty()) && (fileTypes == null || fileTypes.isEmpty());
+    }
+
+    public boolean matches(String fileName, String fileType) {
+        return (fileNames == null || fileNames.isEmpty() || fileNames.contains(fileName))
+                && (fileTypes == null || fileTypes.isEmpty() || fileTypes.contains(fileType));
+    }
+}
@@ -0,0 +1,50 @@
+package com.sleekydz86.searchai.global.config;
+
+import com.sleekydz86.searchai.global.rag.DocumentTextExtractor;
+import com.sleekydz86.searchai.global.rag.TextChunker;
+import com.sleekydz86.searchai.global.vector.ChunkStore;
+import com.sleekydz86.searchai.global.vector.HnswIndex;
+import com.sleekydz86.searchai.service.TextEmbedder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class VectorIndexConfig {
+
+    @Value("${rag.index.dir:./data/rag-index}")
+    private String indexDir;
+    @Value("${rag.index.m:16}")
+    private int m;
+    @Value("${rag.index.ef-construction:100}")
+    private int efConstruction;
+
+    /**
+     * 지식 베이스 벡터 인덱스 (저장된 인덱스의 차원이 임베딩 차원과 다르면 기동 실패)
+     * @param textEmbedder 임베딩 구현
+     * @return 인덱스
+     */
+    @Bean(destroyMethod = "close")
+    public HnswIndex hnswIndex(TextEmbedder textEmbedder) throws IOException {
+        return HnswIndex.open(Path.of(indexDir), textEmbedder.dimension(), m, efConstruction);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ChunkStore chunkStore() throws IOException {
+        return ChunkStore.open(Path.of(indexDir));
+    }
+
+    @Bean
+    public TextChunker textChunker(@Value("${rag.chunk.size:800}") int chunkSize,
+                                   @Value("${rag.chunk.overlap:100}") int overlap) {
+        return new TextChunker(chunkSize, overlap);
+    }
+
+    @Bean
+    public DocumentTextExtractor documentTextExtractor() {
+        return new DocumentTextExtractor();
+    }
+}
@@ -0,0 +1,48 @@
+package com.sleekydz86.searchai.global.rag;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 업로드 파일에서 원문 추출 (txt, md는 UTF-8 그대로, pdf는 PDFBox로 텍스트만)
+ */
+public class DocumentTextExtractor {
+
+    public static final List<String> SUPPORTED_TYPES = List.of("txt", "md", "pdf");
+
+    /**
+     * 파일명 확장자로 형식 판별
+     * @param fileName 파일명
+     * @return 형식 (소문자 확장자)
+     */
+    public static String typeOf(String fileName) {
+        int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+        String type = dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (!SUPPORTED_TYPES.contains(type)) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + fileName
+                    + " (지원 형식: " + SUPPORTED_TYPES + ")");
+        }
+        return type;
+    }
+
+    /**
+     * 원문 추출
+     * @param type typeOf로 판별한 형식
+     * @param content 파일 내용
+     * @return 원문
+     */
+    public String extract(String type, byte[] content) throws IOException {
+        if ("pdf".equals(type)) {
+            try (PDDocument document = Loader.loadPDF(content)) {
+                return new PDFTextStripper().getText(document);
+            }
+        }
+        return new String(content, StandardCharsets.UTF_8);
+    }
+}
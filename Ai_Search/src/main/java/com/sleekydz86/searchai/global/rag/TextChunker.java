@@ -0,0 +1,92 @@
+package com.sleekydz86.searchai.global.rag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 문서 원문을 검색 단위 청크로 분할
+ * 문단 → 문장 → 글자 수 순으로 잘라 chunkSize 이하로 묶고, 앞 청크의 끝 overlap 글자를 다음 청크 앞에 붙여
+ * 경계에 걸린 문장도 한쪽 청크에서 온전히 검색되도록 한다.
+ */
+public class TextChunker {
+
+    private static final Pattern PARAGRAPH = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern SENTENCE = Pattern.compile("(?<=[.!?。？！])\\s+|\\n");
+
+    private final int chunkSize;
+    private final int overlap;
+
+    public TextChunker(int chunkSize, int overlap) {
+        if (chunkSize <= 0 || overlap < 0 || overlap >= chunkSize) {
+            throw new IllegalArgumentException("잘못된 청크 설정: size=" + chunkSize + ", overlap=" + overlap);
+        }
+        this.chunkSize = chunkSize;
+        this.overlap = overlap;
+    }
+
+    /**
+     * 원문 분할
+     * @param text 원문
+     * @return 청크 목록 (공백뿐인 원문이면 빈 목록)
+     */
+    public List<String> chunk(String text) {
+        List<String> pieces = new ArrayList<>();
+        for (String paragraph : PARAGRAPH.split(text.replace("\r\n", "\n").replace('\r', '\n'))) {
+            split(paragraph.strip(), pieces);
+        }
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String piece : pieces) {
+            int separator = current.isEmpty() ? 0 : 1;
+            if (current.length() + separator + piece.length() > chunkSize && !current.isEmpty()) {
+                String done = current.toString();
+                chunks.add(done);
+                current.setLength(0);
+                String tail = tail(done);
+                if (tail.length() + 1 + piece.length() <= chunkSize) {
+                    current.append(tail);
+                }
+            }
+            if (!current.isEmpty()) {
+                current.append(' ');
+            }
+            current.append(piece);
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    // chunkSize보다 긴 문단은 문장으로, 긴 문장은 글자 수로 자름
+    private void split(String paragraph, List<String> pieces) {
+        if (paragraph.isEmpty()) {
+            return;
+        }
+        if (paragraph.length() <= chunkSize) {
+            pieces.add(paragraph);
+            return;
+        }
+        for (String sentence : SENTENCE.split(paragraph)) {
+            String trimmed = sentence.strip();
+            for (int start = 0; start < trimmed.length(); start += chunkSize) {
+                pieces.add(trimmed.substring(start, Math.min(trimmed.length(), start + chunkSize)));
+            }
+        }
+    }
+
+    // 청크 끝 overlap 글자 (단어 중간에서 시작하지 않도록 다음 공백부터)
+    private String tail(String chunk) {
+        if (overlap == 0) {
+            return "";
+        }
+        if (chunk.length() <= overlap) {
+            return chunk;
+        }
+        int start = chunk.length() - overlap;
+        int space = chunk.indexOf(' ', start);
+        return space < 0 ? chunk.substring(start) : chunk.substring(space + 1);
+    }
+}
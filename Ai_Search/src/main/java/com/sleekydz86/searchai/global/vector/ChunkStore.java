@@ -0,0 +1,235 @@
+package com.sleekydz86.searchai.global.vector;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 청크 원문과 문서 목록 저장소
+ * 청크 원문은 chunks.dat에 (길이, UTF-8 바이트)로 이어 붙이고, 문서 목록은 chunks.meta에 기록한다.
+ * 문서의 청크는 HnswIndex에 연속된 노드 번호(firstNode ~ firstNode + chunkCount - 1)로 들어가므로
+ * 노드 번호로 원문과 문서를 바로 찾을 수 있다.
+ * 인덱스를 저장한 뒤 commit()으로 문서 목록을 기록하므로, 목록에 있는 문서는 항상 인덱스에도 있다.
+ */
+public final class ChunkStore implements Closeable {
+
+    private static final int MAGIC = 0x43484E4B; // "CHNK"
+    private static final int VERSION = 1;
+
+    private final Path dir;
+    private final FileChannel data;
+    private final List<StoredDocument> documents = new ArrayList<>();
+    // 노드 번호 -> chunks.dat 위치 (-1이면 문서에 속하지 않는 노드)
+    // 검색 중 노드마다 contains를 부르므로 읽기는 락 없이 하고, 쓰기는 위치를 채운 뒤 nodeLimit을 올려 공개함
+    private volatile long[] offsets = new long[1024];
+    private volatile int nodeLimit;
+
+    private ChunkStore(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        this.dir = dir;
+        this.data = FileChannel.open(dir.resolve("chunks.dat"), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        Arrays.fill(offsets, -1);
+    }
+
+    /**
+     * 저장소 열기 (기록된 문서 목록을 읽고, 목록에 없는 chunks.dat 뒷부분은 잘라냄)
+     * @param dir 저장 디렉터리
+     * @return 저장소
+     */
+    public static ChunkStore open(Path dir) throws IOException {
+        ChunkStore store = new ChunkStore(dir);
+        Path meta = dir.resolve("chunks.meta");
+        long dataEnd = 0;
+        if (Files.exists(meta)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(meta)))) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    throw new IOException("청크 저장소 파일이 아닙니다: " + meta);
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    StoredDocument document = new StoredDocument(in.readUTF(), in.readUTF(), in.readUTF(),
+                            in.readInt(), in.readInt(), in.readLong(), in.readLong());
+                    dataEnd = Math.max(dataEnd, store.loadOffsets(document));
+                    store.documents.add(document);
+                }
+            }
+        }
+        store.data.truncate(dataEnd);
+        return store;
+    }
+
+    /**
+     * 문서 청크 원문 기록 (commit 전까지는 문서 목록에 나타나지 않음)
+     * @param id 문서 ID
+     * @param fileName 파일명
+     * @param type 파일 형식
+     * @param firstNode 첫 청크의 노드 번호
+     * @param chunks 청크 원문
+     * @return 기록된 문서
+     */
+    public synchronized StoredDocument append(String id, String fileName, String type, int firstNode,
+                                              List<String> chunks) throws IOException {
+        long start = data.size();
+        long position = start;
+        for (String chunk : chunks) {
+            byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+            buffer.putInt(bytes.length).put(bytes).flip();
+            while (buffer.hasRemaining()) {
+                position += data.write(buffer, position);
+            }
+        }
+        data.force(false);
+        return new StoredDocument(id, fileName, type, firstNode, chunks.size(), start, System.currentTimeMillis());
+    }
+
+    /**
+     * 문서를 목록에 추가하고 chunks.meta를 원자적으로 교체 (인덱스 저장 후 호출)
+     * @param document append로 기록한 문서
+     */
+    public synchronized void commit(StoredDocument document) throws IOException {
+        loadOffsets(document);
+        documents.add(document);
+        Path tmp = dir.resolve("chunks.meta.tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(documents.size());
+            for (StoredDocument stored : documents) {
+                out.writeUTF(stored.id());
+                out.writeUTF(stored.fileName());
+                out.writeUTF(stored.type());
+                out.writeInt(stored.firstNode());
+                out.writeInt(stored.chunkCount());
+                out.writeLong(stored.dataOffset());
+                out.writeLong(stored.createdAt());
+            }
+        }
+        Files.move(tmp, dir.resolve("chunks.meta"), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public synchronized List<StoredDocument> documents() {
+        return List.copyOf(documents);
+    }
+
+    public synchronized int chunkCount() {
+        int total = 0;
+        for (StoredDocument document : documents) {
+            total += document.chunkCount();
+        }
+        return total;
+    }
+
+    /**
+     * 노드가 속한 문서
+     * @param node 노드 번호
+     * @return 문서 (문서에 속하지 않는 노드면 null)
+     */
+    public synchronized StoredDocument documentOf(int node) {
+        if (!contains(node)) {
+            return null;
+        }
+        // 문서는 firstNode 오름차순으로 추가됨
+        int low = 0;
+        int high = documents.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            StoredDocument document = documents.get(mid);
+            if (node < document.firstNode()) {
+                high = mid - 1;
+            } else if (node >= document.firstNode() + document.chunkCount()) {
+                low = mid + 1;
+            } else {
+                return document;
+            }
+        }
+        return null;
+    }
+
+    public boolean contains(int node) {
+        return node >= 0 && node < nodeLimit && offsets[node] >= 0;
+    }
+
+    /**
+     * 노드의 청크 원문
+     * @param node 노드 번호
+     * @return 원문 (문서에 속하지 않는 노드면 null)
+     */
+    public String chunkText(int node) throws IOException {
+        if (!contains(node)) {
+            return null;
+        }
+        long offset = offsets[node];
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        readFully(length, offset);
+        ByteBuffer text = ByteBuffer.allocate(length.flip().getInt());
+        readFully(text, offset + Integer.BYTES);
+        return new String(text.array(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        data.close();
+    }
+
+    // 문서 청크의 chunks.dat 위치를 읽어 offsets에 채우고, 문서 데이터의 끝 위치를 돌려줌
+    private long loadOffsets(StoredDocument document) throws IOException {
+        int end = document.firstNode() + document.chunkCount();
+        long[] target = offsets;
+        if (end > target.length) {
+            int oldLength = target.length;
+            target = Arrays.copyOf(target, Math.max(end, oldLength * 2));
+            Arrays.fill(target, oldLength, target.length, -1);
+        }
+        long position = document.dataOffset();
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        for (int node = document.firstNode(); node < end; node++) {
+            target[node] = position;
+            length.clear();
+            readFully(length, position);
+            position += Integer.BYTES + length.flip().getInt();
+        }
+        offsets = target;
+        nodeLimit = Math.max(nodeLimit, end);
+        return position;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = data.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("chunks.dat이 예상보다 짧습니다: " + dir);
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * 저장된 문서
+     * @param id 문서 ID
+     * @param fileName 업로드 파일명
+     * @param type 파일 형식 (txt, md, pdf)
+     * @param firstNode 첫 청크의 노드 번호
+     * @param chunkCount 청크 수
+     * @param dataOffset chunks.dat에서 첫 청크 위치
+     * @param createdAt 등록 시각 (epoch millis)
+     */
+    public record StoredDocument(String id, String fileName, String type, int firstNode, int chunkCount,
+                                 long dataOffset, long createdAt) {
+    }
+}
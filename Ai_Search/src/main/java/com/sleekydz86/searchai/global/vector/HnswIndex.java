@@ -0,0 +1,662 @@
+package com.sleekydz86.searchai.global.vector;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * 디스크에 두고 메모리 매핑으로 읽는 HNSW 근사 최근접 이웃 인덱스 (코사인 유사도)
+ * 벡터(vectors.bin)와 0층 이웃 목록(graph0.bin)은 노드 번호로 위치가 정해지는 고정 크기 슬롯이라 힙에 올리지 않고 매핑해서 읽는다.
+ * 노드의 약 1/M만 갖는 위층 이웃과 노드별 층 정보는 힙에 두고 save() 때 index.meta에 기록한다.
+ * 벡터는 정규화해 저장하므로 내적이 곧 코사인 유사도다.
+ * 추가는 한 번에 하나씩(쓰기 락), 검색은 동시에(읽기 락) 실행된다.
+ * save() 이후 추가된 노드는 다시 열 때 버려지며, 저장된 노드의 0층 이웃 목록에 남은 그 노드 번호도 함께 지운다.
+ */
+public final class HnswIndex implements Closeable {
+
+    private static final int MAGIC = 0x484E5357; // "HNSW"
+    private static final int VERSION = 1;
+    private static final int SEGMENT_SHIFT = 16;
+
+    private final Path dir;
+    private final int dimension;
+    private final int m;
+    private final int m0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    private final MappedSegments vectors;
+    private final MappedSegments graph0;
+    // 노드 -> 1..level 층의 이웃 목록 ([0]은 개수)
+    private final Map<Integer, int[][]> upperLayers = new HashMap<>();
+    private byte[] levels = new byte[1024];
+
+    private volatile int size;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<SearchScratch> scratch = ThreadLocal.withInitial(() -> new SearchScratch(dimension()));
+
+    private HnswIndex(Path dir, int dimension, int m, int efConstruction, long seed) throws IOException {
+        if (dimension <= 0 || m < 2 || efConstruction < m) {
+            throw new IllegalArgumentException("잘못된 인덱스 설정: dimension=" + dimension + ", m=" + m
+                    + ", efConstruction=" + efConstruction);
+        }
+        Files.createDirectories(dir);
+        this.dir = dir;
+        this.dimension = dimension;
+        this.m = m;
+        this.m0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+        this.vectors = new MappedSegments(dir.resolve("vectors.bin"), dimension * Float.BYTES, SEGMENT_SHIFT);
+        this.graph0 = new MappedSegments(dir.resolve("graph0.bin"), (m0 + 1) * Integer.BYTES, SEGMENT_SHIFT);
+    }
+
+    /**
+     * 인덱스 열기 (디렉터리에 저장된 인덱스가 없으면 새로 생성)
+     * @param dir 인덱스 디렉터리
+     * @param dimension 벡터 차원
+     * @param m 층마다 노드가 유지할 이웃 수 (0층은 2M)
+     * @param efConstruction 추가할 때 탐색할 후보 수
+     * @return 인덱스
+     */
+    public static HnswIndex open(Path dir, int dimension, int m, int efConstruction) throws IOException {
+        Path meta = dir.resolve("index.meta");
+        if (!Files.exists(meta)) {
+            return new HnswIndex(dir, dimension, m, efConstruction, 42);
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(meta)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("HNSW 인덱스 파일이 아닙니다: " + meta);
+            }
+            int storedDimension = in.readInt();
+            if (storedDimension != dimension) {
+                throw new IllegalStateException("인덱스 차원(" + storedDimension + ")과 임베딩 차원(" + dimension
+                        + ")이 다릅니다. 인덱스 디렉터리를 비우고 다시 적재하세요: " + dir);
+            }
+            HnswIndex index = new HnswIndex(dir, dimension, in.readInt(), in.readInt(), in.readLong());
+            index.readState(in);
+            return index;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 0층에서 노드가 유지하는 최대 이웃 수 (2M, 다시 열면 저장된 M 기준)
+     */
+    public int maxDegree() {
+        return m0;
+    }
+
+    /**
+     * 벡터 추가
+     * @param vector 벡터 (정규화해서 저장)
+     * @return 노드 번호 (0부터 순서대로)
+     */
+    public int add(float[] vector) {
+        float[] query = normalize(vector);
+        lock.writeLock().lock();
+        try {
+            int node = size;
+            vectors.ensureCapacity(node + 1);
+            graph0.ensureCapacity(node + 1);
+            writeVector(node, query);
+            writeNeighbors0(node, new int[0], 0);
+
+            int level = randomLevel();
+            if (node >= levels.length) {
+                levels = Arrays.copyOf(levels, levels.length * 2);
+            }
+            levels[node] = (byte) level;
+            if (level > 0) {
+                int[][] layers = new int[level][];
+                for (int l = 0; l < level; l++) {
+                    layers[l] = new int[m + 1];
+                }
+                upperLayers.put(node, layers);
+            }
+
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                size = node + 1;
+                return node;
+            }
+
+            SearchScratch s = scratch.get();
+            int ep = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                ep = greedyClosest(query, ep, l, s);
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                int count = searchLayer(query, ep, efConstruction, l, null, node, s);
+                int[] candidates = Arrays.copyOf(s.resultIds, count);
+                float[] candidateScores = Arrays.copyOf(s.resultScores, count);
+                int maxNeighbors = l == 0 ? m0 : m;
+                int[] neighbors = selectNeighbors(candidates, candidateScores, count, maxNeighbors, s);
+                setNeighbors(node, l, neighbors, neighbors.length);
+                for (int neighbor : neighbors) {
+                    connect(neighbor, node, l, maxNeighbors, s);
+                }
+                ep = candidates[0];
+            }
+
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = node;
+            }
+            size = node + 1;
+            return node;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 근사 top-k 검색
+     * 필터가 있으면 그래프는 모든 노드를 따라 이동하되 필터를 통과한 노드만 결과에 넣는다.
+     * 통과하는 노드가 아주 적으면 탐색이 길어지므로 그때는 exactSearch를 쓰는 편이 낫다.
+     * @param query 질의 벡터
+     * @param k 결과 수
+     * @param ef 탐색할 후보 수 (k 이상, 클수록 재현율이 높고 느림)
+     * @param filter 결과에 넣을 노드 조건 (null이면 전체)
+     * @return 유사도 내림차순 결과
+     */
+    public List<ScoredNode> search(float[] query, int k, int ef, IntPredicate filter) {
+        float[] q = normalize(query);
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return List.of();
+            }
+            SearchScratch s = scratch.get();
+            int ep = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                ep = greedyClosest(q, ep, l, s);
+            }
+            int count = searchLayer(q, ep, Math.max(ef, k), 0, filter, -1, s);
+            List<ScoredNode> result = new ArrayList<>(Math.min(k, count));
+            for (int i = 0; i < count && i < k; i++) {
+                result.add(new ScoredNode(s.resultIds[i], s.resultScores[i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 노드만 전부 비교하는 정확한 top-k 검색 (필터 통과 노드가 적을 때, 재현율 측정의 기준값)
+     * @param query 질의 벡터
+     * @param k 결과 수
+     * @param nodes 비교할 노드 번호
+     * @return 유사도 내림차순 결과
+     */
+    public List<ScoredNode> exactSearch(float[] query, int k, IntStream nodes) {
+        float[] q = normalize(query);
+        lock.readLock().lock();
+        try {
+            int limit = size;
+            float[] buffer = scratch.get().vector;
+            NodeHeap best = new NodeHeap(k + 1, false);
+            nodes.forEach(node -> {
+                if (node < 0 || node >= limit) {
+                    return;
+                }
+                float score = score(q, node, buffer);
+                if (best.size() < k) {
+                    best.push(node, score);
+                } else if (score > best.topScore()) {
+                    best.pop();
+                    best.push(node, score);
+                }
+            });
+            ScoredNode[] result = new ScoredNode[best.size()];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = new ScoredNode(best.topId(), best.topScore());
+                best.pop();
+            }
+            return Arrays.asList(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 상태를 디스크에 기록 (매핑 파일 flush 후 메타 파일을 원자적으로 교체)
+     */
+    public void save() throws IOException {
+        lock.writeLock().lock();
+        try {
+            vectors.force();
+            graph0.force();
+            Path tmp = dir.resolve("index.meta.tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(dimension);
+                out.writeInt(m);
+                out.writeInt(efConstruction);
+                out.writeLong(random.nextLong());
+                out.writeInt(size);
+                out.writeInt(entryPoint);
+                out.writeInt(maxLevel);
+                out.write(levels, 0, size);
+                out.writeInt(upperLayers.size());
+                for (Map.Entry<Integer, int[][]> entry : upperLayers.entrySet()) {
+                    out.writeInt(entry.getKey());
+                    for (int[] layer : entry.getValue()) {
+                        out.writeInt(layer[0]);
+                        for (int i = 1; i <= layer[0]; i++) {
+                            out.writeInt(layer[i]);
+                        }
+                    }
+                }
+            }
+            Files.move(tmp, dir.resolve("index.meta"), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            vectors.close();
+            graph0.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void readState(DataInputStream in) throws IOException {
+        int storedSize = in.readInt();
+        entryPoint = in.readInt();
+        maxLevel = in.readInt();
+        levels = new byte[Math.max(1024, storedSize)];
+        in.readFully(levels, 0, storedSize);
+        int upperCount = in.readInt();
+        for (int i = 0; i < upperCount; i++) {
+            int node = in.readInt();
+            int[][] layers = new int[levels[node]][];
+            for (int l = 0; l < layers.length; l++) {
+                layers[l] = new int[m + 1];
+                layers[l][0] = in.readInt();
+                for (int j = 1; j <= layers[l][0]; j++) {
+                    layers[l][j] = in.readInt();
+                }
+            }
+            upperLayers.put(node, layers);
+        }
+        vectors.ensureCapacity(storedSize);
+        graph0.ensureCapacity(storedSize);
+        size = storedSize;
+        dropUnsavedNeighbors0();
+    }
+
+    // save() 뒤에 추가되었다 버려진 노드와 연결하며 0층 이웃 목록에 들어간 번호를 지움
+    // (그대로 두면 다음에 같은 번호로 추가되는 전혀 다른 노드와 연결된 것으로 읽힘)
+    private void dropUnsavedNeighbors0() {
+        int[] kept = new int[m0];
+        for (int node = 0; node < size; node++) {
+            ByteBuffer graph = graph0.segment(node);
+            int offset = graph0.offset(node);
+            int count = Math.min(graph.getInt(offset), m0);
+            int keptCount = 0;
+            for (int i = 1; i <= count; i++) {
+                int neighbor = graph.getInt(offset + i * Integer.BYTES);
+                if (neighbor >= 0 && neighbor < size) {
+                    kept[keptCount++] = neighbor;
+                }
+            }
+            if (keptCount < graph.getInt(offset)) {
+                writeNeighbors0(node, kept, keptCount);
+            }
+        }
+    }
+
+    private int randomLevel() {
+        double r = 1.0 - random.nextDouble();
+        return Math.min((int) (-Math.log(r) * levelMultiplier), 16);
+    }
+
+    // 위층에서는 더 가까운 이웃이 없을 때까지 한 칸씩 이동
+    private int greedyClosest(float[] query, int ep, int level, SearchScratch scratch) {
+        int current = ep;
+        float currentScore = score(query, current, scratch.vector);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] layer = upperLayer(current, level);
+            if (layer == null) {
+                break;
+            }
+            for (int i = 1; i <= layer[0]; i++) {
+                int neighbor = layer[i];
+                if (neighbor >= size) {
+                    continue;
+                }
+                float s = score(query, neighbor, scratch.vector);
+                if (s > currentScore) {
+                    currentScore = s;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 층에서 ef개 후보를 찾는 best-first 탐색
+     * 결과는 s.resultIds / s.resultScores 에 유사도 내림차순으로 채운다.
+     * @param exclude 결과와 탐색에서 뺄 노드 (추가 중인 자기 자신, 없으면 -1)
+     * @return 결과 수
+     */
+    private int searchLayer(float[] query, int ep, int ef, int level, IntPredicate filter, int exclude,
+                            SearchScratch s) {
+        int limit = exclude >= 0 ? exclude : size;
+        s.startVisit(limit);
+        NodeHeap candidates = s.candidates;
+        NodeHeap results = s.results;
+        candidates.clear();
+        results.clear();
+
+        float epScore = score(query, ep, s.vector);
+        s.visit(ep);
+        candidates.push(ep, epScore);
+        if (filter == null || filter.test(ep)) {
+            results.push(ep, epScore);
+        }
+
+        while (candidates.size() > 0) {
+            int current = candidates.topId();
+            float currentScore = candidates.topScore();
+            candidates.pop();
+            if (results.size() >= ef && currentScore < results.topScore()) {
+                break;
+            }
+
+            ByteBuffer graph = null;
+            int offset = 0;
+            int count;
+            int[] layer = null;
+            if (level == 0) {
+                graph = graph0.segment(current);
+                offset = graph0.offset(current);
+                count = graph.getInt(offset);
+            } else {
+                layer = upperLayer(current, level);
+                count = layer == null ? 0 : layer[0];
+            }
+            for (int i = 1; i <= count; i++) {
+                int neighbor = level == 0 ? graph.getInt(offset + i * Integer.BYTES) : layer[i];
+                if (neighbor >= limit || !s.visit(neighbor)) {
+                    continue;
+                }
+                float score = score(query, neighbor, s.vector);
+                if (results.size() < ef || score > results.topScore()) {
+                    candidates.push(neighbor, score);
+                    if (filter == null || filter.test(neighbor)) {
+                        results.push(neighbor, score);
+                        if (results.size() > ef) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+        }
+
+        int count = results.size();
+        s.ensureResultCapacity(count);
+        for (int i = count - 1; i >= 0; i--) {
+            s.resultIds[i] = results.topId();
+            s.resultScores[i] = results.topScore();
+            results.pop();
+        }
+        return count;
+    }
+
+    /**
+     * 이웃 선택 휴리스틱 (HNSW 논문 알고리즘 4)
+     * 이미 고른 이웃보다 기준 노드에 더 가까운 후보만 골라 여러 방향의 연결을 남기고, 모자라면 버린 후보로 채운다.
+     * @param candidates 유사도 내림차순 후보
+     * @param scores 후보와 기준 노드의 유사도
+     */
+    private int[] selectNeighbors(int[] candidates, float[] scores, int count, int max, SearchScratch s) {
+        if (count <= max) {
+            return Arrays.copyOf(candidates, count);
+        }
+        int[] selected = new int[max];
+        int selectedCount = 0;
+        int[] pruned = new int[count];
+        int prunedCount = 0;
+        float[] candidateVector = s.candidateVector;
+        for (int i = 0; i < count && selectedCount < max; i++) {
+            int candidate = candidates[i];
+            readVector(candidate, candidateVector);
+            boolean keep = true;
+            for (int j = 0; j < selectedCount; j++) {
+                if (score(candidateVector, selected[j], s.vector) > scores[i]) {
+                    keep = false;
+                    break;
+                }
+            }
+            if (keep) {
+                selected[selectedCount++] = candidate;
+            } else {
+                pruned[prunedCount++] = candidate;
+            }
+        }
+        for (int i = 0; i < prunedCount && selectedCount < max; i++) {
+            selected[selectedCount++] = pruned[i];
+        }
+        return Arrays.copyOf(selected, selectedCount);
+    }
+
+    // 이웃 목록에 새 노드를 추가하고, 가득 찼으면 휴리스틱으로 다시 고름
+    private void connect(int node, int newNeighbor, int level, int maxNeighbors, SearchScratch s) {
+        int[] current = neighbors(node, level);
+        if (current.length < maxNeighbors) {
+            int[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = newNeighbor;
+            setNeighbors(node, level, grown, grown.length);
+            return;
+        }
+
+        float[] base = s.baseVector;
+        readVector(node, base);
+        int[] candidates = Arrays.copyOf(current, current.length + 1);
+        candidates[current.length] = newNeighbor;
+        float[] scores = new float[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            scores[i] = score(base, candidates[i], s.vector);
+        }
+        sortDescending(candidates, scores);
+        int[] selected = selectNeighbors(candidates, scores, candidates.length, maxNeighbors, s);
+        setNeighbors(node, level, selected, selected.length);
+    }
+
+    // 노드의 이웃 목록 (테스트에서 그래프 연결 확인에도 사용)
+    int[] neighbors(int node, int level) {
+        if (level == 0) {
+            ByteBuffer graph = graph0.segment(node);
+            int offset = graph0.offset(node);
+            int count = graph.getInt(offset);
+            int[] result = new int[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = graph.getInt(offset + (i + 1) * Integer.BYTES);
+            }
+            return result;
+        }
+        int[] layer = upperLayer(node, level);
+        return layer == null ? new int[0] : Arrays.copyOfRange(layer, 1, layer[0] + 1);
+    }
+
+    private void setNeighbors(int node, int level, int[] neighbors, int count) {
+        if (level == 0) {
+            writeNeighbors0(node, neighbors, count);
+        } else {
+            int[] layer = upperLayer(node, level);
+            System.arraycopy(neighbors, 0, layer, 1, count);
+            layer[0] = count;
+        }
+    }
+
+    // 이웃 번호를 먼저 쓰고 개수를 마지막에 써서 개수만큼은 항상 유효한 번호가 되도록 함
+    private void writeNeighbors0(int node, int[] neighbors, int count) {
+        ByteBuffer graph = graph0.segment(node);
+        int offset = graph0.offset(node);
+        for (int i = 0; i < count; i++) {
+            graph.putInt(offset + (i + 1) * Integer.BYTES, neighbors[i]);
+        }
+        graph.putInt(offset, count);
+    }
+
+    private int[] upperLayer(int node, int level) {
+        int[][] layers = upperLayers.get(node);
+        return layers == null || level > layers.length ? null : layers[level - 1];
+    }
+
+    private void writeVector(int node, float[] vector) {
+        vectors.writeFloats(node, vector);
+    }
+
+    private void readVector(int node, float[] target) {
+        vectors.readFloats(node, target);
+    }
+
+    // 매핑 버퍼에서 값을 하나씩 읽으면 접근 검사 비용이 커서 배열로 한 번에 복사한 뒤 내적
+    private float score(float[] query, int node, float[] buffer) {
+        vectors.readFloats(node, buffer);
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+        int i = 0;
+        for (; i + 3 < dimension; i += 4) {
+            sum0 += query[i] * buffer[i];
+            sum1 += query[i + 1] * buffer[i + 1];
+            sum2 += query[i + 2] * buffer[i + 2];
+            sum3 += query[i + 3] * buffer[i + 3];
+        }
+        for (; i < dimension; i++) {
+            sum0 += query[i] * buffer[i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    private float[] normalize(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 다릅니다: " + vector.length + " != " + dimension);
+        }
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        float[] result = new float[dimension];
+        if (norm == 0) {
+            return result;
+        }
+        float inv = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimension; i++) {
+            result[i] = vector[i] * inv;
+        }
+        return result;
+    }
+
+    private static void sortDescending(int[] ids, float[] scores) {
+        Integer[] order = new Integer[ids.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+        int[] sortedIds = new int[ids.length];
+        float[] sortedScores = new float[ids.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedIds[i] = ids[order[i]];
+            sortedScores[i] = scores[order[i]];
+        }
+        System.arraycopy(sortedIds, 0, ids, 0, ids.length);
+        System.arraycopy(sortedScores, 0, scores, 0, scores.length);
+    }
+
+    /**
+     * 검색 스레드마다 재사용하는 작업 공간 (방문 표시, 후보/결과 힙)
+     */
+    private static final class SearchScratch {
+        private final float[] vector;
+        private final float[] candidateVector;
+        private final float[] baseVector;
+        private int[] visitMarks = new int[1024];
+        private int visitGeneration;
+        private final NodeHeap candidates = new NodeHeap(64, true);
+        private final NodeHeap results = new NodeHeap(64, false);
+        private int[] resultIds = new int[64];
+        private float[] resultScores = new float[64];
+
+        SearchScratch(int dimension) {
+            this.vector = new float[dimension];
+            this.candidateVector = new float[dimension];
+            this.baseVector = new float[dimension];
+        }
+
+        void startVisit(int nodes) {
+            if (visitMarks.length < nodes) {
+                visitMarks = new int[Math.max(nodes, visitMarks.length * 2)];
+                visitGeneration = 0;
+            }
+            if (++visitGeneration == 0) {
+                Arrays.fill(visitMarks, 0);
+                visitGeneration = 1;
+            }
+        }
+
+        boolean visit(int node) {
+            if (visitMarks[node] == visitGeneration) {
+                return false;
+            }
+            visitMarks[node] = visitGeneration;
+            return true;
+        }
+
+        void ensureResultCapacity(int count) {
+            if (resultIds.length < count) {
+                resultIds = new int[count];
+                resultScores = new float[count];
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.sleekydz86.searchai.global.vector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 고정 크기 슬롯을 담는 메모리 매핑 파일
+ * MappedByteBuffer 하나는 2GB를 넘을 수 없어 slotsPerSegment개 슬롯 단위로 나눠 매핑하고, 필요할 때 파일을 늘려 다음 구간을 매핑한다.
+ * 슬롯 i는 (i / slotsPerSegment)번째 구간의 (i % slotsPerSegment) * slotBytes 위치에 있다.
+ */
+final class MappedSegments implements Closeable {
+
+    private final FileChannel channel;
+    private final int slotBytes;
+    private final int segmentShift;
+    private final int segmentMask;
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    // float 슬롯을 한 번에 복사하기 위한 구간별 뷰 (위치를 바꾸지 않는 절대 접근만 사용)
+    private FloatBuffer[] floatViews = new FloatBuffer[0];
+
+    /**
+     * @param file 파일 경로 (없으면 생성)
+     * @param slotBytes 슬롯 하나의 바이트 수
+     * @param segmentShift 구간당 슬롯 수의 log2
+     */
+    MappedSegments(Path file, int slotBytes, int segmentShift) throws IOException {
+        if ((long) slotBytes << segmentShift > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("구간 크기가 2GB를 넘습니다: " + slotBytes + " x 2^" + segmentShift);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.slotBytes = slotBytes;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+    }
+
+    /**
+     * 슬롯 수만큼 매핑 확보 (파일이 짧으면 늘어남)
+     * @param slots 필요한 슬롯 수
+     */
+    void ensureCapacity(int slots) throws IOException {
+        int needed = slots == 0 ? 0 : ((slots - 1) >>> segmentShift) + 1;
+        if (needed <= segments.length) {
+            return;
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(segments, needed);
+        FloatBuffer[] grownViews = Arrays.copyOf(floatViews, needed);
+        long segmentBytes = (long) slotBytes << segmentShift;
+        for (int i = segments.length; i < needed; i++) {
+            grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * segmentBytes, segmentBytes);
+            grown[i].order(ByteOrder.LITTLE_ENDIAN);
+            grownViews[i] = grown[i].asFloatBuffer();
+        }
+        floatViews = grownViews;
+        segments = grown;
+    }
+
+    /**
+     * 슬롯이 들어 있는 구간 버퍼
+     * @param slot 슬롯 번호
+     * @return 구간 버퍼 (위치는 offset(slot)로 계산)
+     */
+    ByteBuffer segment(int slot) {
+        return segments[slot >>> segmentShift];
+    }
+
+    int offset(int slot) {
+        return (slot & segmentMask) * slotBytes;
+    }
+
+    /**
+     * 슬롯 앞부분의 float 값을 배열로 복사 (getFloat를 하나씩 부르는 것보다 훨씬 빠름)
+     * @param slot 슬롯 번호
+     * @param target 복사할 배열 (길이만큼 읽음)
+     */
+    void readFloats(int slot, float[] target) {
+        floatViews[slot >>> segmentShift].get(offset(slot) / Float.BYTES, target);
+    }
+
+    void writeFloats(int slot, float[] source) {
+        floatViews[slot >>> segmentShift].put(offset(slot) / Float.BYTES, source);
+    }
+
+    void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        segments = new MappedByteBuffer[0];
+        floatViews = new FloatBuffer[0];
+        channel.close();
+    }
+}
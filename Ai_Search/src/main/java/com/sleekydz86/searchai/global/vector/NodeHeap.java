@@ -0,0 +1,82 @@
+package com.sleekydz86.searchai.global.vector;
+
+import java.util.Arrays;
+
+/**
+ * (노드 번호, 유사도) 이진 힙 (박싱 없이 배열 두 개로 관리)
+ * maxOnTop이면 유사도가 가장 큰 노드가, 아니면 가장 작은 노드가 맨 위에 온다.
+ */
+final class NodeHeap {
+
+    private final boolean maxOnTop;
+    private int[] ids;
+    private float[] scores;
+    private int size;
+
+    NodeHeap(int capacity, boolean maxOnTop) {
+        this.maxOnTop = maxOnTop;
+        this.ids = new int[Math.max(capacity, 2)];
+        this.scores = new float[ids.length];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int topId() {
+        return ids[0];
+    }
+
+    float topScore() {
+        return scores[0];
+    }
+
+    void push(int id, float score) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!above(score, scores[parent])) {
+                break;
+            }
+            ids[i] = ids[parent];
+            scores[i] = scores[parent];
+            i = parent;
+        }
+        ids[i] = id;
+        scores[i] = score;
+    }
+
+    void pop() {
+        int lastId = ids[--size];
+        float lastScore = scores[size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && above(scores[right], scores[child])) {
+                child = right;
+            }
+            if (!above(scores[child], lastScore)) {
+                break;
+            }
+            ids[i] = ids[child];
+            scores[i] = scores[child];
+            i = child;
+        }
+        ids[i] = lastId;
+        scores[i] = lastScore;
+    }
+
+    private boolean above(float a, float b) {
+        return maxOnTop ? a > b : a < b;
+    }
+}
@@ -0,0 +1,9 @@
+package com.sleekydz86.searchai.global.vector;
+
+/**
+ * 검색 결과 노드
+ * @param id 노드 번호
+ * @param score 코사인 유사도
+ */
+public record ScoredNode(int id, float score) {
+}
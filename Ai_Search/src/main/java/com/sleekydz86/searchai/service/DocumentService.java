@@ -1,9 +1,28 @@
 package com.sleekydz86.searchai.service;
 
 import com.sleekydz86.searchai.global.beans.Document;
+import com.sleekydz86.searchai.global.beans.SearchFilter;
+import com.sleekydz86.searchai.global.vector.ChunkStore;
 
+import java.io.IOException;
 import java.util.List;
 
 public interface  DocumentService {
     List<Document> doSearch(String question);
+
+    /**
+     * 지식 베이스에서 질문과 가까운 청크 검색
+     * @param question 질문
+     * @param filter 검색할 문서 조건 (null이면 전체)
+     * @return 유사도 내림차순 청크 (title = 파일명, text = 청크 원문)
+     */
+    List<Document> doSearch(String question, SearchFilter filter);
+
+    /**
+     * 업로드 파일을 청크로 나눠 임베딩하고 인덱스에 추가
+     * @param fileName 파일명 (확장자로 형식 판별)
+     * @param content 파일 내용
+     * @return 저장된 문서
+     */
+    ChunkStore.StoredDocument ingest(String fileName, byte[] content) throws IOException;
 }
@@ -0,0 +1,25 @@
+package com.sleekydz86.searchai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 텍스트 임베딩 (rag.embedding.provider로 구현 선택)
+ */
+public interface TextEmbedder {
+
+    /**
+     * @return 임베딩 벡터 차원 (인덱스 차원과 같아야 함)
+     */
+    int dimension();
+
+    float[] embed(String text);
+
+    default List<float[]> embedAll(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(embed(text));
+        }
+        return vectors;
+    }
+}
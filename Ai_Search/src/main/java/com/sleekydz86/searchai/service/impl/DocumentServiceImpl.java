@@ -1,32 +1,161 @@
 package com.sleekydz86.searchai.service.impl;
 
+import com.sleekydz86.searchai.global.beans.SearchFilter;
+import com.sleekydz86.searchai.global.rag.DocumentTextExtractor;
+import com.sleekydz86.searchai.global.rag.TextChunker;
+import com.sleekydz86.searchai.global.vector.ChunkStore;
+import com.sleekydz86.searchai.global.vector.HnswIndex;
+import com.sleekydz86.searchai.global.vector.ScoredNode;
 import com.sleekydz86.searchai.service.DocumentService;
 import com.sleekydz86.searchai.global.beans.Document;
+import com.sleekydz86.searchai.service.TextEmbedder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.BitSet;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class DocumentServiceImpl implements DocumentService {
 
+    // 필터 검색에서 ef를 최대 몇 배까지 넓힐지
+    private static final int MAX_FILTERED_EF_FACTOR = 4;
+
+    @Value("${rag.search.top-k:5}")
+    private int topK;
+
+    @Value("${rag.search.ef:128}")
+    private int efSearch;
+
+    // 필터를 통과하는 청크가 이보다 적으면 그래프 대신 해당 청크만 전부 비교
+    @Value("${rag.search.exact-threshold:20000}")
+    private int exactThreshold;
+
+    private final HnswIndex hnswIndex;
+    private final ChunkStore chunkStore;
+    private final TextEmbedder textEmbedder;
+    private final TextChunker textChunker;
+    private final DocumentTextExtractor documentTextExtractor;
+
     @Override
     public List<Document> doSearch(String question) {
+        return doSearch(question, null);
+    }
+
+    @Override
+    public List<Document> doSearch(String question, SearchFilter filter) {
         log.info("지식 베이스에서 질문에 대한 관련 문서 검색: {}", question);
 
         List<Document> documents = new ArrayList<>();
+        if (question == null || question.trim().isEmpty() || chunkStore.chunkCount() == 0) {
+            return documents;
+        }
+
+        float[] query = textEmbedder.embed(question);
+        List<ScoredNode> hits;
+        if (filter == null || filter.isEmpty()) {
+            // 커밋 전 문서의 노드는 결과에서 제외
+            hits = hnswIndex.search(query, topK, efSearch, chunkStore::contains);
+        } else {
+            hits = filteredSearch(query, filter);
+        }
 
-        if (question != null && !question.trim().isEmpty()) {
-            Document sampleDoc = new Document(
-                    "샘플 문서",
-                    "이것은 '" + question + "'에 대한 샘플 응답입니다. 실제 벡터 검색 구현이 필요합니다."
-            );
-            documents.add(sampleDoc);
+        for (ScoredNode hit : hits) {
+            Document document = toDocument(hit);
+            if (document != null) {
+                documents.add(document);
+            }
         }
 
         log.debug("검색된 문서 수: {}", documents.size());
         return documents;
     }
-}
\ No newline at end of file
+
+    @Override
+    public synchronized ChunkStore.StoredDocument ingest(String fileName, byte[] content) throws IOException {
+        String type = DocumentTextExtractor.typeOf(fileName);
+        List<String> chunks = textChunker.chunk(documentTextExtractor.extract(type, content));
+        if (chunks.isEmpty()) {
+            throw new IllegalArgumentException("파일에서 추출한 텍스트가 없습니다: " + fileName);
+        }
+
+        long start = System.nanoTime();
+        List<float[]> vectors = textEmbedder.embedAll(chunks);
+        int firstNode = hnswIndex.size();
+        ChunkStore.StoredDocument stored = chunkStore.append(UUID.randomUUID().toString(), fileName, type,
+                firstNode, chunks);
+        for (float[] vector : vectors) {
+            hnswIndex.add(vector);
+        }
+        // 인덱스를 먼저 저장해야 문서 목록에 있는 청크가 항상 인덱스에도 있음
+        hnswIndex.save();
+        chunkStore.commit(stored);
+
+        log.info("문서 적재 완료: 파일명={}, 청크 수={}, 소요 시간={}ms", fileName, chunks.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return stored;
+    }
+
+    private List<ScoredNode> filteredSearch(float[] query, SearchFilter filter) {
+        List<ChunkStore.StoredDocument> matched = new ArrayList<>();
+        int matchedChunks = 0;
+        for (ChunkStore.StoredDocument stored : chunkStore.documents()) {
+            if (filter.matches(stored.fileName(), stored.type())) {
+                matched.add(stored);
+                matchedChunks += stored.chunkCount();
+            }
+        }
+        if (matched.isEmpty()) {
+            return List.of();
+        }
+
+        // 필터 검색은 통과 노드 ef개를 모을 때까지 약 ef / 선택도 개 노드를 펼치고 노드마다 0층 이웃(최대 2M)을 비교하므로,
+        // 그 비용이 통과 청크를 전부 비교하는 것보다 크면 전수 비교가 더 빠르고 정확함
+        int totalChunks = chunkStore.chunkCount();
+        int ef = efSearch * Math.min(MAX_FILTERED_EF_FACTOR, Math.max(1, totalChunks / matchedChunks));
+        long graphCost = (long) ef * hnswIndex.maxDegree() * totalChunks / matchedChunks;
+        // 문서의 청크는 연속된 노드라 범위만 훑으면 됨
+        if (matchedChunks <= exactThreshold || matchedChunks <= graphCost) {
+            IntStream nodes = matched.stream()
+                    .flatMapToInt(stored -> IntStream.range(stored.firstNode(), stored.firstNode() + stored.chunkCount()));
+            return hnswIndex.exactSearch(query, topK, nodes);
+        }
+
+        BitSet allowed = new BitSet(hnswIndex.size());
+        for (ChunkStore.StoredDocument stored : matched) {
+            allowed.set(stored.firstNode(), stored.firstNode() + stored.chunkCount());
+        }
+        return hnswIndex.search(query, topK, ef, allowed::get);
+    }
+
+    private Document toDocument(ScoredNode hit) {
+        ChunkStore.StoredDocument stored = chunkStore.documentOf(hit.id());
+        if (stored == null) {
+            return null;
+        }
+        try {
+            int chunkIndex = hit.id() - stored.firstNode();
+            Document document = new Document(stored.fileName(), chunkStore.chunkText(hit.id()));
+            document.setId(stored.id() + "#" + chunkIndex);
+            document.setScore((double) hit.score());
+            document.setMetadata("type=" + stored.type() + ", chunk=" + (chunkIndex + 1) + "/" + stored.chunkCount());
+            document.setCreatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(stored.createdAt()),
+                    ZoneId.systemDefault()));
+            return document;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.sleekydz86.searchai.service.impl;
+
+import com.sleekydz86.searchai.service.TextEmbedder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 외부 모델 없이 쓰는 결정적 임베딩 (feature hashing)
+ * 단어와 글자 2·3-gram을 해시해 차원 하나에 ±가중치를 더하고 정규화한다.
+ * 의미는 모르지만 같은 단어나 어간을 공유하는 텍스트끼리 가까워지므로(조사가 붙은 "찌개는"과 "찌개") 로컬 실행과 테스트에 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "rag.embedding.provider", havingValue = "hashing", matchIfMissing = true)
+public class HashingTextEmbedder implements TextEmbedder {
+
+    private static final float NGRAM_WEIGHT = 0.5f;
+
+    private final int dimension;
+
+    public HashingTextEmbedder(@Value("${rag.embedding.dimension:384}") int dimension) {
+        this.dimension = dimension;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimension];
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            add(vector, token.hashCode(), 1f);
+            String padded = "#" + token + "#";
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= padded.length(); i++) {
+                    add(vector, padded.substring(i, i + n).hashCode() * 31 + n, NGRAM_WEIGHT);
+                }
+            }
+        }
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm > 0) {
+            float inv = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < dimension; i++) {
+                vector[i] *= inv;
+            }
+        }
+        return vector;
+    }
+
+    private void add(float[] vector, int hash, float weight) {
+        int mixed = mix(hash);
+        int index = Math.floorMod(mixed, dimension);
+        vector[index] += (mixed & 0x40000000) == 0 ? weight : -weight;
+    }
+
+    // String.hashCode는 비슷한 문자열끼리 값이 몰려서 한 번 섞음 (murmur3 fmix32)
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
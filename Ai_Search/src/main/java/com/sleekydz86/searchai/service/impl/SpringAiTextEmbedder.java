@@ -0,0 +1,37 @@
+package com.sleekydz86.searchai.service.impl;
+
+import com.sleekydz86.searchai.service.TextEmbedder;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Spring AI EmbeddingModel(spring.ai.openai.embedding.* 설정)을 쓰는 임베딩
+ */
+@Component
+@ConditionalOnProperty(name = "rag.embedding.provider", havingValue = "spring-ai")
+public class SpringAiTextEmbedder implements TextEmbedder {
+
+    private final EmbeddingModel embeddingModel;
+
+    public SpringAiTextEmbedder(EmbeddingModel embeddingModel) {
+        this.embeddingModel = embeddingModel;
+    }
+
+    @Override
+    public int dimension() {
+        return embeddingModel.dimensions();
+    }
+
+    @Override
+    public float[] embed(String text) {
+        return embeddingModel.embed(text);
+    }
+
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        return embeddingModel.embed(texts);
+    }
+}
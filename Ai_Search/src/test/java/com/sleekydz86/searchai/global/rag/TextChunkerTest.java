@@ -0,0 +1,80 @@
+package com.sleekydz86.searchai.global.rag;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextChunkerTest {
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TextChunker(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TextChunker(100, -1));
+        assertThrows(IllegalArgumentException.class, () -> new TextChunker(100, 100));
+    }
+
+    @Test
+    void blankTextHasNoChunks() {
+        assertTrue(new TextChunker(100, 10).chunk(" \n\n \r\n ").isEmpty());
+    }
+
+    @Test
+    void shortParagraphsShareOneChunk() {
+        List<String> chunks = new TextChunker(100, 10).chunk("첫 문단입니다.\r\n\r\n둘째 문단입니다.");
+
+        assertEquals(List.of("첫 문단입니다. 둘째 문단입니다."), chunks);
+    }
+
+    @Test
+    void nextChunkStartsWithTailOfPrevious() {
+        TextChunker chunker = new TextChunker(60, 20);
+        String text = "alpha beta gamma delta. epsilon zeta eta theta. iota kappa lambda mu. "
+                + "nu xi omicron pi. rho sigma tau upsilon. phi chi psi omega.";
+        // 문단 하나가 chunkSize보다 길어 문장 단위로 나뉨
+        List<String> chunks = chunker.chunk(text);
+
+        assertTrue(chunks.size() > 1, chunks.toString());
+        for (int i = 0; i < chunks.size(); i++) {
+            assertTrue(chunks.get(i).length() <= 60, chunks.get(i));
+            if (i > 0) {
+                String previous = chunks.get(i - 1);
+                String tail = previous.substring(previous.length() - 20);
+                String overlapWords = tail.substring(tail.indexOf(' ') + 1);
+                assertTrue(chunks.get(i).startsWith(overlapWords), previous + " | " + chunks.get(i));
+            }
+        }
+        // 겹친 부분을 빼면 모든 문장이 순서대로 한 번씩 들어감
+        assertTrue(chunks.get(0).startsWith("alpha beta gamma delta."));
+        assertTrue(chunks.get(chunks.size() - 1).endsWith("phi chi psi omega."));
+    }
+
+    @Test
+    void longSentenceIsCutByLength() {
+        TextChunker chunker = new TextChunker(50, 10);
+        String sentence = "가".repeat(130);
+
+        List<String> chunks = chunker.chunk(sentence);
+
+        // 공백 없는 긴 문장은 글자 수로 잘림
+        // 꽉 찬 조각 뒤에는 꼬리를 붙일 자리가 없고, 짧은 마지막 조각 앞에는 앞 청크의 끝 10글자가 붙음
+        assertEquals(List.of("가".repeat(50), "가".repeat(50), "가".repeat(10) + " " + "가".repeat(30)), chunks);
+    }
+
+    @Test
+    void longSentenceAmongShortOnesKeepsChunkSize() {
+        TextChunker chunker = new TextChunker(40, 8);
+        String text = "짧은 문장입니다. " + "긴".repeat(90) + ". 마지막 문장입니다.";
+
+        List<String> chunks = chunker.chunk(text);
+
+        assertTrue(chunks.stream().allMatch(chunk -> chunk.length() <= 40), chunks.toString());
+        // 긴 문장은 빠짐없이 들어가고, 겹침으로 최대 overlap 글자씩만 중복됨
+        long longChars = chunks.stream().mapToLong(chunk -> chunk.chars().filter(c -> c == '긴').count()).sum();
+        assertTrue(longChars >= 90 && longChars <= 90 + 8L * (chunks.size() - 1), chunks.toString());
+        assertTrue(chunks.get(chunks.size() - 1).endsWith("마지막 문장입니다."));
+    }
+}
@@ -0,0 +1,81 @@
+package com.sleekydz86.searchai.global.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void dropsUncommittedChunks() throws Exception {
+        try (ChunkStore store = ChunkStore.open(dir)) {
+            store.commit(store.append("a", "a.txt", "txt", 0, List.of("첫 번째 청크", "두 번째 청크")));
+            store.append("b", "b.md", "md", 2, List.of("커밋하지 않은 청크"));
+        }
+
+        try (ChunkStore reopened = ChunkStore.open(dir)) {
+            assertEquals(2, reopened.chunkCount());
+            assertEquals("두 번째 청크", reopened.chunkText(1));
+            assertEquals("a.txt", reopened.documentOf(1).fileName());
+            assertNull(reopened.chunkText(2));
+
+            ChunkStore.StoredDocument next = reopened.append("c", "c.pdf", "pdf", 2, List.of("새 청크"));
+            reopened.commit(next);
+            assertEquals("새 청크", reopened.chunkText(2));
+        }
+    }
+
+    @Test
+    void findsDocumentOfEveryNode() throws Exception {
+        try (ChunkStore store = ChunkStore.open(dir)) {
+            store.commit(store.append("a", "a.txt", "txt", 0, List.of("a1", "a2", "a3")));
+            store.commit(store.append("b", "b.md", "md", 3, List.of("b1")));
+            store.commit(store.append("c", "c.pdf", "pdf", 4, List.of("c1", "c2")));
+
+            assertEquals(List.of("a", "a", "a", "b", "c", "c"),
+                    List.of(0, 1, 2, 3, 4, 5).stream().map(node -> store.documentOf(node).id()).toList());
+            assertEquals("c2", store.chunkText(5));
+            assertNull(store.documentOf(6));
+            assertFalse(store.contains(-1));
+            assertEquals(3, store.documents().size());
+        }
+    }
+
+    @Test
+    void skipsNodesOutsideDocuments() throws Exception {
+        try (ChunkStore store = ChunkStore.open(dir)) {
+            // 적재에 실패한 문서의 노드(0~1)는 인덱스에만 남고 어느 문서에도 속하지 않음
+            store.commit(store.append("b", "b.txt", "txt", 2, List.of("b1", "b2")));
+
+            assertFalse(store.contains(0));
+            assertNull(store.documentOf(1));
+            assertNull(store.chunkText(1));
+            assertTrue(store.contains(2));
+            assertEquals("b2", store.chunkText(3));
+        }
+    }
+
+    @Test
+    void growsOffsetsPastInitialCapacity() throws Exception {
+        List<String> chunks = IntStream.range(0, 3000).mapToObj(i -> "청크 " + i).toList();
+        try (ChunkStore store = ChunkStore.open(dir)) {
+            store.commit(store.append("big", "big.txt", "txt", 0, chunks));
+        }
+
+        try (ChunkStore reopened = ChunkStore.open(dir)) {
+            assertEquals(3000, reopened.chunkCount());
+            assertEquals("청크 2999", reopened.chunkText(2999));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.sleekydz86.searchai.global.vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void approximateSearchMatchesExactSearch() throws Exception {
+        Random random = new Random(7);
+        try (HnswIndex index = HnswIndex.open(dir, DIMENSION, 16, 100)) {
+            for (int i = 0; i < 3000; i++) {
+                index.add(randomVector(random));
+            }
+
+            int hits = 0;
+            for (int q = 0; q < 50; q++) {
+                float[] query = randomVector(random);
+                Set<Integer> exact = ids(index.exactSearch(query, 10, IntStream.range(0, index.size())));
+                for (ScoredNode node : index.search(query, 10, 64, null)) {
+                    if (exact.contains(node.id())) {
+                        hits++;
+                    }
+                }
+            }
+            double recall = hits / 500.0;
+            assertTrue(recall >= 0.9, "recall@10 = " + recall);
+        }
+    }
+
+    @Test
+    void reopenKeepsSavedNodesOnly() throws Exception {
+        Random random = new Random(11);
+        float[][] vectors = new float[500][];
+        try (HnswIndex index = HnswIndex.open(dir, DIMENSION, 8, 50)) {
+            for (int i = 0; i < vectors.length; i++) {
+                vectors[i] = randomVector(random);
+                index.add(vectors[i]);
+            }
+            index.save();
+            // 저장하지 않은 노드는 다시 열면 사라져야 함
+            index.add(randomVector(random));
+        }
+
+        try (HnswIndex reopened = HnswIndex.open(dir, DIMENSION, 8, 50)) {
+            assertEquals(vectors.length, reopened.size());
+            for (int i = 0; i < vectors.length; i += 50) {
+                assertEquals(i, reopened.search(vectors[i], 1, 32, null).get(0).id());
+            }
+            assertEquals(vectors.length, reopened.add(randomVector(random)));
+        }
+    }
+
+    @Test
+    void filteredSearchReturnsOnlyMatchingNodes() throws Exception {
+        Random random = new Random(3);
+        try (HnswIndex index = HnswIndex.open(dir, DIMENSION, 16, 100)) {
+            for (int i = 0; i < 2000; i++) {
+                index.add(randomVector(random));
+            }
+            float[] query = randomVector(random);
+            List<ScoredNode> result = index.search(query, 10, 64, node -> node % 10 == 0);
+
+            assertEquals(10, result.size());
+            assertTrue(result.stream().allMatch(node -> node.id() % 10 == 0));
+            Set<Integer> exact = ids(index.exactSearch(query, 10, IntStream.range(0, 200).map(i -> i * 10)));
+            assertTrue(ids(result).stream().filter(exact::contains).count() >= 8);
+        }
+    }
+
+    @Test
+    void reopenDropsNeighborLinksToUnsavedNodes() throws Exception {
+        Random random = new Random(19);
+        int saved = 300;
+        try (HnswIndex index = HnswIndex.open(dir, DIMENSION, 8, 50)) {
+            for (int i = 0; i < saved; i++) {
+                index.add(randomVector(random));
+            }
+            index.save();
+            // 저장된 노드의 0층 이웃 목록에 저장하지 않은 노드 번호가 들어감
+            for (int i = 0; i < 100; i++) {
+                index.add(randomVector(random));
+            }
+        }
+
+        try (HnswIndex reopened = HnswIndex.open(dir, DIMENSION, 8, 50)) {
+            for (int node = 0; node < saved; node++) {
+                for (int neighbor : reopened.neighbors(node, 0)) {
+                    assertTrue(neighbor < saved, "node " + node + " -> " + neighbor);
+                }
+            }
+
+            // 같은 번호로 새로 추가한 노드는 자기가 고른 이웃의 목록에만 들어가야 함
+            int added = reopened.add(randomVector(random));
+            assertEquals(saved, added);
+            Set<Integer> chosen = Arrays.stream(reopened.neighbors(added, 0)).boxed().collect(Collectors.toSet());
+            for (int node = 0; node < saved; node++) {
+                if (Arrays.stream(reopened.neighbors(node, 0)).anyMatch(neighbor -> neighbor == added)) {
+                    assertTrue(chosen.contains(node), "node " + node + " links to " + added + " without being chosen");
+                }
+            }
+        }
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static Set<Integer> ids(List<ScoredNode> nodes) {
+        return nodes.stream().map(ScoredNode::id).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,218 @@
+package com.sleekydz86.searchai.service.impl;
+
+import com.sleekydz86.searchai.controller.FileUploadController;
+import com.sleekydz86.searchai.global.beans.Document;
+import com.sleekydz86.searchai.global.beans.SearchFilter;
+import com.sleekydz86.searchai.global.rag.DocumentTextExtractor;
+import com.sleekydz86.searchai.global.rag.TextChunker;
+import com.sleekydz86.searchai.global.vector.ChunkStore;
+import com.sleekydz86.searchai.global.vector.HnswIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNotNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class DocumentServiceImplTest {
+
+    private static final int DIMENSION = 256;
+    private static final int TOP_K = 3;
+
+    @TempDir
+    Path dir;
+
+    private final HashingTextEmbedder embedder = new HashingTextEmbedder(DIMENSION);
+    private HnswIndex hnswIndex;
+    private ChunkStore chunkStore;
+    private DocumentServiceImpl documentService;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (hnswIndex != null) {
+            hnswIndex.close();
+        }
+        if (chunkStore != null) {
+            chunkStore.close();
+        }
+    }
+
+    @Test
+    void uploadedDocumentsAreSearchableByChunk() throws Exception {
+        open(16, 128, 20_000);
+        ChunkStore.StoredDocument recipes = ingestSamples().get(0);
+
+        List<Document> documents = documentService.doSearch("김치찌개에 두부를 넣고 끓이는 방법");
+
+        assertEquals(TOP_K, documents.size());
+        Document first = documents.get(0);
+        assertEquals("recipes.txt", first.getTitle());
+        assertTrue(first.getText().contains("김치찌개"), first.getText());
+        assertTrue(first.getId().startsWith(recipes.id() + "#"), first.getId());
+        assertTrue(first.getMetadata().startsWith("type=txt, chunk="), first.getMetadata());
+        for (int i = 1; i < documents.size(); i++) {
+            assertTrue(documents.get(i - 1).getScore() >= documents.get(i).getScore(), "유사도 내림차순");
+        }
+    }
+
+    @Test
+    void filtersByFileNameAndTypeWithExactScan() throws Exception {
+        // 통과 청크가 exactThreshold 이하라 통과 청크만 전부 비교
+        open(16, 128, 20_000);
+        ingestSamples();
+        clearInvocations(hnswIndex);
+
+        assertFiltered(new SearchFilter(Set.of("gc.txt"), null), Set.of("gc.txt"));
+        assertFiltered(new SearchFilter(null, Set.of("md")), Set.of("football.md"));
+        assertFiltered(new SearchFilter(Set.of("recipes.txt", "football.md"), Set.of("md")), Set.of("football.md"));
+        assertTrue(documentService.doSearch("김치찌개", new SearchFilter(Set.of("none.txt"), null)).isEmpty());
+
+        verify(hnswIndex, atLeastOnce()).exactSearch(any(), eq(TOP_K), any());
+        verify(hnswIndex, never()).search(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void filtersByFileNameAndTypeWithGraphWalk() throws Exception {
+        // exactThreshold 0, 작은 M과 ef로 그래프 탐색 비용이 통과 청크 수보다 작아지게 함
+        open(2, 1, 0);
+        List<ChunkStore.StoredDocument> stored = ingestSamples();
+        int total = chunkStore.chunkCount();
+        for (ChunkStore.StoredDocument document : stored) {
+            int ef = Math.min(4, Math.max(1, total / document.chunkCount()));
+            long graphCost = (long) ef * hnswIndex.maxDegree() * total / document.chunkCount();
+            assertTrue(document.chunkCount() > graphCost, "그래프 탐색 분기 전제: " + document.fileName());
+        }
+        clearInvocations(hnswIndex);
+
+        assertFiltered(new SearchFilter(Set.of("gc.txt"), null), Set.of("gc.txt"));
+        assertFiltered(new SearchFilter(null, Set.of("md")), Set.of("football.md"));
+
+        verify(hnswIndex, atLeastOnce()).search(any(), eq(TOP_K), anyInt(), isNotNull());
+        verify(hnswIndex, never()).exactSearch(any(), anyInt(), any());
+    }
+
+    @Test
+    void rejectsEmptyAndUnsupportedUploadsWithBadRequest() throws Exception {
+        open(16, 128, 20_000);
+        FileUploadController controller = new FileUploadController(documentService);
+
+        assertBadRequest(controller.uploadFile(new MockMultipartFile("file", "empty.txt", "text/plain", new byte[0])));
+        assertBadRequest(controller.uploadFile(file("notes.docx", "지원하지 않는 형식")));
+        assertBadRequest(controller.uploadFile(file("noext", "확장자 없음")));
+        assertBadRequest(controller.uploadFile(file("blank.md", "  \n\n \r\n ")));
+        assertThrows(IllegalArgumentException.class,
+                () -> documentService.ingest("blank.txt", " \n ".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(0, chunkStore.chunkCount());
+        assertEquals(0, hnswIndex.size());
+        assertTrue(documentService.doSearch("형식").isEmpty());
+
+        ResponseEntity<Map<String, Object>> ok = controller.uploadFile(file("ok.txt", "정상 업로드 문서입니다."));
+        assertEquals(HttpStatus.OK, ok.getStatusCode());
+        assertEquals(1, ok.getBody().get("chunks"));
+    }
+
+    @Test
+    void neverReturnsChunksOfUncommittedDocuments() throws Exception {
+        open(16, 128, 20_000);
+        ingestSamples();
+
+        // 인덱스에는 추가됐지만 커밋 전인 문서 (적재 중이거나 저장 전에 실패한 상태)
+        List<String> pending = List.of("김치찌개에 두부를 넣고 끓이는 방법", "김치찌개 레시피 비밀");
+        chunkStore.append("pending", "pending.txt", "txt", hnswIndex.size(), pending);
+        for (String chunk : pending) {
+            hnswIndex.add(embedder.embed(chunk));
+        }
+
+        for (String question : pending) {
+            assertNoPending(documentService.doSearch(question));
+            assertNoPending(documentService.doSearch(question, new SearchFilter(null, Set.of("txt"))));
+            assertTrue(documentService.doSearch(question, new SearchFilter(Set.of("pending.txt"), null)).isEmpty());
+        }
+
+        // 다음 적재는 커밋되지 않은 노드 뒤에 이어 붙고 정상 검색됨
+        ChunkStore.StoredDocument next = documentService.ingest("next.md", "된장찌개 끓이는 방법".getBytes(StandardCharsets.UTF_8));
+        assertEquals(hnswIndex.size() - 1, next.firstNode());
+        assertEquals("next.md", documentService.doSearch("된장찌개", new SearchFilter(null, Set.of("md"))).stream()
+                .filter(document -> document.getText().contains("된장찌개"))
+                .findFirst().orElseThrow().getTitle());
+    }
+
+    private void open(int m, int efSearch, int exactThreshold) throws Exception {
+        // 어느 검색 경로를 탔는지 확인하기 위해 실제 인덱스를 감싸서 사용
+        hnswIndex = spy(HnswIndex.open(dir, DIMENSION, m, 100));
+        chunkStore = ChunkStore.open(dir);
+        documentService = new DocumentServiceImpl(hnswIndex, chunkStore, embedder, new TextChunker(200, 20),
+                new DocumentTextExtractor());
+        ReflectionTestUtils.setField(documentService, "topK", TOP_K);
+        ReflectionTestUtils.setField(documentService, "efSearch", efSearch);
+        ReflectionTestUtils.setField(documentService, "exactThreshold", exactThreshold);
+    }
+
+    // 주제가 다른 문서 3개 (각 문서 수십 청크)
+    private List<ChunkStore.StoredDocument> ingestSamples() throws Exception {
+        return List.of(
+                ingest("recipes.txt", i -> "김치찌개 레시피 " + i + ": 돼지고기와 김치를 볶은 뒤 물을 붓고 두부를 넣어 끓인다. "
+                        + "찌개는 약불에서 오래 끓일수록 맛있다."),
+                ingest("football.md", i -> "축구 경기 규칙 " + i + ": 오프사이드는 공보다 앞선 공격수가 "
+                        + "수비수보다 골대에 가까울 때 선언된다. 주심이 휘슬을 분다."),
+                ingest("gc.txt", i -> "자바 가비지 컬렉션 " + i + ": G1 컬렉터는 힙을 리전으로 나누고 "
+                        + "쓰레기가 많은 리전부터 회수해 정지 시간을 줄인다."));
+    }
+
+    private ChunkStore.StoredDocument ingest(String fileName, IntFunction<String> paragraph)
+            throws Exception {
+        String text = IntStream.range(0, 150).mapToObj(paragraph).collect(Collectors.joining("\n\n"));
+        return documentService.ingest(fileName, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void assertFiltered(SearchFilter filter, Set<String> expectedFiles) {
+        // 필터와 상관없는 주제로 질문해도 필터를 통과한 문서에서만 결과가 나옴
+        List<Document> documents = documentService.doSearch("김치찌개에 두부를 넣고 끓이는 방법", filter);
+        assertFalse(documents.isEmpty());
+        for (Document document : documents) {
+            assertTrue(expectedFiles.contains(document.getTitle()), document.getTitle());
+        }
+    }
+
+    private static void assertNoPending(List<Document> documents) {
+        assertFalse(documents.isEmpty());
+        for (Document document : documents) {
+            assertFalse(document.getTitle().equals("pending.txt") || document.getId().startsWith("pending#"),
+                    document.getId());
+        }
+    }
+
+    private static void assertBadRequest(ResponseEntity<Map<String, Object>> response) {
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(400, response.getBody().get("status"));
+    }
+
+    private static MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("file", name, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
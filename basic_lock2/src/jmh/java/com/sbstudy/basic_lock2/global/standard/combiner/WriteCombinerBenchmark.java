@@ -0,0 +1,88 @@
+package com.sbstudy.basic_lock2.global.standard.combiner;
+
+import com.sbstudy.basic_lock2.BasicLock2Application;
+import com.sbstudy.basic_lock2.domain.post.service.PostService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 게시글(핫 로우)에 대한 초당 쓰기 수 (임베디드 H2)
+ * pessimistic: PostService.modifyWithPessimistic - 요청마다 쓰기 락 + 커밋
+ * combining: PostService.modifyWithCombining - PostWriteCombiner 가 동시에 들어온 요청을 묶어 쓰기 락 + 커밋 1번
+ * 커밋마다 @Version 이 1 오르므로, 측정이 끝나면 버전 증가분으로 커밋 수와 커밋당 요청 수를 출력한다.
+ *
+ * 실행: ./gradlew jmh 또는 java -cp ... com.sbstudy.basic_lock2.global.standard.combiner.WriteCombinerBenchmark [JMH 옵션]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class WriteCombinerBenchmark {
+
+    @Param({"pessimistic", "combining"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private long id;
+    private long startVersion;
+    private final AtomicLong seq = new AtomicLong();
+    private final LongAdder writes = new LongAdder();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BasicLock2Application.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        // NotProd 초기 데이터 없이 시작
+                        "spring.profiles.active=prod",
+                        "spring.datasource.url=jdbc:h2:mem:combiner-bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.datasource.hikari.maximum-pool-size=40",
+                        "logging.level.root=warn")
+                .run();
+        postService = context.getBean(PostService.class);
+
+        id = postService.write("제목").getData().getId();
+        startVersion = postService.findById(id).get().getVersion();
+    }
+
+    @Benchmark
+    public Object modify() {
+        String title = "제목 " + seq.incrementAndGet();
+        writes.increment();
+        return "combining".equals(mode)
+                ? postService.modifyWithCombining(id, title)
+                : postService.modifyWithPessimistic(id, title);
+    }
+
+    @TearDown
+    public void tearDown() {
+        long commits = postService.findById(id).get().getVersion() - startVersion;
+        System.out.printf("%n[%s] 요청 %,d회, 커밋 %,d회, 커밋당 요청 %.1f%n",
+                mode, writes.sum(), commits, writes.sum() / (double) Math.max(1, commits));
+        context.close();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .include(WriteCombinerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
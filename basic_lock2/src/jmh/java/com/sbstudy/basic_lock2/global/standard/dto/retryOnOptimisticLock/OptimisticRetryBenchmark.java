@@ -0,0 +1,96 @@
+package com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock;
+
+import com.sbstudy.basic_lock2.BasicLock2Application;
+import com.sbstudy.basic_lock2.domain.post.service.PostService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PostService.modifyWithOptimistic 의 호출당 지연 분포 (임베디드 H2)
+ * 애플리케이션 컨텍스트를 그대로 띄워 OptimisticLockingRetryAspect -> @Transactional -> JPA @Version 검사 경로를 잰다.
+ * 여러 스레드가 posts 개 게시글 중 하나를 골라 제목을 고치며, posts=1 이면 모든 요청이 한 행(핫 로우)에 몰린다.
+ * 재시도 횟수를 다 써서 실패한 호출도 한 번의 측정으로 세고, 측정이 끝나면 메서드별 충돌/재시도/포기 수를 출력한다.
+ *
+ * 실행: ./gradlew jmh 또는 java -cp ... com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock.OptimisticRetryBenchmark [JMH 옵션]
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class OptimisticRetryBenchmark {
+
+    @Param({"1", "16"})
+    private int posts;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private OptimisticLockRetryMetrics metrics;
+    private long[] ids;
+    private final AtomicLong seq = new AtomicLong();
+    private final LongAdder failed = new LongAdder();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BasicLock2Application.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        // NotProd 초기 데이터 없이 시작
+                        "spring.profiles.active=prod",
+                        "spring.datasource.url=jdbc:h2:mem:optimistic-bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.datasource.hikari.maximum-pool-size=16",
+                        "logging.level.root=warn")
+                .run();
+        postService = context.getBean(PostService.class);
+        metrics = context.getBean(OptimisticLockRetryMetrics.class);
+
+        ids = new long[posts];
+        for (int i = 0; i < posts; i++) {
+            ids[i] = postService.write("제목 " + i).getData().getId();
+        }
+    }
+
+    @Benchmark
+    public boolean modify() {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        try {
+            postService.modifyWithOptimistic(id, "제목 " + seq.incrementAndGet());
+            return true;
+        } catch (OptimisticLockingFailureException e) {
+            // 재시도를 다 쓰거나 재시도 한도에 걸린 호출
+            failed.increment();
+            return false;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n[posts=%d] 실패 %,d회%n", posts, failed.sum());
+        metrics.snapshot().forEach(snapshot -> System.out.println("  " + snapshot));
+        context.close();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .include(OptimisticRetryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
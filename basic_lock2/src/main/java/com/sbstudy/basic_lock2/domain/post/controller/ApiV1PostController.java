@@ -60,6 +60,17 @@ public class ApiV1PostController {
         return post;
     }
 
+    @GetMapping("/{id}/putWithCombining")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Post modifyWithCombining(
+            @PathVariable long id,
+            String title
+    ) {
+        Post post = postService.modifyWithCombining(id, title);
+
+        return post;
+    }
+
     @GetMapping("/{id}/putWithOptimistic")
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Post modifyWithOptimistic(
@@ -3,21 +3,24 @@ package com.sbstudy.basic_lock2.domain.post.service;
 import com.sbstudy.basic_lock2.domain.post.entity.Post;
 import com.sbstudy.basic_lock2.domain.post.repository.PostRepository;
 import com.sbstudy.basic_lock2.global.jpa.rsdata.RespData;
+import com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock.RetryOnOptimisticLock;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
     private final PostRepository postRepository;
+    private final PostWriteCombiner postWriteCombiner;
 
     @Transactional
     public RespData<Post> write(String title) {
@@ -54,16 +57,27 @@ public class PostService {
         return post;
     }
 
-    @SneakyThrows
+    /**
+     * 같은 게시글에 대한 동시 수정을 모아 한 번의 쓰기 락/커밋으로 적용
+     * 묶음은 별도 트랜잭션으로 커밋되므로 호출자의 트랜잭션과 함께 롤백되지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Post modifyWithCombining(long id, String title) {
+        try {
+            return postWriteCombiner.modify(id, title).join();
+        } catch (CompletionException e) {
+            // 묶음 적용 중 발생한 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @Transactional
     @RetryOnOptimisticLock(attempts = 2, backoff = 500L)
     public Post modifyWithOptimistic(long id, String title) {
         Post post = postRepository.findById(id).get();
-
-        write("제목 new");
-        Thread.sleep(10_000L);
-
-
         post.setTitle(title);
 
         return post;
@@ -0,0 +1,69 @@
+package com.sbstudy.basic_lock2.domain.post.service;
+
+import com.sbstudy.basic_lock2.domain.post.entity.Post;
+import com.sbstudy.basic_lock2.domain.post.repository.PostRepository;
+import com.sbstudy.basic_lock2.global.standard.combiner.WriteCombiner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+
+/**
+ * 게시글 제목 수정 합치기
+ * 같은 게시글에 동시에 들어온 수정을 모아 쓰기 락 1번, 커밋 1번으로 적용한다.
+ * 합치는 방식은 마지막 요청 우선(last-writer-wins)이며, 테스트에서는 패키지 생성자로 다른 병합 함수를 줄 수 있다.
+ */
+@Component
+public class PostWriteCombiner {
+    // 한 번의 락/커밋으로 적용할 최대 요청 수
+    private static final int MAX_BATCH_SIZE = 1_000;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BinaryOperator<String> titleMerger;
+    private final WriteCombiner<Long, String, Post> combiner;
+
+    @Autowired
+    public PostWriteCombiner(PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this(postRepository, transactionManager, (before, after) -> after);
+    }
+
+    PostWriteCombiner(PostRepository postRepository, PlatformTransactionManager transactionManager,
+                      BinaryOperator<String> titleMerger) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 호출자가 트랜잭션 안에 있어도 묶음은 따로 커밋해야 다른 요청에 결과를 돌려줄 수 있다
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.titleMerger = titleMerger;
+        this.combiner = new WriteCombiner<>(this::applyAll, MAX_BATCH_SIZE);
+    }
+
+    /**
+     * 제목 수정 요청
+     * @param id 게시글 id
+     * @param title 새 제목
+     * @return 이 요청이 포함된 묶음이 커밋된 뒤의 게시글
+     */
+    public CompletableFuture<Post> modify(long id, String title) {
+        return combiner.submit(id, title);
+    }
+
+    private Post applyAll(Long id, List<String> titles) {
+        return transactionTemplate.execute(status -> {
+            Post post = postRepository.findWithWriteLockById(id).get();
+
+            String title = post.getTitle();
+            for (String requested : titles) {
+                title = titleMerger.apply(title, requested);
+            }
+            post.setTitle(title);
+
+            return post;
+        });
+    }
+}
@@ -0,0 +1,159 @@
+package com.sbstudy.basic_lock2.global.standard.combiner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+/**
+ * 같은 키(행)에 대한 동시 쓰기 합치기
+ * 요청은 키별 큐에 쌓이고, 리더 자리를 잡은 호출 스레드 하나가 쌓인 요청을 한 묶음(최대 maxBatchSize)만 적용한 뒤
+ * 묶음의 모든 future 를 같은 결과로 완료하고 리더 자리를 내놓는다.
+ * 리더는 큐 맨 앞 요청의 스레드만 될 수 있고, 큐가 남아 있으면 맨 앞 요청의 스레드를 깨워 다음 리더로 넘기므로,
+ * 쓰기가 계속 들어와도 한 호출자가 남의 요청만 끝없이 처리하지 않고 자기 요청이 든 묶음 하나만 일한다.
+ *
+ * @param <K> 키 (예: 게시글 id)
+ * @param <V> 요청 값
+ * @param <R> 적용 결과
+ */
+public class WriteCombiner<K, V, R> {
+    // 깨우기를 놓쳤을 때를 대비해 대기 스레드가 리더 자리를 다시 확인하는 간격
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ConcurrentHashMap<K, Slot<V, R>> slots = new ConcurrentHashMap<>();
+
+    // 쌓인 요청을 한 번에 적용하는 함수 (키, 도착 순서대로의 요청 값 목록) -> 결과
+    private final BiFunction<K, List<V>, R> batchApplier;
+    private final int maxBatchSize;
+
+    public WriteCombiner(BiFunction<K, List<V>, R> batchApplier, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize 는 1 이상이어야 합니다: " + maxBatchSize);
+        }
+        this.batchApplier = batchApplier;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 요청 등록 후 요청이 적용될 때까지 대기
+     * 리더 자리가 비면 호출 스레드가 리더가 되어 한 묶음을 적용하고, 아니면 리더가 깨울 때까지 기다린다.
+     * 기다리는 중 인터럽트되면 아직 묶음에 들어가지 않은 요청은 빼고 InterruptedException 으로 실패 처리한다.
+     * 이미 적용 중인 묶음에 들어 있다면 그 묶음이 끝날 때까지 기다린다. 어느 쪽이든 인터럽트 상태는 복원한다.
+     * @param key 키
+     * @param value 요청 값
+     * @return 요청이 포함된 묶음의 적용 결과 (반환 시점에 이미 완료됨)
+     */
+    public CompletableFuture<R> submit(K key, V value) {
+        Slot<V, R> slot = slots.computeIfAbsent(key, k -> new Slot<>());
+        Pending<V, R> pending = new Pending<>(value, Thread.currentThread());
+        slot.queue.add(pending);
+
+        boolean interrupted = false;
+        while (!pending.future.isDone()) {
+            // 큐 맨 앞 요청의 스레드만 리더가 될 수 있으므로, 리더가 적용하는 묶음에는 항상 자기 요청이 들어 있다
+            if (slot.queue.peek() == pending && slot.running.compareAndSet(false, true)) {
+                try {
+                    drainOnce(key, slot);
+                } finally {
+                    slot.running.set(false);
+                }
+                // 남은 요청이 있으면 맨 앞 요청의 스레드에 리더 자리를 넘김
+                Pending<V, R> next = slot.queue.peek();
+                if (next != null) {
+                    wake(next);
+                }
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+                // 인터럽트 상태에서는 park 가 바로 반환되므로 플래그를 지우고 처리해야 헛돌지 않는다
+                if (Thread.interrupted()) {
+                    interrupted = true;
+                    if (slot.queue.remove(pending)) {
+                        pending.future.completeExceptionally(
+                                new InterruptedException("쓰기 합치기 대기 중 인터럽트되었습니다: " + key));
+                        // 넘겨받은 리더 자리를 다음 요청에 전달
+                        Pending<V, R> next = slot.queue.peek();
+                        if (next != null && !slot.running.get()) {
+                            wake(next);
+                        }
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 빈 슬롯은 지운다 (지운 뒤에 이 슬롯에 넣은 요청은 넣은 스레드가 직접 리더가 되어 처리한다)
+        if (slot.queue.isEmpty() && !slot.running.get()) {
+            slots.remove(key, slot);
+        }
+        return pending.future;
+    }
+
+    // 남아 있는 키 슬롯 수 (테스트용)
+    int slotCount() {
+        return slots.size();
+    }
+
+    // 키에 쌓여 있는 (아직 묶음에 들어가지 않은) 요청 수 (테스트용)
+    int pendingCount(K key) {
+        Slot<V, R> slot = slots.get(key);
+        return slot == null ? 0 : slot.queue.size();
+    }
+
+    private void drainOnce(K key, Slot<V, R> slot) {
+        List<Pending<V, R>> batch = new ArrayList<>();
+        Pending<V, R> pending;
+        while (batch.size() < maxBatchSize && (pending = slot.queue.poll()) != null) {
+            batch.add(pending);
+        }
+        if (!batch.isEmpty()) {
+            apply(key, batch);
+        }
+    }
+
+    private void apply(K key, List<Pending<V, R>> batch) {
+        List<V> values = new ArrayList<>(batch.size());
+        for (Pending<V, R> pending : batch) {
+            values.add(pending.value);
+        }
+
+        R result;
+        try {
+            result = batchApplier.apply(key, values);
+        } catch (Throwable e) {
+            batch.forEach(pending -> {
+                pending.future.completeExceptionally(e);
+                wake(pending);
+            });
+            return;
+        }
+        batch.forEach(pending -> {
+            pending.future.complete(result);
+            wake(pending);
+        });
+    }
+
+    // 리더 자신은 깨우지 않음 (남은 permit 이 이후의 park 를 헛돌게 하지 않도록)
+    private static void wake(Pending<?, ?> pending) {
+        if (pending.waiter != Thread.currentThread()) {
+            LockSupport.unpark(pending.waiter);
+        }
+    }
+
+    private static class Slot<V, R> {
+        final ConcurrentLinkedQueue<Pending<V, R>> queue = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean running = new AtomicBoolean();
+    }
+
+    private record Pending<V, R>(V value, Thread waiter, CompletableFuture<R> future) {
+        Pending(V value, Thread waiter) {
+            this(value, waiter, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔티티별 동시 재시도 수 제한
+ * 한 행에 재시도가 몰리면 대부분 다시 충돌하므로, 상한을 넘는 요청은 기다리지 않고 바로 실패시킨다.
+ * 확인/증가/감소/정리를 모두 compute 안에서 하므로, release 가 항목을 지우는 중에 tryAcquire 가 끼어들어도 한도를 넘지 않는다.
+ */
+public class ContentionBudget {
+    private final ConcurrentHashMap<Object, Integer> retrying = new ConcurrentHashMap<>();
+
+    /**
+     * 재시도 자리 확보
+     * @param key 엔티티 키
+     * @param budget 동시에 재시도할 수 있는 요청 수 (0 이하면 제한 없음)
+     * @return 확보 여부 (true 면 끝난 뒤 release 를 호출해야 함)
+     */
+    public boolean tryAcquire(Object key, int budget) {
+        if (budget <= 0) {
+            return true;
+        }
+        boolean[] acquired = new boolean[1];
+        retrying.compute(key, (k, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= budget) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    public void release(Object key, int budget) {
+        if (budget <= 0) {
+            return;
+        }
+        // 0 이 되면 항목을 지워 키가 계속 쌓이지 않게 한다
+        retrying.computeIfPresent(key, (k, count) -> count <= 1 ? null : count - 1);
+    }
+
+    public int retrying(Object key) {
+        return retrying.getOrDefault(key, 0);
+    }
+
+    // 재시도 중인 엔티티 수
+    int size() {
+        return retrying.size();
+    }
+}
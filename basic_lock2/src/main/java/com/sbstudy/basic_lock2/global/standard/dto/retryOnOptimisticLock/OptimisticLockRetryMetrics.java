@@ -0,0 +1,54 @@
+package com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @RetryOnOptimisticLock 메서드별 재시도/포기 통계
+ */
+@Component
+public class OptimisticLockRetryMetrics {
+    private final ConcurrentHashMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param method 메서드
+     * @param calls 호출 수
+     * @param conflicts 낙관적 락 충돌 수
+     * @param retries 재시도 수
+     * @param recovered 재시도 끝에 성공한 호출 수
+     * @param exhausted 재시도 횟수를 다 쓰고 실패한 호출 수
+     * @param budgetRejected 엔티티별 재시도 한도에 걸려 바로 실패한 호출 수
+     */
+    public record Snapshot(String method, long calls, long conflicts, long retries, long recovered,
+                           long exhausted, long budgetRejected) {
+    }
+
+    public List<Snapshot> snapshot() {
+        return counters.entrySet().stream()
+                .map(e -> e.getValue().snapshot(e.getKey()))
+                .sorted(Comparator.comparing(Snapshot::method))
+                .toList();
+    }
+
+    Counters of(String method) {
+        return counters.computeIfAbsent(method, k -> new Counters());
+    }
+
+    static class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder conflicts = new LongAdder();
+        final LongAdder retries = new LongAdder();
+        final LongAdder recovered = new LongAdder();
+        final LongAdder exhausted = new LongAdder();
+        final LongAdder budgetRejected = new LongAdder();
+
+        Snapshot snapshot(String method) {
+            return new Snapshot(method, calls.sum(), conflicts.sum(), retries.sum(), recovered.sum(),
+                    exhausted.sum(), budgetRejected.sum());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * @RetryOnOptimisticLock 메서드별 재시도/포기 통계 조회
+ */
+@RestController
+@RequestMapping("/api/v1/metrics/optimisticLockRetries")
+@RequiredArgsConstructor
+public class OptimisticLockRetryMetricsController {
+
+    private final OptimisticLockRetryMetrics metrics;
+
+    @GetMapping
+    public List<OptimisticLockRetryMetrics.Snapshot> getSnapshot() {
+        return metrics.snapshot();
+    }
+}
@@ -1,40 +1,101 @@
 package com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock;
 
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.StaleStateException;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 @Aspect
 @Order(Ordered.LOWEST_PRECEDENCE - 1) // @Transactional보다 더 먼저 메서드에 달라붙어야 해서, 우선순위를 높게 설정
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class OptimisticLockingRetryAspect {
 
+    private final OptimisticLockRetryMetrics metrics;
+    private final ContentionBudget contentionBudget = new ContentionBudget();
+
     @Around("@annotation(retryOnOptimisticLock)")
     public Object around(ProceedingJoinPoint joinPoint, RetryOnOptimisticLock retryOnOptimisticLock) throws Throwable {
         int maxAttempts = retryOnOptimisticLock.attempts();
-        long backoff = retryOnOptimisticLock.backoff();
-
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                Object o = joinPoint.proceed(); // 메소드 실행
-
-                return o;
-            } catch (
-                    Exception e
-            ) {
-                if (attempt < maxAttempts) {
-                    Thread.sleep(backoff);
-                } else {
-                    throw e;
+        int budget = retryOnOptimisticLock.contentionBudget();
+        String method = joinPoint.getSignature().toShortString();
+        OptimisticLockRetryMetrics.Counters counters = metrics.of(method);
+        counters.calls.increment();
+
+        RetryBackoff backoff = null;
+        Object entityKey = null;
+        boolean budgetAcquired = false;
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    Object o = joinPoint.proceed(); // 메소드 실행
+                    if (attempt > 1) {
+                        counters.recovered.increment();
+                    }
+                    return o;
+                } catch (Exception e) {
+                    // 낙관적 락 충돌이 아닌 예외는 다시 실행해도 같은 결과이므로 바로 던진다
+                    if (!isOptimisticLockFailure(e)) {
+                        throw e;
+                    }
+                    counters.conflicts.increment();
+
+                    if (attempt >= maxAttempts) {
+                        counters.exhausted.increment();
+                        log.warn("낙관적 락 재시도 포기: {} ({}회 시도)", method, attempt);
+                        throw e;
+                    }
+
+                    // 첫 충돌 때 이 엔티티의 재시도 자리를 확보 (한도를 넘으면 더 몰리지 않게 바로 실패)
+                    if (!budgetAcquired) {
+                        entityKey = entityKey(joinPoint, retryOnOptimisticLock, method);
+                        if (!contentionBudget.tryAcquire(entityKey, budget)) {
+                            counters.budgetRejected.increment();
+                            log.debug("낙관적 락 재시도 한도 초과: {}", entityKey);
+                            throw e;
+                        }
+                        budgetAcquired = true;
+                        backoff = RetryBackoff.of(retryOnOptimisticLock);
+                    }
+
+                    counters.retries.increment();
+                    // 모니터를 잡지 않은 상태에서 잠들기 때문에 가상 스레드에서도 캐리어 스레드를 붙잡지 않는다
+                    Thread.sleep(backoff.delayMillis(attempt));
                 }
             }
+        } finally {
+            if (budgetAcquired) {
+                contentionBudget.release(entityKey, budget);
+            }
         }
+    }
+
+    private static boolean isOptimisticLockFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof OptimisticLockingFailureException
+                    || t instanceof OptimisticLockException
+                    || t instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        throw new IllegalStateException("Unexpected state: OptimisticLockingRetryFailed in AOP");
+    private static Object entityKey(ProceedingJoinPoint joinPoint, RetryOnOptimisticLock retryOnOptimisticLock,
+                                    String method) {
+        int index = retryOnOptimisticLock.entityKeyArg();
+        Object[] args = joinPoint.getArgs();
+        if (index < 0 || index >= args.length) {
+            return method;
+        }
+        return method + ":" + args[index];
     }
 }
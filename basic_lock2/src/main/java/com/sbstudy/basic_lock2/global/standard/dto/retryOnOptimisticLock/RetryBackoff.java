@@ -0,0 +1,38 @@
+package com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재시도 대기 시간 계산 (지수 증가 + full jitter)
+ * n 번째 재시도의 상한은 min(maxBackoff, backoff * multiplier^(n-1)) 이고,
+ * jitter 를 쓰면 0 ~ 상한 사이에서 균등하게 뽑는다.
+ */
+public record RetryBackoff(long baseMillis, long maxMillis, double multiplier, boolean jitter) {
+
+    public static RetryBackoff of(RetryOnOptimisticLock retryOnOptimisticLock) {
+        return new RetryBackoff(
+                retryOnOptimisticLock.backoff(),
+                retryOnOptimisticLock.maxBackoff(),
+                retryOnOptimisticLock.multiplier(),
+                retryOnOptimisticLock.jitter()
+        );
+    }
+
+    // 예전 방식 (매번 같은 시간 대기)
+    public static RetryBackoff fixed(long millis) {
+        return new RetryBackoff(millis, millis, 1.0, false);
+    }
+
+    /**
+     * @param retry 몇 번째 재시도인지 (1부터)
+     * @return 대기 시간 (ms)
+     */
+    public long delayMillis(int retry) {
+        double exponential = baseMillis * Math.pow(multiplier, Math.max(0, retry - 1));
+        long ceiling = (long) Math.min(maxMillis, exponential);
+        if (ceiling <= 0) {
+            return 0;
+        }
+        return jitter ? ThreadLocalRandom.current().nextLong(ceiling + 1) : ceiling;
+    }
+}
@@ -10,5 +10,21 @@ import java.lang.annotation.Target;
 public @interface RetryOnOptimisticLock {
     int attempts() default 3;
 
+    // 첫 재시도 대기 시간의 상한 (ms), 이후 multiplier 배씩 늘어난다
     long backoff() default 1000L;
-}
\ No newline at end of file
+
+    // 대기 시간 상한 (ms)
+    long maxBackoff() default 10_000L;
+
+    // 재시도마다 대기 시간 상한을 늘리는 배수 (1.0 이면 고정 대기)
+    double multiplier() default 2.0;
+
+    // true 면 0 ~ 상한 사이에서 무작위로 대기 (full jitter), 동시에 실패한 요청들이 같은 시각에 다시 충돌하지 않게 한다
+    boolean jitter() default true;
+
+    // 같은 엔티티를 동시에 재시도할 수 있는 요청 수 (0 이면 제한 없음), 넘으면 재시도하지 않고 바로 실패
+    int contentionBudget() default 0;
+
+    // 엔티티를 구분할 메서드 인자 위치 (-1 이면 메서드 단위로만 구분)
+    int entityKeyArg() default 0;
+}
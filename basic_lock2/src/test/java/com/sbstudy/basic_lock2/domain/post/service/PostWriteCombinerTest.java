@@ -0,0 +1,39 @@
+package com.sbstudy.basic_lock2.domain.post.service;
+
+import com.sbstudy.basic_lock2.domain.post.entity.Post;
+import com.sbstudy.basic_lock2.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostWriteCombinerTest {
+
+    @Test
+    void appliesTitlesInOrderWithInjectedMerger() throws Exception {
+        Post post = Post.builder().title("제목").build();
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.findWithWriteLockById(1L)).thenReturn(Optional.of(post));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        TransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+
+        PostWriteCombiner combiner = new PostWriteCombiner(postRepository, transactionManager,
+                (before, after) -> before + "," + after);
+
+        assertThat(combiner.modify(1L, "a").get().getTitle()).isEqualTo("제목,a");
+        assertThat(combiner.modify(1L, "b").get().getTitle()).isEqualTo("제목,a,b");
+        // 묶음마다 쓰기 락 조회 1번, 커밋 1번
+        verify(postRepository, times(2)).findWithWriteLockById(1L);
+        verify(transactionManager, times(2)).commit(status);
+    }
+}
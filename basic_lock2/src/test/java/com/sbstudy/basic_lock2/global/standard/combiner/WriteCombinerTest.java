@@ -0,0 +1,243 @@
+package com.sbstudy.basic_lock2.global.standard.combiner;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteCombinerTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    void queuedRequestsAreMergedUpToMaxBatchSize() throws Exception {
+        Recorder recorder = new Recorder((key, values) -> values.size());
+        WriteCombiner<Long, String, Integer> combiner = new WriteCombiner<>(recorder, 3);
+
+        // 첫 요청의 묶음을 막아 두고 그동안 7개 요청을 쌓음
+        Submitter first = Submitter.start(combiner, 1L, "v0");
+        recorder.awaitBlocked();
+        List<Submitter> waiters = submitAndAwaitQueued(combiner, 1L, 7);
+
+        recorder.unblock();
+        first.await();
+        for (Submitter waiter : waiters) {
+            waiter.await();
+        }
+
+        assertThat(recorder.batchValues).containsExactly(
+                List.of("v0"), List.of("v1", "v2", "v3"), List.of("v4", "v5", "v6"), List.of("v7"));
+        assertThat(first.result.get().get()).isEqualTo(1);
+        for (int i = 0; i < waiters.size(); i++) {
+            // 같은 묶음의 요청은 같은 결과를 받음
+            assertThat(waiters.get(i).result.get().get()).isEqualTo(i < 6 ? 3 : 1);
+        }
+    }
+
+    @Test
+    void failureCompletesEveryRequestOfTheBatchExceptionally() throws Exception {
+        IllegalStateException failure = new IllegalStateException("DB 장애");
+        AtomicInteger calls = new AtomicInteger();
+        Recorder recorder = new Recorder((key, values) -> {
+            // 두 번째 묶음(대기하던 요청들)만 실패
+            if (calls.incrementAndGet() == 2) {
+                throw failure;
+            }
+            return values.size();
+        });
+        WriteCombiner<Long, String, Integer> combiner = new WriteCombiner<>(recorder, 100);
+
+        Submitter first = Submitter.start(combiner, 1L, "v0");
+        recorder.awaitBlocked();
+        List<Submitter> waiters = submitAndAwaitQueued(combiner, 1L, 5);
+
+        recorder.unblock();
+        first.await();
+        assertThat(first.result.get().get()).isEqualTo(1);
+
+        for (Submitter waiter : waiters) {
+            waiter.await();
+            CompletableFuture<Integer> future = waiter.result.get();
+            assertThat(future).isCompletedExceptionally();
+            assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+        }
+        assertThat(recorder.batchValues).hasSize(2);
+
+        // 실패 뒤에도 같은 키에 계속 쓸 수 있음
+        assertThat(combiner.submit(1L, "after").get()).isEqualTo(1);
+    }
+
+    @Test
+    void leaderHandsLeadershipToNextWaiter() throws Exception {
+        Recorder recorder = new Recorder((key, values) -> values.size());
+        WriteCombiner<Long, String, Integer> combiner = new WriteCombiner<>(recorder, 2);
+
+        Submitter first = Submitter.start(combiner, 1L, "v0");
+        recorder.awaitBlocked();
+        List<Submitter> waiters = submitAndAwaitQueued(combiner, 1L, 6);
+        recorder.unblock();
+        first.await();
+        for (Submitter waiter : waiters) {
+            waiter.await();
+        }
+
+        // 첫 리더는 자기 묶음만 적용하고, 이후 묶음은 그 묶음의 맨 앞 요청 스레드가 넘겨받아 적용함
+        assertThat(recorder.batchValues).containsExactly(
+                List.of("v0"), List.of("v1", "v2"), List.of("v3", "v4"), List.of("v5", "v6"));
+        assertThat(recorder.batchThreads.get(0)).isSameAs(first.thread);
+        Map<String, Thread> threadByValue = new ConcurrentHashMap<>();
+        waiters.forEach(waiter -> threadByValue.put(waiter.value, waiter.thread));
+        for (int i = 1; i < recorder.batchThreads.size(); i++) {
+            Thread head = threadByValue.get(recorder.batchValues.get(i).get(0));
+            assertThat(recorder.batchThreads.get(i)).isSameAs(head);
+        }
+    }
+
+    @Test
+    void emptySlotsAreRemoved() throws Exception {
+        WriteCombiner<Long, String, Integer> combiner = new WriteCombiner<>((key, values) -> values.size(), 10);
+
+        for (long key = 1; key <= 100; key++) {
+            assertThat(combiner.submit(key, "v").get()).isEqualTo(1);
+        }
+        assertThat(combiner.slotCount()).isZero();
+
+        Recorder recorder = new Recorder((key, values) -> values.size());
+        WriteCombiner<Long, String, Integer> blocking = new WriteCombiner<>(recorder, 10);
+        Submitter first = Submitter.start(blocking, 1L, "v0");
+        recorder.awaitBlocked();
+        List<Submitter> waiters = submitAndAwaitQueued(blocking, 1L, 3);
+        assertThat(blocking.slotCount()).isEqualTo(1);
+
+        recorder.unblock();
+        first.await();
+        for (Submitter waiter : waiters) {
+            waiter.await();
+        }
+        assertThat(blocking.slotCount()).isZero();
+    }
+
+    @Test
+    void interruptedWaiterFailsWithoutSpinningAndKeepsFlag() throws Exception {
+        Recorder recorder = new Recorder((key, values) -> values.size());
+        WriteCombiner<Long, String, Integer> combiner = new WriteCombiner<>(recorder, 10);
+
+        Submitter first = Submitter.start(combiner, 1L, "v0");
+        recorder.awaitBlocked();
+        List<Submitter> waiters = submitAndAwaitQueued(combiner, 1L, 2);
+        Submitter interrupted = waiters.get(0);
+
+        // 리더가 막혀 있는 동안 인터럽트된 대기자는 바로 반환해야 함
+        interrupted.thread.interrupt();
+        interrupted.await();
+        assertThat(first.thread.isAlive()).isTrue();
+        assertThat(interrupted.interruptedAfterReturn.get()).isTrue();
+        assertThatThrownBy(() -> interrupted.result.get().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+
+        recorder.unblock();
+        first.await();
+        waiters.get(1).await();
+        assertThat(waiters.get(1).result.get().get()).isEqualTo(1);
+        // 빠진 요청은 적용되지 않음
+        assertThat(recorder.batchValues).containsExactly(List.of("v0"), List.of("v2"));
+        assertThat(combiner.slotCount()).isZero();
+    }
+
+    // count 개의 요청을 v1..v<count> 로 보내고 모두 큐에 쌓일 때까지 기다림 (도착 순서 고정)
+    private static List<Submitter> submitAndAwaitQueued(WriteCombiner<Long, String, Integer> combiner, long key,
+                                                        int count) throws InterruptedException {
+        List<Submitter> submitters = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            submitters.add(Submitter.start(combiner, key, "v" + i));
+            int queued = i;
+            awaitTrue(() -> combiner.pendingCount(key) == queued);
+        }
+        return submitters;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    // 묶음마다 값과 적용 스레드를 기록하고, 첫 묶음은 unblock 전까지 막아 둠
+    private static class Recorder implements BiFunction<Long, List<String>, Integer> {
+        private final BiFunction<Long, List<String>, Integer> delegate;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        final List<List<String>> batchValues = new CopyOnWriteArrayList<>();
+        final List<Thread> batchThreads = new CopyOnWriteArrayList<>();
+
+        Recorder(BiFunction<Long, List<String>, Integer> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Integer apply(Long key, List<String> values) {
+            batchValues.add(List.copyOf(values));
+            batchThreads.add(Thread.currentThread());
+            if (blocked.getCount() > 0) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return delegate.apply(key, values);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void unblock() {
+            release.countDown();
+        }
+    }
+
+    private static class Submitter {
+        final String value;
+        final Thread thread;
+        final AtomicReference<CompletableFuture<Integer>> result = new AtomicReference<>();
+        final AtomicBoolean interruptedAfterReturn = new AtomicBoolean();
+
+        private Submitter(WriteCombiner<Long, String, Integer> combiner, long key, String value) {
+            this.value = value;
+            this.thread = new Thread(() -> {
+                result.set(combiner.submit(key, value));
+                interruptedAfterReturn.set(Thread.currentThread().isInterrupted());
+            }, "submitter-" + value);
+        }
+
+        static Submitter start(WriteCombiner<Long, String, Integer> combiner, long key, String value) {
+            Submitter submitter = new Submitter(combiner, key, value);
+            submitter.thread.start();
+            return submitter;
+        }
+
+        void await() throws InterruptedException {
+            thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+            assertThat(thread.isAlive()).as("%s 가 끝나지 않음", thread.getName()).isFalse();
+        }
+    }
+}
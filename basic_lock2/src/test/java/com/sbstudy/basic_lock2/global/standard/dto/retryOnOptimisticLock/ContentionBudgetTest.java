@@ -0,0 +1,88 @@
+package com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentionBudgetTest {
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20_000;
+
+    @Test
+    void noBudgetAlwaysAcquires() {
+        ContentionBudget contentionBudget = new ContentionBudget();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(contentionBudget.tryAcquire("post:1", 0)).isTrue();
+        }
+        assertThat(contentionBudget.retrying("post:1")).isZero();
+    }
+
+    @Test
+    void rejectsOverBudgetAndReleasesSlot() {
+        ContentionBudget contentionBudget = new ContentionBudget();
+
+        assertThat(contentionBudget.tryAcquire("post:1", 2)).isTrue();
+        assertThat(contentionBudget.tryAcquire("post:1", 2)).isTrue();
+        assertThat(contentionBudget.tryAcquire("post:1", 2)).isFalse();
+        // 다른 엔티티는 따로 센다
+        assertThat(contentionBudget.tryAcquire("post:2", 2)).isTrue();
+
+        contentionBudget.release("post:1", 2);
+        assertThat(contentionBudget.retrying("post:1")).isEqualTo(1);
+        assertThat(contentionBudget.tryAcquire("post:1", 2)).isTrue();
+
+        contentionBudget.release("post:1", 2);
+        contentionBudget.release("post:1", 2);
+        contentionBudget.release("post:2", 2);
+        assertThat(contentionBudget.retrying("post:1")).isZero();
+        assertThat(contentionBudget.size()).isZero();
+    }
+
+    @Test
+    void concurrentAcquireAndReleaseNeverExceedsBudget() throws Exception {
+        ContentionBudget contentionBudget = new ContentionBudget();
+        int budget = 2;
+        AtomicInteger holders = new AtomicInteger();
+        AtomicInteger maxHolders = new AtomicInteger();
+        AtomicInteger acquired = new AtomicInteger();
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ROUNDS; i++) {
+                        if (!contentionBudget.tryAcquire("post:1", budget)) {
+                            continue;
+                        }
+                        acquired.incrementAndGet();
+                        maxHolders.accumulateAndGet(holders.incrementAndGet(), Math::max);
+                        if (ThreadLocalRandom.current().nextInt(8) == 0) {
+                            Thread.yield();
+                        }
+                        holders.decrementAndGet();
+                        // 0 이 되어 항목이 지워지는 순간과 다른 스레드의 확보가 자주 겹침
+                        contentionBudget.release("post:1", budget);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+
+        assertThat(acquired.get()).isPositive();
+        assertThat(maxHolders.get()).isBetween(1, budget);
+        assertThat(contentionBudget.retrying("post:1")).isZero();
+        assertThat(contentionBudget.size()).isZero();
+    }
+}
@@ -0,0 +1,127 @@
+package com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock;
+
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticLockingRetryAspectTest {
+    private OptimisticLockRetryMetrics metrics;
+    private PostWriter target;
+    private PostWriter postWriter;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new OptimisticLockRetryMetrics();
+        target = new PostWriter();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new OptimisticLockingRetryAspect(metrics));
+        postWriter = proxyFactory.getProxy();
+    }
+
+    @Test
+    void retriesConflictsUntilSuccess() {
+        target.conflictsLeft.set(2);
+
+        assertThat(postWriter.modify(1L)).isEqualTo("ok");
+
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(onlySnapshot()).isEqualTo(snapshot("PostWriter.modify(..)", 1, 2, 2, 1, 0, 0));
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        target.conflictsLeft.set(10);
+
+        assertThatThrownBy(() -> postWriter.modify(1L)).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(target.calls.get()).isEqualTo(3);
+        assertThat(onlySnapshot()).isEqualTo(snapshot("PostWriter.modify(..)", 1, 3, 2, 0, 1, 0));
+    }
+
+    @Test
+    void retriesConflictWrappedInOtherException() {
+        target.conflictsLeft.set(1);
+        target.wrapConflict = true;
+
+        assertThat(postWriter.modify(1L)).isEqualTo("ok");
+        assertThat(target.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotRetryOtherExceptions() {
+        assertThatThrownBy(() -> postWriter.fail(1L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(target.calls.get()).isEqualTo(1);
+        assertThat(onlySnapshot()).isEqualTo(snapshot("PostWriter.fail(..)", 1, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void rejectsRetryOverContentionBudget() throws Exception {
+        // 첫 호출이 충돌 후 재시도 자리를 잡고 대기하는 동안 같은 글의 두 번째 호출이 충돌
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> postWriter.modifyHot(1L));
+        assertThat(target.firstHotCall.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50L);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> postWriter.modifyHot(1L)).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(500L);
+
+        assertThat(first).failsWithin(5, TimeUnit.SECONDS);
+        assertThat(onlySnapshot()).isEqualTo(snapshot("PostWriter.modifyHot(..)", 2, 3, 1, 0, 1, 1));
+    }
+
+    private OptimisticLockRetryMetrics.Snapshot onlySnapshot() {
+        assertThat(metrics.snapshot()).hasSize(1);
+        return metrics.snapshot().get(0);
+    }
+
+    private static OptimisticLockRetryMetrics.Snapshot snapshot(String method, long calls, long conflicts,
+                                                                long retries, long recovered, long exhausted,
+                                                                long budgetRejected) {
+        return new OptimisticLockRetryMetrics.Snapshot(method, calls, conflicts, retries, recovered, exhausted,
+                budgetRejected);
+    }
+
+    static class PostWriter {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger conflictsLeft = new AtomicInteger();
+        final CountDownLatch firstHotCall = new CountDownLatch(1);
+        volatile boolean wrapConflict;
+
+        @RetryOnOptimisticLock(attempts = 3, backoff = 1L, jitter = false)
+        public String modify(long id) {
+            calls.incrementAndGet();
+            if (conflictsLeft.getAndDecrement() > 0) {
+                if (wrapConflict) {
+                    throw new IllegalStateException("저장 실패", new OptimisticLockException("충돌"));
+                }
+                throw new OptimisticLockingFailureException("충돌");
+            }
+            return "ok";
+        }
+
+        @RetryOnOptimisticLock(attempts = 3, backoff = 1L)
+        public void fail(long id) {
+            calls.incrementAndGet();
+            throw new IllegalStateException("충돌 아님");
+        }
+
+        @RetryOnOptimisticLock(attempts = 2, backoff = 1_000L, jitter = false, contentionBudget = 1)
+        public void modifyHot(long id) {
+            calls.incrementAndGet();
+            firstHotCall.countDown();
+            throw new OptimisticLockingFailureException("충돌");
+        }
+    }
+}
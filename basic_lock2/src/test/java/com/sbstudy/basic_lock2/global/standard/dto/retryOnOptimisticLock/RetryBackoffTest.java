@@ -0,0 +1,45 @@
+package com.sbstudy.basic_lock2.global.standard.dto.retryOnOptimisticLock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBackoffTest {
+
+    @Test
+    void fixedWaitsSameTimeEveryRetry() {
+        RetryBackoff backoff = RetryBackoff.fixed(500L);
+
+        assertThat(IntStream.rangeClosed(1, 5).mapToLong(backoff::delayMillis)).containsOnly(500L);
+    }
+
+    @Test
+    void ceilingGrowsByMultiplierUpToMax() {
+        RetryBackoff backoff = new RetryBackoff(100L, 1_000L, 2.0, false);
+
+        assertThat(IntStream.rangeClosed(1, 6).mapToLong(backoff::delayMillis))
+                .containsExactly(100L, 200L, 400L, 800L, 1_000L, 1_000L);
+    }
+
+    @Test
+    void jitterDrawsUniformlyBelowCeiling() {
+        RetryBackoff backoff = new RetryBackoff(100L, 1_000L, 2.0, true);
+
+        // 세 번째 재시도의 상한은 400ms, 평균은 그 절반 근처
+        long[] delays = IntStream.range(0, 20_000).mapToLong(i -> backoff.delayMillis(3)).toArray();
+        LongSummaryStatistics statistics = Arrays.stream(delays).summaryStatistics();
+        assertThat(statistics.getMin()).isGreaterThanOrEqualTo(0L);
+        assertThat(statistics.getMax()).isLessThanOrEqualTo(400L);
+        assertThat(statistics.getAverage()).isBetween(180.0, 220.0);
+        assertThat(Arrays.stream(delays).distinct().count()).isGreaterThan(300L);
+    }
+
+    @Test
+    void zeroBackoffNeverWaits() {
+        assertThat(new RetryBackoff(0L, 1_000L, 2.0, true).delayMillis(3)).isZero();
+    }
+}
@@ -0,0 +1,167 @@
+package com.mserver.gatewayserver.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Publisher;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 본문 로그 방식별 응답당 처리 시간/할당량 (GC 프로파일러)
+ * bodyKb 크기의 JSON 응답을 chunkKb 청크로 흘려보내며 필터를 거쳐 응답 하나를 끝까지 쓴다.
+ * - full: 기존 LoggingFilter. 전체를 buffer()로 모아 join, byte[], String으로 복사한 뒤 다시 wrap
+ * - prefix: 현재 LoggingFilter. BodyPrefixCapture로 앞부분만 복사하고 청크는 그대로 통과 (로그는 AsyncLogWriter)
+ * 로그 이벤트는 만들되 출력하지 않도록 어펜더 없이 INFO 레벨만 켜 둔다.
+ * 응답당 할당량은 gc.alloc.rate.norm 항목을 본다.
+ *
+ * 실행: java -cp ... com.mserver.gatewayserver.filter.BodyLoggingBenchmark [JMH 옵션, 예: -prof gc]
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BodyLoggingBenchmark {
+
+    @Param({"full", "prefix"})
+    private String mode;
+
+    @Param({"1024"})
+    private int bodyKb;
+
+    @Param({"64"})
+    private int chunkKb;
+
+    @Param({"1024"})
+    private int maxBodyBytes;
+
+    private byte[] payload;
+    private WebFilter filter;
+    private AsyncLogWriter logWriter;
+    private final AtomicLong written = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+        loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+
+        payload = new byte[bodyKb * 1024];
+        Arrays.fill(payload, (byte) 'a');
+
+        if ("full".equals(mode)) {
+            filter = new FullBodyLoggingFilter();
+        } else {
+            logWriter = new AsyncLogWriter(10_000);
+            LoggingFilter loggingFilter = new LoggingFilter();
+            loggingFilter.logWriter = logWriter;
+            loggingFilter.sampleRate = 1.0;
+            loggingFilter.maxBodyBytes = maxBodyBytes;
+            loggingFilter.contentTypes = "application/json";
+            loggingFilter.init();
+            filter = loggingFilter;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        if (logWriter != null) {
+            System.out.printf("%n[%s] 버린 로그 %,d건%n", mode, logWriter.getDroppedCount());
+            logWriter.close();
+        }
+    }
+
+    @Benchmark
+    public long writeResponse() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/items"));
+        // 네트워크로 쓰는 대신 바이트 수만 세고 버퍼를 해제
+        written.set(0);
+        ((MockServerHttpResponse) exchange.getResponse()).setWriteHandler(body -> body
+                .doOnNext(buffer -> {
+                    written.addAndGet(buffer.readableByteCount());
+                    DataBufferUtils.release(buffer);
+                })
+                .then());
+
+        filter.filter(exchange, this::respond).block();
+
+        if (written.get() != payload.length) {
+            throw new IllegalStateException("written bytes mismatch: " + written.get());
+        }
+        return written.get();
+    }
+
+    private Mono<Void> respond(ServerWebExchange exchange) {
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBufferFactory factory = exchange.getResponse().bufferFactory();
+        int chunkSize = chunkKb * 1024;
+        Flux<DataBuffer> body = Flux.range(0, (payload.length + chunkSize - 1) / chunkSize)
+                .map(idx -> factory.wrap(ByteBuffer.wrap(payload, idx * chunkSize,
+                        Math.min(chunkSize, payload.length - idx * chunkSize))));
+        return exchange.getResponse().writeWith(body);
+    }
+
+    /**
+     * 기존 LoggingFilter 의 응답 본문 로그 (비교 기준)
+     */
+    @Slf4j
+    static class FullBodyLoggingFilter implements WebFilter {
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+            DataBufferFactory dataBufferFactory = exchange.getResponse().bufferFactory();
+            ServerHttpResponseDecorator decoratedResponse = new ServerHttpResponseDecorator(exchange.getResponse()) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    return super.writeWith(Flux.from(body).buffer().map(dataBuffers -> {
+                        DefaultDataBuffer joinedBuffers = new DefaultDataBufferFactory().join(dataBuffers);
+                        byte[] content = new byte[joinedBuffers.readableByteCount()];
+                        joinedBuffers.read(content);
+                        String responseBody = new String(content, StandardCharsets.UTF_8);
+                        log.info("method: {}, url: {}, \nresponse body :{}", exchange.getRequest().getMethod(),
+                                exchange.getRequest().getURI(), responseBody);
+                        return dataBufferFactory.wrap(responseBody.getBytes());
+                    }));
+                }
+            };
+            return chain.filter(exchange.mutate().response(decoratedResponse).build());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .include(BodyLoggingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,159 @@
+package com.mserver.gatewayserver.filter;
+
+import com.mserver.gatewayserver.account.service.TokenValidationCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * 토큰 검사 경로의 요청당 지연 분포 (임베디드 H2)
+ * 이벤트 루프 스레드 수를 게이트웨이와 같게 두고, 여러 클라이언트 스레드가 동시에 검사를 요청한다.
+ * - blocking: 기존 방식. 이벤트 루프에서 ACCOUNT 테이블 조회를 그대로 기다림
+ * - cached: TokenValidationCache 사용. 캐시 미스만 별도 스케줄러에서 조회하고 같은 토큰의 동시 미스는 1번만 조회
+ * 조회는 AccountRepository.existsByAccountIdAndToken 이 만드는 것과 같은 exists 쿼리다.
+ * 요청의 토큰은 활성 사용자 풀에서 고르며, newTokenRatio 비율은 처음 보는 토큰(미스)으로 보낸다.
+ * 측정이 끝나면 DB 조회 수와 캐시 적중/미스를 출력한다.
+ *
+ * 실행: java -cp ... com.mserver.gatewayserver.filter.TokenCheckBenchmark [JMH 옵션]
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class TokenCheckBenchmark {
+    private static final String URL = "jdbc:h2:mem:token-check;DB_CLOSE_DELAY=-1";
+    private static final String EXISTS_SQL =
+            "select 1 from ACCOUNT where ACCOUNT_ID = ? and TOKEN = ? fetch first 1 rows only";
+
+    @Param({"blocking", "cached"})
+    private String mode;
+
+    @Param({"10000"})
+    private int users;
+
+    @Param({"0.01"})
+    private double newTokenRatio;
+
+    private Scheduler eventLoop;
+    private TokenValidationCache cache;
+    private BiFunction<String, String, Mono<Boolean>> check;
+    private final AtomicInteger freshTokens = new AtomicInteger();
+    private final LongAdder dbCalls = new LongAdder();
+
+    // 조회 스레드마다 연결 하나 (이벤트 루프 / 조회 스케줄러 스레드)
+    private final Queue<Connection> connections = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<PreparedStatement> statements = ThreadLocal.withInitial(this::prepare);
+
+    @Setup
+    public void setUp() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL);
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists ACCOUNT");
+            statement.execute("create table ACCOUNT (ACCOUNT_ID varchar(30) primary key, "
+                    + "PASS_WD varchar(100), TOKEN varchar(500))");
+            statement.execute("insert into ACCOUNT select 'user-' || X, 'pw', 't-' || X "
+                    + "from system_range(0, " + (users - 1) + ")");
+        }
+
+        eventLoop = Schedulers.newParallel("event-loop", Runtime.getRuntime().availableProcessors());
+        if (mode.equals("cached")) {
+            cache = new TokenValidationCache(this::exists,
+                    Schedulers.newBoundedElastic(32, 10_000, "token-lookup"),
+                    Duration.ofSeconds(30), Duration.ofSeconds(2), 100_000);
+            check = cache::isValid;
+        } else {
+            check = (accountId, token) -> Mono.fromCallable(() -> exists(accountId, token));
+        }
+    }
+
+    @Benchmark
+    public Boolean check() {
+        String accountId;
+        String token;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < newTokenRatio) {
+            // 처음 보는 토큰: 테이블에 없으므로 유효하지 않음
+            int fresh = freshTokens.incrementAndGet();
+            accountId = "new-" + fresh;
+            token = "t-new-" + fresh;
+        } else {
+            int user = random.nextInt(users);
+            accountId = "user-" + user;
+            token = "t-" + user;
+        }
+        // 필터가 이벤트 루프에서 실행되는 것과 같게 맞춤
+        return Mono.defer(() -> check.apply(accountId, token))
+                .subscribeOn(eventLoop)
+                .block();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        if (cache != null) {
+            System.out.printf("%n[%s] DB 조회 %,d회, 캐시 적중 %,d / 미스 %,d%n",
+                    mode, dbCalls.sum(), cache.getHitCount(), cache.getMissCount());
+            cache.close();
+        } else {
+            System.out.printf("%n[%s] DB 조회 %,d회%n", mode, dbCalls.sum());
+        }
+        eventLoop.dispose();
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    private boolean exists(String accountId, String token) {
+        dbCalls.increment();
+        PreparedStatement statement = statements.get();
+        try {
+            statement.setString(1, accountId);
+            statement.setString(2, token);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PreparedStatement prepare() {
+        try {
+            Connection connection = DriverManager.getConnection(URL);
+            connections.add(connection);
+            return connection.prepareStatement(EXISTS_SQL);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .include(TokenCheckBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,152 @@
+package com.mserver.gatewayserver.account.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiPredicate;
+
+/**
+ * (accountId, token) -> 유효 여부를 잠깐 기억하는 비동기 토큰 검증 캐시 (Caffeine AsyncCache)
+ * 캐시에 없으면 블로킹 DB 조회를 전용 bounded elastic 스케줄러에서 실행해 이벤트 루프를 막지 않는다.
+ * 같은 키로 동시에 들어온 요청은 진행 중인 조회 하나를 함께 기다린다 (조회 1번).
+ * 유효한 토큰은 validTtl, 유효하지 않은 토큰은 더 짧은 invalidTtl 동안 기억하며
+ * 조회가 실패하면 기억하지 않고 다음 요청에서 다시 조회한다.
+ * 최대 크기를 넘으면 Caffeine이 분할 상환(W-TinyLFU)으로 정리하므로 요청 경로에서 전체를 훑지 않으며,
+ * 진행 중인 조회는 무게 0으로 세어 정리 대상에서 빠진다.
+ * 토큰 변경/로그아웃은 인증 서버에서 일어나 게이트웨이가 알 수 없으므로, 바뀐 토큰은 최대 validTtl 동안 유효로 남을 수 있다.
+ */
+@Slf4j
+@Component
+public class TokenValidationCache {
+
+    private final BiPredicate<String, String> loader;
+    private final Scheduler scheduler;
+    private final AsyncCache<Key, Boolean> cache;
+
+    @Autowired
+    public TokenValidationCache(AccountService accountService,
+                                @Value("${gateway.token-cache.valid-ttl:30s}") Duration validTtl,
+                                @Value("${gateway.token-cache.invalid-ttl:2s}") Duration invalidTtl,
+                                @Value("${gateway.token-cache.maximum-size:100000}") int maximumSize,
+                                @Value("${gateway.token-cache.lookup-threads:32}") int lookupThreads) {
+        this(accountService::existsByAccountIdAndToken,
+                Schedulers.newBoundedElastic(lookupThreads, 10_000, "token-lookup"),
+                validTtl, invalidTtl, maximumSize);
+    }
+
+    /**
+     * @param loader 원본 조회 함수 (블로킹 가능)
+     * @param scheduler 원본 조회를 실행할 스케줄러
+     * @param validTtl 유효한 토큰을 기억하는 시간
+     * @param invalidTtl 유효하지 않은 토큰을 기억하는 시간
+     * @param maximumSize 최대 항목 수
+     */
+    public TokenValidationCache(BiPredicate<String, String> loader, Scheduler scheduler,
+                                Duration validTtl, Duration invalidTtl, int maximumSize) {
+        this(loader, scheduler, validTtl, invalidTtl, maximumSize, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    // 테스트에서 시계와 정리 실행기를 바꿔 끼우기 위한 생성자
+    TokenValidationCache(BiPredicate<String, String> loader, Scheduler scheduler,
+                         Duration validTtl, Duration invalidTtl, int maximumSize,
+                         Ticker ticker, Executor maintenanceExecutor) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다: " + maximumSize);
+        }
+        this.loader = loader;
+        this.scheduler = scheduler;
+        long validTtlNanos = validTtl.toNanos();
+        long invalidTtlNanos = invalidTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                // 무게를 쓰면 완료되지 않은 조회는 무게 0이 되어 크기 제한으로 지워지지 않는다
+                .maximumWeight(maximumSize)
+                .<Key, Boolean>weigher((key, valid) -> 1)
+                .expireAfter(new Expiry<Key, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Boolean valid, long currentTime) {
+                        return valid ? validTtlNanos : invalidTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Boolean valid, long currentTime, long currentDuration) {
+                        return valid ? validTtlNanos : invalidTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, Boolean valid, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .executor(maintenanceExecutor)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 토큰 유효 여부 조회
+     * @param accountId 사용자ID
+     * @param token 토큰
+     * @return 유효 여부 (캐시에 있으면 바로, 없으면 조회가 끝난 뒤 발행)
+     */
+    public Mono<Boolean> isValid(String accountId, String token) {
+        return Mono.defer(() -> {
+            Key key = new Key(accountId, token);
+            CompletableFuture<Boolean> lookup = cache.get(key, (k, executor) ->
+                    Mono.fromCallable(() -> loader.test(k.accountId(), k.token()))
+                            .subscribeOn(scheduler)
+                            .toFuture());
+            // 구독자 하나가 취소해도 같은 조회를 기다리는 다른 요청에는 영향을 주지 않도록 취소를 전파하지 않음
+            return Mono.fromFuture(lookup, true)
+                    .doOnError(e -> {
+                        // Caffeine도 실패한 조회를 지우지만 비동기라, 다음 요청이 실패를 다시 받지 않도록 바로 지움
+                        cache.asMap().remove(key, lookup);
+                        log.warn("토큰 조회 실패: {}", e.getMessage());
+                    });
+        });
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
+    }
+
+    // 밀린 만료/크기 정리를 바로 실행 (테스트용)
+    void cleanUp() {
+        cache.synchronous().cleanUp();
+    }
+
+    private CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private record Key(String accountId, String token) {
+    }
+}
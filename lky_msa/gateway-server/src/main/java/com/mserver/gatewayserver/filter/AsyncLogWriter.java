@@ -0,0 +1,58 @@
+package com.mserver.gatewayserver.filter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 작성을 이벤트 루프 밖의 전용 스레드 하나에서 처리
+ * 큐가 가득 차면 이벤트 루프를 기다리게 하지 않고 해당 로그를 버린다 (버린 건수는 집계).
+ */
+@Slf4j
+@Component
+public class AsyncLogWriter {
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder droppedCount = new LongAdder();
+
+    public AsyncLogWriter(@Value("${gateway.logging.queue-capacity:10000}") int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gateway-log-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> droppedCount.increment());
+    }
+
+    /**
+     * 로그 작업 등록 (블로킹하지 않음)
+     * @param logTask 로그를 남기는 작업 (문자열 변환도 이 안에서 수행)
+     */
+    public void submit(Runnable logTask) {
+        executor.execute(() -> {
+            try {
+                logTask.run();
+            } catch (Exception e) {
+                log.error("log write failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
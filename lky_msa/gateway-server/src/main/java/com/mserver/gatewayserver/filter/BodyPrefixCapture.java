@@ -0,0 +1,54 @@
+package com.mserver.gatewayserver.filter;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 본문 앞부분 N바이트만 복사해 두는 티(tee)
+ * 지나가는 DataBuffer의 읽기 위치를 바꾸지 않고 앞부분만 복사하므로 나머지 본문은 그대로 스트리밍된다.
+ * 한 요청(또는 응답) 본문에만 쓰며, 청크는 순서대로 들어온다고 가정한다.
+ */
+public final class BodyPrefixCapture {
+
+    private final ByteBuffer prefix;
+    private long totalBytes;
+
+    /**
+     * @param maxBytes 복사해 둘 최대 바이트 수
+     */
+    public BodyPrefixCapture(int maxBytes) {
+        this.prefix = ByteBuffer.allocate(maxBytes);
+    }
+
+    /**
+     * 청크의 앞부분을 남은 자리만큼 복사
+     * @param buffer 지나가는 본문 청크 (읽기 위치는 바뀌지 않음)
+     */
+    public void capture(DataBuffer buffer) {
+        int readable = buffer.readableByteCount();
+        totalBytes += readable;
+        int length = Math.min(prefix.remaining(), readable);
+        if (length > 0) {
+            buffer.toByteBuffer(buffer.readPosition(), prefix, prefix.position(), length);
+            prefix.position(prefix.position() + length);
+        }
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public boolean isTruncated() {
+        return totalBytes > prefix.position();
+    }
+
+    /**
+     * 복사해 둔 앞부분을 UTF-8 문자열로 변환 (잘린 멀티바이트 문자는 대체 문자로 표시)
+     * @return 본문 앞부분
+     */
+    public String toText() {
+        return new String(prefix.array(), 0, prefix.position(), StandardCharsets.UTF_8);
+    }
+}
@@ -1,14 +1,13 @@
 package com.mserver.gatewayserver.filter;
 
-import java.io.ByteArrayOutputStream;
-import java.nio.channels.Channels;
-import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferFactory;
-import org.springframework.core.io.buffer.DefaultDataBuffer;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -18,80 +17,111 @@ import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 
+/**
+ * 요청/응답 본문 로그
+ * 본문 전체를 모으지 않고 앞부분 maxBodyBytes만 복사해 두므로 큰 응답도 그대로 스트리밍된다.
+ * 샘플링된 요청 중 허용된 Content-Type의 본문만 남기며, 로그 작성은 AsyncLogWriter 스레드에서 한다.
+ */
 @Component
 @Slf4j
 public class LoggingFilter implements WebFilter {
+
+    @Autowired
+    AsyncLogWriter logWriter;
+
+    // 본문을 남길 요청 비율 (0.0 ~ 1.0)
+    @Value("${gateway.logging.sample-rate:1.0}")
+    double sampleRate;
+
+    // 요청/응답마다 남길 본문 앞부분 크기
+    @Value("${gateway.logging.max-body-bytes:1024}")
+    int maxBodyBytes;
+
+    // 본문을 남길 Content-Type 목록 (그 외에는 메서드/URL만 남김)
+    @Value("${gateway.logging.content-types:application/json,application/*+json,application/x-www-form-urlencoded,text/*}")
+    String contentTypes;
+
+    private List<MediaType> loggableTypes;
+
+    @PostConstruct
+    void init() {
+        loggableTypes = MediaType.parseMediaTypes(contentTypes);
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!log.isInfoEnabled() || !isSampled()) {
+            return chain.filter(exchange);
+        }
+
         ServerHttpResponse response = exchange.getResponse();
         ServerHttpRequest request = exchange.getRequest();
-        DataBufferFactory dataBufferFactory = response.bufferFactory();
 
         // log the request body
         ServerHttpRequest decoratedRequest = getDecoratedRequest(request);
         // log the response body
-        ServerHttpResponseDecorator decoratedResponse = getDecoratedResponse(response, request, dataBufferFactory);
+        ServerHttpResponseDecorator decoratedResponse = getDecoratedResponse(response, request);
         return chain.filter(exchange.mutate().request(decoratedRequest).response(decoratedResponse).build());
     }
 
-    private ServerHttpResponseDecorator getDecoratedResponse(ServerHttpResponse response, ServerHttpRequest request, DataBufferFactory dataBufferFactory) {
+    private ServerHttpResponseDecorator getDecoratedResponse(ServerHttpResponse response, ServerHttpRequest request) {
         return new ServerHttpResponseDecorator(response) {
             @Override
             public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
-
-                if (body instanceof Flux) {
-
-                    Flux<? extends DataBuffer> fluxBody = (Flux<? extends DataBuffer>) body;
-
-                    return super.writeWith(fluxBody.buffer().map(dataBuffers -> {
-
-                                        DefaultDataBuffer joinedBuffers = new DefaultDataBufferFactory().join(dataBuffers);
-                                        byte[] content = new byte[joinedBuffers.readableByteCount()];
-                                        joinedBuffers.read(content);
-                                        String responseBody = new String(content, StandardCharsets.UTF_8);//MODIFY RESPONSE and Return the Modified response
-                                        log.info("method: {}, url: {}, \nresponse body :{}", request.getMethod(), request.getURI(), responseBody);
-
-                                        return dataBufferFactory.wrap(responseBody.getBytes());
-                                    })
-                                    .switchIfEmpty(Flux.defer(() -> {
-                                        return Flux.just();
-                                    }))
-                    ).onErrorResume(err -> {
-                        log.error("error while decorating Response: {}", err.getMessage());
-                        return Mono.empty();
-                    });
-
-                } else {
-                    System.out.println("Not Flux");
+                if (!isLoggable(getHeaders().getContentType())) {
+                    return super.writeWith(body);
                 }
-                return super.writeWith(body);
+
+                // 청크는 그대로 흘려보내고 앞부분만 복사
+                BodyPrefixCapture capture = new BodyPrefixCapture(maxBodyBytes);
+                return super.writeWith(Flux.from(body).doOnNext(capture::capture))
+                        .doFinally(signal -> logWriter.submit(() ->
+                                log.info("method: {}, url: {}, status: {}, \nresponse body ({} bytes{}) :{}",
+                                        request.getMethod(), request.getURI(), getStatusCode(),
+                                        capture.getTotalBytes(), capture.isTruncated() ? ", truncated" : "",
+                                        capture.toText())));
             }
         };
     }
 
     private ServerHttpRequest getDecoratedRequest(ServerHttpRequest request) {
+        logWriter.submit(() -> log.info("method: {}, url: {}", request.getMethod(), request.getURI()));
+        if (!isLoggable(request.getHeaders().getContentType())) {
+            return request;
+        }
 
         return new ServerHttpRequestDecorator(request) {
             @Override
             public Flux<DataBuffer> getBody() {
-
-                log.info("method: {}, url: {}", request.getMethod(), request.getURI());
-                return super.getBody().publishOn(Schedulers.boundedElastic()).doOnNext(dataBuffer -> {
-                    try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                        Channels.newChannel(baos).write(dataBuffer.asByteBuffer().asReadOnlyBuffer());
-                        String body = baos.toString(StandardCharsets.UTF_8);
-                        log.info("request body :{}", body);
-                    } catch (Exception e) {
-                        log.error(e.getMessage());
-                    }
-                });
+                BodyPrefixCapture capture = new BodyPrefixCapture(maxBodyBytes);
+                return super.getBody()
+                        .doOnNext(capture::capture)
+                        .doOnComplete(() -> logWriter.submit(() ->
+                                log.info("request body ({} bytes{}) :{}", capture.getTotalBytes(),
+                                        capture.isTruncated() ? ", truncated" : "", capture.toText())));
             }
         };
     }
-}
\ No newline at end of file
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private boolean isLoggable(MediaType contentType) {
+        if (contentType == null || maxBodyBytes <= 0) {
+            return false;
+        }
+        for (MediaType loggableType : loggableTypes) {
+            if (loggableType.includes(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
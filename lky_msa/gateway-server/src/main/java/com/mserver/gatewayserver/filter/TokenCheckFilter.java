@@ -1,6 +1,6 @@
 package com.mserver.gatewayserver.filter;
 
-import com.mserver.gatewayserver.account.service.AccountService;
+import com.mserver.gatewayserver.account.service.TokenValidationCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -15,42 +15,44 @@ import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 import com.google.gson.Gson;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Component
 @Slf4j
 public class TokenCheckFilter implements WebFilter {
+    // 401 응답 본문은 항상 같으므로 한 번만 직렬화해 둠 (요청마다 Gson을 만들지 않음)
+    private static final byte[] UNAUTHORIZED_BODY;
+
+    static {
+        Map<String, String> paramMap = new LinkedHashMap<>();
+        paramMap.put("code", "401");
+        paramMap.put("message", "Unauthorized token");
+        UNAUTHORIZED_BODY = new Gson().toJson(paramMap).getBytes(StandardCharsets.UTF_8);
+    }
+
     @Autowired
-    AccountService accountService;
+    TokenValidationCache tokenValidationCache;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
 
-        boolean success = false;
-
-        Object tmp = request.getHeaders().get("token");
-        Object tmp2 = request.getHeaders().get("accountId");
-        String token = "";
-        String accountId = "";
-        if (tmp != null) {
-            token = tmp.toString().replace("[", "").replace("]", "");
-        }
-        if (tmp2 != null) {
-            accountId = tmp2.toString().replace("[", "").replace("]", "");
-        }
-
-        log.info("token = {}" , token);
-
-        success = accountService.existsByAccountIdAndToken(accountId, token);
-        log.info("user authentication check result = {}", success);
-
-        if (!success) { // 인증실패시 에러반환
+        String token = request.getHeaders().getFirst("token");
+        String accountId = request.getHeaders().getFirst("accountId");
+        if (token == null || accountId == null) {
             return errorResponse(exchange);
         }
 
-        return chain.filter(exchange);
+        // 캐시에 없을 때만 별도 스케줄러에서 DB를 조회하므로 이벤트 루프가 막히지 않음
+        return tokenValidationCache.isValid(accountId, token)
+                .flatMap(success -> {
+                    log.debug("user authentication check result = {}", success);
+                    if (!success) { // 인증실패시 에러반환
+                        return errorResponse(exchange);
+                    }
+                    return chain.filter(exchange);
+                });
     }
 
     /**
@@ -60,21 +62,10 @@ public class TokenCheckFilter implements WebFilter {
      */
     private Mono<Void> errorResponse(ServerWebExchange exchange) {
         ServerHttpResponse response = exchange.getResponse();
-        Gson gson = new Gson();
-
-        response.setStatusCode(HttpStatus.UNAUTHORIZED);
-
-        Map<String, String> paramMap = new HashMap<>();
-        paramMap.put("code", "401");
-        paramMap.put("message", "Unauthorized token");
-
-        String json = gson.toJson(paramMap);
 
         // RESPONSE LOG DB 저장 필요
 
-        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
-
-        DataBuffer buffer = response.bufferFactory().wrap(bytes);
+        DataBuffer buffer = response.bufferFactory().wrap(UNAUTHORIZED_BODY);
         response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
         response.setStatusCode(HttpStatus.UNAUTHORIZED);
         return response.writeWith(Mono.just(buffer));
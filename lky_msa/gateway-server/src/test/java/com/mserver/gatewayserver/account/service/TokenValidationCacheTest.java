@@ -0,0 +1,183 @@
+package com.mserver.gatewayserver.account.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenValidationCacheTest {
+    private static final Duration VALID_TTL = Duration.ofSeconds(30);
+    private static final Duration INVALID_TTL = Duration.ofSeconds(2);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+    private final Scheduler scheduler = Schedulers.newBoundedElastic(8, 1_000, "token-lookup-test");
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    void validAndInvalidTokensExpireAfterTheirTtl() {
+        TokenValidationCache cache = newCache(100, (accountId, token) -> token.startsWith("t-"));
+
+        assertThat(cache.isValid("a", "t-a").block(TIMEOUT)).isTrue();
+        assertThat(cache.isValid("b", "bad").block(TIMEOUT)).isFalse();
+
+        advance(INVALID_TTL.minusMillis(1));
+        assertThat(cache.isValid("a", "t-a").block(TIMEOUT)).isTrue();
+        assertThat(cache.isValid("b", "bad").block(TIMEOUT)).isFalse();
+        assertThat(lookups("t-a")).isEqualTo(1);
+        assertThat(lookups("bad")).isEqualTo(1);
+
+        // 유효하지 않은 결과는 짧게만 기억
+        advance(Duration.ofMillis(1));
+        assertThat(cache.isValid("b", "bad").block(TIMEOUT)).isFalse();
+        assertThat(lookups("bad")).isEqualTo(2);
+        assertThat(cache.isValid("a", "t-a").block(TIMEOUT)).isTrue();
+        assertThat(lookups("t-a")).isEqualTo(1);
+
+        advance(VALID_TTL);
+        assertThat(cache.isValid("a", "t-a").block(TIMEOUT)).isTrue();
+        assertThat(lookups("t-a")).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentMissesShareOneLookup() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TokenValidationCache cache = newCache(100, (accountId, token) -> {
+            await(release);
+            return true;
+        });
+
+        List<Mono<Boolean>> waiting = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            waiting.add(cache.isValid("a", "t-a").cache());
+            waiting.get(i).subscribe();
+        }
+        release.countDown();
+
+        for (Mono<Boolean> result : waiting) {
+            assertThat(result.block(TIMEOUT)).isTrue();
+        }
+        assertThat(lookups("t-a")).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(9);
+    }
+
+    @Test
+    void cancelledSubscriberDoesNotCancelSharedLookup() {
+        CountDownLatch release = new CountDownLatch(1);
+        TokenValidationCache cache = newCache(100, (accountId, token) -> {
+            await(release);
+            return true;
+        });
+
+        Disposable cancelled = cache.isValid("a", "t-a").subscribe();
+        Mono<Boolean> other = cache.isValid("a", "t-a").cache();
+        other.subscribe();
+        cancelled.dispose();
+        release.countDown();
+
+        assertThat(other.block(TIMEOUT)).isTrue();
+        assertThat(cache.isValid("a", "t-a").block(TIMEOUT)).isTrue();
+        assertThat(lookups("t-a")).isEqualTo(1);
+    }
+
+    @Test
+    void failedLookupIsNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        TokenValidationCache cache = newCache(100, (accountId, token) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("DB 장애");
+            }
+            return true;
+        });
+
+        assertThatThrownBy(() -> cache.isValid("a", "t-a").block(TIMEOUT)).hasMessageContaining("DB 장애");
+        assertThat(cache.isValid("a", "t-a").block(TIMEOUT)).isTrue();
+        assertThat(cache.isValid("a", "t-a").block(TIMEOUT)).isTrue();
+        assertThat(lookups("t-a")).isEqualTo(2);
+    }
+
+    @Test
+    void sizeIsBoundedWithoutEvictingInFlightLookups() {
+        CountDownLatch release = new CountDownLatch(1);
+        TokenValidationCache cache = newCache(100, (accountId, token) -> {
+            if (token.equals("slow")) {
+                await(release);
+            }
+            return true;
+        });
+
+        Mono<Boolean> slow = cache.isValid("slow", "slow").cache();
+        slow.subscribe();
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(cache.isValid("user-" + i, "t-" + i).block(TIMEOUT)).isTrue();
+        }
+        cache.cleanUp();
+        assertThat(cache.size()).isLessThanOrEqualTo(101);
+
+        // 진행 중인 조회는 지워지지 않았으므로 새 요청도 같은 조회를 기다림
+        Mono<Boolean> joined = cache.isValid("slow", "slow").cache();
+        joined.subscribe();
+        release.countDown();
+        assertThat(slow.block(TIMEOUT)).isTrue();
+        assertThat(joined.block(TIMEOUT)).isTrue();
+        assertThat(lookups("slow")).isEqualTo(1);
+
+        cache.cleanUp();
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThatThrownBy(() -> newCache(0, (accountId, token) -> true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TokenValidationCache newCache(int maximumSize, BiPredicate<String, String> loader) {
+        BiPredicate<String, String> counting = (accountId, token) -> {
+            lookups.computeIfAbsent(token, k -> new AtomicInteger()).incrementAndGet();
+            return loader.test(accountId, token);
+        };
+        // 정리 작업은 호출 스레드에서 바로 실행해 결과를 결정적으로 만듦
+        return new TokenValidationCache(counting, scheduler, VALID_TTL, INVALID_TTL, maximumSize,
+                nanos::get, Runnable::run);
+    }
+
+    private int lookups(String token) {
+        AtomicInteger count = lookups.get(token);
+        return count == null ? 0 : count.get();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
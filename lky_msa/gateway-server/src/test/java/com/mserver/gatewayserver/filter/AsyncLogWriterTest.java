@@ -0,0 +1,90 @@
+package com.mserver.gatewayserver.filter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncLogWriterTest {
+
+    private AsyncLogWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.close();
+    }
+
+    @Test
+    void runsTasksInOrderOnWriterThread() throws Exception {
+        writer = new AsyncLogWriter(100);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(10);
+
+        for (int i = 0; i < 10; i++) {
+            int task = i;
+            writer.submit(() -> {
+                threads.add(Thread.currentThread().getName());
+                order.add(task);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).containsOnly("gateway-log-writer");
+        assertThat(order).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(writer.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void dropsAndCountsTasksWhenQueueIsFull() throws Exception {
+        writer = new AsyncLogWriter(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> ran = new CopyOnWriteArrayList<>();
+
+        // 작성 스레드를 붙잡아 두고 큐(2칸)를 채움
+        writer.submit(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 5; i++) {
+            int task = i;
+            // 블로킹 없이 바로 돌아와야 함
+            writer.submit(() -> ran.add(task));
+        }
+
+        assertThat(writer.getDroppedCount()).isEqualTo(3);
+        release.countDown();
+        writer.close();
+        assertThat(ran).containsExactly(0, 1);
+    }
+
+    @Test
+    void failingTaskDoesNotStopWriter() throws Exception {
+        writer = new AsyncLogWriter(10);
+        CountDownLatch done = new CountDownLatch(1);
+
+        writer.submit(() -> {
+            throw new IllegalStateException("log failed");
+        });
+        writer.submit(done::countDown);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(writer.getDroppedCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.mserver.gatewayserver.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BodyPrefixCaptureTest {
+
+    private final DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+
+    @Test
+    void capturesPrefixAcrossChunksWithoutMovingReadPositions() {
+        BodyPrefixCapture capture = new BodyPrefixCapture(10);
+        List<DataBuffer> chunks = List.of(buffer("abcd"), buffer("efgh"), buffer("ijkl"));
+
+        for (DataBuffer chunk : chunks) {
+            capture.capture(chunk);
+        }
+
+        assertThat(capture.toText()).isEqualTo("abcdefghij");
+        // 지나간 청크는 처음부터 끝까지 그대로 읽을 수 있어야 함
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(chunk.readPosition()).isZero();
+            assertThat(chunk.readableByteCount()).isEqualTo(4);
+        });
+        assertThat(chunks.get(2).toString(StandardCharsets.UTF_8)).isEqualTo("ijkl");
+    }
+
+    @Test
+    void copiesFromCurrentReadPosition() {
+        BodyPrefixCapture capture = new BodyPrefixCapture(4);
+        DataBuffer chunk = buffer("skip-body");
+        chunk.readPosition(5);
+
+        capture.capture(chunk);
+
+        assertThat(capture.toText()).isEqualTo("body");
+        assertThat(capture.getTotalBytes()).isEqualTo(4);
+        assertThat(capture.isTruncated()).isFalse();
+        assertThat(chunk.readPosition()).isEqualTo(5);
+    }
+
+    @Test
+    void countsAllBytesAndMarksTruncation() {
+        BodyPrefixCapture capture = new BodyPrefixCapture(8);
+
+        capture.capture(buffer("12345678"));
+        assertThat(capture.getTotalBytes()).isEqualTo(8);
+        assertThat(capture.isTruncated()).isFalse();
+
+        capture.capture(buffer(""));
+        assertThat(capture.isTruncated()).isFalse();
+
+        capture.capture(buffer("9"));
+        capture.capture(buffer("0123456789"));
+        assertThat(capture.toText()).isEqualTo("12345678");
+        assertThat(capture.getTotalBytes()).isEqualTo(19);
+        assertThat(capture.isTruncated()).isTrue();
+    }
+
+    @Test
+    void emptyBodyIsNotTruncated() {
+        BodyPrefixCapture capture = new BodyPrefixCapture(8);
+
+        assertThat(capture.toText()).isEmpty();
+        assertThat(capture.getTotalBytes()).isZero();
+        assertThat(capture.isTruncated()).isFalse();
+    }
+
+    @Test
+    void cutMultiByteCharacterBecomesReplacementCharacter() {
+        // "가" 는 UTF-8 3바이트
+        BodyPrefixCapture exact = new BodyPrefixCapture(4);
+        exact.capture(buffer("a가나"));
+        assertThat(exact.toText()).isEqualTo("a가");
+
+        BodyPrefixCapture cut = new BodyPrefixCapture(5);
+        cut.capture(buffer("a가나"));
+        assertThat(cut.toText()).isEqualTo("a가�");
+        assertThat(cut.getTotalBytes()).isEqualTo(7);
+    }
+
+    private DataBuffer buffer(String text) {
+        return factory.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,153 @@
+package com.mserver.gatewayserver.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class LoggingFilterTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final AsyncLogWriter logWriter = mock(AsyncLogWriter.class);
+    private final AtomicReference<ServerWebExchange> passed = new AtomicReference<>();
+    private LoggingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // 로그 작업을 호출한 스레드에서 바로 실행
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(logWriter).submit(any());
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+
+        filter = new LoggingFilter();
+        filter.logWriter = logWriter;
+        filter.sampleRate = 1.0;
+        filter.maxBodyBytes = 8;
+        filter.contentTypes = "application/json,text/*";
+        filter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    void logsPrefixOfRequestAndResponseBodies() {
+        MockServerWebExchange exchange = exchange(MediaType.APPLICATION_JSON, "{\"name\":\"request\"}");
+
+        filter.filter(exchange, echo(MediaType.APPLICATION_JSON, "{\"a\":", "1}", "[tail]")).block(TIMEOUT);
+
+        // 로그는 앞부분만, 클라이언트에게는 전체 본문
+        assertThat(exchange.getResponse().getBodyAsString().block(TIMEOUT)).isEqualTo("{\"a\":1}[tail]");
+        assertThat(messages()).containsExactly(
+                "method: POST, url: /items",
+                "request body (18 bytes, truncated) :{\"name\":",
+                "method: POST, url: /items, status: 200 OK, \nresponse body (13 bytes, truncated) :{\"a\":1}[");
+    }
+
+    @Test
+    void bodyWithinLimitIsNotMarkedTruncated() {
+        MockServerWebExchange exchange = exchange(MediaType.TEXT_PLAIN, "hi");
+
+        filter.filter(exchange, echo(MediaType.TEXT_PLAIN, "ok")).block(TIMEOUT);
+
+        assertThat(messages()).contains(
+                "request body (2 bytes) :hi",
+                "method: POST, url: /items, status: 200 OK, \nresponse body (2 bytes) :ok");
+    }
+
+    @Test
+    void skipsBodiesWhoseContentTypeIsNotAllowed() {
+        MockServerWebExchange exchange = exchange(MediaType.IMAGE_PNG, "png-bytes");
+
+        filter.filter(exchange, echo(MediaType.APPLICATION_OCTET_STREAM, "binary-body")).block(TIMEOUT);
+
+        // 요청은 감싸지 않고 메서드/URL만 남김
+        assertThat(passed.get().getRequest()).isSameAs(exchange.getRequest());
+        assertThat(exchange.getResponse().getBodyAsString().block(TIMEOUT)).isEqualTo("binary-body");
+        assertThat(messages()).containsExactly("method: POST, url: /items");
+    }
+
+    @Test
+    void skipsDecorationWhenNotSampled() {
+        filter.sampleRate = 0.0;
+        MockServerWebExchange exchange = exchange(MediaType.APPLICATION_JSON, "{}");
+
+        filter.filter(exchange, echo(MediaType.APPLICATION_JSON, "{}")).block(TIMEOUT);
+
+        assertThat(passed.get()).isSameAs(exchange);
+        verify(logWriter, never()).submit(any());
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void skipsDecorationWhenInfoIsDisabled() {
+        logger.setLevel(Level.WARN);
+        MockServerWebExchange exchange = exchange(MediaType.APPLICATION_JSON, "{}");
+
+        filter.filter(exchange, echo(MediaType.APPLICATION_JSON, "{}")).block(TIMEOUT);
+
+        assertThat(passed.get()).isSameAs(exchange);
+        verify(logWriter, never()).submit(any());
+    }
+
+    private static MockServerWebExchange exchange(MediaType contentType, String body) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/items")
+                .contentType(contentType)
+                .body(body));
+    }
+
+    // 요청 본문을 끝까지 읽은 뒤 응답을 청크로 나눠 씀
+    private WebFilterChain echo(MediaType contentType, String... chunks) {
+        return exchange -> {
+            passed.set(exchange);
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(contentType);
+            return DataBufferUtils.join(exchange.getRequest().getBody())
+                    .doOnNext(DataBufferUtils::release)
+                    .then(exchange.getResponse().writeWith(Flux.fromArray(chunks).map(LoggingFilterTest::buffer)));
+        };
+    }
+
+    private static DataBuffer buffer(String text) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+}
@@ -26,9 +26,15 @@ public class ActiveMQConfig {
         return new ActiveMQQueue(topic);
     }
 
+    /**
+     * 배치 수신용 트랜잭션 세션 (여러 건을 받아 저장한 뒤 한 번에 커밋)
+     * @return JmsTemplate
+     */
     @Bean
     public JmsTemplate jmsTemplate() {
-        return new JmsTemplate(activeMQConnectionFactory());
+        JmsTemplate jmsTemplate = new JmsTemplate(activeMQConnectionFactory());
+        jmsTemplate.setSessionTransacted(true);
+        return jmsTemplate;
     }
 
     public ActiveMQConnectionFactory activeMQConnectionFactory() {
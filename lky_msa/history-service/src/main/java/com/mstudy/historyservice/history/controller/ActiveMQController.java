@@ -1,16 +1,127 @@
 package com.mstudy.historyservice.history.controller;
 
+import com.mstudy.historyservice.history.service.HistoryService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jms.annotation.JmsListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jms.core.JmsTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ActiveMQ 이력 배치 수신
+ * 스프링 JMS 리스너는 한 건씩만 받으므로, 스레드마다 트랜잭션 세션을 하나 열어 최대 batchSize건(또는 linger 시간)까지 받고
+ * 한 번에 저장한 뒤 세션을 커밋한다. 저장이 실패하면 롤백해 메시지를 다시 받는다 (중복은 저장 시 걸러짐).
+ */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class ActiveMQController {
 
-    @JmsListener(destination = "${activemq.broker.topic}", containerFactory = "jmsListenerContainerFactory")
-    public void pullHistory(String json) {
-        log.info(" - activeMq pull = {}", json);
+    private final JmsTemplate jmsTemplate;
+    private final Queue activeMq;
+    private final HistoryService historyService;
+
+    @Value("${history.jms.concurrency:3}")
+    private int concurrency;
+    @Value("${history.jms.batch-size:200}")
+    private int batchSize;
+    @Value("${history.jms.receive-timeout-ms:500}")
+    private long receiveTimeoutMs;
+    @Value("${history.jms.linger-ms:20}")
+    private long lingerMs;
+
+    private volatile boolean running;
+    private final List<Thread> consumers = new ArrayList<>();
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < concurrency; i++) {
+            Thread consumer = new Thread(this::consumeLoop, "history-jms-" + i);
+            consumer.setDaemon(true);
+            consumer.start();
+            consumers.add(consumer);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread consumer : consumers) {
+            consumer.join(receiveTimeoutMs * 2);
+        }
+    }
+
+    private void consumeLoop() {
+        while (running) {
+            try {
+                jmsTemplate.execute(session -> {
+                    pullHistory(session);
+                    return null;
+                }, true);
+            } catch (Exception e) {
+                log.error(" - activeMq pull failed: {}", e.getMessage());
+                sleepQuietly(1_000L);
+            }
+        }
+    }
+
+    private void pullHistory(Session session) throws JMSException {
+        MessageConsumer messageConsumer = session.createConsumer(activeMq);
+        try {
+            while (running) {
+                List<String> jsonList = receiveBatch(messageConsumer);
+                if (jsonList.isEmpty()) {
+                    continue;
+                }
+                try {
+                    historyService.saveBatch(jsonList, "jms");
+                    session.commit();
+                } catch (RuntimeException e) {
+                    log.error(" - activeMq batch save failed, rollback ({}): {}", jsonList.size(), e.getMessage());
+                    session.rollback();
+                }
+            }
+        } finally {
+            messageConsumer.close();
+        }
+    }
+
+    // 첫 메시지는 receiveTimeout까지, 이후는 linger 시간 안에서만 기다림
+    private List<String> receiveBatch(MessageConsumer messageConsumer) throws JMSException {
+        List<String> jsonList = new ArrayList<>();
+        Message message = messageConsumer.receive(receiveTimeoutMs);
+        long deadline = System.currentTimeMillis() + lingerMs;
+        while (message != null) {
+            if (message instanceof TextMessage textMessage) {
+                jsonList.add(textMessage.getText());
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (jsonList.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            message = messageConsumer.receive(remaining);
+        }
+        return jsonList;
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
-}
\ No newline at end of file
+}
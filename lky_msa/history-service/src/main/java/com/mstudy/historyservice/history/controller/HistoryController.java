@@ -2,7 +2,10 @@ package com.mstudy.historyservice.history.controller;
 
 import com.mstudy.historyservice.history.dto.HistoryDTO;
 import com.mstudy.historyservice.history.dto.ResponseDTO;
+import com.mstudy.historyservice.history.repository.HistoryRepository;
+import com.mstudy.historyservice.history.service.HistoryConsumerMetrics;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -10,11 +13,18 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Slf4j
 @RequestMapping(value="v1/history")
 @RestController
+@RequiredArgsConstructor
 public class HistoryController {
 
+    private final HistoryConsumerMetrics metrics;
+    private final HistoryRepository historyRepository;
+
     @RequestMapping(value="/save", method= RequestMethod.POST)
     public ResponseEntity<ResponseDTO> history(HttpServletRequest request, @RequestBody HistoryDTO historyDTO) throws Exception{
         ResponseDTO.ResponseDTOBuilder responseBuilder = ResponseDTO.builder();
@@ -25,4 +35,13 @@ public class HistoryController {
         return ResponseEntity.ok(responseBuilder.build());
     }
 
-}
\ No newline at end of file
+    // 수신처별 처리량/중복 건수와 Kafka consumer lag
+    @RequestMapping(value="/metrics", method= RequestMethod.GET)
+    public ResponseEntity<Map<String, Object>> metrics() {
+        Map<String, Object> result = new LinkedHashMap<>(metrics.snapshot());
+        result.put("stored", historyRepository.count());
+        result.put("dedupeKeys", historyRepository.dedupeKeyCount());
+        return ResponseEntity.ok(result);
+    }
+
+}
@@ -1,19 +1,51 @@
 package com.mstudy.historyservice.history.controller;
 
+import com.mstudy.historyservice.history.service.HistoryConsumerMetrics;
+import com.mstudy.historyservice.history.service.HistoryService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class KafkaConsumerController {
 
-    @KafkaListener(topics = "${topic.name}", groupId = ConsumerConfig.GROUP_ID_CONFIG)
-    public void consume(String data) throws IOException {
-        System.out.println(String.format("Consumed data : %s", data));
+    private final HistoryService historyService;
+    private final HistoryConsumerMetrics metrics;
+
+    /**
+     * poll 한 번에 받은 레코드를 한 번에 저장한 뒤 오프셋 커밋
+     * 저장이 실패하면 커밋하지 않고 예외를 던져 에러 핸들러가 배치를 다시 처리하게 한다 (중복은 저장 시 걸러짐).
+     */
+    @KafkaListener(topics = "${topic.name}", groupId = ConsumerConfig.GROUP_ID_CONFIG,
+            containerFactory = "historyBatchListenerContainerFactory")
+    public void consume(List<ConsumerRecord<String, String>> records, Acknowledgment ack, Consumer<?, ?> consumer) {
+        List<String> jsonList = new ArrayList<>(records.size());
+        Set<TopicPartition> partitions = new LinkedHashSet<>();
+        for (ConsumerRecord<String, String> record : records) {
+            jsonList.add(record.value());
+            partitions.add(new TopicPartition(record.topic(), record.partition()));
+        }
+
+        historyService.saveBatch(jsonList, "kafka");
+        ack.acknowledge();
+
+        for (TopicPartition partition : partitions) {
+            consumer.currentLag(partition)
+                    .ifPresent(lag -> metrics.updateKafkaLag(partition.toString(), lag));
+        }
     }
 
-}
\ No newline at end of file
+}
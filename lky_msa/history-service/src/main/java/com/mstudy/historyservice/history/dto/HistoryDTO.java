@@ -1,9 +1,14 @@
 package com.mstudy.historyservice.history.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
 
 @Data
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class HistoryDTO {
     private String accountId;	// 사용자ID
     private String itemId;		// 물품ID
-}
\ No newline at end of file
+    private String itemType;	// 물품유형
+    private long count;			// 물품개수
+    private String regDts;		// 등록일시 (yyyyMMddHHmmss)
+}
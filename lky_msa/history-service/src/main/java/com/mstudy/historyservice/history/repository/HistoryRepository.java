@@ -0,0 +1,107 @@
+package com.mstudy.historyservice.history.repository;
+
+import com.mstudy.historyservice.history.dto.HistoryDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 이력 저장소 ((accountId, itemId, regDts) 기준으로 한 번만 저장)
+ * history-service에는 아직 DB 설정이 없어, 저장 건수와 최근에 저장한 키만 메모리에 둔다.
+ * 키는 history.dedupe.window-minutes 동안, 최대 history.dedupe.max-keys 개까지만 기억하므로 메모리는 일정하다.
+ *
+ * 한계: 중복 제거는 이 창 안에서만 보장된다.
+ * - 창보다 늦게 재전달된 메시지(컨슈머 장애가 길어진 경우 등)는 다시 저장된다.
+ * - 재시작하면 기억한 키가 사라지므로, 커밋되지 않아 다시 받은 배치의 일부가 중복 저장될 수 있다.
+ * DB를 붙일 때는 같은 세 컬럼에 유니크 키를 두고 중복 무시 INSERT를 배치로 실행하도록 이 클래스만 바꾸면 된다.
+ */
+@Repository
+public class HistoryRepository {
+
+    private final long windowNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+
+    // 키 -> 저장 시각 (삽입 순서 = 시각 순서이므로 오래된 키가 앞에 있다)
+    private final LinkedHashMap<HistoryKey, Long> recentKeys = new LinkedHashMap<>();
+    private final AtomicLong stored = new AtomicLong();
+
+    @Autowired
+    public HistoryRepository(
+            @Value("${history.dedupe.window-minutes:1440}") long windowMinutes,
+            @Value("${history.dedupe.max-keys:1000000}") int maxKeys
+    ) {
+        this(Duration.ofMinutes(windowMinutes), maxKeys, System::nanoTime);
+    }
+
+    HistoryRepository(Duration window, int maxKeys, LongSupplier nanoClock) {
+        if (window.isNegative() || window.isZero() || maxKeys <= 0) {
+            throw new IllegalArgumentException("dedupe window/max-keys must be positive: " + window + ", " + maxKeys);
+        }
+        this.windowNanos = window.toNanos();
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 최근 창 안에 없는 이력만 저장
+     * 여러 컨슈머 스레드가 부르지만 배치 단위로 한 번 잠그므로 경합은 배치 수만큼만 생긴다.
+     * @param historyList 저장할 이력 목록
+     * @return 새로 저장된 건수 (나머지는 이미 있던 중복)
+     */
+    public synchronized int saveAllIfAbsent(List<HistoryDTO> historyList) {
+        long now = nanoClock.getAsLong();
+        evict(now);
+
+        int inserted = 0;
+        for (HistoryDTO history : historyList) {
+            if (recentKeys.putIfAbsent(HistoryKey.of(history), now) == null) {
+                inserted++;
+            }
+        }
+        // 한 배치가 max-keys 를 넘겨도 상한을 지킨다
+        evict(now);
+        stored.addAndGet(inserted);
+        return inserted;
+    }
+
+    public long count() {
+        return stored.get();
+    }
+
+    /**
+     * 중복 판단을 위해 기억하고 있는 키 수
+     */
+    public synchronized int dedupeKeyCount() {
+        return recentKeys.size();
+    }
+
+    // 창이 지난 키와 상한을 넘는 오래된 키를 앞에서부터 제거
+    private void evict(long now) {
+        Iterator<Map.Entry<HistoryKey, Long>> iterator = recentKeys.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<HistoryKey, Long> eldest = iterator.next();
+            if (recentKeys.size() <= maxKeys && now - eldest.getValue() < windowNanos) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 중복 판단 키
+     */
+    public record HistoryKey(String accountId, String itemId, String regDts) {
+        public static HistoryKey of(HistoryDTO history) {
+            return new HistoryKey(history.getAccountId(), history.getItemId(), history.getRegDts());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.mstudy.historyservice.history.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이력 수신 지표 (수신처별 레코드 수, 저장/중복/오류 건수, 배치 수, 최근 10초 처리량, Kafka 파티션별 지연)
+ */
+@Component
+public class HistoryConsumerMetrics {
+
+    private static final int RATE_WINDOW_SECONDS = 10;
+
+    private final Map<String, SourceMetrics> sources = new ConcurrentHashMap<>();
+    // 파티션 -> 마지막으로 확인한 consumer lag
+    private final Map<String, Long> kafkaLag = new ConcurrentHashMap<>();
+
+    /**
+     * 배치 하나의 처리 결과 기록
+     * @param source 수신처 (kafka, jms)
+     * @param received 받은 레코드 수
+     * @param inserted 새로 저장된 건수
+     * @param invalid 해석하지 못한 레코드 수
+     */
+    public void recordBatch(String source, int received, int inserted, int invalid) {
+        SourceMetrics metrics = sources.computeIfAbsent(source, key -> new SourceMetrics());
+        metrics.records.add(received);
+        metrics.inserted.add(inserted);
+        metrics.duplicates.add(received - invalid - inserted);
+        metrics.invalid.add(invalid);
+        metrics.batches.increment();
+        metrics.rate.add(received);
+    }
+
+    public void updateKafkaLag(String partition, long lag) {
+        kafkaLag.put(partition, lag);
+    }
+
+    public long getKafkaLag() {
+        long total = 0;
+        for (long lag : kafkaLag.values()) {
+            total += lag;
+        }
+        return total;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        sources.forEach((source, metrics) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("records", metrics.records.sum());
+            values.put("inserted", metrics.inserted.sum());
+            values.put("duplicates", metrics.duplicates.sum());
+            values.put("invalid", metrics.invalid.sum());
+            values.put("batches", metrics.batches.sum());
+            values.put("recordsPerSec", metrics.rate.perSecond());
+            snapshot.put(source, values);
+        });
+        Map<String, Object> lag = new LinkedHashMap<>();
+        lag.put("total", getKafkaLag());
+        lag.put("partitions", new LinkedHashMap<>(kafkaLag));
+        snapshot.put("kafkaConsumerLag", lag);
+        return snapshot;
+    }
+
+    private static final class SourceMetrics {
+        private final LongAdder records = new LongAdder();
+        private final LongAdder inserted = new LongAdder();
+        private final LongAdder duplicates = new LongAdder();
+        private final LongAdder invalid = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final RateWindow rate = new RateWindow(RATE_WINDOW_SECONDS);
+    }
+
+    /**
+     * 초 단위 버킷으로 최근 N초 동안의 초당 처리량 계산
+     */
+    private static final class RateWindow {
+        private final AtomicLongArray counts;
+        private final AtomicLongArray seconds;
+
+        private RateWindow(int windowSeconds) {
+            this.counts = new AtomicLongArray(windowSeconds);
+            this.seconds = new AtomicLongArray(windowSeconds);
+        }
+
+        void add(long amount) {
+            long now = System.currentTimeMillis() / 1000;
+            int idx = (int) (now % counts.length());
+            long bucketSecond = seconds.get(idx);
+            // 다른 초에 쓰던 버킷이면 비우고 다시 사용
+            if (bucketSecond != now && seconds.compareAndSet(idx, bucketSecond, now)) {
+                counts.set(idx, 0);
+            }
+            counts.addAndGet(idx, amount);
+        }
+
+        double perSecond() {
+            long now = System.currentTimeMillis() / 1000;
+            long total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                if (now - seconds.get(i) < counts.length()) {
+                    total += counts.get(i);
+                }
+            }
+            return (double) total / counts.length();
+        }
+    }
+}
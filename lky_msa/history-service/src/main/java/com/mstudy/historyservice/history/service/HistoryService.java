@@ -0,0 +1,73 @@
+package com.mstudy.historyservice.history.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mstudy.historyservice.history.dto.HistoryDTO;
+import com.mstudy.historyservice.history.repository.HistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class HistoryService {
+
+    private final HistoryRepository historyRepository;
+    private final HistoryConsumerMetrics metrics;
+    private final ObjectReader historyReader;
+
+    public HistoryService(HistoryRepository historyRepository, HistoryConsumerMetrics metrics,
+                          ObjectMapper objectMapper) {
+        this.historyRepository = historyRepository;
+        this.metrics = metrics;
+        this.historyReader = objectMapper.readerFor(HistoryDTO.class);
+    }
+
+    /**
+     * 수신한 JSON 메시지 묶음을 이력으로 저장
+     * 해석할 수 없는 메시지는 건너뛰고, 같은 (accountId, itemId, regDts)는 한 번만 저장한다.
+     * 저장이 실패하면 예외를 던지므로 호출자는 오프셋 커밋/메시지 확인을 하지 않아야 한다.
+     * @param jsonList 수신한 메시지 본문 목록
+     * @param source 수신처 (kafka, jms)
+     * @return 새로 저장된 건수
+     */
+    public int saveBatch(List<String> jsonList, String source) {
+        List<HistoryDTO> historyList = new ArrayList<>(jsonList.size());
+        for (String json : jsonList) {
+            HistoryDTO history = parse(json);
+            if (history != null) {
+                historyList.add(history);
+            }
+        }
+        int invalid = jsonList.size() - historyList.size();
+
+        // 같은 배치 안의 중복은 저장소에 보내기 전에 걸러냄
+        Map<HistoryRepository.HistoryKey, HistoryDTO> unique = new LinkedHashMap<>();
+        for (HistoryDTO history : historyList) {
+            unique.putIfAbsent(HistoryRepository.HistoryKey.of(history), history);
+        }
+
+        int inserted = historyRepository.saveAllIfAbsent(new ArrayList<>(unique.values()));
+        metrics.recordBatch(source, jsonList.size(), inserted, invalid);
+        log.debug("{} history batch: received = {}, inserted = {}", source, jsonList.size(), inserted);
+        return inserted;
+    }
+
+    private HistoryDTO parse(String json) {
+        try {
+            HistoryDTO history = historyReader.readValue(json);
+            if (history.getAccountId() == null || history.getItemId() == null) {
+                log.warn("history without accountId/itemId skipped: {}", json);
+                return null;
+            }
+            return history;
+        } catch (Exception e) {
+            log.warn("invalid history message skipped: {}", json);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.mstudy.historyservice.history;
+
+import com.mstudy.historyservice.history.repository.HistoryRepository;
+import com.mstudy.historyservice.history.service.HistoryConsumerMetrics;
+import jakarta.jms.Queue;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Kafka(파티션 3개)와 VM 내부 ActiveMQ 브로커로 배치 수신, 중복 제거, 오프셋 커밋을 확인
+ */
+@SpringBootTest(properties = {
+        "topic.name=history-test",
+        "activemq.broker.url=vm://history-test?broker.persistent=false&broker.useJmx=false",
+        "activemq.broker.topic=history-test-queue",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "spring.kafka.consumer.key-deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+        "spring.kafka.consumer.value-deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+        "history.kafka.concurrency=3",
+        "history.kafka.max-poll-records=50",
+        "history.jms.concurrency=2",
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false"
+})
+@EmbeddedKafka(partitions = 3, topics = "history-test")
+class HistoryBatchConsumerTest {
+
+    @Autowired
+    EmbeddedKafkaBroker embeddedKafka;
+    @Autowired
+    JmsTemplate jmsTemplate;
+    @Autowired
+    Queue activeMq;
+    @Autowired
+    HistoryRepository historyRepository;
+    @Autowired
+    HistoryConsumerMetrics metrics;
+
+    @Value("${topic.name}")
+    String topicName;
+
+    @Test
+    void batchConsumeDedupesAndCommits() throws Exception {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(embeddedKafka);
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(
+                new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new StringSerializer()));
+
+        // Kafka: 100건을 3번씩 (300 레코드)
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                String accountId = "kafka-user" + (i % 10);
+                kafkaTemplate.send(topicName, accountId, history(accountId, "item" + i, "20240801120000"));
+            }
+        }
+        kafkaTemplate.flush();
+
+        // JMS: 25건을 2번씩 (50 메시지), 같은 물품이라도 등록일시가 다르면 다른 이력
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 25; i++) {
+                jmsTemplate.convertAndSend(activeMq, history("jms-user", "item" + i, "2024080112000" + (i % 2)));
+            }
+        }
+
+        waitUntil(() -> historyRepository.count() == 125);
+        waitUntil(() -> committedOffsets() == 300);
+
+        Map<String, Object> snapshot = metrics.snapshot();
+        assertThat(historyRepository.count()).isEqualTo(125);
+        assertThat(((Map<?, ?>) snapshot.get("kafka")).get("records")).isEqualTo(300L);
+        assertThat(((Map<?, ?>) snapshot.get("kafka")).get("duplicates")).isEqualTo(200L);
+        assertThat(((Map<?, ?>) snapshot.get("jms")).get("duplicates")).isEqualTo(25L);
+    }
+
+    private long committedOffsets() {
+        long total = 0;
+        for (int partition = 0; partition < 3; partition++) {
+            try {
+                var offset = KafkaTestUtils.getCurrentOffset(embeddedKafka.getBrokersAsString(),
+                        ConsumerConfig.GROUP_ID_CONFIG, topicName, partition);
+                total += offset == null ? 0 : offset.offset();
+            } catch (Exception e) {
+                return -1;
+            }
+        }
+        return total;
+    }
+
+    private static String history(String accountId, String itemId, String regDts) {
+        return "{\"accountId\":\"" + accountId + "\",\"itemId\":\"" + itemId
+                + "\",\"itemType\":\"F\",\"count\":1,\"regDts\":\"" + regDts + "\"}";
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 30초 안에 만족하지 못했습니다.");
+            }
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mstudy.historyservice.history.repository;
+
+import com.mstudy.historyservice.history.dto.HistoryDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HistoryRepositoryTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void duplicatesInsideWindowAreSkipped() {
+        HistoryRepository repository = new HistoryRepository(Duration.ofMinutes(10), 100, now::get);
+
+        assertThat(repository.saveAllIfAbsent(List.of(history("a", "1"), history("a", "2")))).isEqualTo(2);
+        now.addAndGet(Duration.ofMinutes(9).toNanos());
+        assertThat(repository.saveAllIfAbsent(List.of(history("a", "1"), history("b", "1")))).isEqualTo(1);
+
+        assertThat(repository.count()).isEqualTo(3);
+        assertThat(repository.dedupeKeyCount()).isEqualTo(3);
+    }
+
+    @Test
+    void keysOlderThanWindowAreForgotten() {
+        HistoryRepository repository = new HistoryRepository(Duration.ofMinutes(10), 100, now::get);
+        repository.saveAllIfAbsent(List.of(history("a", "1")));
+
+        now.addAndGet(Duration.ofMinutes(5).toNanos());
+        repository.saveAllIfAbsent(List.of(history("b", "1")));
+
+        // a 만 창을 벗어남: 다시 저장되고(창의 한계), b 는 여전히 중복
+        now.addAndGet(Duration.ofMinutes(6).toNanos());
+        assertThat(repository.saveAllIfAbsent(List.of(history("a", "1"), history("b", "1")))).isEqualTo(1);
+        assertThat(repository.count()).isEqualTo(3);
+        assertThat(repository.dedupeKeyCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keyCountIsBounded() {
+        HistoryRepository repository = new HistoryRepository(Duration.ofDays(1), 100, now::get);
+
+        List<HistoryDTO> batch = IntStream.range(0, 250).mapToObj(i -> history("a", String.valueOf(i))).toList();
+        assertThat(repository.saveAllIfAbsent(batch)).isEqualTo(250);
+        assertThat(repository.dedupeKeyCount()).isEqualTo(100);
+
+        // 가장 최근 100개만 중복으로 판단
+        assertThat(repository.saveAllIfAbsent(List.of(history("a", "249"), history("a", "0")))).isEqualTo(1);
+        assertThat(repository.dedupeKeyCount()).isEqualTo(100);
+    }
+
+    @Test
+    void rejectsNonPositiveBounds() {
+        assertThatThrownBy(() -> new HistoryRepository(Duration.ZERO, 100, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HistoryRepository(Duration.ofMinutes(1), 0, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HistoryDTO history(String accountId, String itemId) {
+        HistoryDTO history = new HistoryDTO();
+        history.setAccountId(accountId);
+        history.setItemId(itemId);
+        history.setRegDts("20261018120000");
+        return history;
+    }
+}
@@ -0,0 +1,176 @@
+package com.study.mstudy.item;
+
+import com.study.mstudy.item.domain.Item;
+import com.study.mstudy.item.dto.ItemHistoryEvent;
+import com.study.mstudy.item.repository.ItemRepository;
+import com.study.mstudy.item.service.ItemIngestPipeline;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.SessionCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 물품 등록 파이프라인(ItemIngestPipeline) 자체의 처리량
+ * 저장소/트랜잭션 관리자/JMS 세션은 호출 수만 세는 스텁으로 바꾸고 지연은 넣지 않는다.
+ * 큐, 드레인 스레드, 배치 안 ID 중복 제거, 이력 JSON 직렬화, 세션 하나로 보내고 커밋하는 경로는 실제 코드를 탄다.
+ * 큐가 가득 차면 submit 이 offerTimeout 까지 기다리므로 요청 스레드의 처리량은 드레인 처리량에 맞춰진다.
+ * batchSize=1 이면 물품마다 트랜잭션/커밋 1번인 경우와 같다.
+ * 측정이 끝나면 처리/거절 건수와 saveAll, JMS 커밋 횟수를 출력한다.
+ *
+ * 실행: java -cp ... com.study.mstudy.item.ItemIngestBenchmark [JMH 옵션]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ItemIngestBenchmark {
+
+    @Param({"1", "500"})
+    private int batchSize;
+
+    private ItemIngestPipeline pipeline;
+    private final AtomicLong seq = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder saveAllCalls = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+
+    @Setup
+    public void setUp() {
+        ItemRepository itemRepository = stub(ItemRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "findAllById" -> List.of();
+            case "saveAll" -> {
+                saveAllCalls.increment();
+                List<Object> saved = new ArrayList<>();
+                ((Iterable<?>) args[0]).forEach(saved::add);
+                yield saved;
+            }
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        Session session = stub(Session.class, (proxy, method, args) -> switch (method.getName()) {
+            case "createProducer" -> stub(MessageProducer.class, (producer, producerMethod, producerArgs) -> {
+                if (producerMethod.getName().equals("send")) {
+                    messages.increment();
+                }
+                return null;
+            });
+            case "getTransacted" -> true;
+            case "commit" -> {
+                commits.increment();
+                yield null;
+            }
+            default -> null;
+        });
+        JmsTemplate jmsTemplate = new JmsTemplate() {
+            @Override
+            public <T> T execute(SessionCallback<T> action, boolean startConnection) {
+                try {
+                    return action.doInJms(session);
+                } catch (jakarta.jms.JMSException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        PlatformTransactionManager transactionManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+
+        pipeline = new ItemIngestPipeline(itemRepository, transactionManager, jmsTemplate, null, null);
+        ReflectionTestUtils.setField(pipeline, "topicName", "item-history");
+        ReflectionTestUtils.setField(pipeline, "publisher", "jms");
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 10_000);
+        ReflectionTestUtils.setField(pipeline, "batchSize", batchSize);
+        ReflectionTestUtils.setField(pipeline, "lingerMs", 20L);
+        ReflectionTestUtils.setField(pipeline, "workers", 2);
+        ReflectionTestUtils.setField(pipeline, "offerTimeoutMs", 200L);
+        ReflectionTestUtils.invokeMethod(pipeline, "start");
+    }
+
+    @Benchmark
+    public boolean submit() {
+        String id = "item-" + seq.incrementAndGet();
+        Item item = Item.builder()
+                .id(id)
+                .name("물품")
+                .description("설명")
+                .count(1)
+                .regDts("20240101000000")
+                .itemType("A")
+                .updDts("20240101000000")
+                .accountId("account")
+                .build();
+        ItemHistoryEvent event = ItemHistoryEvent.builder()
+                .accountId("account")
+                .itemId(id)
+                .itemType("A")
+                .count(1)
+                .regDts("20240101000000")
+                .build();
+        if (!pipeline.submit(item, event)) {
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    @TearDown
+    public void tearDown() {
+        // 종료 시 큐에 남은 물품까지 모두 처리
+        ReflectionTestUtils.invokeMethod(pipeline, "stop");
+        System.out.printf("%n[batchSize=%d] 처리 %,d건, 실패 %,d건, 거절 %,d건, saveAll %,d번 (평균 %.1f건), 전송 %,d건, 커밋 %,d번%n",
+                batchSize, pipeline.getProcessedCount(), pipeline.getFailedCount(), rejected.sum(),
+                saveAllCalls.sum(), pipeline.getProcessedCount() / (double) Math.max(1, saveAllCalls.sum()),
+                messages.sum(), commits.sum());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + " stub";
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .include(ItemIngestBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,184 @@
+package com.study.mstudy.global.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 크기 제한 큐 + 마이크로 배치 처리기
+ * 호출자는 큐에 넣기만 하고, 드레인 스레드가 최대 maxBatchSize개 또는 linger 시간만큼 모아 handler를 한 번 호출한다.
+ * 큐가 가득 차면 offer가 timeout까지 기다린 뒤 false를 돌려주므로 처리 속도를 넘는 요청은 호출자에게 되돌아간다.
+ * handler에서 예외가 나면 해당 배치만 실패로 집계하고 다음 배치를 계속 처리한다.
+ * offer가 true를 돌려준 항목은 종료(close)나 드레인 스레드 인터럽트와 겹쳐도 반드시 handler에 전달된다.
+ */
+@Slf4j
+public class MicroBatcher<T> implements AutoCloseable {
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final Consumer<List<T>> handler;
+    private final Thread[] workers;
+    private final AtomicInteger liveWorkers;
+    private volatile boolean running = true;
+
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+
+    /**
+     * @param name 드레인 스레드 이름
+     * @param queueCapacity 큐 크기
+     * @param maxBatchSize 한 번에 처리할 최대 개수
+     * @param linger 첫 항목 이후 배치를 채우려고 기다리는 최대 시간
+     * @param workerCount 드레인 스레드 수
+     * @param handler 배치 처리 함수
+     */
+    public MicroBatcher(String name, int queueCapacity, int maxBatchSize, Duration linger, int workerCount,
+                        Consumer<List<T>> handler) {
+        if (maxBatchSize <= 0 || workerCount <= 0) {
+            throw new IllegalArgumentException("배치 크기와 스레드 수는 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.handler = handler;
+        this.workers = new Thread[workerCount];
+        this.liveWorkers = new AtomicInteger(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Thread(this::drainLoop, name + "-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * 항목 등록
+     * @param item 처리할 항목
+     * @param timeout 큐가 가득 찼을 때 기다릴 최대 시간
+     * @return 등록 여부 (false면 큐가 가득 차 있었음)
+     */
+    public boolean offer(T item, Duration timeout) throws InterruptedException {
+        if (!running) {
+            throw closed();
+        }
+        if (!queue.offer(item, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        // 넣는 사이 종료되었다면 직접 다시 꺼냄
+        // 꺼내지 못했다면 드레인 스레드가 이미 가져간 것이고, 가져간 항목은 종료 전에 반드시 처리된다.
+        // (종료 플래그를 본 드레인 스레드는 큐가 빌 때까지 처리하므로, 종료 전을 본 항목은 누락되지 않는다)
+        if (!running && queue.remove(item)) {
+            throw closed();
+        }
+        return true;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getProcessedCount() {
+        return processedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * 새 항목을 받지 않고 큐에 남은 항목을 모두 처리한 뒤 종료
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private void drainLoop() {
+        boolean interrupted = false;
+        try {
+            while (!interrupted && (running || !queue.isEmpty())) {
+                List<T> batch = new ArrayList<>(maxBatchSize);
+                try {
+                    T first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    fill(batch);
+                } catch (InterruptedException e) {
+                    // 이미 꺼낸 항목은 처리한 뒤 종료
+                    interrupted = true;
+                }
+                if (!batch.isEmpty()) {
+                    handle(batch);
+                }
+            }
+        } finally {
+            // 마지막 드레인 스레드가 끝나면 더 받지 않고, 큐에 남은 항목을 처리
+            if (liveWorkers.decrementAndGet() == 0) {
+                running = false;
+                List<T> rest = new ArrayList<>(maxBatchSize);
+                while (queue.drainTo(rest, maxBatchSize) > 0) {
+                    handle(rest);
+                    rest = new ArrayList<>(maxBatchSize);
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void handle(List<T> batch) {
+        try {
+            handler.accept(batch);
+            processedCount.add(batch.size());
+        } catch (Exception e) {
+            failedCount.add(batch.size());
+            log.error("{} 배치 처리 실패 ({}건): {}", name, batch.size(), e.getMessage(), e);
+        }
+        batchCount.increment();
+    }
+
+    private IllegalStateException closed() {
+        return new IllegalStateException(name + " 배치 처리기가 종료되었습니다.");
+    }
+
+    // 이미 쌓인 항목은 바로 가져오고, 모자라면 linger 시간 안에서만 더 기다림
+    private void fill(List<T> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            if (batch.size() >= maxBatchSize) {
+                return;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+}
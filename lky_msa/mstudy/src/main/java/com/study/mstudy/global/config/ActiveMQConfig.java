@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jms.annotation.EnableJms;
 import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.connection.CachingConnectionFactory;
 import org.springframework.jms.core.JmsTemplate;
 
 import jakarta.jms.Queue;
@@ -27,9 +28,17 @@ public class ActiveMQConfig {
         return new ActiveMQQueue(topic);
     }
 
+    /**
+     * 연결/세션/프로듀서를 재사용하고, 트랜잭션 세션으로 여러 건을 보낸 뒤 한 번만 커밋하도록 설정
+     * @return JmsTemplate
+     */
     @Bean
     public JmsTemplate jmsTemplate() {
-        return new JmsTemplate(activeMQConnectionFactory());
+        CachingConnectionFactory cachingConnectionFactory = new CachingConnectionFactory(activeMQConnectionFactory());
+        cachingConnectionFactory.setSessionCacheSize(10);
+        JmsTemplate jmsTemplate = new JmsTemplate(cachingConnectionFactory);
+        jmsTemplate.setSessionTransacted(true);
+        return jmsTemplate;
     }
 
     public ActiveMQConnectionFactory activeMQConnectionFactory() {
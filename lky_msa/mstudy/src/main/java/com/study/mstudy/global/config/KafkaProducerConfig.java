@@ -0,0 +1,32 @@
+package com.study.mstudy.global.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class KafkaProducerConfig {
+
+    @Value("${item.ingest.kafka.linger-ms:20}")
+    private int lingerMs;
+    @Value("${item.ingest.kafka.batch-size:65536}")
+    private int batchSize;
+    @Value("${item.ingest.kafka.compression-type:lz4}")
+    private String compressionType;
+
+    /**
+     * 이력 이벤트를 묶어서 보내도록 프로듀서 설정 보완 (linger, 배치 크기, 압축)
+     * @return 자동 구성된 프로듀서 팩토리 설정 변경
+     */
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer itemHistoryProducerCustomizer() {
+        return producerFactory -> producerFactory.updateConfigs(Map.of(
+                ProducerConfig.LINGER_MS_CONFIG, lingerMs,
+                ProducerConfig.BATCH_SIZE_CONFIG, batchSize,
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType));
+    }
+}
@@ -6,13 +6,14 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name="ITEM")
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Item {
+public class Item implements Persistable<String> {
     @Id
     @Column(name = "ID", length = 30)
     private String id;
@@ -37,4 +38,28 @@ public class Item {
 
     @Column(name = "UPD_DTS", length = 14)
     private String updDts;
+
+    // 저장 전 조회로 없는 ID임을 확인한 경우 true (merge 대신 persist로 바로 INSERT)
+    @Transient
+    private boolean newItem;
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newItem;
+    }
+
+    public void markNew() {
+        this.newItem = true;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newItem = false;
+    }
 }
@@ -0,0 +1,22 @@
+package com.study.mstudy.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 물품 등록 이력 이벤트 (history-service로 발행)
+ * history-service는 (accountId, itemId, regDts)로 중복 수신을 걸러낸다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemHistoryEvent {
+    private String accountId;	// 사용자ID
+    private String itemId;		// 물품ID
+    private String itemType;	// 물품유형
+    private long count;			// 물품개수
+    private String regDts;		// 등록일시 (yyyyMMddHHmmss)
+}
@@ -0,0 +1,217 @@
+package com.study.mstudy.item.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.study.mstudy.global.batch.MicroBatcher;
+import com.study.mstudy.item.domain.Item;
+import com.study.mstudy.item.dto.ItemHistoryEvent;
+import com.study.mstudy.item.repository.ItemRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.SessionCallback;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 물품 등록 마이크로 배치 파이프라인
+ * 요청 스레드는 크기 제한 큐에 넣기만 하고, 드레인 스레드가 모인 물품을 한 트랜잭션에서 saveAll 한 뒤
+ * 이력 이벤트를 한 번에 발행한다 (JMS: 세션 하나에서 보내고 한 번 커밋, Kafka: linger/압축으로 묶어 전송).
+ * 큐가 가득 차면 submit이 offerTimeout까지 기다린 뒤 실패를 돌려준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemIngestPipeline {
+
+    private final ItemRepository itemRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JmsTemplate jmsTemplate;
+    private final Queue activeMq;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    private final ObjectWriter eventWriter = new ObjectMapper().writerFor(ItemHistoryEvent.class);
+
+    @Value(value = "${topic.name}")
+    private String topicName;
+
+    // 이력 발행 방식 (jms | kafka)
+    @Value("${item.ingest.publisher:jms}")
+    private String publisher;
+
+    @Value("${item.ingest.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${item.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${item.ingest.linger-ms:20}")
+    private long lingerMs;
+
+    @Value("${item.ingest.workers:2}")
+    private int workers;
+
+    @Value("${item.ingest.offer-timeout-ms:200}")
+    private long offerTimeoutMs;
+
+    private TransactionTemplate transactionTemplate;
+    private MicroBatcher<PendingItem> batcher;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        batcher = new MicroBatcher<>("item-ingest", queueCapacity, batchSize, Duration.ofMillis(lingerMs), workers,
+                this::persistAndPublish);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        batcher.close();
+    }
+
+    /**
+     * 물품 등록 요청을 큐에 넣음
+     * @param item 저장할 물품
+     * @param event 저장 후 발행할 이력 이벤트
+     * @return 큐에 넣었는지 여부 (false면 처리량 초과)
+     */
+    public boolean submit(Item item, ItemHistoryEvent event) {
+        try {
+            return batcher.offer(new PendingItem(item, event), Duration.ofMillis(offerTimeoutMs));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int getQueueSize() {
+        return batcher.getQueueSize();
+    }
+
+    public long getProcessedCount() {
+        return batcher.getProcessedCount();
+    }
+
+    public long getFailedCount() {
+        return batcher.getFailedCount();
+    }
+
+    private void persistAndPublish(List<PendingItem> batch) {
+        // 같은 배치에 같은 ID가 여러 번 오면 마지막 것만 저장 (하나씩 save 할 때와 같은 결과)
+        Map<String, Item> items = new LinkedHashMap<>();
+        for (PendingItem pending : batch) {
+            items.put(pending.item().getId(), pending.item());
+        }
+
+        Set<String> savedIds;
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveAll(items));
+            savedIds = items.keySet();
+        } catch (RuntimeException e) {
+            // 한 건 때문에 배치 전체를 잃지 않도록 하나씩 다시 저장
+            log.warn("item batch save failed, retry one by one ({}): {}", items.size(), e.getMessage());
+            savedIds = saveOneByOne(items);
+        }
+
+        List<ItemHistoryEvent> events = new ArrayList<>(batch.size());
+        for (PendingItem pending : batch) {
+            if (savedIds.contains(pending.item().getId())) {
+                events.add(pending.event());
+            }
+        }
+        publish(events);
+    }
+
+    // 있는 ID는 한 번의 IN 조회로 영속성 컨텍스트에 올려 merge 조회를 없애고, 없는 ID는 persist로 바로 INSERT
+    private void saveAll(Map<String, Item> items) {
+        Set<String> existingIds = new HashSet<>();
+        for (Item existing : itemRepository.findAllById(items.keySet())) {
+            existingIds.add(existing.getId());
+        }
+        for (Item item : items.values()) {
+            if (!existingIds.contains(item.getId())) {
+                item.markNew();
+            }
+        }
+        itemRepository.saveAll(items.values());
+    }
+
+    private Set<String> saveOneByOne(Map<String, Item> items) {
+        Set<String> savedIds = new HashSet<>();
+        for (Item item : items.values()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> itemRepository.save(item));
+                savedIds.add(item.getId());
+            } catch (RuntimeException e) {
+                log.error("item save failed. id = {}: {}", item.getId(), e.getMessage());
+            }
+        }
+        return savedIds;
+    }
+
+    private void publish(List<ItemHistoryEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(events.size());
+        List<String> payloads = new ArrayList<>(events.size());
+        for (ItemHistoryEvent event : events) {
+            try {
+                payloads.add(eventWriter.writeValueAsString(event));
+                keys.add(event.getAccountId());
+            } catch (JsonProcessingException e) {
+                log.error("history event serialize failed. itemId = {}", event.getItemId(), e);
+            }
+        }
+
+        try {
+            if ("kafka".equalsIgnoreCase(publisher)) {
+                // 레코드는 프로듀서의 linger/batch.size/압축 설정에 따라 묶여서 전송됨
+                for (int i = 0; i < payloads.size(); i++) {
+                    kafkaTemplate.send(topicName, keys.get(i), payloads.get(i));
+                }
+            } else {
+                jmsTemplate.execute(sendAll(payloads), true);
+            }
+        } catch (RuntimeException e) {
+            log.error("history event publish failed ({}): {}", payloads.size(), e.getMessage(), e);
+        }
+    }
+
+    // 세션/프로듀서 하나로 모두 보내고 트랜잭션 세션이면 한 번에 커밋
+    private SessionCallback<Void> sendAll(List<String> payloads) {
+        return session -> {
+            MessageProducer producer = session.createProducer(activeMq);
+            try {
+                for (String payload : payloads) {
+                    producer.send(session.createTextMessage(payload));
+                }
+                if (session.getTransacted()) {
+                    session.commit();
+                }
+            } finally {
+                producer.close();
+            }
+            return null;
+        };
+    }
+
+    private record PendingItem(Item item, ItemHistoryEvent event) {
+    }
+}
@@ -1,31 +1,22 @@
 package com.study.mstudy.item.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.mstudy.global.feign.HistoryFeignClient;
 import com.study.mstudy.item.domain.Item;
 import com.study.mstudy.item.dto.ItemDTO;
+import com.study.mstudy.item.dto.ItemHistoryEvent;
 import com.study.mstudy.item.repository.ItemRepository;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jms.JmsException;
-import org.springframework.jms.core.JmsTemplate;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
-import jakarta.jms.Queue;
-import org.springframework.beans.factory.annotation.Value;
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -33,14 +24,7 @@ public class ItemService {
     private final ItemRepository itemRepository;
     private final HistoryFeignClient historyFeignClient;
     private final RestTemplate restTemplate;
-    private final JmsTemplate jmsTemplate;
-    private final Queue activeMq;
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    ObjectMapper objectMapper = new ObjectMapper();
-    private final Executor itemThreadExecutor;
-
-    @Value(value = "${topic.name}")
-    private String topicName;
+    private final ItemIngestPipeline itemIngestPipeline;
 
     @Bulkhead(name = "bulkInsertItem", fallbackMethod = "bulkheadFallback")
     @Retry(name = "insertItem", fallbackMethod = "fallback")
@@ -49,44 +33,35 @@ public class ItemService {
         SimpleDateFormat form = new SimpleDateFormat("yyyyMMddHHmmss");
         String date = form.format(new Date());
 
-        CompletableFuture.runAsync(() -> {
-                try {
-                    Thread.sleep(5000L);
-                } catch (InterruptedException e1) {
-                    e1.printStackTrace();
-                }
-
-            Item item = Item.builder()
-                    .id(itemDTO.getId())
-                    .name(itemDTO.getName())
-                    .description(itemDTO.getDescription())
-                    .count(itemDTO.getCount())
-                    .regDts(date)
-                    .itemType(itemDTO.getItemType())
-                    .updDts(date)
-                    .accountId(accountId)
-                    .build();
-            itemRepository.save(item);
-
-            Map<String, Object> historyMap = new HashMap<String, Object>();
-            historyMap.put("accountId", accountId);
-            historyMap.put("itemId", itemDTO.getId());
-            //http통신
-            //log.info("feign result = {}", historyFeignClient.saveHistory(historyMap));
+        Item item = Item.builder()
+                .id(itemDTO.getId())
+                .name(itemDTO.getName())
+                .description(itemDTO.getDescription())
+                .count(itemDTO.getCount())
+                .regDts(date)
+                .itemType(itemDTO.getItemType())
+                .updDts(date)
+                .accountId(accountId)
+                .build();
 
-            //rest통신
-            //log.info("resttemplate result = {}", restTemplate.postForObject("http://HISTORY-SERVICE/v1/history/save", historyMap, String.class));
+        ItemHistoryEvent historyEvent = ItemHistoryEvent.builder()
+                .accountId(accountId)
+                .itemId(itemDTO.getId())
+                .itemType(itemDTO.getItemType())
+                .count(itemDTO.getCount())
+                .regDts(date)
+                .build();
 
-            try {
+        //http통신
+        //log.info("feign result = {}", historyFeignClient.saveHistory(historyMap));
 
-              jmsTemplate.convertAndSend(activeMq, objectMapper.writeValueAsString(itemDTO));
-               // this.kafkaTemplate.send(topicName, objectMapper.writeValueAsString(itemDTO));
-            //} catch (JmsException | JsonProcessingException e) {
-            } catch (JsonProcessingException e) {
-                e.printStackTrace();
-            }
-        }, itemThreadExecutor);
+        //rest통신
+        //log.info("resttemplate result = {}", restTemplate.postForObject("http://HISTORY-SERVICE/v1/history/save", historyMap, String.class));
 
+        // 저장과 이력 발행(JMS/Kafka)은 파이프라인에서 배치로 처리, 큐가 가득 차면 요청을 거절
+        if (!itemIngestPipeline.submit(item, historyEvent)) {
+            throw new RejectedExecutionException("item ingest queue is full. id = " + itemDTO.getId());
+        }
     }
 
     private void fallback(Throwable e) {
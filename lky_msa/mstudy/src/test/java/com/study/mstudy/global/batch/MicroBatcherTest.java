@@ -0,0 +1,183 @@
+package com.study.mstudy.global.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MicroBatcherTest {
+
+    @Test
+    void itemsAreBatchedUpToMaxBatchSize() throws Exception {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        MicroBatcher<Integer> batcher = new MicroBatcher<>("test", 1_000, 10, Duration.ofMillis(50), 1,
+                batches::add);
+
+        for (int i = 0; i < 95; i++) {
+            assertThat(batcher.offer(i, Duration.ofSeconds(1))).isTrue();
+        }
+        batcher.close();
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeBetween(1, 10));
+        assertThat(batches.stream().flatMap(List::stream).toList())
+                .containsExactlyElementsOf(java.util.stream.IntStream.range(0, 95).boxed().toList());
+        assertThat(batcher.getProcessedCount()).isEqualTo(95);
+        assertThat(batcher.getBatchCount()).isEqualTo(batches.size());
+    }
+
+    @Test
+    void failedBatchIsCountedAndNextBatchContinues() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        CountDownLatch firstFailed = new CountDownLatch(1);
+        MicroBatcher<Integer> batcher = new MicroBatcher<>("test", 100, 100, Duration.ZERO, 1, batch -> {
+            if (calls.incrementAndGet() == 1) {
+                firstFailed.countDown();
+                throw new IllegalStateException("DB 장애");
+            }
+            handled.addAll(batch);
+        });
+
+        batcher.offer(1, Duration.ofSeconds(1));
+        assertThat(firstFailed.await(5, TimeUnit.SECONDS)).isTrue();
+        batcher.offer(2, Duration.ofSeconds(1));
+        batcher.close();
+
+        assertThat(batcher.getFailedCount()).isEqualTo(1);
+        assertThat(batcher.getProcessedCount()).isEqualTo(1);
+        assertThat(handled).containsExactly(2);
+    }
+
+    @Test
+    void fullQueueRejectsAfterTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        MicroBatcher<Integer> batcher = new MicroBatcher<>("test", 2, 1, Duration.ZERO, 1, batch -> {
+            started.countDown();
+            await(release);
+        });
+
+        batcher.offer(0, Duration.ofSeconds(1));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batcher.offer(1, Duration.ofSeconds(1))).isTrue();
+        assertThat(batcher.offer(2, Duration.ofSeconds(1))).isTrue();
+        assertThat(batcher.offer(3, Duration.ofMillis(20))).isFalse();
+
+        release.countDown();
+        batcher.close();
+        assertThat(batcher.getProcessedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void closeDrainsQueueAndRejectsNewItems() throws Exception {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        MicroBatcher<Integer> batcher = new MicroBatcher<>("test", 1_000, 7, Duration.ofSeconds(10), 2,
+                handled::addAll);
+        for (int i = 0; i < 500; i++) {
+            batcher.offer(i, Duration.ofSeconds(1));
+        }
+        batcher.close();
+
+        assertThat(handled).hasSize(500).doesNotHaveDuplicates();
+        assertThatThrownBy(() -> batcher.offer(1, Duration.ofSeconds(1))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void interruptedWorkerFlushesInFlightBatch() throws Exception {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        // linger 를 길게 두어 드레인 스레드가 배치를 채우며 기다리는 중에 인터럽트
+        MicroBatcher<Integer> batcher = new MicroBatcher<>("interrupt-test", 100, 100, Duration.ofSeconds(30), 1,
+                handled::addAll);
+        for (int i = 0; i < 3; i++) {
+            batcher.offer(i, Duration.ofSeconds(1));
+        }
+        awaitQueueEmpty(batcher);
+        Thread worker = findThread("interrupt-test-0");
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(worker.isAlive()).isFalse();
+        assertThat(handled).containsExactly(0, 1, 2);
+        assertThat(batcher.getProcessedCount()).isEqualTo(3);
+        // 드레인 스레드가 모두 끝났으므로 더 받지 않음
+        assertThatThrownBy(() -> batcher.offer(3, Duration.ofSeconds(1))).isInstanceOf(IllegalStateException.class);
+        batcher.close();
+    }
+
+    @Test
+    void acceptedItemsAreNeverLostWhenCloseRacesWithOffer() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            Set<Integer> handled = ConcurrentHashMap.newKeySet();
+            MicroBatcher<Integer> batcher = new MicroBatcher<>("race-test", 10_000, 16, Duration.ofMillis(1), 2,
+                    handled::addAll);
+            Set<Integer> accepted = ConcurrentHashMap.newKeySet();
+            AtomicInteger sequence = new AtomicInteger();
+
+            List<Thread> producers = new ArrayList<>();
+            CountDownLatch producing = new CountDownLatch(4);
+            for (int p = 0; p < 4; p++) {
+                Thread producer = new Thread(() -> {
+                    producing.countDown();
+                    try {
+                        while (true) {
+                            int item = sequence.incrementAndGet();
+                            if (batcher.offer(item, Duration.ofSeconds(1))) {
+                                accepted.add(item);
+                            }
+                        }
+                    } catch (IllegalStateException closed) {
+                        // 종료됨
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                producer.start();
+                producers.add(producer);
+            }
+            producing.await();
+            Thread.sleep(2);
+            batcher.close();
+            for (Thread producer : producers) {
+                producer.join(TimeUnit.SECONDS.toMillis(5));
+            }
+
+            assertThat(handled).as("round %d", round).containsExactlyInAnyOrderElementsOf(accepted);
+            assertThat(batcher.getQueueSize()).isZero();
+        }
+    }
+
+    private static void awaitQueueEmpty(MicroBatcher<?> batcher) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batcher.getQueueSize() > 0) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+        // 드레인 스레드가 poll 로 기다리기 시작할 시간을 줌
+        Thread.sleep(50);
+    }
+
+    private static Thread findThread(String name) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
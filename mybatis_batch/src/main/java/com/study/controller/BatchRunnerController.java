@@ -1,5 +1,6 @@
 package com.study.controller;
 
+import com.study.domain.BulkLoadResult;
 import com.study.domain.Dummy;
 import com.study.service.DummyService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,7 +43,12 @@ public class BatchRunnerController implements CommandLineRunner {
         start = System.currentTimeMillis();
         dummyService.addDummy(dummies, batchSize);
         elapsedTime = System.currentTimeMillis() - start;
-        System.out.println("소요 시간 : " + elapsedTime + "밀리초");
+        System.out.println("소요 시간 : " + elapsedTime + "밀리초 (" + COUNT * 1000L / Math.max(1, elapsedTime) + "건/초)");
+
+        // 다중 행 INSERT + 병렬 세션 (같은 데이터를 스트림으로 전달)
+        System.out.println("다중 행 INSERT 대량 입력, " + COUNT + "건 입력");
+        BulkLoadResult result = dummyService.addDummyBulk(dummies.stream());
+        System.out.println("결과 : " + result);
     }
 
     private String makeRandomString() {
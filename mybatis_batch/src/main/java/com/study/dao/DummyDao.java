@@ -1,8 +1,13 @@
 package com.study.dao;
 
+import com.study.domain.BulkLoadResult;
 import com.study.domain.Dummy;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 public interface DummyDao {
     void addDummy(List<Dummy> dummies);
     void addDummy(List<Dummy> dummies, int batchSize);
+    BulkLoadResult addDummyBulk(Stream<Dummy> dummies);
+    BulkLoadResult addDummyBulk(Iterator<Dummy> dummies);
 }
@@ -1,19 +1,52 @@
 package com.study.dao;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import com.study.domain.BulkLoadResult;
 import com.study.domain.Dummy;
 import com.study.mybatis.DummyMapper;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class DummyDaoImpl implements DummyDao {
 
+    // 작업 스레드에 청크가 끝났음을 알리는 표시 (참조로만 비교)
+    private static final List<Dummy> END_OF_CHUNKS = new ArrayList<>();
+
+    // 행마다 붙는 "(?, NOW())," 와 파라미터 자체의 대략적인 크기
+    private static final int ROW_OVERHEAD_BYTES = 16;
+
+    // 큐가 찼을 때 실패/작업 스레드 종료를 다시 확인하는 간격
+    private static final long QUEUE_POLL_MILLIS = 100;
+
     @Autowired
     private SqlSessionTemplate sqlSessionTemplate;
 
+    // 동시에 입력하는 세션 수
+    @Value("${dummy.bulk.parallelism:4}")
+    private int bulkParallelism;
+
+    // INSERT 문 하나에 넣을 최대 행 수
+    @Value("${dummy.bulk.max-rows:1000}")
+    private int bulkMaxRows;
+
+    // INSERT 문 하나의 최대 크기 (max_allowed_packet 보다 작게)
+    @Value("${dummy.bulk.max-bytes:1048576}")
+    private long bulkMaxBytes;
+
     @Override
     public void addDummy(List<Dummy> dummies) {
         DummyMapper mapper = sqlSessionTemplate.getMapper(DummyMapper.class);
@@ -39,4 +72,187 @@ public class DummyDaoImpl implements DummyDao {
             session.close();
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public BulkLoadResult addDummyBulk(Stream<Dummy> dummies) {
+        try (dummies) {
+            return addDummyBulk(dummies.iterator());
+        }
+    }
+
+    /**
+     * 대량 입력
+     * 호출 스레드가 입력을 읽어 행 수(bulkMaxRows)와 크기(bulkMaxBytes) 중 먼저 차는 쪽으로 청크를 나누고,
+     * 세션을 하나씩 가진 작업 스레드(bulkParallelism 개)가 청크마다 다중 행 INSERT 1번 + 커밋 1번을 수행한다.
+     * 청크 큐의 크기가 정해져 있어 입력이 아무리 커도 메모리에는 청크 몇 개만 올라간다.
+     * 청크 단위로 커밋하므로 실패하면 앞서 커밋된 청크는 남는다.
+     * 큐에 넣을 때는 시간 제한을 두고 실패 여부를 다시 확인하므로, 작업 스레드가 실패로 멈춰도 입력 스레드가 막히지 않는다.
+     */
+    @Override
+    public BulkLoadResult addDummyBulk(Iterator<Dummy> dummies) {
+        long start = System.currentTimeMillis();
+        BlockingQueue<List<Dummy>> chunks = new ArrayBlockingQueue<>(bulkParallelism * 2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong insertedRows = new AtomicLong();
+        AtomicLong insertedChunks = new AtomicLong();
+
+        List<Thread> workers = new ArrayList<>(bulkParallelism);
+        for (int i = 0; i < bulkParallelism; i++) {
+            Thread worker = new Thread(() -> insertChunks(chunks, failure, insertedRows, insertedChunks), "dummy-bulk-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        try {
+            List<Dummy> chunk = new ArrayList<>();
+            long chunkBytes = 0;
+            while (dummies.hasNext() && failure.get() == null) {
+                Dummy dummy = dummies.next();
+                long rowBytes = estimateBytes(dummy);
+                if (!chunk.isEmpty() && (chunk.size() >= bulkMaxRows || chunkBytes + rowBytes > bulkMaxBytes)) {
+                    if (!enqueue(chunks, chunk, failure, workers)) {
+                        break;
+                    }
+                    chunk = new ArrayList<>();
+                    chunkBytes = 0;
+                }
+                chunk.add(dummy);
+                chunkBytes += rowBytes;
+            }
+            if (!chunk.isEmpty()) {
+                enqueue(chunks, chunk, failure, workers);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new IllegalStateException("대량 입력이 중단되었습니다.", e));
+        } finally {
+            finishWorkers(chunks, failure, workers);
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        if (cause != null) {
+            throw new IllegalStateException("대량 입력에 실패했습니다.", cause);
+        }
+        return new BulkLoadResult(insertedRows.get(), insertedChunks.get(), System.currentTimeMillis() - start);
+    }
+
+    // 큐에 청크 추가 (실패했거나 받을 작업 스레드가 없으면 넣지 않고 false)
+    private boolean enqueue(BlockingQueue<List<Dummy>> chunks, List<Dummy> chunk, AtomicReference<Throwable> failure,
+                            List<Thread> workers) throws InterruptedException {
+        while (failure.get() == null) {
+            if (chunks.offer(chunk, QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            if (!anyAlive(workers)) {
+                failure.compareAndSet(null, new IllegalStateException("대량 입력 작업 스레드가 모두 종료되었습니다."));
+            }
+        }
+        return false;
+    }
+
+    private void insertChunks(BlockingQueue<List<Dummy>> chunks, AtomicReference<Throwable> failure,
+                              AtomicLong insertedRows, AtomicLong insertedChunks) {
+        // 전역 기본값(BATCH)과 상관없이 다중 행 INSERT 를 바로 실행하는 세션
+        try (SqlSession session = sqlSessionTemplate.getSqlSessionFactory().openSession(ExecutorType.SIMPLE, false)) {
+            DummyMapper mapper = session.getMapper(DummyMapper.class);
+            while (true) {
+                List<Dummy> chunk = chunks.take();
+                if (chunk == END_OF_CHUNKS) {
+                    return;
+                }
+                // 실패한 뒤에도 큐는 계속 비워야 입력 스레드가 막히지 않는다
+                if (failure.get() != null) {
+                    continue;
+                }
+                try {
+                    mapper.addDummies(chunk);
+                    session.commit();
+                    insertedRows.addAndGet(chunk.size());
+                    insertedChunks.incrementAndGet();
+                } catch (Throwable e) {
+                    // 롤백보다 먼저 기록해, 롤백이 실패하거나 Error 로 스레드가 끝나도 입력 스레드가 멈춘다
+                    failure.compareAndSet(null, e);
+                    try {
+                        session.rollback();
+                    } catch (Throwable rollbackFailure) {
+                        e.addSuppressed(rollbackFailure);
+                    }
+                    if (e instanceof Error error) {
+                        throw error;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            // 세션 열기/닫기 실패, 위에서 다시 던진 Error
+            failure.compareAndSet(null, e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private void finishWorkers(BlockingQueue<List<Dummy>> chunks, AtomicReference<Throwable> failure,
+                               List<Thread> workers) {
+        boolean interrupted = Thread.interrupted();
+        // 실패했으면 남은 청크는 어차피 버리므로 비워서 종료 표시가 바로 들어가게 한다
+        if (failure.get() != null) {
+            chunks.clear();
+        }
+        for (int i = 0; i < workers.size(); i++) {
+            // 이미 끝난 작업 스레드는 큐를 비우지 않으므로, 살아 있는 스레드가 없으면 더 넣지 않는다
+            while (anyAlive(workers)) {
+                try {
+                    if (chunks.offer(END_OF_CHUNKS, QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        for (Thread worker : workers) {
+            while (true) {
+                try {
+                    worker.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean anyAlive(List<Thread> workers) {
+        for (Thread worker : workers) {
+            if (worker.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // UTF-8 로 보냈을 때의 크기
+    private static long estimateBytes(Dummy dummy) {
+        String message = dummy.getMessage();
+        long bytes = ROW_OVERHEAD_BYTES;
+        if (message == null) {
+            return bytes;
+        }
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            bytes += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+        }
+        return bytes;
+    }
+}
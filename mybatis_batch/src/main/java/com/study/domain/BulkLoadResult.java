@@ -0,0 +1,34 @@
+package com.study.domain;
+
+public class BulkLoadResult {
+    private final long rows;
+    private final long chunks;
+    private final long elapsedMillis;
+
+    public BulkLoadResult(long rows, long chunks, long elapsedMillis) {
+        this.rows = rows;
+        this.chunks = chunks;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getChunks() {
+        return chunks;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rows * 1000.0 : rows * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d건, 청크 %d개, %d밀리초 (%.0f건/초)", rows, chunks, elapsedMillis, getRowsPerSecond());
+    }
+}
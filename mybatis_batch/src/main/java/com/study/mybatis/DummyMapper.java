@@ -2,8 +2,13 @@ package com.study.mybatis;
 
 import com.study.domain.Dummy;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 @Mapper
 public interface DummyMapper {
     void addDummy(Dummy dummy);
+
+    int addDummies(@Param("dummies") List<Dummy> dummies);
 }
\ No newline at end of file
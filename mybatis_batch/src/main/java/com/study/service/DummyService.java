@@ -1,10 +1,15 @@
 package com.study.service;
 
+import com.study.domain.BulkLoadResult;
 import com.study.domain.Dummy;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface DummyService {
     void addDummy(List<Dummy> dummies);
     void addDummy(List<Dummy> dummies, int batchSize);
+    BulkLoadResult addDummyBulk(Stream<Dummy> dummies);
+    BulkLoadResult addDummyBulk(Iterator<Dummy> dummies);
 }
\ No newline at end of file
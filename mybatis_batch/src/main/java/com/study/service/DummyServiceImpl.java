@@ -1,8 +1,11 @@
 package com.study.service;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.study.dao.DummyDao;
+import com.study.domain.BulkLoadResult;
 import com.study.domain.Dummy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -25,4 +28,15 @@ public class DummyServiceImpl implements DummyService {
     public void addDummy(List<Dummy> dummies, int batchSize) {
         dummyDao.addDummy(dummies, batchSize);
     }
+
+    // 청크마다 각 세션에서 커밋하므로 트랜잭션으로 묶지 않는다
+    @Override
+    public BulkLoadResult addDummyBulk(Stream<Dummy> dummies) {
+        return dummyDao.addDummyBulk(dummies);
+    }
+
+    @Override
+    public BulkLoadResult addDummyBulk(Iterator<Dummy> dummies) {
+        return dummyDao.addDummyBulk(dummies);
+    }
 }
\ No newline at end of file
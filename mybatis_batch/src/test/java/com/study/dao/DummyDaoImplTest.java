@@ -0,0 +1,89 @@
+package com.study.dao;
+
+import com.study.domain.BulkLoadResult;
+import com.study.domain.Dummy;
+import com.study.mybatis.DummyMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DummyDaoImplTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+    private final SqlSession session = mock(SqlSession.class);
+    private final DummyMapper mapper = mock(DummyMapper.class);
+
+    @Test
+    void insertsAllChunks() {
+        AtomicInteger rows = new AtomicInteger();
+        doAnswer(invocation -> rows.addAndGet(invocation.<List<Dummy>>getArgument(0).size()))
+                .when(mapper).addDummies(anyList());
+
+        BulkLoadResult result = assertTimeoutPreemptively(TIMEOUT, () -> newDao(2, 10).addDummyBulk(dummies(1_005)));
+
+        assertThat(result.getRows()).isEqualTo(1_005);
+        assertThat(result.getChunks()).isEqualTo(101);
+        assertThat(rows).hasValue(1_005);
+    }
+
+    @Test
+    void errorInWorkerStopsProducerInsteadOfHanging() {
+        // 롤백까지 실패하고, 작업 스레드는 Error 로 끝남 (큐를 비울 스레드가 없음)
+        AssertionError crash = new AssertionError("드라이버 오류");
+        doThrow(crash).when(mapper).addDummies(anyList());
+        doThrow(new IllegalStateException("롤백 실패")).when(session).rollback();
+
+        DummyDaoImpl dao = newDao(1, 1);
+        assertThatThrownBy(() -> assertTimeoutPreemptively(TIMEOUT, () -> dao.addDummyBulk(dummies(1_000))))
+                .isSameAs(crash)
+                .satisfies(e -> assertThat(e.getSuppressed()).extracting(Throwable::getMessage).contains("롤백 실패"));
+    }
+
+    @Test
+    void sessionFailureInEveryWorkerStopsProducer() {
+        DummyDaoImpl dao = newDao(2, 1);
+        when(sqlSessionFactory.openSession(ExecutorType.SIMPLE, false)).thenThrow(new IllegalStateException("커넥션 없음"));
+        assertThatThrownBy(() -> assertTimeoutPreemptively(TIMEOUT, () -> dao.addDummyBulk(dummies(1_000))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("커넥션 없음");
+    }
+
+    private DummyDaoImpl newDao(int parallelism, int maxRows) {
+        SqlSessionTemplate sqlSessionTemplate = mock(SqlSessionTemplate.class);
+        when(sqlSessionTemplate.getSqlSessionFactory()).thenReturn(sqlSessionFactory);
+        when(sqlSessionFactory.openSession(ExecutorType.SIMPLE, false)).thenReturn(session);
+        when(session.getMapper(DummyMapper.class)).thenReturn(mapper);
+
+        DummyDaoImpl dao = new DummyDaoImpl();
+        ReflectionTestUtils.setField(dao, "sqlSessionTemplate", sqlSessionTemplate);
+        ReflectionTestUtils.setField(dao, "bulkParallelism", parallelism);
+        ReflectionTestUtils.setField(dao, "bulkMaxRows", maxRows);
+        ReflectionTestUtils.setField(dao, "bulkMaxBytes", 1L << 20);
+        return dao;
+    }
+
+    private static Stream<Dummy> dummies(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new Dummy(null, "message " + i, new Date()));
+    }
+}
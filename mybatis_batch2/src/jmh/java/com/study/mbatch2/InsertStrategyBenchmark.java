@@ -0,0 +1,232 @@
+package com.study.mbatch2;
+
+import com.study.mbatch2.domain.Dummy;
+import com.study.mbatch2.mybatis.DummyMapper;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis 입력 방식별 소요 시간 (임베디드 H2)
+ * - perRowAutocommit: 행마다 INSERT + 커밋 (MainBatchController 테스트 1)
+ * - singleTransaction: 행마다 INSERT, 마지막에 커밋 1번 (MainBatchController 테스트 2)
+ * - batchExecutor: ExecutorType.BATCH, flushSize 마다 flushStatements
+ * - multiRowValues: JDBC 로 미리 만든 INSERT ... VALUES (?,NOW()),(?,NOW())... 를 chunkSize 행씩 실행
+ * - foreachXml: 매퍼 XML 의 foreach(addDummies) 로 chunkSize 행씩 실행
+ * 한 번의 측정(op)은 rowCount 건 입력이며, 측정 전마다 테이블을 비운다.
+ * storage=file 이면 디스크에 쓰는 H2 로 커밋 비용까지 포함해 비교한다.
+ *
+ * 실행: java -cp ... com.study.mbatch2.InsertStrategyBenchmark [JMH 옵션]
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertStrategyBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Database {
+        @Param({"1000", "10000"})
+        int rowCount;
+
+        // message 컬럼 길이 (MainBatchController 는 500)
+        @Param({"100", "500"})
+        int rowWidth;
+
+        @Param({"mem", "file"})
+        String storage;
+
+        SqlSessionFactory sqlSessionFactory;
+        List<Dummy> dummies;
+        private PooledDataSource dataSource;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            String url = storage.equals("mem")
+                    ? "jdbc:h2:mem:insert_bench;DB_CLOSE_DELAY=-1"
+                    : "jdbc:h2:./build/jmh-h2/insert_bench";
+            dataSource = new PooledDataSource("org.h2.Driver", url, "sa", "");
+
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 InputStream schema = Resources.getResourceAsStream("schema.sql")) {
+                statement.execute(new String(schema.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            Configuration configuration = new Configuration(
+                    new Environment("jmh", new JdbcTransactionFactory(), dataSource));
+            configuration.setMapUnderscoreToCamelCase(true);
+            try (InputStream mapper = Resources.getResourceAsStream("mappers/DummyMapper.xml")) {
+                new XMLMapperBuilder(mapper, configuration, "mappers/DummyMapper.xml",
+                        configuration.getSqlFragments()).parse();
+            }
+            sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+            // 측정마다 문자열을 만들지 않도록 미리 준비 (시드 고정)
+            Random random = new Random(42);
+            dummies = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                dummies.add(new Dummy(null, randomString(random, rowWidth), null));
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void truncate() throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE TABLE dummy");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE dummy");
+            }
+            dataSource.forceCloseAll();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BatchParams {
+        @Param({"50", "500", "5000"})
+        int flushSize;
+    }
+
+    @State(Scope.Benchmark)
+    public static class ChunkParams {
+        @Param({"50", "500", "1000"})
+        int chunkSize;
+    }
+
+    @Benchmark
+    public void perRowAutocommit(Database db) {
+        try (SqlSession session = db.sqlSessionFactory.openSession(ExecutorType.SIMPLE, true)) {
+            DummyMapper mapper = session.getMapper(DummyMapper.class);
+            for (Dummy dummy : db.dummies) {
+                mapper.addDummy(dummy);
+            }
+        }
+    }
+
+    @Benchmark
+    public void singleTransaction(Database db) {
+        try (SqlSession session = db.sqlSessionFactory.openSession(ExecutorType.SIMPLE, false)) {
+            DummyMapper mapper = session.getMapper(DummyMapper.class);
+            for (Dummy dummy : db.dummies) {
+                mapper.addDummy(dummy);
+            }
+            session.commit();
+        }
+    }
+
+    @Benchmark
+    public void batchExecutor(Database db, BatchParams params) {
+        try (SqlSession session = db.sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+            DummyMapper mapper = session.getMapper(DummyMapper.class);
+            List<Dummy> dummies = db.dummies;
+            for (int i = 0; i < dummies.size(); i++) {
+                mapper.addDummy(dummies.get(i));
+                if ((i + 1) % params.flushSize == 0) {
+                    session.flushStatements();
+                }
+            }
+            session.flushStatements();
+            session.commit();
+        }
+    }
+
+    @Benchmark
+    public void multiRowValues(Database db, ChunkParams params) throws SQLException {
+        try (SqlSession session = db.sqlSessionFactory.openSession(ExecutorType.SIMPLE, false)) {
+            Connection connection = session.getConnection();
+            List<Dummy> dummies = db.dummies;
+            int chunkSize = params.chunkSize;
+
+            // 가득 찬 청크는 같은 문장을 재사용하고, 마지막 남은 행만 따로 준비한다
+            try (PreparedStatement full = connection.prepareStatement(multiRowInsert(chunkSize))) {
+                int from = 0;
+                for (; from + chunkSize <= dummies.size(); from += chunkSize) {
+                    bind(full, dummies, from, chunkSize);
+                    full.executeUpdate();
+                }
+                if (from < dummies.size()) {
+                    int rest = dummies.size() - from;
+                    try (PreparedStatement last = connection.prepareStatement(multiRowInsert(rest))) {
+                        bind(last, dummies, from, rest);
+                        last.executeUpdate();
+                    }
+                }
+            }
+            session.commit();
+        }
+    }
+
+    @Benchmark
+    public void foreachXml(Database db, ChunkParams params) {
+        try (SqlSession session = db.sqlSessionFactory.openSession(ExecutorType.SIMPLE, false)) {
+            DummyMapper mapper = session.getMapper(DummyMapper.class);
+            List<Dummy> dummies = db.dummies;
+            for (int from = 0; from < dummies.size(); from += params.chunkSize) {
+                mapper.addDummies(dummies.subList(from, Math.min(from + params.chunkSize, dummies.size())));
+            }
+            session.commit();
+        }
+    }
+
+    private static String multiRowInsert(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO dummy(message, input_date) VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "(?, NOW())" : ",(?, NOW())");
+        }
+        return sql.toString();
+    }
+
+    private static void bind(PreparedStatement statement, List<Dummy> dummies, int from, int rows)
+            throws SQLException {
+        for (int i = 0; i < rows; i++) {
+            statement.setString(i + 1, dummies.get(from + i).getMessage());
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt('z' - 'a' + 1)));
+        }
+        return builder.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .include(InsertStrategyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS dummy (
+    no BIGINT AUTO_INCREMENT PRIMARY KEY,
+    message VARCHAR(4000),
+    input_date TIMESTAMP
+);
@@ -3,8 +3,13 @@ package com.study.mbatch2.mybatis;
 import com.study.mbatch2.domain.Dummy;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 @Mapper
 public interface DummyMapper {
     public void addDummy(Dummy dummy);
+
+    public int addDummies(@Param("dummies") List<Dummy> dummies);
 }
\ No newline at end of file
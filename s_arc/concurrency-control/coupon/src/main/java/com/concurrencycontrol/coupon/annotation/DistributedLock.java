@@ -38,4 +38,11 @@ public @interface DistributedLock {
      */
     long leaseTime() default 3L;
 
+    /**
+     * Redis 잠금 전에 JVM 내부 잠금을 먼저 획득할지 여부입니다.
+     * true 이면 같은 노드의 경쟁자들은 로컬에서 줄을 서고, 노드마다 한 스레드만 Redis 잠금을 시도합니다.
+     * 대기 시간(waitTime)은 로컬 잠금과 Redis 잠금 대기를 합한 시간입니다.
+     */
+    boolean localLock() default false;
+
 }
\ No newline at end of file
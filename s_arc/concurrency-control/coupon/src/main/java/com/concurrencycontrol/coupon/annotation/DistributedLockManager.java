@@ -1,5 +1,8 @@
 package com.concurrencycontrol.coupon.annotation;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
@@ -10,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 분산 락을 관리하고 락을 획득한 후 주어진 작업을 실행하는 클래스입니다.
  * Redisson을 사용하여 분산 락을 처리합니다.
+ * localLock 옵션을 켜면 JVM 내부 락을 먼저 획득한 스레드만 Redis 락을 시도하는 2단계 락으로 동작합니다.
  */
 @Slf4j
 @Component
@@ -17,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 public class DistributedLockManager {
 
     private final RedissonClient redissonClient;
+    private final LocalLockStripes localLockStripes;
 
     /**
      * 분산 락을 획득하고, 락을 획득한 후 주어진 콜백을 실행하는 메서드입니다.
@@ -26,13 +31,45 @@ public class DistributedLockManager {
      * @return 작업의 실행 결과
      */
     public Object executeWithLock(DistributedLock distributedLock, String key, LockCallback callback) {
+        long waitMillis = distributedLock.timeUnit().toMillis(distributedLock.waitTime());
+        if (!distributedLock.localLock()) {
+            return executeWithRedisLock(distributedLock, key, waitMillis, callback);
+        }
+
+        // 같은 노드의 경쟁자는 로컬 락에서 줄을 서므로 Redis 락은 노드당 한 스레드만 시도합니다.
+        long deadline = System.currentTimeMillis() + waitMillis;
+        Lock localLock = localLockStripes.get(key);
+        boolean isLocked;
+        try {
+            isLocked = localLock.tryLock(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("락 대기 중 인터럽트가 발생했습니다.");
+        }
+
+        if (!isLocked) {
+            throw new RuntimeException("락을 획득할 수 없습니다.");
+        }
+
+        try {
+            // 로컬 대기에 쓴 시간을 뺀 나머지만 Redis 락을 기다립니다.
+            long remainingMillis = Math.max(0L, deadline - System.currentTimeMillis());
+            return executeWithRedisLock(distributedLock, key, remainingMillis, callback);
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    private Object executeWithRedisLock(DistributedLock distributedLock, String key, long waitMillis,
+                                        LockCallback callback) {
 
         // FairLock 으로 변경
         RLock rLock = redissonClient.getFairLock(key);
 
         try {
             // 락을 획득하려 시도합니다. 성공하면 true, 실패하면 false를 반환합니다.
-            boolean isPossible = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
+            boolean isPossible = rLock.tryLock(waitMillis,
+                    distributedLock.timeUnit().toMillis(distributedLock.leaseTime()), TimeUnit.MILLISECONDS);
 
             // 락 획득 실패 시 예외를 던집니다.
             if (!isPossible) {
@@ -49,8 +86,10 @@ public class DistributedLockManager {
             e.printStackTrace();
             throw new RuntimeException("예기치 않은 오류 발생");
         } finally {
-            // 작업이 끝난 후 락을 해제합니다.
-            rLock.unlock();
+            // 작업이 끝난 후 락을 해제합니다. (획득하지 못했거나 만료된 락은 해제하지 않습니다.)
+            if (rLock.isHeldByCurrentThread()) {
+                rLock.unlock();
+            }
         }
     }
 }
@@ -0,0 +1,43 @@
+package com.concurrencycontrol.coupon.annotation;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 락 앞단에서 사용하는 JVM 내부 락 묶음(lock striping)입니다.
+ * 키마다 락을 만들지 않고 고정된 개수의 ReentrantLock 중 키의 해시로 하나를 골라 사용하므로,
+ * 키가 늘어나도 메모리가 증가하지 않고 락 정리 작업도 필요 없습니다.
+ * 서로 다른 키가 같은 락을 공유할 수 있지만 같은 노드 안에서 잠시 줄을 서는 것뿐이며 정합성에는 영향이 없습니다.
+ */
+@Component
+public class LocalLockStripes {
+
+    private final Lock[] stripes;
+    private final int mask;
+
+    /**
+     * @param stripeCount 락 개수 (2의 거듭제곱으로 올림)
+     */
+    public LocalLockStripes(@Value("${lock.local.stripes:1024}") int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Lock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            // Redis 쪽이 FairLock 이므로 로컬에서도 도착 순서대로 획득합니다.
+            stripes[i] = new ReentrantLock(true);
+        }
+    }
+
+    /**
+     * 키에 해당하는 로컬 락을 반환합니다.
+     * @param key 락 키
+     * @return 키가 속한 로컬 락
+     */
+    public Lock get(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+}
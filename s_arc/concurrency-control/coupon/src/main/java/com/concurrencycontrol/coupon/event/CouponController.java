@@ -3,6 +3,7 @@ package com.concurrencycontrol.coupon.event;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
@@ -29,4 +30,17 @@ public class CouponController {
         // 쿠폰 발급 서비스를 호출하여 쿠폰을 발급하고 반환합니다.
         return couponService.issue(eventId);
     }
+
+    /**
+     * 락 없이 쿠폰 재고를 선점하는 엔드포인트입니다.
+     * 쿠폰은 선점 직후가 아니라 잠시 후 묶음으로 DB에 저장됩니다.
+     * @param eventId 이벤트 ID
+     * @param memberId 회원 ID
+     * @return 선점 결과
+     */
+    @PostMapping("events/{eventId}/reservations")
+    public ReservationResult reserve(@PathVariable Long eventId, @RequestParam Long memberId) {
+
+        return couponService.reserve(eventId, memberId);
+    }
 }
\ No newline at end of file
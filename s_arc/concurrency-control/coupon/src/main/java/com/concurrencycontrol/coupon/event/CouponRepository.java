@@ -1,5 +1,7 @@
 package com.concurrencycontrol.coupon.event;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -15,4 +17,12 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
      * @return 쿠폰 정보 (있을 경우)
      */
     Optional<Coupon> findByMemberId(Long memberId);
+
+    /**
+     * 이벤트에서 주어진 회원들 중 이미 쿠폰이 저장된 것을 조회하는 메서드입니다.
+     * @param eventId 이벤트 ID
+     * @param memberIds 회원 ID 목록
+     * @return 이미 저장된 쿠폰 목록
+     */
+    List<Coupon> findAllByEventIdAndMemberIdIn(Long eventId, Collection<Long> memberIds);
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.concurrencycontrol.coupon.event;
 
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.concurrencycontrol.coupon.annotation.DistributedLock;
 import jakarta.persistence.EntityExistsException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,14 +23,16 @@ public class CouponService {
 
     private final CouponRepository couponRepository;
     private final EventRepository eventRepository;
+    private final CouponStockService couponStockService;
 
     /**
      * 이벤트 ID를 통해 쿠폰을 발급하는 메서드입니다.
      * DistributedLock 어노테이션을 통해 분산 락을 적용하여 동시성 문제를 해결합니다.
+     * 같은 노드의 요청은 로컬 락에서 먼저 줄을 서므로 Redis 락 경쟁은 노드 수만큼으로 줄어듭니다.
      * @param eventId 이벤트 ID
      * @return 발급된 쿠폰 객체
      */
-    @DistributedLock(key = "eventId", waitTime = 20L, leaseTime = 7L)
+    @DistributedLock(key = "eventId", waitTime = 20L, leaseTime = 7L, localLock = true)
     public Coupon issue(final Long eventId) {
 
         // 이벤트 정보를 데이터베이스에서 조회합니다.
@@ -53,4 +59,47 @@ public class CouponService {
         // 발급된 쿠폰을 반환합니다.
         return coupon;
     }
+
+    /**
+     * 락 없이 Redis에서 쿠폰 재고를 선점하는 메서드입니다.
+     * 재고 감소와 중복 확인은 Redis 스크립트 하나로 원자적으로 처리되며,
+     * 쿠폰 저장과 이벤트 수량 감소는 CouponWriteBehind 가 묶음으로 DB에 반영합니다.
+     * @param eventId 이벤트 ID
+     * @param memberId 회원 ID
+     * @return 선점 결과
+     */
+    public ReservationResult reserve(final Long eventId, final Long memberId) {
+
+        ReservationResult result = couponStockService.reserve(eventId, memberId);
+        log.debug("[COUPON RESERVED] EVENT ID : {}, MEMBER ID : {}, RESULT : {}", eventId, memberId, result);
+        return result;
+    }
+
+    /**
+     * Redis에서 선점된 쿠폰을 한 번에 저장하고 저장한 수만큼 이벤트 수량을 감소시키는 메서드입니다.
+     * 이미 저장된 회원은 건너뛰므로 같은 묶음이 다시 들어와도 두 번 반영되지 않습니다.
+     * @param eventId 이벤트 ID
+     * @param memberIds 선점 순서대로 정렬된 회원 ID 목록
+     * @return 새로 저장된 쿠폰 수
+     */
+    @Transactional
+    public int persistReserved(final Long eventId, final List<Long> memberIds) {
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow();
+
+        // 이전 반영이 저장 후 대기열 정리 전에 중단되었다면 일부 회원은 이미 저장되어 있습니다.
+        Set<Long> persisted = couponRepository.findAllByEventIdAndMemberIdIn(eventId, memberIds).stream()
+                .map(Coupon::getMemberId)
+                .collect(Collectors.toSet());
+
+        List<Coupon> coupons = memberIds.stream()
+                .filter(memberId -> !persisted.contains(memberId))
+                .map(memberId -> Coupon.from(eventId, memberId))
+                .toList();
+
+        couponRepository.saveAll(coupons);
+        event.decreaseCouponQuantity(coupons.size());
+        return coupons.size();
+    }
 }
\ No newline at end of file
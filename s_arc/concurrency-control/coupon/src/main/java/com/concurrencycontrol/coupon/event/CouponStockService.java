@@ -0,0 +1,141 @@
+package com.concurrencycontrol.coupon.event;
+
+import java.util.List;
+import java.util.Set;
+
+import org.redisson.api.RList;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis에 남은 쿠폰 재고와 발급받은 회원 목록을 두고 락 없이 쿠폰을 선점하는 서비스입니다.
+ * 재고 확인/감소, 중복 발급 확인, DB 반영 대기열 추가를 Lua 스크립트 하나로 원자적으로 처리하므로
+ * 분산 락 없이도 재고보다 많이 발급되지 않습니다.
+ * 선점된 쿠폰은 CouponWriteBehind 가 대기열에서 묶음으로 꺼내 DB에 저장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponStockService {
+
+    // 선점 결과 코드
+    private static final long RESERVED = 1L;
+    private static final long SOLD_OUT = 0L;
+    private static final long ALREADY_ISSUED = -1L;
+    private static final long NOT_OPENED = -2L;
+
+    /**
+     * KEYS: 재고, 발급 회원 set, DB 반영 대기 list / ARGV: 회원 ID
+     */
+    private static final String RESERVE_SCRIPT = """
+            if redis.call('sismember', KEYS[2], ARGV[1]) == 1 then
+                return -1
+            end
+            local stock = redis.call('get', KEYS[1])
+            if not stock then
+                return -2
+            end
+            if tonumber(stock) <= 0 then
+                return 0
+            end
+            redis.call('decr', KEYS[1])
+            redis.call('sadd', KEYS[2], ARGV[1])
+            redis.call('rpush', KEYS[3], ARGV[1])
+            return 1
+            """;
+
+    private static final String EVENTS_KEY = "coupon:events";
+
+    private final RedissonClient redissonClient;
+    private final EventRepository eventRepository;
+
+    /**
+     * 회원에게 쿠폰 재고를 선점합니다.
+     * 이벤트 재고가 아직 Redis에 없으면 DB의 쿠폰 수량으로 한 번 초기화합니다.
+     * @param eventId 이벤트 ID
+     * @param memberId 회원 ID
+     * @return 선점 결과
+     */
+    public ReservationResult reserve(Long eventId, Long memberId) {
+        long result = evalReserve(eventId, memberId);
+        if (result == NOT_OPENED) {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow();  // 이벤트가 없으면 예외를 던집니다.
+            open(eventId, event.getCouponQuantity());
+            result = evalReserve(eventId, memberId);
+        }
+
+        if (result == RESERVED) {
+            return ReservationResult.RESERVED;
+        }
+        if (result == ALREADY_ISSUED) {
+            return ReservationResult.ALREADY_ISSUED;
+        }
+        return ReservationResult.SOLD_OUT;
+    }
+
+    /**
+     * 이벤트 재고를 Redis에 올립니다. 이미 올라가 있으면 덮어쓰지 않습니다.
+     * @param eventId 이벤트 ID
+     * @param quantity 남은 쿠폰 수량
+     */
+    public void open(Long eventId, int quantity) {
+        if (redissonClient.<String>getBucket(stockKey(eventId), StringCodec.INSTANCE)
+                .setIfAbsent(String.valueOf(quantity))) {
+            log.info("[COUPON STOCK OPENED] EVENT ID : {}, QUANTITY : {}", eventId, quantity);
+        }
+        redissonClient.<String>getSet(EVENTS_KEY, StringCodec.INSTANCE).add(String.valueOf(eventId));
+    }
+
+    /**
+     * Redis에 남은 재고를 조회합니다.
+     * @param eventId 이벤트 ID
+     * @return 남은 재고 (초기화 전이면 null)
+     */
+    public Integer remaining(Long eventId) {
+        String stock = redissonClient.<String>getBucket(stockKey(eventId), StringCodec.INSTANCE).get();
+        return stock == null ? null : Integer.valueOf(stock);
+    }
+
+    /**
+     * 재고가 Redis에 올라간 이벤트 ID 목록입니다.
+     */
+    Set<String> openedEvents() {
+        return redissonClient.<String>getSet(EVENTS_KEY, StringCodec.INSTANCE).readAll();
+    }
+
+    /**
+     * 이벤트의 DB 반영 대기열입니다. (회원 ID 목록, 선점 순서)
+     */
+    RList<String> pending(Long eventId) {
+        return redissonClient.getList(pendingKey(eventId), StringCodec.INSTANCE);
+    }
+
+    private long evalReserve(Long eventId, Long memberId) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                RESERVE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(stockKey(eventId), issuedKey(eventId), pendingKey(eventId)),
+                String.valueOf(memberId));
+        return result;
+    }
+
+    // 같은 이벤트의 키는 같은 해시 슬롯에 두어 클러스터에서도 스크립트 하나로 처리되게 합니다.
+    private static String stockKey(Long eventId) {
+        return "coupon:{" + eventId + "}:stock";
+    }
+
+    private static String issuedKey(Long eventId) {
+        return "coupon:{" + eventId + "}:issued";
+    }
+
+    private static String pendingKey(Long eventId) {
+        return "coupon:{" + eventId + "}:pending";
+    }
+}
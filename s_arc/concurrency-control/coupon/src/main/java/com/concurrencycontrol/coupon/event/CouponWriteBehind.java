@@ -0,0 +1,110 @@
+package com.concurrencycontrol.coupon.event;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RList;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis에서 선점된 쿠폰을 묶음으로 DB에 저장하는 write-behind 컴포넌트입니다.
+ * 대기열 앞부분을 읽어 저장한 뒤에야 대기열에서 잘라내므로, 저장 중 장애가 나도 선점 내역은 남아 있다가 다시 처리됩니다.
+ * 다시 처리될 때는 이미 저장된 회원을 건너뛰므로 쿠폰과 이벤트 수량이 두 번 반영되지 않습니다.
+ * 여러 노드에서 동시에 실행되지 않도록 Redisson 락으로 한 노드만 반영합니다.
+ * 주기 반영은 다른 노드가 반영 중이면 건너뛰지만, 종료 시에는 락을 기다렸다가 남은 선점 내역을 비웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponWriteBehind {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String FLUSH_LOCK_KEY = "coupon:write-behind";
+    private static final long SHUTDOWN_LOCK_WAIT_SECONDS = 30L;
+
+    private final CouponStockService couponStockService;
+    private final CouponService couponService;
+    private final RedissonClient redissonClient;
+
+    /**
+     * 모든 이벤트의 대기열을 비울 때까지 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelay = 200L)
+    public void flush() {
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;  // 다른 노드가 반영 중
+        }
+
+        try {
+            drainAll();
+        } catch (RuntimeException e) {
+            log.error("[COUPON WRITE-BEHIND FAILED] 다음 주기에 다시 시도합니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 종료 전에 남은 선점 내역을 반영합니다.
+     * 다른 노드가 반영 중이면 건너뛰지 않고 락이 풀릴 때까지 기다린 뒤 대기열을 비웁니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        boolean locked;
+        try {
+            locked = lock.tryLock(SHUTDOWN_LOCK_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            locked = false;
+        }
+        if (!locked) {
+            // 선점 내역은 Redis 대기열에 남아 있으므로 락을 가진 노드나 다음에 뜨는 노드가 반영합니다.
+            log.warn("[COUPON WRITE-BEHIND] 종료 전 반영 락을 {}초 안에 얻지 못했습니다.", SHUTDOWN_LOCK_WAIT_SECONDS);
+            return;
+        }
+
+        try {
+            drainAll();
+        } catch (RuntimeException e) {
+            log.error("[COUPON WRITE-BEHIND FAILED] 종료 전 반영에 실패했습니다. 남은 선점 내역은 대기열에 남습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainAll() {
+        for (String eventId : couponStockService.openedEvents()) {
+            drain(Long.valueOf(eventId));
+        }
+    }
+
+    private void drain(Long eventId) {
+        RList<String> pending = couponStockService.pending(eventId);
+        while (true) {
+            List<String> batch = pending.range(0, BATCH_SIZE - 1);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<Long> memberIds = batch.stream().map(Long::valueOf).toList();
+            int saved = couponService.persistReserved(eventId, memberIds);
+
+            // 저장이 끝난 만큼만 잘라냅니다. (그 사이 뒤에 추가된 선점은 남습니다.)
+            pending.trim(batch.size(), -1);
+            log.info("[COUPON WRITE-BEHIND] EVENT ID : {}, SAVED : {}/{}", eventId, saved, batch.size());
+
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+}
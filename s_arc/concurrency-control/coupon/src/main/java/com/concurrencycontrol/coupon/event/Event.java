@@ -33,4 +33,13 @@ public class Event {
     public void decreaseCouponQuantity() {
         this.couponQuantity--;
     }
+
+    /**
+     * 쿠폰 수량을 한 번에 여러 개 감소시키는 메서드입니다.
+     * Redis에서 선점된 쿠폰을 묶음으로 저장할 때 저장된 개수만큼 호출됩니다.
+     * @param count 감소시킬 수량
+     */
+    public void decreaseCouponQuantity(int count) {
+        this.couponQuantity -= count;
+    }
 }
\ No newline at end of file
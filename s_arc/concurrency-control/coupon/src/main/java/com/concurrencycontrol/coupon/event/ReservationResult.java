@@ -0,0 +1,10 @@
+package com.concurrencycontrol.coupon.event;
+
+/**
+ * Redis 재고 선점(예약) 결과입니다.
+ */
+public enum ReservationResult {
+    RESERVED,        // 재고를 선점했고 DB 반영 대기 중
+    SOLD_OUT,        // 재고 소진
+    ALREADY_ISSUED   // 이미 쿠폰을 받은 회원
+}
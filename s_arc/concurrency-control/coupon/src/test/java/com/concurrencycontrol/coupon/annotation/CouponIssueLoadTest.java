@@ -0,0 +1,219 @@
+package com.concurrencycontrol.coupon.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.concurrencycontrol.coupon.RedisTestSupport;
+import com.concurrencycontrol.coupon.event.Coupon;
+import com.concurrencycontrol.coupon.event.CouponRepository;
+import com.concurrencycontrol.coupon.event.CouponService;
+import com.concurrencycontrol.coupon.event.CouponStockService;
+import com.concurrencycontrol.coupon.event.Event;
+import com.concurrencycontrol.coupon.event.EventRepository;
+
+/**
+ * 쿠폰 발급 부하 테스트입니다. (Redis 필요, 연결할 수 없으면 건너뜀)
+ * 노드 1대/4대를 흉내 내어 노드마다 RedissonClient, 로컬 락 묶음, AspectDistributedLock 을 따로 두고
+ * 같은 이벤트에 대한 CouponService.issue 호출을 동시에 보냅니다.
+ * Redis 락만 쓸 때와 로컬 락을 앞에 둘 때 Redis 락을 동시에 기다린 스레드 수를 비교합니다.
+ */
+@Tag("redis")
+@EnabledIf("com.concurrencycontrol.coupon.RedisTestSupport#isRedisAvailable")
+class CouponIssueLoadTest {
+
+	private static final int THREADS_PER_NODE = 32;
+	private static final int COUPON_QUANTITY = 2_000;
+	private static final long ISSUE_MILLIS = 1L;  // 쿠폰 저장에 걸리는 시간을 흉내 냄
+
+	@Test
+	void issueWithRedisLockOnlyOnOneNode() throws Exception {
+		LoadResult result = runLoad(1, false);
+
+		// 노드 안의 스레드가 모두 Redis 락에 줄을 섭니다.
+		assertThat(result.maxRedisWaiters()).isGreaterThan(1);
+	}
+
+	@Test
+	void issueWithLocalLockOnOneNode() throws Exception {
+		LoadResult result = runLoad(1, true);
+
+		assertThat(result.maxRedisWaiters()).isEqualTo(1);
+	}
+
+	@Test
+	void issueWithRedisLockOnlyOnFourNodes() throws Exception {
+		LoadResult result = runLoad(4, false);
+
+		assertThat(result.maxRedisWaiters()).isGreaterThan(4);
+	}
+
+	@Test
+	void issueWithLocalLockOnFourNodes() throws Exception {
+		LoadResult result = runLoad(4, true);
+
+		// 노드마다 한 스레드만 Redis 락을 기다립니다.
+		assertThat(result.maxRedisWaiters()).isBetween(1, 4);
+	}
+
+	private LoadResult runLoad(int nodes, boolean localLock) throws Exception {
+		Event event = newEvent(System.nanoTime(), COUPON_QUANTITY);
+		AtomicInteger holders = new AtomicInteger();
+		AtomicInteger maxHolders = new AtomicInteger();
+		AtomicInteger issued = new AtomicInteger();
+		AtomicInteger redisWaiters = new AtomicInteger();
+		AtomicInteger maxRedisWaiters = new AtomicInteger();
+
+		List<RedissonClient> clients = new ArrayList<>();
+		List<CouponService> services = new ArrayList<>();
+		for (int i = 0; i < nodes; i++) {
+			RedissonClient client = RedisTestSupport.createClient();
+			clients.add(client);
+			DistributedLockManager lockManager = new DistributedLockManager(
+					countingRedisWaiters(client, redisWaiters, maxRedisWaiters), new LocalLockStripes(1024));
+			CouponService target = newCouponService(localLock, event, holders, maxHolders, issued);
+
+			// 스프링 컨테이너와 같은 방식으로 어노테이션을 읽는 프록시를 노드마다 만듭니다.
+			AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+			proxyFactory.setProxyTargetClass(true);
+			proxyFactory.addAspect(new AspectDistributedLock(lockManager, new RedissonCallTransaction()));
+			services.add(proxyFactory.getProxy());
+		}
+
+		AtomicInteger remaining = new AtomicInteger(COUPON_QUANTITY);
+		ExecutorService executor = Executors.newFixedThreadPool(nodes * THREADS_PER_NODE);
+		CountDownLatch done = new CountDownLatch(nodes * THREADS_PER_NODE);
+
+		for (int node = 0; node < nodes; node++) {
+			CouponService couponService = services.get(node);
+			for (int t = 0; t < THREADS_PER_NODE; t++) {
+				executor.submit(() -> {
+					try {
+						while (remaining.getAndDecrement() > 0) {
+							couponService.issue(event.getId());
+						}
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+		}
+
+		assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+		executor.shutdown();
+		clients.forEach(RedissonClient::shutdown);
+
+		// 모든 요청이 발급되고, 락으로만 보호되는 이벤트 수량이 정확히 0이 되며, 발급 구간은 한 번에 하나만 실행됩니다.
+		assertThat(issued.get()).isEqualTo(COUPON_QUANTITY);
+		assertThat(event.getCouponQuantity()).isZero();
+		assertThat(maxHolders.get()).isEqualTo(1);
+		return new LoadResult(maxRedisWaiters.get());
+	}
+
+	private static Event newEvent(long id, int couponQuantity) {
+		Event event = BeanUtils.instantiateClass(Event.class);
+		ReflectionTestUtils.setField(event, "id", id);
+		ReflectionTestUtils.setField(event, "couponQuantity", couponQuantity);
+		return event;
+	}
+
+	// 이벤트 조회와 쿠폰 저장만 메모리에서 흉내 낸 발급 서비스 (저장 구간이 겹치는지 기록)
+	private static CouponService newCouponService(boolean localLock, Event event,
+			AtomicInteger holders, AtomicInteger maxHolders, AtomicInteger issued) {
+		EventRepository eventRepository = mock(EventRepository.class, withSettings().stubOnly());
+		when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+
+		CouponRepository couponRepository = mock(CouponRepository.class, withSettings().stubOnly());
+		when(couponRepository.findByMemberId(anyLong())).thenReturn(Optional.empty());
+		when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> {
+			maxHolders.accumulateAndGet(holders.incrementAndGet(), Math::max);
+			Thread.sleep(ISSUE_MILLIS);
+			holders.decrementAndGet();
+			issued.incrementAndGet();
+			return invocation.getArgument(0);
+		});
+
+		CouponStockService couponStockService = mock(CouponStockService.class, withSettings().stubOnly());
+		if (localLock) {
+			return new CouponService(couponRepository, eventRepository, couponStockService);
+		}
+		return new RedisOnlyCouponService(couponRepository, eventRepository, couponStockService);
+	}
+
+	// Redis 락(tryLock)을 동시에 기다리는 스레드 수를 세는 RedissonClient
+	private static RedissonClient countingRedisWaiters(RedissonClient client, AtomicInteger waiters,
+			AtomicInteger maxWaiters) {
+		return (RedissonClient) Proxy.newProxyInstance(RedissonClient.class.getClassLoader(),
+				new Class<?>[] {RedissonClient.class}, (proxy, method, args) -> {
+					Object result = invoke(client, method, args);
+					if (!method.getName().equals("getFairLock")) {
+						return result;
+					}
+					RLock lock = (RLock) result;
+					return Proxy.newProxyInstance(RLock.class.getClassLoader(), new Class<?>[] {RLock.class},
+							(lockProxy, lockMethod, lockArgs) -> {
+								if (!lockMethod.getName().equals("tryLock")) {
+									return invoke(lock, lockMethod, lockArgs);
+								}
+								maxWaiters.accumulateAndGet(waiters.incrementAndGet(), Math::max);
+								try {
+									return invoke(lock, lockMethod, lockArgs);
+								} finally {
+									waiters.decrementAndGet();
+								}
+							});
+				});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * 로컬 락 없이 Redis 락만 쓰는 발급 서비스 (비교용)
+	 */
+	static class RedisOnlyCouponService extends CouponService {
+
+		RedisOnlyCouponService(CouponRepository couponRepository, EventRepository eventRepository,
+				CouponStockService couponStockService) {
+			super(couponRepository, eventRepository, couponStockService);
+		}
+
+		@Override
+		@DistributedLock(key = "eventId", waitTime = 20L, leaseTime = 7L)
+		public Coupon issue(final Long eventId) {
+			return super.issue(eventId);
+		}
+	}
+
+	private record LoadResult(int maxRedisWaiters) {
+	}
+}
@@ -0,0 +1,80 @@
+package com.concurrencycontrol.coupon.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 선점된 쿠폰을 DB에 반영하는 persistReserved 테스트입니다.
+ * 저장 후 대기열을 잘라내기 전에 중단되어 같은 묶음이 다시 들어와도 쿠폰과 이벤트 수량이 한 번만 반영되는지 확인합니다.
+ */
+class CouponServiceTest {
+
+	private static final Long EVENT_ID = 1L;
+	private static final int COUPON_QUANTITY = 10;
+
+	private final List<Coupon> saved = new ArrayList<>();
+	private Event event;
+	private CouponService couponService;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		event = new Event();
+		ReflectionTestUtils.setField(event, "id", EVENT_ID);
+		ReflectionTestUtils.setField(event, "couponQuantity", COUPON_QUANTITY);
+
+		EventRepository eventRepository = mock(EventRepository.class);
+		when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+
+		// 저장된 쿠폰을 메모리에 두고 조회에 그대로 돌려줍니다.
+		CouponRepository couponRepository = mock(CouponRepository.class);
+		when(couponRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<Coupon> coupons = invocation.getArgument(0);
+			saved.addAll(coupons);
+			return coupons;
+		});
+		when(couponRepository.findAllByEventIdAndMemberIdIn(anyLong(), anyCollection())).thenAnswer(invocation -> {
+			Long eventId = invocation.getArgument(0);
+			Collection<Long> memberIds = invocation.getArgument(1);
+			return saved.stream()
+					.filter(coupon -> coupon.getEventId().equals(eventId) && memberIds.contains(coupon.getMemberId()))
+					.toList();
+		});
+
+		couponService = new CouponService(couponRepository, eventRepository, mock(CouponStockService.class));
+	}
+
+	@Test
+	void persistReservedAppliesSameBatchOnlyOnce() {
+		assertThat(couponService.persistReserved(EVENT_ID, List.of(1L, 2L, 3L))).isEqualTo(3);
+		assertThat(event.getCouponQuantity()).isEqualTo(COUPON_QUANTITY - 3);
+
+		// 대기열을 잘라내기 전에 중단되어 같은 묶음이 다시 들어옴
+		assertThat(couponService.persistReserved(EVENT_ID, List.of(1L, 2L, 3L))).isZero();
+		assertThat(event.getCouponQuantity()).isEqualTo(COUPON_QUANTITY - 3);
+		assertThat(saved).extracting(Coupon::getMemberId).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	void persistReservedSkipsOnlyAlreadySavedMembers() {
+		couponService.persistReserved(EVENT_ID, List.of(1L, 2L));
+
+		// 앞부분만 저장된 묶음 뒤로 새 선점이 이어져 다시 읽힘
+		assertThat(couponService.persistReserved(EVENT_ID, List.of(1L, 2L, 3L, 4L))).isEqualTo(2);
+		assertThat(event.getCouponQuantity()).isEqualTo(COUPON_QUANTITY - 4);
+		assertThat(saved).extracting(Coupon::getMemberId).containsExactly(1L, 2L, 3L, 4L);
+	}
+}
@@ -0,0 +1,106 @@
+package com.concurrencycontrol.coupon.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.redisson.api.RedissonClient;
+
+import com.concurrencycontrol.coupon.RedisTestSupport;
+
+/**
+ * Redis 재고 선점 동시성 테스트입니다. (Redis 필요, 연결할 수 없으면 건너뜀)
+ * 재고보다 훨씬 많은 요청과 같은 회원의 중복 요청을 동시에 보내도 재고만큼만 선점되는지 확인합니다.
+ */
+@Tag("redis")
+@EnabledIf("com.concurrencycontrol.coupon.RedisTestSupport#isRedisAvailable")
+class CouponStockServiceConcurrencyTest {
+
+	private static final int STOCK = 1_000;
+	private static final int THREADS = 200;
+	private static final int REQUESTS = 20_000;
+	private static final int MEMBERS = 5_000;  // 회원 수보다 요청이 많아 중복 요청이 섞임
+	private static final int REQUESTS_PER_MEMBER = REQUESTS / MEMBERS;
+
+	private RedissonClient redissonClient;
+	private CouponStockService couponStockService;
+	private Long eventId;
+
+	@BeforeEach
+	void setUp() {
+		redissonClient = RedisTestSupport.createClient();
+		couponStockService = new CouponStockService(redissonClient, mock(EventRepository.class));
+		eventId = System.nanoTime();
+		couponStockService.open(eventId, STOCK);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redissonClient.getKeys().deleteByPattern("coupon:{" + eventId + "}:*");
+		redissonClient.shutdown();
+	}
+
+	@Test
+	void reserveNeverOversellsOrIssuesTwiceToSameMember() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch done = new CountDownLatch(REQUESTS);
+		AtomicInteger soldOut = new AtomicInteger();
+		AtomicInteger duplicated = new AtomicInteger();
+		Set<Long> reserved = ConcurrentHashMap.newKeySet();
+		AtomicInteger reservedTwice = new AtomicInteger();
+
+		for (int i = 0; i < REQUESTS; i++) {
+			long memberId = i % MEMBERS;
+			executor.submit(() -> {
+				try {
+					switch (couponStockService.reserve(eventId, memberId)) {
+						case RESERVED -> {
+							if (!reserved.add(memberId)) {
+								reservedTwice.incrementAndGet();
+							}
+						}
+						case SOLD_OUT -> soldOut.incrementAndGet();
+						case ALREADY_ISSUED -> duplicated.incrementAndGet();
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+		executor.shutdown();
+
+		// 재고만큼만 선점되고, 같은 회원은 한 번만 선점됩니다.
+		assertThat(reserved).hasSize(STOCK);
+		assertThat(reservedTwice.get()).isZero();
+		assertThat(couponStockService.remaining(eventId)).isZero();
+		assertThat(reserved.size() + soldOut.get() + duplicated.get()).isEqualTo(REQUESTS);
+
+		// 회원의 첫 요청이 재고를 선점하지 못했다면 그 뒤로도 매진이므로,
+		// 선점한 회원의 나머지 요청은 모두 중복이고 선점하지 못한 회원의 요청은 모두 매진입니다.
+		assertThat(duplicated.get()).isEqualTo(STOCK * (REQUESTS_PER_MEMBER - 1));
+		assertThat(soldOut.get()).isEqualTo((MEMBERS - STOCK) * REQUESTS_PER_MEMBER);
+
+		// DB 반영 대기열에는 선점된 회원이 정확히 한 번씩 들어 있습니다.
+		List<String> pending = couponStockService.pending(eventId).readAll();
+		assertThat(pending).hasSize(STOCK);
+		Set<Long> pendingMembers = new HashSet<>();
+		pending.forEach(memberId -> pendingMembers.add(Long.valueOf(memberId)));
+		assertThat(pendingMembers).isEqualTo(reserved);
+	}
+}
@@ -0,0 +1,98 @@
+package com.study.lock.distributedlock.redis;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 획득+해제 처리량 비교 (로컬 Redis 필요: -p redisUri=redis://localhost:6379)
+ * - perCallConnectEval: 기존 방식. 획득마다 connect() 후 SET NX, 해제 시 EVAL로 스크립트 본문 전송
+ * - sharedConnectionEvalsha: 공유 연결 + 미리 로드한 스크립트 EVALSHA
+ * - sharedConnectionAsync: 공유 연결에서 PIPELINE_DEPTH개의 획득/해제를 동시에 보내고 모두 완료될 때까지 대기
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LockAcquisitionBenchmark {
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(30);
+    private static final int PIPELINE_DEPTH = 32;
+    private static final String RELEASE_SOURCE = """
+           if redis.call('get', KEYS[1]) == ARGV[1] then
+               return redis.call('del', KEYS[1])
+           else
+               return 0
+           end
+           """;
+
+    @Param({"redis://localhost:6379"})
+    private String redisUri;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private RedisClient redisClient;
+    private StatefulRedisConnection<String, String> sharedConnection;
+    private RedisLockClient lockClient;
+
+    @Setup
+    public void setUp() {
+        redisClient = RedisClient.create(redisUri);
+        sharedConnection = redisClient.connect();
+        lockClient = new RedisLockClient(sharedConnection);
+        lockClient.loadScripts();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sharedConnection.close();
+        redisClient.shutdown();
+    }
+
+    @Benchmark
+    public boolean perCallConnectEval() {
+        String lockKey = "bench:lock:" + sequence.incrementAndGet();
+        String lockId = UUID.randomUUID().toString();
+        try (StatefulRedisConnection<String, String> conn = redisClient.connect()) {
+            RedisCommands<String, String> commands = conn.sync();
+            boolean acquired = "OK".equals(commands.set(lockKey, lockId, SetArgs.Builder.nx().px(LOCK_TIMEOUT.toMillis())));
+            commands.eval(RELEASE_SOURCE, ScriptOutputType.INTEGER, new String[]{lockKey}, lockId);
+            return acquired;
+        }
+    }
+
+    @Benchmark
+    public boolean sharedConnectionEvalsha() {
+        String lockKey = "bench:lock:" + sequence.incrementAndGet();
+        String lockId = UUID.randomUUID().toString();
+        boolean acquired = lockClient.tryLock(lockKey, lockId, LOCK_TIMEOUT);
+        lockClient.release(lockKey, lockId);
+        return acquired;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_DEPTH)
+    public void sharedConnectionAsync() {
+        CompletableFuture<?>[] inFlight = new CompletableFuture<?>[PIPELINE_DEPTH];
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            String lockKey = "bench:lock:" + sequence.incrementAndGet();
+            String lockId = UUID.randomUUID().toString();
+            inFlight[i] = lockClient.tryLockAsync(lockKey, lockId, LOCK_TIMEOUT)
+                    .thenCompose(acquired -> lockClient.releaseAsync(lockKey, lockId))
+                    .toCompletableFuture();
+        }
+        CompletableFuture.allOf(inFlight).join();
+    }
+}
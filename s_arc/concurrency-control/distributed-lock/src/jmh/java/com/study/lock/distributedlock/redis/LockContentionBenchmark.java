@@ -0,0 +1,159 @@
+package com.study.lock.distributedlock.redis;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 키에 THREADS개 스레드가 몰릴 때 락 대기 시간 분포 비교 (로컬 Redis 필요)
+ * - herd: 기존 방식. SET NX 실패 시 키별 래치 하나(나중 대기자가 덮어씀)를 최대 1초 기다리고, 해제 시 채널에 알림을 발행해 모두가 다시 SET NX를 다툼
+ * - fifo: RedisPubSubLock. 대기열 순서대로 락을 넘기고 넘겨받은 대기자만 깨움
+ * 각 스레드는 ROUNDS번 락을 잡고 HOLD_TIME 동안 유지한다. 획득까지 걸린 시간의 백분위와 시간 초과(10초) 수를 출력한다.
+ *
+ * 실행: java -cp ... com.study.lock.distributedlock.redis.LockContentionBenchmark [redisUri] [threads]
+ */
+public class LockContentionBenchmark {
+    private static final int ROUNDS = 4;
+    private static final Duration HOLD_TIME = Duration.ofMillis(1);
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration MAX_WAIT_TIME = Duration.ofSeconds(10);
+
+    public static void main(String[] args) throws Exception {
+        String redisUri = args.length > 0 ? args[0] : "redis://localhost:6379";
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        RedisClient redisClient = RedisClient.create(redisUri);
+        try (StatefulRedisConnection<String, String> connection = redisClient.connect()) {
+            RedisLockClient lockClient = new RedisLockClient(connection);
+            lockClient.loadScripts();
+
+            runHerd(redisClient, lockClient, threads);
+
+            try (LockWatchdog watchdog = new LockWatchdog(lockClient);
+                 RedisPubSubLock lock = new RedisPubSubLock(lockClient, redisClient.connectPubSub(), watchdog)) {
+                lock.init();
+                run("fifo", threads, () -> {
+                    long startedAt = System.nanoTime();
+                    long[] waited = {-1};
+                    lock.executeWithLock("bench-contention", () -> {
+                        waited[0] = System.nanoTime() - startedAt;
+                        sleep(HOLD_TIME);
+                    });
+                    return waited[0];
+                });
+            }
+        } finally {
+            redisClient.shutdown();
+        }
+    }
+
+    // 기존 RedisPubSubLock 대기 방식을 그대로 재현 (구독은 정상 동작한다고 가정)
+    private static void runHerd(RedisClient redisClient, RedisLockClient lockClient, int threads) throws Exception {
+        String lockKey = "bench:herd:lock";
+        String channel = "bench:herd:channel";
+        ConcurrentHashMap<String, CountDownLatch> waiters = new ConcurrentHashMap<>();
+        try (StatefulRedisPubSubConnection<String, String> pubSub = redisClient.connectPubSub()) {
+            pubSub.addListener(new RedisPubSubAdapter<>() {
+                @Override
+                public void message(String ch, String message) {
+                    CountDownLatch latch = waiters.get(lockKey);
+                    if (latch != null) {
+                        latch.countDown();
+                    }
+                }
+            });
+            pubSub.sync().subscribe(channel);
+
+            run("herd", threads, () -> {
+                String lockId = UUID.randomUUID().toString();
+                long startedAt = System.nanoTime();
+                long deadline = System.currentTimeMillis() + MAX_WAIT_TIME.toMillis();
+                while (System.currentTimeMillis() < deadline) {
+                    if (lockClient.tryLock(lockKey, lockId, LOCK_TIMEOUT)) {
+                        long waited = System.nanoTime() - startedAt;
+                        sleep(HOLD_TIME);
+                        lockClient.releaseAndPublish(lockKey, lockId, channel);
+                        return waited;
+                    }
+                    CountDownLatch latch = new CountDownLatch(1);
+                    waiters.put(lockKey, latch);
+                    latch.await(RETRY_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                    waiters.remove(lockKey);
+                }
+                return -1L;
+            });
+        }
+    }
+
+    private static void run(String name, int threads, Acquisition acquisition) throws Exception {
+        long[] samples = new long[threads * ROUNDS];
+        AtomicInteger index = new AtomicInteger();
+        LongAdder timeouts = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int r = 0; r < ROUNDS; r++) {
+                        long waited = acquisition.run();
+                        if (waited < 0) {
+                            timeouts.increment();
+                        } else {
+                            samples[index.getAndIncrement()] = waited;
+                        }
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            workers[t].start();
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        long[] sorted = Arrays.copyOf(samples, index.get());
+        Arrays.sort(sorted);
+        System.out.printf("%s: threads=%d, acquired=%d, timeouts=%d, elapsed=%dms, wait p50=%dms p99=%dms p99.9=%dms max=%dms%n",
+                name, threads, sorted.length, timeouts.sum(), elapsed / 1_000_000,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1_000_000;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Acquisition {
+        // 락을 잡을 때까지 기다린 시간(ns), 시간 초과면 -1
+        long run() throws Exception;
+    }
+}
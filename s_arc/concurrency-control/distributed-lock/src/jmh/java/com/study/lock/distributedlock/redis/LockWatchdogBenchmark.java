@@ -0,0 +1,100 @@
+package com.study.lock.distributedlock.redis;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 다수의 락을 동시에 보유할 때 갱신 비용 비교 (로컬 Redis 필요)
+ * - perLockTask: 락마다 스케줄 작업을 등록해 개별 EVALSHA로 갱신 (기존 방식을 락 단위로 고친 형태)
+ * - watchdog: 타이밍 휠 + 배치 갱신 스크립트
+ * 두 방식 모두 LEASES개의 락을 짧은 TTL로 잡고 HOLD_TIME 동안 유지한 뒤, 잃은 락 수와 Redis 호출 수를 출력한다.
+ *
+ * 실행: java -cp ... com.study.lock.distributedlock.redis.LockWatchdogBenchmark [redisUri] [leases]
+ */
+public class LockWatchdogBenchmark {
+    private static final Duration TTL = Duration.ofSeconds(3);
+    private static final Duration HOLD_TIME = Duration.ofSeconds(15);
+
+    public static void main(String[] args) throws Exception {
+        String redisUri = args.length > 0 ? args[0] : "redis://localhost:6379";
+        int leases = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        RedisClient redisClient = RedisClient.create(redisUri);
+        try (StatefulRedisConnection<String, String> connection = redisClient.connect()) {
+            RedisLockClient lockClient = new RedisLockClient(connection);
+            lockClient.loadScripts();
+
+            runPerLockTask(lockClient, leases);
+            runWatchdog(lockClient, leases);
+        } finally {
+            redisClient.shutdown();
+        }
+    }
+
+    private static void runPerLockTask(RedisLockClient lockClient, int leases) throws Exception {
+        List<String[]> held = acquire(lockClient, "bench:perlock:", leases);
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        LongAdder calls = new LongAdder();
+        LongAdder lost = new LongAdder();
+        long interval = TTL.toMillis() / 3;
+        for (String[] lock : held) {
+            scheduler.scheduleAtFixedRate(() -> {
+                calls.increment();
+                lockClient.renewAsync(lock[0], lock[1], TTL).whenComplete((renewed, e) -> {
+                    if (e != null || !renewed) {
+                        lost.increment();
+                    }
+                });
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        Thread.sleep(HOLD_TIME.toMillis());
+        scheduler.shutdownNow();
+        System.out.printf("perLockTask: leases=%d, redisCalls=%d, failedRenewals=%d, threads=%d%n",
+                leases, calls.sum(), lost.sum(), Thread.activeCount());
+        release(lockClient, held);
+    }
+
+    private static void runWatchdog(RedisLockClient lockClient, int leases) throws Exception {
+        List<String[]> held = acquire(lockClient, "bench:watchdog:", leases);
+        try (LockWatchdog watchdog = new LockWatchdog(lockClient)) {
+            List<LockHandle> handles = new ArrayList<>(held.size());
+            for (String[] lock : held) {
+                handles.add(watchdog.register(lock[0], lock[1], TTL));
+            }
+            Thread.sleep(HOLD_TIME.toMillis());
+            LockWatchdogMetrics metrics = watchdog.getMetrics();
+            System.out.printf("watchdog: leases=%d, active=%d, threads=%d, %s%n",
+                    leases, watchdog.getActiveLeases(), Thread.activeCount(), metrics);
+            handles.forEach(watchdog::cancel);
+        }
+        release(lockClient, held);
+    }
+
+    private static List<String[]> acquire(RedisLockClient lockClient, String prefix, int leases) {
+        List<String[]> held = new ArrayList<>(leases);
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(leases);
+        for (int i = 0; i < leases; i++) {
+            String[] lock = {prefix + i, UUID.randomUUID().toString()};
+            held.add(lock);
+            futures.add(lockClient.tryLockAsync(lock[0], lock[1], TTL).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return held;
+    }
+
+    private static void release(RedisLockClient lockClient, List<String[]> held) {
+        CompletableFuture.allOf(held.stream()
+                .map(lock -> lockClient.releaseAsync(lock[0], lock[1]).toCompletableFuture())
+                .toArray(CompletableFuture[]::new)).join();
+    }
+}
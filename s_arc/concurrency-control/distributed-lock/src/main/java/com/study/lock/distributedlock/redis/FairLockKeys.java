@@ -0,0 +1,15 @@
+package com.study.lock.distributedlock.redis;
+
+/**
+ * 공정(FIFO) 락 하나가 사용하는 Redis 키 묶음
+ * @param lockKey 락 키 (값은 소유자 식별값)
+ * @param queueKey 대기 순서 리스트 (맨 앞이 다음 소유자)
+ * @param timeoutKey 대기자별 대기 마감 시각 (sorted set, score = epoch ms)
+ * @param channel 락을 넘겨받은 대기자에게 알리는 채널 (메시지 = 새 소유자 식별값)
+ */
+public record FairLockKeys(String lockKey, String queueKey, String timeoutKey, String channel) {
+
+    String[] toArray() {
+        return new String[]{lockKey, queueKey, timeoutKey, channel};
+    }
+}
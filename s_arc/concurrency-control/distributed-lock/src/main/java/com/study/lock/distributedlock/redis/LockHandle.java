@@ -0,0 +1,72 @@
+package com.study.lock.distributedlock.redis;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 획득한 락 하나를 나타내는 핸들
+ * 락마다 하나씩 생성되며, 워치독이 핸들 단위로 만료 시간을 갱신한다.
+ * 해제/분실 상태는 핸들별로 관리되므로 동시에 잡은 여러 락이 서로의 갱신을 덮어쓰지 않는다.
+ */
+@Getter
+public class LockHandle {
+
+    public enum State {
+        HELD, RELEASED, LOST
+    }
+
+    private final String lockKey;
+    private final String lockId;
+    private final Duration ttl;
+
+    private volatile State state = State.HELD;
+
+    // 타이밍 휠에서 남은 바퀴 수 (워치독 스레드만 변경)
+    int remainingRounds;
+
+    public LockHandle(String lockKey, String lockId, Duration ttl) {
+        this.lockKey = lockKey;
+        this.lockId = lockId;
+        this.ttl = ttl;
+    }
+
+    public boolean isHeld() {
+        return state == State.HELD;
+    }
+
+    /**
+     * 갱신 중단 (해제 전 호출)
+     * @return 보유 중이던 락이면 true
+     */
+    boolean markReleased() {
+        synchronized (this) {
+            if (state != State.HELD) {
+                return false;
+            }
+            state = State.RELEASED;
+            return true;
+        }
+    }
+
+    /**
+     * 갱신 실패로 락을 잃음 (다른 소유자가 가져갔거나 만료됨)
+     * @return 보유 중이던 락이면 true
+     */
+    boolean markLost() {
+        synchronized (this) {
+            if (state != State.HELD) {
+                return false;
+            }
+            state = State.LOST;
+            return true;
+        }
+    }
+
+    /**
+     * 갱신 주기 (TTL의 1/3)
+     */
+    Duration renewInterval() {
+        return ttl.dividedBy(3);
+    }
+}
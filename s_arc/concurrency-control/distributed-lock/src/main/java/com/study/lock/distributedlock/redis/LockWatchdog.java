@@ -0,0 +1,191 @@
+package com.study.lock.distributedlock.redis;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 보유 중인 모든 락의 만료 시간을 갱신하는 워치독
+ * 락마다 스케줄 작업을 만들지 않고 타이밍 휠 하나에 핸들을 넣어 두며,
+ * 틱마다 갱신 시점이 된 핸들을 모아 한 번의 EVALSHA(배치당 최대 MAX_BATCH_SIZE개)로 갱신한다.
+ * 휠은 워치독 스레드만 다루고, 다른 스레드의 등록/재등록은 pending 큐를 거쳐 다음 틱에 반영된다.
+ */
+@Slf4j
+@Component
+public class LockWatchdog implements AutoCloseable {
+
+    private static final Duration TICK = Duration.ofMillis(100);
+    private static final int WHEEL_SIZE = 512;
+    private static final int MAX_BATCH_SIZE = 1_000;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final RedisLockClient lockClient;
+    private final long tickMillis;
+    private final List<LockHandle>[] wheel;
+    private final Queue<PendingRenewal> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeLeases = new AtomicInteger();
+    private final ScheduledExecutorService ticker;
+
+    @Getter
+    private final LockWatchdogMetrics metrics = new LockWatchdogMetrics();
+
+    // 워치독 스레드만 접근
+    private long currentTick;
+
+    @Autowired
+    public LockWatchdog(RedisLockClient lockClient) {
+        this(lockClient, TICK, WHEEL_SIZE);
+    }
+
+    public LockWatchdog(RedisLockClient lockClient, Duration tick, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("휠 크기는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.lockClient = lockClient;
+        this.tickMillis = tick.toMillis();
+        // 제네릭 배열은 만들 수 없으므로 와일드카드 배열을 만들어 변환 (칸마다 LockHandle 목록만 넣음)
+        @SuppressWarnings("unchecked")
+        List<LockHandle>[] slots = (List<LockHandle>[]) new List<?>[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.wheel = slots;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 획득한 락을 워치독에 등록 (TTL의 1/3마다 갱신)
+     * @param lockKey 락 키
+     * @param lockId 락 소유자 식별값
+     * @param ttl 락 만료 시간
+     * @return 락 핸들
+     */
+    public LockHandle register(String lockKey, String lockId, Duration ttl) {
+        LockHandle handle = new LockHandle(lockKey, lockId, ttl);
+        activeLeases.incrementAndGet();
+        schedule(handle, handle.renewInterval());
+        return handle;
+    }
+
+    /**
+     * 락 갱신 중단 (휠에서는 다음 방문 시 제거됨)
+     * @param handle 락 핸들
+     * @return 보유 중이던 락이면 true
+     */
+    public boolean cancel(LockHandle handle) {
+        if (handle.markReleased()) {
+            activeLeases.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 현재 갱신 중인 락 수
+     */
+    public int getActiveLeases() {
+        return activeLeases.get();
+    }
+
+    private void schedule(LockHandle handle, Duration delay) {
+        long ticks = Math.max(1, (delay.toMillis() + tickMillis - 1) / tickMillis);
+        pending.add(new PendingRenewal(handle, ticks));
+    }
+
+    private void tick() {
+        try {
+            PendingRenewal renewal;
+            while ((renewal = pending.poll()) != null) {
+                place(renewal.handle(), renewal.ticks());
+            }
+
+            List<LockHandle> bucket = wheel[(int) (currentTick & (wheel.length - 1))];
+            List<LockHandle> due = new ArrayList<>();
+            Iterator<LockHandle> iterator = bucket.iterator();
+            while (iterator.hasNext()) {
+                LockHandle handle = iterator.next();
+                if (!handle.isHeld()) {
+                    iterator.remove();
+                } else if (handle.remainingRounds > 0) {
+                    handle.remainingRounds--;
+                } else {
+                    iterator.remove();
+                    due.add(handle);
+                }
+            }
+            currentTick++;
+
+            for (int from = 0; from < due.size(); from += MAX_BATCH_SIZE) {
+                renewBatch(new ArrayList<>(due.subList(from, Math.min(due.size(), from + MAX_BATCH_SIZE))));
+            }
+        } catch (Exception e) {
+            log.error("락 워치독 틱 처리 실패", e);
+        }
+    }
+
+    // 현재 틱 기준 ticks 뒤의 칸에 배치 (휠 한 바퀴보다 멀면 남은 바퀴 수 기록)
+    private void place(LockHandle handle, long ticks) {
+        handle.remainingRounds = (int) (ticks / wheel.length);
+        wheel[(int) ((currentTick + ticks) & (wheel.length - 1))].add(handle);
+    }
+
+    private void renewBatch(List<LockHandle> batch) {
+        long startedAt = System.nanoTime();
+        lockClient.renewAllAsync(batch).whenComplete((results, error) -> {
+            if (error != null) {
+                metrics.recordFailure(batch.size());
+                log.warn("락 갱신 배치 실패 ({}개), {}ms 후 재시도", batch.size(), RETRY_DELAY.toMillis(), error);
+                batch.forEach(handle -> {
+                    if (handle.isHeld()) {
+                        schedule(handle, RETRY_DELAY);
+                    }
+                });
+                return;
+            }
+
+            int renewed = 0;
+            int lost = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                LockHandle handle = batch.get(i);
+                if (results.get(i)) {
+                    renewed++;
+                    if (handle.isHeld()) {
+                        schedule(handle, handle.renewInterval());
+                    }
+                } else if (handle.markLost()) {
+                    lost++;
+                    activeLeases.decrementAndGet();
+                    log.warn("락을 잃었습니다: {}", handle.getLockKey());
+                }
+            }
+            metrics.recordBatch(System.nanoTime() - startedAt, renewed, lost);
+        });
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private record PendingRenewal(LockHandle handle, long ticks) {
+    }
+}
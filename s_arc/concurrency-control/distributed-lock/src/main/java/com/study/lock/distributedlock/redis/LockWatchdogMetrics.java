@@ -0,0 +1,66 @@
+package com.study.lock.distributedlock.redis;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 워치독 지표
+ * - renewals: 갱신 성공 수
+ * - renewalFailures: 통신 오류로 재시도한 갱신 수
+ * - lostLocks: 갱신 시점에 이미 소유권을 잃은 락 수
+ * - renewal latency: 갱신 배치 한 번의 왕복 시간
+ */
+public class LockWatchdogMetrics {
+
+    private final LongAdder renewals = new LongAdder();
+    private final LongAdder renewalFailures = new LongAdder();
+    private final LongAdder lostLocks = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchNanos = new LongAdder();
+    private final AtomicLong maxBatchNanos = new AtomicLong();
+
+    void recordBatch(long elapsedNanos, int renewed, int lost) {
+        batches.increment();
+        batchNanos.add(elapsedNanos);
+        maxBatchNanos.accumulateAndGet(elapsedNanos, Math::max);
+        renewals.add(renewed);
+        lostLocks.add(lost);
+    }
+
+    void recordFailure(int count) {
+        renewalFailures.add(count);
+    }
+
+    public long getRenewals() {
+        return renewals.sum();
+    }
+
+    public long getRenewalFailures() {
+        return renewalFailures.sum();
+    }
+
+    public long getLostLocks() {
+        return lostLocks.sum();
+    }
+
+    public long getRenewalBatches() {
+        return batches.sum();
+    }
+
+    public double getAverageRenewalLatencyMillis() {
+        long count = batches.sum();
+        return count == 0 ? 0 : batchNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxRenewalLatencyMillis() {
+        return maxBatchNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("renewals=%d, failures=%d, lost=%d, batches=%d, latency(avg=%.2fms, max=%.2fms)",
+                getRenewals(), getRenewalFailures(), getLostLocks(), getRenewalBatches(),
+                getAverageRenewalLatencyMillis(), getMaxRenewalLatencyMillis());
+    }
+}
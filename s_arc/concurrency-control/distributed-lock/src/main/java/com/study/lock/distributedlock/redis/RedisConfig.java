@@ -1,6 +1,7 @@
 package com.study.lock.distributedlock.redis;
 
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +20,12 @@ public class RedisConfig {
         return RedisClient.create(String.format("redis://%s:%d", redisHost, redisPort));
     }
 
+    // 락 명령을 다중화해 보내는 공유 연결 (스레드 안전)
+    @Bean(destroyMethod = "close")
+    public StatefulRedisConnection<String, String> redisConnection(RedisClient redisClient) {
+        return redisClient.connect();
+    }
+
     @Bean
     public StatefulRedisPubSubConnection<String, String> redisPubSubConnection(RedisClient redisClient) {
         return redisClient.connectPubSub();
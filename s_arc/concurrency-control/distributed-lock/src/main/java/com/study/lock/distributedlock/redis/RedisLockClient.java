@@ -0,0 +1,317 @@
+package com.study.lock.distributedlock.redis;
+
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 락 획득/갱신/해제 명령을 보내는 Redis 클라이언트
+ * Lettuce 연결은 스레드 안전하고 여러 요청을 한 TCP 연결로 다중화(파이프라이닝)하므로,
+ * 락마다 connect() 하지 않고 애플리케이션 전체가 연결 하나를 공유한다.
+ * 갱신/해제 스크립트는 시작 시 한 번 로드하고 이후에는 EVALSHA로 호출한다.
+ */
+@Slf4j
+@Component
+public class RedisLockClient {
+
+    // 내 락일 때만 만료 시간 연장
+    static final RedisLockScript RENEW_SCRIPT = new RedisLockScript("""
+           if redis.call('get', KEYS[1]) == ARGV[1] then
+               return redis.call('pexpire', KEYS[1], ARGV[2])
+           else
+               return 0
+           end
+           """);
+
+    // 내 락일 때만 삭제
+    static final RedisLockScript RELEASE_SCRIPT = new RedisLockScript("""
+           if redis.call('get', KEYS[1]) == ARGV[1] then
+               return redis.call('del', KEYS[1])
+           else
+               return 0
+           end
+           """);
+
+    // 내 락일 때만 삭제하고 대기자에게 해제 알림 발행
+    static final RedisLockScript RELEASE_AND_PUBLISH_SCRIPT = new RedisLockScript("""
+           if redis.call('get', KEYS[1]) == ARGV[1] then
+               redis.call('del', KEYS[1])
+               redis.call('publish', KEYS[2], 'unlocked')
+               return 1
+           else
+               return 0
+           end
+           """);
+
+    // 여러 락을 한 번에 갱신: ARGV 는 (lockId, ttl) 쌍, 결과는 키별 1(갱신) / 0(잃음)
+    static final RedisLockScript RENEW_BATCH_SCRIPT = new RedisLockScript("""
+           local results = {}
+           for i = 1, #KEYS do
+               if redis.call('get', KEYS[i]) == ARGV[2 * i - 1] then
+                   results[i] = redis.call('pexpire', KEYS[i], ARGV[2 * i])
+               else
+                   results[i] = 0
+               end
+           end
+           return results
+           """);
+
+    // 공정 락 스크립트 공통 함수 (KEYS: 락, 대기 리스트, 대기 마감 zset, 채널)
+    // nowMillis: Redis 서버 시각 (노드마다 시계가 어긋나도 대기 마감을 한 시계로 비교)
+    //   TIME 뒤에 쓰기 명령을 쓰려면 Redis 5 미만에서는 효과 복제로 바꿔야 함 (5 이상은 기본값이라 영향 없음)
+    // prune: 대기 마감이 지난 대기자를 맨 앞부터 제거하고 살아 있는 맨 앞 대기자 반환
+    // handOff: 맨 앞 대기자에게 락을 넘기고 그 대기자에게만 알림
+    private static final String FAIR_LOCK_FUNCTIONS = """
+           redis.replicate_commands()
+           local function nowMillis()
+               local time = redis.call('time')
+               return tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+           end
+           local function prune(now)
+               while true do
+                   local head = redis.call('lindex', KEYS[2], 0)
+                   if not head then
+                       return nil
+                   end
+                   local deadline = redis.call('zscore', KEYS[3], head)
+                   if deadline and tonumber(deadline) >= now then
+                       return head
+                   end
+                   redis.call('lpop', KEYS[2])
+                   redis.call('zrem', KEYS[3], head)
+               end
+           end
+           local function handOff(head, ttl)
+               redis.call('lpop', KEYS[2])
+               redis.call('zrem', KEYS[3], head)
+               redis.call('set', KEYS[1], head, 'px', ttl)
+               redis.call('publish', KEYS[4], head)
+           end
+           """;
+
+    // 공정 락 획득: ARGV = (lockId, ttl, 대기 시간, 인계 ttl), 결과 1(획득) / 0(대기열에 있음)
+    // 락이 비어 있어도 앞선 대기자가 있으면 그 대기자에게 넘기고 자신은 대기열 끝에 선다.
+    static final RedisLockScript FAIR_ACQUIRE_SCRIPT = new RedisLockScript(FAIR_LOCK_FUNCTIONS + """
+           local now = nowMillis()
+           local owner = redis.call('get', KEYS[1])
+           if owner == ARGV[1] then
+               redis.call('pexpire', KEYS[1], ARGV[2])
+               return 1
+           end
+           local head = prune(now)
+           if not owner then
+               if not head or head == ARGV[1] then
+                   if head then
+                       redis.call('lpop', KEYS[2])
+                       redis.call('zrem', KEYS[3], head)
+                   end
+                   redis.call('set', KEYS[1], ARGV[1], 'px', ARGV[2])
+                   return 1
+               end
+               handOff(head, ARGV[4])
+           end
+           local wait = tonumber(ARGV[3])
+           if wait > 0 and not redis.call('zscore', KEYS[3], ARGV[1]) then
+               redis.call('rpush', KEYS[2], ARGV[1])
+               redis.call('zadd', KEYS[3], now + wait, ARGV[1])
+               redis.call('pexpire', KEYS[2], wait)
+               redis.call('pexpire', KEYS[3], wait)
+           end
+           return 0
+           """);
+
+    // 공정 락 해제: ARGV = (lockId, 인계 ttl), 대기자가 있으면 삭제하지 않고 맨 앞 대기자에게 넘김
+    static final RedisLockScript FAIR_RELEASE_SCRIPT = new RedisLockScript(FAIR_LOCK_FUNCTIONS + """
+           if redis.call('get', KEYS[1]) ~= ARGV[1] then
+               return 0
+           end
+           local head = prune(nowMillis())
+           if head then
+               handOff(head, ARGV[2])
+           else
+               redis.call('del', KEYS[1])
+           end
+           return 1
+           """);
+
+    // 대기 포기: ARGV = (lockId, ttl), 그 사이 락을 넘겨받았으면 1(획득), 아니면 대기열에서 빠지고 0
+    static final RedisLockScript FAIR_CANCEL_SCRIPT = new RedisLockScript("""
+           if redis.call('get', KEYS[1]) == ARGV[1] then
+               redis.call('pexpire', KEYS[1], ARGV[2])
+               return 1
+           end
+           redis.call('lrem', KEYS[2], 0, ARGV[1])
+           redis.call('zrem', KEYS[3], ARGV[1])
+           return 0
+           """);
+
+    private final RedisAsyncCommands<String, String> commands;
+
+    public RedisLockClient(StatefulRedisConnection<String, String> redisConnection) {
+        this.commands = redisConnection.async();
+    }
+
+    @PostConstruct
+    public void loadScripts() {
+        RENEW_SCRIPT.load(commands).toCompletableFuture().join();
+        RELEASE_SCRIPT.load(commands).toCompletableFuture().join();
+        RELEASE_AND_PUBLISH_SCRIPT.load(commands).toCompletableFuture().join();
+        RENEW_BATCH_SCRIPT.load(commands).toCompletableFuture().join();
+        FAIR_ACQUIRE_SCRIPT.load(commands).toCompletableFuture().join();
+        FAIR_RELEASE_SCRIPT.load(commands).toCompletableFuture().join();
+        FAIR_CANCEL_SCRIPT.load(commands).toCompletableFuture().join();
+        log.info("락 스크립트 로드 완료");
+    }
+
+    /**
+     * 락 획득 1회 시도 (SET NX PX)
+     * @param lockKey 락 키
+     * @param lockId 락 소유자 식별값
+     * @param ttl 락 만료 시간
+     * @return 획득 여부
+     */
+    public CompletionStage<Boolean> tryLockAsync(String lockKey, String lockId, Duration ttl) {
+        return commands.set(lockKey, lockId, SetArgs.Builder.nx().px(ttl.toMillis()))
+                .thenApply("OK"::equals);
+    }
+
+    /**
+     * 내 락일 때만 만료 시간 연장
+     * @return 연장 여부 (false 이면 락을 잃은 것)
+     */
+    public CompletionStage<Boolean> renewAsync(String lockKey, String lockId, Duration ttl) {
+        return RENEW_SCRIPT.eval(commands, new String[]{lockKey}, lockId, String.valueOf(ttl.toMillis()))
+                .thenApply(result -> result != null && result == 1L);
+    }
+
+    /**
+     * 여러 락의 만료 시간을 한 번의 EVALSHA로 연장
+     * @param handles 갱신할 락 핸들
+     * @return 핸들 순서대로 연장 여부 (false 이면 락을 잃은 것)
+     */
+    public CompletionStage<List<Boolean>> renewAllAsync(List<LockHandle> handles) {
+        String[] keys = new String[handles.size()];
+        String[] args = new String[handles.size() * 2];
+        for (int i = 0; i < handles.size(); i++) {
+            LockHandle handle = handles.get(i);
+            keys[i] = handle.getLockKey();
+            args[2 * i] = handle.getLockId();
+            args[2 * i + 1] = String.valueOf(handle.getTtl().toMillis());
+        }
+        return RENEW_BATCH_SCRIPT.<List<Object>>eval(commands, ScriptOutputType.MULTI, keys, args)
+                .thenApply(results -> {
+                    List<Boolean> renewed = new ArrayList<>(results.size());
+                    for (Object result : results) {
+                        renewed.add(Long.valueOf(1L).equals(result));
+                    }
+                    return renewed;
+                });
+    }
+
+    /**
+     * 내 락일 때만 해제
+     * @return 해제 여부
+     */
+    public CompletionStage<Boolean> releaseAsync(String lockKey, String lockId) {
+        return RELEASE_SCRIPT.eval(commands, new String[]{lockKey}, lockId)
+                .thenApply(result -> result != null && result == 1L);
+    }
+
+    /**
+     * 내 락일 때만 해제하고 채널에 해제 알림 발행
+     * @return 해제 여부
+     */
+    public CompletionStage<Boolean> releaseAndPublishAsync(String lockKey, String lockId, String channel) {
+        return RELEASE_AND_PUBLISH_SCRIPT.eval(commands, new String[]{lockKey, channel}, lockId)
+                .thenApply(result -> result != null && result == 1L);
+    }
+
+    /**
+     * 공정 락 획득 1회 시도
+     * 락이 비어 있고 앞선 대기자가 없을 때만 획득하며, 실패하면 waitTimeout 동안 대기열에 남는다.
+     * @param keys 공정 락 키 묶음
+     * @param lockId 락 소유자 식별값
+     * @param ttl 락 만료 시간
+     * @param waitTimeout 대기열에 남을 시간 (0 이면 대기열에 넣지 않음)
+     * @param handoffTtl 앞선 대기자에게 락을 넘길 때의 만료 시간
+     * @return 획득 여부
+     */
+    public CompletionStage<Boolean> tryLockFairAsync(FairLockKeys keys, String lockId, Duration ttl,
+                                                     Duration waitTimeout, Duration handoffTtl) {
+        return FAIR_ACQUIRE_SCRIPT.eval(commands, keys.toArray(), lockId, String.valueOf(ttl.toMillis()),
+                        String.valueOf(waitTimeout.toMillis()), String.valueOf(handoffTtl.toMillis()))
+                .thenApply(result -> result != null && result == 1L);
+    }
+
+    /**
+     * 공정 락 해제 (대기자가 있으면 맨 앞 대기자에게 넘기고 그 대기자에게만 알림)
+     * @param handoffTtl 넘겨받은 대기자가 깨어나 연장하기 전까지의 만료 시간
+     * @return 해제 여부
+     */
+    public CompletionStage<Boolean> releaseFairAsync(FairLockKeys keys, String lockId, Duration handoffTtl) {
+        return FAIR_RELEASE_SCRIPT.eval(commands, keys.toArray(), lockId, String.valueOf(handoffTtl.toMillis()))
+                .thenApply(result -> result != null && result == 1L);
+    }
+
+    /**
+     * 공정 락 대기 포기
+     * @return 포기 직전에 락을 넘겨받았으면 true (이 경우 호출자가 락을 보유)
+     */
+    public CompletionStage<Boolean> cancelWaitAsync(FairLockKeys keys, String lockId, Duration ttl) {
+        return FAIR_CANCEL_SCRIPT.eval(commands, keys.toArray(), lockId, String.valueOf(ttl.toMillis()))
+                .thenApply(result -> result != null && result == 1L);
+    }
+
+    public boolean tryLock(String lockKey, String lockId, Duration ttl) {
+        return await(tryLockAsync(lockKey, lockId, ttl));
+    }
+
+    public boolean release(String lockKey, String lockId) {
+        return await(releaseAsync(lockKey, lockId));
+    }
+
+    public boolean releaseAndPublish(String lockKey, String lockId, String channel) {
+        return await(releaseAndPublishAsync(lockKey, lockId, channel));
+    }
+
+    public boolean tryLockFair(FairLockKeys keys, String lockId, Duration ttl, Duration waitTimeout,
+                               Duration handoffTtl) {
+        return await(tryLockFairAsync(keys, lockId, ttl, waitTimeout, handoffTtl));
+    }
+
+    public boolean releaseFair(FairLockKeys keys, String lockId, Duration handoffTtl) {
+        return await(releaseFairAsync(keys, lockId, handoffTtl));
+    }
+
+    public boolean cancelWait(FairLockKeys keys, String lockId, Duration ttl) {
+        return await(cancelWaitAsync(keys, lockId, ttl));
+    }
+
+    /**
+     * 공유 연결의 비동기 명령 (설정 변경 등 락 외 명령용)
+     */
+    public RedisAsyncCommands<String, String> commands() {
+        return commands;
+    }
+
+    private static <T> T await(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.study.lock.distributedlock.redis;
+
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 한 번 로드해 두고 EVALSHA로 호출하는 락용 Lua 스크립트
+ * 매 호출마다 스크립트 본문을 보내지 않고 SHA1만 보낸다.
+ * Redis 재시작 등으로 스크립트 캐시가 비면(NOSCRIPT) 다시 로드한 뒤 재시도한다.
+ */
+public class RedisLockScript {
+
+    private final String source;
+    private final String sha;
+
+    public RedisLockScript(String source) {
+        this.source = source;
+        this.sha = sha1Hex(source);
+    }
+
+    /**
+     * 스크립트를 Redis 스크립트 캐시에 로드
+     * @param commands 공유 연결의 비동기 명령
+     * @return 로드 완료
+     */
+    public CompletionStage<String> load(RedisAsyncCommands<String, String> commands) {
+        return commands.scriptLoad(source);
+    }
+
+    /**
+     * EVALSHA로 스크립트 실행 (NOSCRIPT 응답 시 로드 후 한 번 재시도)
+     * @param commands 공유 연결의 비동기 명령
+     * @param keys KEYS 인자
+     * @param args ARGV 인자
+     * @return 스크립트의 정수 결과
+     */
+    public CompletionStage<Long> eval(RedisAsyncCommands<String, String> commands, String[] keys, String... args) {
+        return eval(commands, ScriptOutputType.INTEGER, keys, args);
+    }
+
+    /**
+     * EVALSHA로 스크립트 실행 (NOSCRIPT 응답 시 로드 후 한 번 재시도)
+     * @param commands 공유 연결의 비동기 명령
+     * @param outputType 결과 타입
+     * @param keys KEYS 인자
+     * @param args ARGV 인자
+     * @return 스크립트 결과
+     */
+    public <T> CompletionStage<T> eval(RedisAsyncCommands<String, String> commands, ScriptOutputType outputType,
+                                       String[] keys, String... args) {
+        CompletionStage<T> first = commands.evalsha(sha, outputType, keys, args);
+        return first.handle((result, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    if (unwrap(error) instanceof RedisNoScriptException) {
+                        return load(commands).thenCompose(loaded ->
+                                commands.<T>evalsha(sha, outputType, keys, args));
+                    }
+                    return CompletableFuture.<T>failedFuture(error);
+                })
+                .thenCompose(stage -> stage);
+    }
+
+    public String getSha() {
+        return sha;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static String sha1Hex(String source) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(md.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
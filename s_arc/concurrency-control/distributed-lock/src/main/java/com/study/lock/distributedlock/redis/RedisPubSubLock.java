@@ -1,39 +1,49 @@
 package com.study.lock.distributedlock.redis;
 
-import io.lettuce.core.RedisClient;
-import io.lettuce.core.ScriptOutputType;
-import io.lettuce.core.SetArgs;
-import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.pubsub.RedisPubSubAdapter;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
-import io.lettuce.core.pubsub.api.sync.RedisPubSubCommands;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.*;
 
+/**
+ * 대기 순서를 보장하는 Pub/Sub 락
+ * 대기자는 Redis 리스트에 도착 순서대로 줄을 서고, 해제 시 락을 삭제하지 않고 맨 앞 대기자에게 바로 넘긴 뒤
+ * 그 대기자의 식별값을 채널에 발행한다. 메시지를 받은 프로세스는 해당 대기자 하나만 깨우므로
+ * 모든 대기자가 동시에 SET NX를 다투는 일이 없다.
+ * 같은 키를 기다리는 로컬 대기자들은 채널 구독 하나를 공유하고, 마지막 대기자가 빠지면 구독을 해제한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RedisPubSubLock implements AutoCloseable {
 
-    private final RedisClient redisClient;
+    private final RedisLockClient lockClient;
     private final StatefulRedisPubSubConnection<String, String> pubSubConnection;
 
+    // 보유 중인 락의 만료 시간을 갱신하는 워치독 (락마다 별도 갱신 작업을 두지 않음)
+    private final LockWatchdog watchdog;
+
     private static final String LOCK_PREFIX = "pubsub_lock:";
+    private static final String QUEUE_PREFIX = "pubsub_lock_queue:";
+    private static final String TIMEOUT_PREFIX = "pubsub_lock_timeout:";
     private static final String CHANNEL_PREFIX = "lock_channel:";
     private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(30);
     private static final Duration RETRY_INTERVAL = Duration.ofSeconds(1);
     private static final Duration MAX_WAIT_TIME = Duration.ofSeconds(10);
 
-    private final ConcurrentHashMap<String, CountDownLatch> waiters = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService renewalScheduler = Executors.newScheduledThreadPool(1);
-    private ScheduledFuture<?> renewalTask;
+    // 넘겨받은 대기자가 깨어나 연장하기 전까지의 만료 시간 (알림을 놓쳐도 재확인 주기 안에 연장됨)
+    private static final Duration HANDOFF_TIMEOUT = RETRY_INTERVAL.multipliedBy(3);
+
+    // 채널별 로컬 대기자 (lockId -> 깨우기 신호)
+    private final ConcurrentHashMap<String, ChannelWaiters> waiters = new ConcurrentHashMap<>();
 
     @PostConstruct
     public void init() {
@@ -42,129 +52,147 @@ public class RedisPubSubLock implements AutoCloseable {
     }
 
     private void setupPubSubListener() {
-        RedisPubSubCommands<String, String> pubSubCommands = pubSubConnection.sync();
         pubSubConnection.addListener(new RedisPubSubAdapter<>() {
             @Override
             public void message(String channel, String message) {
-                String lockKey = channel.substring(CHANNEL_PREFIX.length());
-                CountDownLatch latch = waiters.get(lockKey);
-                if (latch != null) {
-                    latch.countDown();
+                // 메시지는 락을 넘겨받은 대기자의 식별값이므로 그 대기자만 깨운다
+                ChannelWaiters channelWaiters = waiters.get(channel);
+                if (channelWaiters == null) {
+                    return;
+                }
+                Semaphore signal = channelWaiters.signals.get(message);
+                if (signal != null) {
+                    signal.release();
                 }
             }
         });
-
-        pubSubCommands.subscribe(CHANNEL_PREFIX + "*");
     }
 
     private void enableKeyspaceEvents() {
-        try (StatefulRedisConnection<String, String> conn = redisClient.connect()) {
-            RedisCommands<String, String> commands = conn.sync();
-            commands.configSet("notify-keyspace-events", "Ex");
-        }
+        lockClient.commands().configSet("notify-keyspace-events", "Ex").toCompletableFuture().join();
     }
 
     public boolean executeWithLock(String jobName, Runnable task) {
-        String lockKey = LOCK_PREFIX + jobName;
+        FairLockKeys keys = keysFor(jobName);
         String lockId = UUID.randomUUID().toString();
-        String channel = CHANNEL_PREFIX + jobName;
 
-        try (StatefulRedisConnection<String, String> conn = redisClient.connect()) {
-            RedisCommands<String, String> commands = conn.sync();
-
-            if (!tryAcquireLock(commands, lockKey, lockId, channel)) {
-                return false;
-            }
+        if (!tryAcquireLock(keys, lockId)) {
+            return false;
+        }
 
-            try {
-                startLockRenewal(commands, lockKey, lockId);
-                task.run();
-                return true;
-            } finally {
-                stopLockRenewal();
-                releaseLock(commands, lockKey, lockId, channel);
-            }
+        LockHandle handle = watchdog.register(keys.lockKey(), lockId, LOCK_TIMEOUT);
+        try {
+            task.run();
+            return true;
+        } finally {
+            releaseLock(handle, keys);
         }
     }
 
-    private boolean tryAcquireLock(RedisCommands<String, String> commands, String lockKey, String lockId, String channel) {
-        long deadline = System.currentTimeMillis() + MAX_WAIT_TIME.toMillis();
-
-        while (System.currentTimeMillis() < deadline) {
-            if ("OK".equals(commands.set(lockKey, lockId, SetArgs.Builder.nx().px(LOCK_TIMEOUT.toMillis())))) {
-                return true;
-            }
-            waitForLockRelease(lockKey);
-        }
+    /**
+     * 대기 없이 락 획득 1회 시도 (비동기)
+     * 앞선 대기자가 있으면 락이 비어 있어도 획득하지 않는다.
+     * 획득하면 워치독에 등록되어 해제할 때까지 만료 시간이 갱신된다.
+     * @param jobName 작업 이름
+     * @return 획득한 락 핸들 (실패 시 빈 값)
+     */
+    public CompletionStage<Optional<LockHandle>> tryLockAsync(String jobName) {
+        FairLockKeys keys = keysFor(jobName);
+        String lockId = UUID.randomUUID().toString();
+        return lockClient.tryLockFairAsync(keys, lockId, LOCK_TIMEOUT, Duration.ZERO, HANDOFF_TIMEOUT)
+                .thenApply(acquired -> acquired
+                        ? Optional.of(watchdog.register(keys.lockKey(), lockId, LOCK_TIMEOUT))
+                        : Optional.empty());
+    }
 
-        return false;
+    /**
+     * 비동기 락 해제 (대기자가 있으면 맨 앞 대기자에게 넘김)
+     * @param handle 획득 시 받은 락 핸들
+     * @return 해제 여부
+     */
+    public CompletionStage<Boolean> unlockAsync(LockHandle handle) {
+        watchdog.cancel(handle);
+        FairLockKeys keys = keysFor(handle.getLockKey().substring(LOCK_PREFIX.length()));
+        return lockClient.releaseFairAsync(keys, handle.getLockId(), HANDOFF_TIMEOUT);
     }
 
-    private void waitForLockRelease(String lockKey) {
+    private boolean tryAcquireLock(FairLockKeys keys, String lockId) {
+        long deadline = System.currentTimeMillis() + MAX_WAIT_TIME.toMillis();
+        Semaphore signal = registerWaiter(keys.channel(), lockId);
+
         try {
-            CountDownLatch latch = new CountDownLatch(1);
-            waiters.put(lockKey, latch);
-            latch.await(RETRY_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            long remaining;
+            while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+                if (lockClient.tryLockFair(keys, lockId, LOCK_TIMEOUT, MAX_WAIT_TIME, HANDOFF_TIMEOUT)) {
+                    return true;
+                }
+                // 내 차례가 되면 나에게만 알림이 온다 (알림을 놓쳐도 RETRY_INTERVAL 후 다시 확인)
+                signal.tryAcquire(Math.min(remaining, RETRY_INTERVAL.toMillis()), TimeUnit.MILLISECONDS);
+            }
+            // 대기 포기 직전에 락을 넘겨받았으면 그대로 사용
+            return lockClient.cancelWait(keys, lockId, LOCK_TIMEOUT);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            if (lockClient.cancelWait(keys, lockId, LOCK_TIMEOUT)) {
+                lockClient.releaseFair(keys, lockId, HANDOFF_TIMEOUT);
+            }
+            return false;
         } finally {
-            waiters.remove(lockKey);
+            unregisterWaiter(keys.channel(), lockId);
         }
     }
 
-    private void startLockRenewal(RedisCommands<String, String> commands, String lockKey, String lockId) {
-        renewalTask = renewalScheduler.scheduleAtFixedRate(() -> {
-            try {
-                String script = """
-                   if redis.call('get', KEYS[1]) == ARGV[1] then
-                       return redis.call('pexpire', KEYS[1], ARGV[2])
-                   else
-                       return 0
-                   end
-                   """;
-                commands.eval(script,
-                        ScriptOutputType.INTEGER,
-                        new String[]{lockKey},
-                        lockId,
-                        String.valueOf(LOCK_TIMEOUT.toMillis())
-                );
-            } catch (Exception e) {
-                log.error("Lock renewal failed", e);
-            }
-        }, LOCK_TIMEOUT.toMillis() / 3, LOCK_TIMEOUT.toMillis() / 3, TimeUnit.MILLISECONDS);
+    // 같은 채널의 첫 대기자만 구독하고, 나머지는 그 구독이 완료되기를 기다린다
+    private Semaphore registerWaiter(String channel, String lockId) {
+        Semaphore signal = new Semaphore(0);
+        ChannelWaiters channelWaiters = waiters.compute(channel, (key, current) -> {
+            ChannelWaiters target = current != null
+                    ? current
+                    : new ChannelWaiters(pubSubConnection.async().subscribe(key).toCompletableFuture());
+            target.signals.put(lockId, signal);
+            return target;
+        });
+        channelWaiters.subscribed.join();
+        return signal;
     }
 
-    private void stopLockRenewal() {
-        if (renewalTask != null) {
-            renewalTask.cancel(false);
-        }
+    // 채널의 마지막 대기자가 빠지면 구독 해제
+    private void unregisterWaiter(String channel, String lockId) {
+        waiters.computeIfPresent(channel, (key, current) -> {
+            current.signals.remove(lockId);
+            if (!current.signals.isEmpty()) {
+                return current;
+            }
+            pubSubConnection.async().unsubscribe(key);
+            return null;
+        });
     }
 
-    private void releaseLock(RedisCommands<String, String> commands, String lockKey, String lockId, String channel) {
-        String script = """
-           if redis.call('get', KEYS[1]) == ARGV[1] then
-               redis.call('del', KEYS[1])
-               redis.call('publish', KEYS[2], 'unlocked')
-               return 1
-           else
-               return 0
-           end
-           """;
-
+    private void releaseLock(LockHandle handle, FairLockKeys keys) {
+        watchdog.cancel(handle);
         try {
-            commands.eval(script,
-                    ScriptOutputType.INTEGER,
-                    new String[]{lockKey, channel},
-                    lockId
-            );
+            lockClient.releaseFair(keys, handle.getLockId(), HANDOFF_TIMEOUT);
         } catch (Exception e) {
             log.error("Failed to release lock", e);
         }
     }
 
+    private static FairLockKeys keysFor(String jobName) {
+        return new FairLockKeys(LOCK_PREFIX + jobName, QUEUE_PREFIX + jobName,
+                TIMEOUT_PREFIX + jobName, CHANNEL_PREFIX + jobName);
+    }
+
     @Override
     public void close() {
-        renewalScheduler.shutdownNow();
         pubSubConnection.close();
     }
-}
\ No newline at end of file
+
+    private static final class ChannelWaiters {
+        private final Map<String, Semaphore> signals = new ConcurrentHashMap<>();
+        private final CompletableFuture<?> subscribed;
+
+        private ChannelWaiters(CompletableFuture<?> subscribed) {
+            this.subscribed = subscribed;
+        }
+    }
+}
@@ -1,27 +1,23 @@
 package com.study.lock.distributedlock.redis;
 
-import io.lettuce.core.RedisClient;
-import io.lettuce.core.SetArgs;
-import io.lettuce.core.ScriptOutputType;
-import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.sync.RedisCommands;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionStage;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class RedisSpinLock implements AutoCloseable {
+public class RedisSpinLock {
 
-    private final RedisClient redisClient;
+    private final RedisLockClient lockClient;
+
+    // 보유 중인 락의 만료 시간을 갱신하는 워치독 (락마다 별도 갱신 작업을 두지 않음)
+    private final LockWatchdog watchdog;
 
     // 락 관련 상수 정의
     private static final String LOCK_PREFIX = "spinlock:";
@@ -29,42 +25,58 @@ public class RedisSpinLock implements AutoCloseable {
     private static final Duration SPIN_INTERVAL = Duration.ofMillis(100);
     private static final Duration MAX_WAIT_TIME = Duration.ofSeconds(10);
 
-    // 락 갱신을 위한 스케줄러
-    private final ScheduledExecutorService renewalScheduler = Executors.newScheduledThreadPool(1);
-    private ScheduledFuture<?> renewalTask;
-
     public boolean executeWithLock(String jobName, Runnable task) {
         String lockKey = LOCK_PREFIX + jobName;
         String lockId = UUID.randomUUID().toString();
 
-        try (StatefulRedisConnection<String, String> conn = redisClient.connect()) {
-            RedisCommands<String, String> commands = conn.sync();
-
-            // 락 획득 시도
-            if (!tryAcquireLock(commands, lockKey, lockId)) {
-                return false;
-            }
+        // 락 획득 시도 (공유 연결 사용, 락마다 새로 연결하지 않음)
+        if (!tryAcquireLock(lockKey, lockId)) {
+            return false;
+        }
 
-            try {
-                // 락 획득 성공 시 주기적 갱신 시작
-                startLockRenewal(commands, lockKey, lockId);
-                task.run();
-                return true;
-            } finally {
-                // 작업 완료 후 정리
-                stopLockRenewal();
-                releaseLock(commands, lockKey, lockId);
-            }
+        // 락 획득 성공 시 워치독에 등록해 주기적으로 갱신
+        LockHandle handle = watchdog.register(lockKey, lockId, LOCK_TIMEOUT);
+        try {
+            task.run();
+            return true;
+        } finally {
+            // 작업 완료 후 정리 (이 락의 갱신만 중단)
+            releaseLock(handle);
         }
     }
 
+    /**
+     * 대기 없이 락 획득 1회 시도 (비동기)
+     * 획득하면 워치독에 등록되어 해제할 때까지 만료 시간이 갱신된다.
+     * @param jobName 작업 이름
+     * @return 획득한 락 핸들 (실패 시 빈 값)
+     */
+    public CompletionStage<Optional<LockHandle>> tryLockAsync(String jobName) {
+        String lockKey = LOCK_PREFIX + jobName;
+        String lockId = UUID.randomUUID().toString();
+        return lockClient.tryLockAsync(lockKey, lockId, LOCK_TIMEOUT)
+                .thenApply(acquired -> acquired
+                        ? Optional.of(watchdog.register(lockKey, lockId, LOCK_TIMEOUT))
+                        : Optional.empty());
+    }
+
+    /**
+     * 비동기 락 해제
+     * @param handle 획득 시 받은 락 핸들
+     * @return 해제 여부
+     */
+    public CompletionStage<Boolean> unlockAsync(LockHandle handle) {
+        watchdog.cancel(handle);
+        return lockClient.releaseAsync(handle.getLockKey(), handle.getLockId());
+    }
+
     // 스핀 락 획득 시도 메서드
-    private boolean tryAcquireLock(RedisCommands<String, String> commands, String lockKey, String lockId) {
+    private boolean tryAcquireLock(String lockKey, String lockId) {
         long deadline = System.currentTimeMillis() + MAX_WAIT_TIME.toMillis();
 
         while (System.currentTimeMillis() < deadline) {
             // Redis의 SET NX 명령어로 락 획득 시도
-            if ("OK".equals(commands.set(lockKey, lockId, SetArgs.Builder.nx().px(LOCK_TIMEOUT.toMillis())))) {
+            if (lockClient.tryLock(lockKey, lockId, LOCK_TIMEOUT)) {
                 return true;
             }
 
@@ -79,61 +91,13 @@ public class RedisSpinLock implements AutoCloseable {
         return false;
     }
 
-    // 락 갱신 작업 시작
-    private void startLockRenewal(RedisCommands<String, String> commands, String lockKey, String lockId) {
-        renewalTask = renewalScheduler.scheduleAtFixedRate(() -> {
-            try {
-                // Lua 스크립트를 사용한 원자적 락 갱신
-                String script = """
-                   if redis.call('get', KEYS[1]) == ARGV[1] then
-                       return redis.call('pexpire', KEYS[1], ARGV[2])
-                   else
-                       return 0
-                   end
-                   """;
-
-                commands.eval(script,
-                        ScriptOutputType.INTEGER,
-                        new String[]{lockKey},
-                        lockId,
-                        String.valueOf(LOCK_TIMEOUT.toMillis())
-                );
-            } catch (Exception e) {
-                log.error("락 갱신 실패", e);
-            }
-        }, LOCK_TIMEOUT.toMillis() / 3, LOCK_TIMEOUT.toMillis() / 3, TimeUnit.MILLISECONDS);
-    }
-
-    // 락 갱신 작업 중지
-    private void stopLockRenewal() {
-        if (renewalTask != null) {
-            renewalTask.cancel(false);
-        }
-    }
-
     // 락 해제
-    private void releaseLock(RedisCommands<String, String> commands, String lockKey, String lockId) {
-        String script = """
-           if redis.call('get', KEYS[1]) == ARGV[1] then
-               return redis.call('del', KEYS[1])
-           else
-               return 0
-           end
-           """;
-
+    private void releaseLock(LockHandle handle) {
+        watchdog.cancel(handle);
         try {
-            commands.eval(script,
-                    ScriptOutputType.INTEGER,
-                    new String[]{lockKey},
-                    lockId
-            );
+            lockClient.release(handle.getLockKey(), handle.getLockId());
         } catch (Exception e) {
             log.error("락 해제 실패", e);
         }
     }
-
-    @Override
-    public void close() {
-        renewalScheduler.shutdownNow();
-    }
-}
\ No newline at end of file
+}
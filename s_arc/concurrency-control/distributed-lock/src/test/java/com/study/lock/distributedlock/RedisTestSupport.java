@@ -0,0 +1,44 @@
+package com.study.lock.distributedlock;
+
+import io.lettuce.core.RedisClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+
+/**
+ * 실제 Redis가 필요한 테스트의 공통 설정입니다.
+ * 주소는 -Dredis.address 로 바꿀 수 있고, 연결할 수 없으면 @EnabledIf 로 테스트를 건너뜁니다.
+ * 예) @Tag("redis") @EnabledIf("com.study.lock.distributedlock.RedisTestSupport#isRedisAvailable")
+ */
+public final class RedisTestSupport {
+
+    public static final String REDIS_ADDRESS = System.getProperty("redis.address", "redis://localhost:6379");
+    private static final int CONNECT_TIMEOUT_MILLIS = 500;
+
+    private RedisTestSupport() {
+    }
+
+    /**
+     * Redis에 TCP 연결이 되는지 확인합니다.
+     * @return 연결 가능 여부
+     */
+    public static boolean isRedisAvailable() {
+        URI uri = URI.create(REDIS_ADDRESS);
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(uri.getHost(), uri.getPort()), CONNECT_TIMEOUT_MILLIS);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 테스트용 RedisClient 를 만듭니다. (사용 후 shutdown 필요)
+     * @return RedisClient
+     */
+    public static RedisClient createClient() {
+        return RedisClient.create(REDIS_ADDRESS);
+    }
+}
@@ -0,0 +1,185 @@
+package com.study.lock.distributedlock.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LockWatchdogTest {
+    private static final Duration TICK = Duration.ofMillis(10);
+    // 갱신 주기 = TTL / 3 = 100ms = 10틱
+    private static final Duration TTL = Duration.ofMillis(300);
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private final RedisLockClient lockClient = mock(RedisLockClient.class);
+    private final List<Renewal> renewals = new CopyOnWriteArrayList<>();
+    private volatile Function<LockHandle, Boolean> renewResult = handle -> true;
+    private volatile RuntimeException renewFailure;
+    private LockWatchdog watchdog;
+
+    @BeforeEach
+    void setUp() {
+        when(lockClient.renewAllAsync(anyList())).thenAnswer(invocation -> {
+            List<LockHandle> batch = invocation.getArgument(0);
+            renewals.add(new Renewal(System.nanoTime(), List.copyOf(batch)));
+            if (renewFailure != null) {
+                return CompletableFuture.failedFuture(renewFailure);
+            }
+            List<Boolean> results = new ArrayList<>();
+            batch.forEach(handle -> results.add(renewResult.apply(handle)));
+            return CompletableFuture.completedFuture(results);
+        });
+        watchdog = new LockWatchdog(lockClient, TICK, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        watchdog.close();
+    }
+
+    @Test
+    void renewsEveryThirdOfTtl() throws Exception {
+        long registeredAt = System.nanoTime();
+        LockHandle handle = watchdog.register("lock:a", "id-a", TTL);
+
+        awaitTrue(() -> renewalsOf(handle).size() >= 4);
+
+        List<Long> times = renewalsOf(handle);
+        // 등록 후 첫 갱신까지 최소 한 주기 (틱 경계 때문에 한 틱 이내 오차)
+        assertThat(times.get(0) - registeredAt).isGreaterThanOrEqualTo(millis(100 - 10));
+        for (int i = 1; i < times.size(); i++) {
+            assertThat(times.get(i) - times.get(i - 1)).isGreaterThanOrEqualTo(millis(100 - 10));
+        }
+        assertThat(handle.isHeld()).isTrue();
+        assertThat(watchdog.getActiveLeases()).isEqualTo(1);
+        assertThat(watchdog.getMetrics().getRenewals()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void renewsDueLocksInBatches() throws Exception {
+        int locks = 2_500;
+        List<LockHandle> handles = new ArrayList<>();
+        for (int i = 0; i < locks; i++) {
+            handles.add(watchdog.register("lock:" + i, "id-" + i, TTL));
+        }
+
+        // 첫 번째 갱신 회차 (핸들마다 한 번씩) 가 끝날 때까지 대기
+        awaitTrue(() -> renewedHandles().containsAll(handles));
+
+        List<Renewal> firstRound = new ArrayList<>();
+        Set<LockHandle> seen = new HashSet<>();
+        for (Renewal renewal : renewals) {
+            if (seen.addAll(renewal.batch())) {
+                firstRound.add(renewal);
+            }
+            if (seen.size() == locks) {
+                break;
+            }
+        }
+        // 락마다 호출하지 않고 배치당 최대 1,000개씩 한 번에 갱신
+        assertThat(firstRound).allSatisfy(renewal -> assertThat(renewal.batch()).hasSizeLessThanOrEqualTo(1_000));
+        assertThat(firstRound.size()).isBetween(3, 10);
+        assertThat(watchdog.getMetrics().getRenewalBatches()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void releasedHandleIsNoLongerRenewed() throws Exception {
+        LockHandle released = watchdog.register("lock:released", "id-1", TTL);
+        LockHandle held = watchdog.register("lock:held", "id-2", TTL);
+
+        assertThat(watchdog.cancel(released)).isTrue();
+        assertThat(watchdog.cancel(released)).isFalse();
+        assertThat(watchdog.getActiveLeases()).isEqualTo(1);
+
+        awaitTrue(() -> renewalsOf(held).size() >= 3);
+        assertThat(renewalsOf(released)).isEmpty();
+        assertThat(released.getState()).isEqualTo(LockHandle.State.RELEASED);
+    }
+
+    @Test
+    void handleIsDroppedWhenRenewFindsLockLost() throws Exception {
+        LockHandle lost = watchdog.register("lock:lost", "id-1", TTL);
+        LockHandle held = watchdog.register("lock:held", "id-2", TTL);
+        // 다른 소유자가 가져간 락은 스크립트가 0을 돌려줌
+        renewResult = handle -> handle != lost;
+
+        awaitTrue(() -> renewalsOf(held).size() >= 4);
+
+        assertThat(renewalsOf(lost)).hasSize(1);
+        assertThat(lost.getState()).isEqualTo(LockHandle.State.LOST);
+        assertThat(watchdog.cancel(lost)).isFalse();
+        assertThat(watchdog.getActiveLeases()).isEqualTo(1);
+        assertThat(watchdog.getMetrics().getLostLocks()).isEqualTo(1);
+    }
+
+    @Test
+    void failedBatchIsRetriedWithoutDroppingHandles() throws Exception {
+        renewFailure = new IllegalStateException("연결 끊김");
+        LockHandle handle = watchdog.register("lock:a", "id-a", TTL);
+
+        awaitTrue(() -> renewalsOf(handle).size() >= 1);
+        renewFailure = null;
+        // 통신 오류는 RETRY_DELAY(1초) 뒤에 다시 갱신
+        awaitTrue(() -> renewalsOf(handle).size() >= 2);
+
+        List<Long> times = renewalsOf(handle);
+        assertThat(times.get(1) - times.get(0)).isGreaterThanOrEqualTo(millis(1_000 - 10));
+        assertThat(handle.isHeld()).isTrue();
+        assertThat(watchdog.getActiveLeases()).isEqualTo(1);
+        assertThat(watchdog.getMetrics().getRenewalFailures()).isGreaterThanOrEqualTo(1);
+        assertThat(watchdog.getMetrics().getLostLocks()).isZero();
+    }
+
+    @Test
+    void rejectsWheelSizeThatIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new LockWatchdog(lockClient, TICK, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Long> renewalsOf(LockHandle handle) {
+        List<Long> times = new ArrayList<>();
+        for (Renewal renewal : renewals) {
+            if (renewal.batch().contains(handle)) {
+                times.add(renewal.nanos());
+            }
+        }
+        return times;
+    }
+
+    private Set<LockHandle> renewedHandles() {
+        Set<LockHandle> renewed = new HashSet<>();
+        renewals.forEach(renewal -> renewed.addAll(renewal.batch()));
+        return renewed;
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private record Renewal(long nanos, List<LockHandle> batch) {
+    }
+}
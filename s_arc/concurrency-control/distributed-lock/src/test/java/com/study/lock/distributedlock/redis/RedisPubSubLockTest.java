@@ -0,0 +1,199 @@
+package com.study.lock.distributedlock.redis;
+
+import com.study.lock.distributedlock.RedisTestSupport;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공정(FIFO) 락의 대기 순서와 직접 인계를 실제 Redis로 검증
+ */
+@Tag("redis")
+@EnabledIf("com.study.lock.distributedlock.RedisTestSupport#isRedisAvailable")
+class RedisPubSubLockTest {
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final Duration WAIT = Duration.ofSeconds(10);
+    private static final Duration HANDOFF_TTL = Duration.ofSeconds(3);
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private RedisClient redisClient;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> redis;
+    private RedisLockClient lockClient;
+    private LockWatchdog watchdog;
+    private RedisPubSubLock lock;
+    private String name;
+
+    @BeforeEach
+    void setUp() {
+        redisClient = RedisTestSupport.createClient();
+        connection = redisClient.connect();
+        redis = connection.sync();
+        lockClient = new RedisLockClient(connection);
+        lockClient.loadScripts();
+        watchdog = new LockWatchdog(lockClient);
+        lock = new RedisPubSubLock(lockClient, redisClient.connectPubSub(), watchdog);
+        lock.init();
+        name = "fair-test-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redis.del("pubsub_lock:" + name, "pubsub_lock_queue:" + name, "pubsub_lock_timeout:" + name,
+                "t:lock:" + name, "t:queue:" + name, "t:timeout:" + name);
+        lock.close();
+        watchdog.close();
+        connection.close();
+        redisClient.shutdown();
+    }
+
+    @Test
+    void waitersAcquireInArrivalOrder() throws Exception {
+        LockHandle holder = lock.tryLockAsync(name).toCompletableFuture().join().orElseThrow();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        List<Boolean> results = new CopyOnWriteArrayList<>();
+
+        // 한 명씩 대기열에 들어간 것을 확인한 뒤 다음 대기자를 출발시켜 도착 순서를 고정
+        for (int i = 0; i < 5; i++) {
+            int waiter = i;
+            Thread thread = new Thread(() -> results.add(lock.executeWithLock(name, () -> order.add(waiter))));
+            thread.start();
+            threads.add(thread);
+            long queued = i + 1;
+            awaitTrue(() -> redis.llen("pubsub_lock_queue:" + name) == queued);
+        }
+
+        long releasedAt = System.nanoTime();
+        assertThat(lock.unlockAsync(holder).toCompletableFuture().join()).isTrue();
+        for (Thread thread : threads) {
+            thread.join(TIMEOUT_MILLIS);
+            assertThat(thread.isAlive()).isFalse();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - releasedAt);
+
+        assertThat(order).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results).containsOnly(true).hasSize(5);
+        // 해제 알림으로 다음 대기자를 바로 깨우므로 재확인 주기(1초) x 5 보다 훨씬 빨리 끝남
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(redis.exists("pubsub_lock:" + name, "pubsub_lock_queue:" + name)).isZero();
+    }
+
+    @Test
+    void newcomerDoesNotBargePastQueuedWaiter() throws Exception {
+        LockHandle holder = lock.tryLockAsync(name).toCompletableFuture().join().orElseThrow();
+        AtomicBoolean waiterRan = new AtomicBoolean();
+        Thread waiter = new Thread(() -> lock.executeWithLock(name, () -> waiterRan.set(true)));
+        waiter.start();
+        awaitTrue(() -> redis.llen("pubsub_lock_queue:" + name) == 1);
+
+        // 해제 직후 락이 비어 있는 순간에도 대기 중인 사람이 먼저
+        assertThat(lock.unlockAsync(holder).toCompletableFuture().join()).isTrue();
+        Optional<LockHandle> newcomer = lock.tryLockAsync(name).toCompletableFuture().join();
+        if (newcomer.isPresent()) {
+            // 대기자가 이미 끝나고 락을 반납한 뒤에만 가능
+            assertThat(waiterRan.get()).isTrue();
+            lock.unlockAsync(newcomer.get()).toCompletableFuture().join();
+        }
+
+        waiter.join(TIMEOUT_MILLIS);
+        assertThat(waiterRan.get()).isTrue();
+        LockHandle next = lock.tryLockAsync(name).toCompletableFuture().join().orElseThrow();
+        assertThat(watchdog.getActiveLeases()).isEqualTo(1);
+        assertThat(lock.unlockAsync(next).toCompletableFuture().join()).isTrue();
+        assertThat(watchdog.getActiveLeases()).isZero();
+    }
+
+    @Test
+    void releaseHandsLockToHeadWaiterAndNotifiesOnlyIt() throws Exception {
+        FairLockKeys keys = keys();
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        StatefulRedisPubSubConnection<String, String> subscriber = redisClient.connectPubSub();
+        subscriber.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String channel, String message) {
+                messages.add(message);
+            }
+        });
+        subscriber.sync().subscribe(keys.channel());
+        try {
+            assertThat(lockClient.tryLockFair(keys, "a", TTL, WAIT, HANDOFF_TTL)).isTrue();
+            assertThat(lockClient.tryLockFair(keys, "b", TTL, WAIT, HANDOFF_TTL)).isFalse();
+            assertThat(lockClient.tryLockFair(keys, "c", TTL, WAIT, HANDOFF_TTL)).isFalse();
+            assertThat(redis.lrange(keys.queueKey(), 0, -1)).containsExactly("b", "c");
+
+            // 삭제 없이 맨 앞 대기자에게 바로 넘기고 그 대기자의 식별값만 발행
+            assertThat(lockClient.releaseFair(keys, "a", HANDOFF_TTL)).isTrue();
+            assertThat(redis.get(keys.lockKey())).isEqualTo("b");
+            assertThat(redis.pttl(keys.lockKey())).isBetween(1L, HANDOFF_TTL.toMillis());
+            assertThat(messages.poll(5, TimeUnit.SECONDS)).isEqualTo("b");
+            assertThat(redis.lrange(keys.queueKey(), 0, -1)).containsExactly("c");
+
+            // 대기하지 않는 새 요청은 끼어들 수 없고, 넘겨받은 대기자는 재시도에서 연장
+            assertThat(lockClient.tryLockFair(keys, "d", TTL, Duration.ZERO, HANDOFF_TTL)).isFalse();
+            assertThat(lockClient.tryLockFair(keys, "b", TTL, WAIT, HANDOFF_TTL)).isTrue();
+            assertThat(redis.pttl(keys.lockKey())).isGreaterThan(HANDOFF_TTL.toMillis());
+
+            assertThat(lockClient.releaseFair(keys, "a", HANDOFF_TTL)).isFalse();
+            assertThat(lockClient.releaseFair(keys, "b", HANDOFF_TTL)).isTrue();
+            assertThat(redis.get(keys.lockKey())).isEqualTo("c");
+            assertThat(messages.poll(5, TimeUnit.SECONDS)).isEqualTo("c");
+
+            // 대기자가 없으면 그냥 삭제
+            assertThat(lockClient.releaseFair(keys, "c", HANDOFF_TTL)).isTrue();
+            assertThat(redis.exists(keys.lockKey())).isZero();
+            assertThat(messages).isEmpty();
+        } finally {
+            subscriber.close();
+        }
+    }
+
+    @Test
+    void expiredOrCancelledWaitersAreSkipped() throws Exception {
+        FairLockKeys keys = keys();
+        assertThat(lockClient.tryLockFair(keys, "a", TTL, WAIT, HANDOFF_TTL)).isTrue();
+        assertThat(lockClient.tryLockFair(keys, "expired", TTL, Duration.ofMillis(100), HANDOFF_TTL)).isFalse();
+        assertThat(lockClient.tryLockFair(keys, "cancelled", TTL, WAIT, HANDOFF_TTL)).isFalse();
+        assertThat(lockClient.tryLockFair(keys, "c", TTL, WAIT, HANDOFF_TTL)).isFalse();
+
+        assertThat(lockClient.cancelWait(keys, "cancelled", TTL)).isFalse();
+        Thread.sleep(300);
+
+        assertThat(lockClient.releaseFair(keys, "a", HANDOFF_TTL)).isTrue();
+        assertThat(redis.get(keys.lockKey())).isEqualTo("c");
+        assertThat(redis.llen(keys.queueKey())).isZero();
+    }
+
+    private FairLockKeys keys() {
+        return new FairLockKeys("t:lock:" + name, "t:queue:" + name, "t:timeout:" + name, "t:channel:" + name);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.study.hashing.consistent;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zipfian 요청 워크로드의 키 배정 비용과 노드별 부하 비교
+ * - plain: 일반 링 (소유 노드에 배정)
+ * - perKey: 부하 제한 링, 키마다 가중치 1 (키 수에 대한 상한, DataManager 와 같은 방식)
+ * - perRequest: 부하 제한 링, 키의 요청 수를 가중치로 배정 (요청 수에 대한 상한)
+ * 한 번의 측정은 요청에 처음 등장한 순서대로 모든 키를 배정한다.
+ * 측정이 끝나면 마지막 배정의 키 부하와 요청 부하(노드별 최대/평균)를 출력한다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoundedLoadBenchmark {
+    private static final int NODE_COUNT = 10;
+    private static final int KEY_SPACE = 200_000;
+    private static final int REQUESTS = 1_000_000;
+    private static final double ZIPF_EXPONENT = 0.99;
+    private static final double EPSILON = 0.25;
+
+    @Param({"10", "40", "160"})
+    private int virtualNodes;
+
+    @Param({"plain", "perKey", "perRequest"})
+    private String mode;
+
+    private ConsistentHashingWithVnodes<String> ring;
+    private String[] keys;
+    private long[] requestCounts;
+    private String[] placement;
+
+    @Setup
+    public void setUp() {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add("Node" + i);
+        }
+        ring = mode.equals("plain")
+                ? new ConsistentHashingWithVnodes<>(virtualNodes, nodes)
+                : ConsistentHashingWithVnodes.withBoundedLoad(virtualNodes, nodes, EPSILON);
+
+        // 처음 등장한 순서를 유지하며 키별 요청 수 집계
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int rank : zipfianRequests(new Random(42))) {
+            counts.merge("key-" + rank, 1L, Long::sum);
+        }
+        keys = counts.keySet().toArray(new String[0]);
+        requestCounts = counts.values().stream().mapToLong(Long::longValue).toArray();
+        placement = new String[keys.length];
+    }
+
+    @Benchmark
+    public String[] assignAll() {
+        ring.resetLoads();
+        boolean weighted = mode.equals("perRequest");
+        for (int i = 0; i < keys.length; i++) {
+            placement[i] = ring.assignNode(keys[i], weighted ? requestCounts[i] : 1);
+        }
+        return placement;
+    }
+
+    @TearDown
+    public void report() {
+        long[] keyLoads = new long[NODE_COUNT];
+        long[] requestLoads = new long[NODE_COUNT];
+        for (int i = 0; i < placement.length; i++) {
+            int node = Integer.parseInt(placement[i].substring(4));
+            keyLoads[node]++;
+            requestLoads[node] += requestCounts[i];
+        }
+        System.out.printf("%n[vnodes=%d, mode=%s] 키 %d개, 요청 %d (zipf s=%.2f), ε=%.2f: "
+                        + "key max/avg %.3f, request max/avg %.3f%n",
+                virtualNodes, mode, keys.length, REQUESTS, ZIPF_EXPONENT, EPSILON,
+                maxOverAvg(keyLoads), maxOverAvg(requestLoads));
+    }
+
+    private static double maxOverAvg(long[] loads) {
+        long max = Arrays.stream(loads).max().orElse(0);
+        double avg = Arrays.stream(loads).sum() / (double) NODE_COUNT;
+        return max / avg;
+    }
+
+    // 순위 1..KEY_SPACE 의 Zipf 분포에서 요청 순위 표본 추출 (누적 분포 이진 탐색)
+    private static int[] zipfianRequests(Random random) {
+        double[] cdf = new double[KEY_SPACE];
+        double sum = 0;
+        for (int rank = 1; rank <= KEY_SPACE; rank++) {
+            sum += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            cdf[rank - 1] = sum;
+        }
+
+        int[] requests = new int[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            int idx = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            requests[i] = (idx < 0 ? -idx - 1 : idx) + 1;
+        }
+        return requests;
+    }
+}
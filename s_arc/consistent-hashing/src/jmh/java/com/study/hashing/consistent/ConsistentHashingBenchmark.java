@@ -0,0 +1,77 @@
+package com.study.hashing.consistent;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 -> 노드 조회 성능 비교
+ * - sha1TreeMap: 기존 SHA-1 / BigInteger / TreeMap.tailMap 방식
+ * - murmurLongArray: MurmurHash3 + 정렬된 long[] 이진 탐색 스냅샷
+ *
+ * 실행: ./gradlew jmh (할당량 비교는 -prof gc 옵션 사용)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConsistentHashingBenchmark {
+    private static final int KEY_COUNT = 1 << 14;
+
+    @Param({"3", "32"})
+    private int nodeCount;
+
+    @Param({"10", "160"})
+    private int virtualNodes;
+
+    private Sha1TreeMapRing<String> legacyRing;
+    private ConsistentHashingWithVnodes<String> ring;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add("Node" + i);
+        }
+        legacyRing = new Sha1TreeMapRing<>(virtualNodes, nodes);
+        ring = new ConsistentHashingWithVnodes<>(virtualNodes, nodes);
+
+        Random random = new Random(42);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "data-" + random.nextInt();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        String next(String[] keys) {
+            return keys[index++ & (keys.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public void sha1TreeMap(Cursor cursor, Blackhole bh) {
+        bh.consume(legacyRing.getNodeForKey(cursor.next(keys)));
+    }
+
+    @Benchmark
+    public void murmurLongArray(Cursor cursor, Blackhole bh) {
+        bh.consume(ring.getNodeForKey(cursor.next(keys)));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void murmurLongArrayContended(Cursor cursor, Blackhole bh) {
+        bh.consume(ring.getNodeForKey(cursor.next(keys)));
+    }
+}
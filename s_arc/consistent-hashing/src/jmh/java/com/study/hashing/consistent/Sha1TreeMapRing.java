@@ -0,0 +1,40 @@
+package com.study.hashing.consistent;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 벤치마크 비교용: 기존 SHA-1 + BigInteger + TreeMap 방식의 해시 링
+ * @param <T> 노드 타입
+ */
+public class Sha1TreeMapRing<T> {
+    private final SortedMap<BigInteger, T> circle = new TreeMap<>();
+
+    public Sha1TreeMapRing(int numberOfReplicas, Collection<T> nodes) {
+        for (T node : nodes) {
+            for (int i = 0; i < numberOfReplicas; i++) {
+                circle.put(hashFor(node.toString() + i), node);
+            }
+        }
+    }
+
+    public T getNodeForKey(String key) {
+        BigInteger hash = hashFor(key);
+        SortedMap<BigInteger, T> tailMap = circle.tailMap(hash);
+        BigInteger nodeHash = tailMap.isEmpty() ? circle.firstKey() : tailMap.firstKey();
+        return circle.get(nodeHash);
+    }
+
+    private BigInteger hashFor(String key) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            return new BigInteger(1, md.digest(key.getBytes()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("해시 알고리즘 오류: " + e.getMessage(), e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.study.hashing;
 
 import com.study.hashing.consistent.ConsistentHashingWithVnodes;
 import com.study.hashing.consistent.DataManager;
+import com.study.hashing.consistent.RebalanceResult;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -42,8 +43,8 @@ public class SArcApplication {
 
 		// 새로운 노드 추가
 		System.out.println("노드 'Node4' 추가 후 데이터 재배치 실행...");
-		consistentHash.addNode("Node4");
-		dataManager.redistributeData(consistentHash);
+		RebalanceResult rebalanceResult = dataManager.addNode("Node4", consistentHash);
+		System.out.println("이동한 데이터 수: " + rebalanceResult.getMovedKeys() + ", 소요 시간: " + rebalanceResult.getElapsed().toMillis() + "ms");
 
 		// 데이터 재조회 (노드 변경 후)
 		String newAssignedNode1 = consistentHash.getNodeForKey(key1);
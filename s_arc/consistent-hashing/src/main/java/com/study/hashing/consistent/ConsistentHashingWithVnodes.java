@@ -1,9 +1,6 @@
 package com.study.hashing.consistent;
 
 import org.springframework.stereotype.Service;
-import java.math.BigInteger;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -14,81 +11,277 @@ public class ConsistentHashingWithVnodes<T> {
     // 가상 노드의 수를 지정하는 상수
     private final int numberOfReplicas;
 
-    // 해시 링을 구현하는 정렬된 맵
+    // 키와 가상 노드에 사용할 해시 함수
+    private final HashFunction hashFunction;
+
+    // 노드 추가/제거 시 사용하는 정렬된 토큰 맵 (this 락으로 보호)
+    private final NavigableMap<Long, T> tokenMap = new TreeMap<>();
+
+    // 조회에 사용하는 불변 해시 링 스냅샷 (변경 시 통째로 교체)
     @Getter
-    private final SortedMap<BigInteger, T> circle = new TreeMap<>();
+    private volatile HashRing<T> ring = HashRing.empty();
+
+    // 부하 제한 모드의 여유 계수 ε (0 미만이면 부하 제한을 사용하지 않음)
+    private final double loadEpsilon;
 
-    // 해시 알고리즘 상수
-    private static final String HASH_ALGORITHM = "SHA-1";
+    // 노드별 배정된 부하 = 배정된 가중치의 합 (loadLock으로 보호)
+    private final Map<T, Long> loads = new HashMap<>();
+    private final Object loadLock = new Object();
+    private long totalLoad;
 
     /**
-     * 생성자: 초기 노드들과 가상 노드 수를 설정
+     * 생성자: 초기 노드들과 가상 노드 수를 설정 (MurmurHash3 사용)
      * @param numberOfReplicas 각 실제 노드당 생성할 가상 노드의 수
      * @param nodes 초기 노드 컬렉션
      */
     public ConsistentHashingWithVnodes(int numberOfReplicas, Collection<T> nodes) {
+        this(numberOfReplicas, nodes, new Murmur3HashFunction());
+    }
+
+    /**
+     * 생성자: 초기 노드들과 가상 노드 수, 해시 함수를 설정
+     * @param numberOfReplicas 각 실제 노드당 생성할 가상 노드의 수
+     * @param nodes 초기 노드 컬렉션
+     * @param hashFunction 사용할 해시 함수
+     */
+    public ConsistentHashingWithVnodes(int numberOfReplicas, Collection<T> nodes, HashFunction hashFunction) {
+        this(numberOfReplicas, nodes, hashFunction, -1);
+    }
+
+    /**
+     * 생성자: 부하 제한(consistent hashing with bounded loads) 모드
+     * 부하는 {@link #assignNode(String, long)}로 배정한 가중치의 합이며, 어떤 노드도 평균 부하의 (1+ε)배를 넘도록
+     * 배정받지 않는다. 소유 노드가 가득 차면 시계 방향 다음 노드로 넘긴다.
+     * 가중치 없이 배정하면 키 하나가 1이므로 상한은 키 수에 대한 것이고, 키마다 요청 수가 다르면 요청 부하는 상한을 넘을 수 있다.
+     * 요청 부하를 제한하려면 키의 요청 수(또는 예상 요청률)를 가중치로 배정한다.
+     * @param numberOfReplicas 각 실제 노드당 생성할 가상 노드의 수
+     * @param nodes 초기 노드 컬렉션
+     * @param hashFunction 사용할 해시 함수
+     * @param loadEpsilon 평균 대비 허용 여유 ε (예: 0.25 이면 평균의 1.25배까지)
+     */
+    public ConsistentHashingWithVnodes(int numberOfReplicas, Collection<T> nodes, HashFunction hashFunction,
+                                       double loadEpsilon) {
         this.numberOfReplicas = numberOfReplicas;
+        this.hashFunction = hashFunction;
+        this.loadEpsilon = loadEpsilon;
         nodes.forEach(this::addNode);
     }
 
+    /**
+     * 부하 제한 모드 생성
+     * @param numberOfReplicas 각 실제 노드당 생성할 가상 노드의 수
+     * @param nodes 초기 노드 컬렉션
+     * @param loadEpsilon 평균 대비 허용 여유 ε
+     * @return 부하 제한 모드 인스턴스 (MurmurHash3 사용)
+     */
+    public static <T> ConsistentHashingWithVnodes<T> withBoundedLoad(int numberOfReplicas, Collection<T> nodes,
+                                                                     double loadEpsilon) {
+        if (loadEpsilon < 0) {
+            throw new IllegalArgumentException("부하 여유 계수는 0 이상이어야 합니다: " + loadEpsilon);
+        }
+        return new ConsistentHashingWithVnodes<>(numberOfReplicas, nodes, new Murmur3HashFunction(), loadEpsilon);
+    }
+
     /**
      * 노드를 해시 링에 추가
      * @param node 추가할 노드
+     * @return 소유 노드가 바뀐 구간
      */
-    public void addNode(T node) {
+    public synchronized RingChange<T> addNode(T node) {
+        HashRing<T> before = ring;
         for (int i = 0; i < numberOfReplicas; i++) {
-            BigInteger hash = hashFor(node.toString() + i);
-            circle.put(hash, node);
-            log.info("가상 노드 추가: {} (해시: {})", node, hash);
+            long hash = hashFunction.hash(node.toString() + i);
+            tokenMap.put(hash, node);
+            log.debug("가상 노드 추가: {} (해시: {})", node, hash);
         }
+        ring = HashRing.from(tokenMap);
+        log.info("노드 추가: {} (가상 노드 {}개)", node, numberOfReplicas);
+        return RingChange.between(before, ring);
     }
 
     /**
      * 노드를 해시 링에서 제거
      * @param node 제거할 노드
+     * @return 소유 노드가 바뀐 구간
      */
-    public void removeNode(T node) {
+    public synchronized RingChange<T> removeNode(T node) {
+        HashRing<T> before = ring;
         for (int i = 0; i < numberOfReplicas; i++) {
-            BigInteger hash = hashFor(node.toString() + i);
-            circle.remove(hash);
-            log.info("가상 노드 제거: {} (해시: {})", node, hash);
+            long hash = hashFunction.hash(node.toString() + i);
+            tokenMap.remove(hash, node);
+            log.debug("가상 노드 제거: {} (해시: {})", node, hash);
         }
+        ring = HashRing.from(tokenMap);
+        synchronized (loadLock) {
+            Long removed = loads.remove(node);
+            totalLoad -= removed == null ? 0 : removed;
+        }
+        log.info("노드 제거: {} (가상 노드 {}개)", node, numberOfReplicas);
+        return RingChange.between(before, ring);
     }
 
     /**
      * 주어진 키에 해당하는 노드 찾기
+     * 불변 스냅샷을 이진 탐색하므로 락을 잡지 않고 객체도 할당하지 않는다.
      * @param key 찾을 키
      * @return 키가 할당될 노드
      */
     public T getNodeForKey(String key) {
-        if (circle.isEmpty()) {
+        HashRing<T> current = ring;
+        if (current.isEmpty()) {
             throw new IllegalStateException("해시 링에 노드가 없습니다.");
         }
 
-        BigInteger hash = hashFor(key);
-        SortedMap<BigInteger, T> tailMap = circle.tailMap(hash);
-
-        BigInteger nodeHash = tailMap.isEmpty() ? circle.firstKey() : tailMap.firstKey();
-        T node = circle.get(nodeHash);
+        long hash = hash(key);
+        T node = current.nodeFor(hash);
 
-        log.debug("키 '{}' (해시: {})가 노드 '{}'에 할당됨", key, hash, node);
+        if (log.isDebugEnabled()) {
+            log.debug("키 '{}' (해시: {})가 노드 '{}'에 할당됨", key, hash, node);
+        }
         return node;
     }
 
     /**
-     * SHA-1 해시 생성
-     * @param key 해시할 키
-     * @return 해시 값
+     * 주어진 키를 저장할 서로 다른 실제 노드 n개 찾기 (선호 목록)
+     * 소유 노드에서 시작해 시계 방향으로 링을 돌며 이미 포함된 노드의 가상 노드는 건너뛴다.
+     * @param key 찾을 키
+     * @param n 복제본 수
+     * @return 노드 목록 (링의 노드 수가 n보다 적으면 전체 노드)
      */
-    private BigInteger hashFor(String key) {
-        try {
-            MessageDigest md = MessageDigest.getInstance(HASH_ALGORITHM);
-            byte[] digest = md.digest(key.getBytes());
-            return new BigInteger(1, digest);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("해시 알고리즘 오류: " + e.getMessage(), e);
+    public List<T> getNodesForKey(String key, int n) {
+        HashRing<T> current = ring;
+        if (current.isEmpty()) {
+            throw new IllegalStateException("해시 링에 노드가 없습니다.");
         }
+        return current.nodesFor(hash(key), n);
     }
 
+    /**
+     * 키를 저장할 노드를 배정하고 해당 노드의 부하를 1 늘림 (키 수 기준 부하)
+     * @param key 배정할 키
+     * @return 배정된 노드
+     */
+    public T assignNode(String key) {
+        return assignNode(key, 1);
+    }
+
+    /**
+     * 키를 저장할 노드를 배정하고 해당 노드의 부하를 가중치만큼 늘림
+     * 부하 제한 모드에서는 소유 노드부터 시계 방향으로 돌며 부하 + 가중치가 용량 ceil((1+ε)·(전체+가중치)/노드 수) 이하인
+     * 첫 노드를 고른다. 가중치가 1이면 용량 합이 전체 부하보다 크므로 항상 그런 노드가 존재한다.
+     * 가중치가 커서 어느 노드에도 들어가지 않으면 한 바퀴 중 부하가 가장 작은 노드에 배정한다. (이때만 상한을 넘을 수 있다)
+     * @param key 배정할 키
+     * @param weight 키의 부하 (예: 요청 수), 0 이상
+     * @return 배정된 노드
+     */
+    public T assignNode(String key, long weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("가중치는 0 이상이어야 합니다: " + weight);
+        }
+        HashRing<T> current = ring;
+        if (current.isEmpty()) {
+            throw new IllegalStateException("해시 링에 노드가 없습니다.");
+        }
 
-}
\ No newline at end of file
+        long hash = hash(key);
+        synchronized (loadLock) {
+            T node = isBoundedLoad() ? boundedNodeFor(current, hash, weight) : current.nodeFor(hash);
+            loads.merge(node, weight, Long::sum);
+            totalLoad += weight;
+            return node;
+        }
+    }
+
+    // loadLock 을 잡은 상태에서 호출
+    private T boundedNodeFor(HashRing<T> current, long hash, long weight) {
+        long capacity = (long) Math.ceil((1 + loadEpsilon) * (totalLoad + weight) / current.nodeCount());
+        int idx = current.indexFor(hash);
+        T lightest = null;
+        long lightestLoad = Long.MAX_VALUE;
+        for (int step = 0; step < current.size(); step++) {
+            T node = current.ownerAt(idx);
+            long load = loads.getOrDefault(node, 0L);
+            if (load + weight <= capacity) {
+                return node;
+            }
+            if (load < lightestLoad) {
+                lightest = node;
+                lightestLoad = load;
+            }
+            idx = idx + 1 == current.size() ? 0 : idx + 1;
+        }
+        return lightest;
+    }
+
+    /**
+     * 노드에서 키가 빠졌을 때 부하를 1 줄임
+     * @param node 키가 빠진 노드
+     */
+    public void releaseNode(T node) {
+        releaseNode(node, 1);
+    }
+
+    /**
+     * 노드에서 키가 빠졌을 때 배정할 때의 가중치만큼 부하를 줄임
+     * @param node 키가 빠진 노드
+     * @param weight 배정할 때 사용한 가중치
+     */
+    public void releaseNode(T node, long weight) {
+        synchronized (loadLock) {
+            Long load = loads.get(node);
+            if (load == null) {
+                return;
+            }
+            long released = Math.min(load, weight);
+            if (load > released) {
+                loads.put(node, load - released);
+            } else {
+                loads.remove(node);
+            }
+            totalLoad -= released;
+        }
+    }
+
+    /**
+     * 모든 노드의 부하를 0으로 초기화 (전체 재배정 전에 사용)
+     */
+    public void resetLoads() {
+        synchronized (loadLock) {
+            loads.clear();
+            totalLoad = 0;
+        }
+    }
+
+    /**
+     * 노드별 배정된 부하 (가중치 없이 배정했다면 키 수)
+     * @return 노드 -> 부하
+     */
+    public Map<T, Long> getLoads() {
+        synchronized (loadLock) {
+            return new HashMap<>(loads);
+        }
+    }
+
+    /**
+     * 키를 찾을 노드 순서 (소유 노드부터 시계 방향의 서로 다른 모든 노드)
+     * 부하 제한 모드에서 넘쳐 배정된 키를 찾을 때 사용한다.
+     * @param key 찾을 키
+     * @return 조회 순서대로 정렬된 노드 목록
+     */
+    public List<T> getProbeOrder(String key) {
+        return getNodesForKey(key, Integer.MAX_VALUE);
+    }
+
+    public boolean isBoundedLoad() {
+        return loadEpsilon >= 0;
+    }
+
+    /**
+     * 키의 링 위치(해시 값) 계산
+     * @param key 해시할 키
+     * @return 해시 값
+     */
+    public long hash(String key) {
+        return hashFunction.hash(key);
+    }
+}
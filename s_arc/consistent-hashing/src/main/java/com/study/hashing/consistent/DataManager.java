@@ -1,15 +1,80 @@
 package com.study.hashing.consistent;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 
 @Slf4j
 public class DataManager<T> {
+    // 재배치 시 한 번에 옮기는 기본 키 수
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+
     // 노드별 데이터 저장소 관리
     private final Map<T, DataStorage> nodeDataMap = new ConcurrentHashMap<>();
 
+    // 응답하지 않는 것으로 간주할 노드 (장애 시뮬레이션)
+    private final Set<T> downNodes = ConcurrentHashMap.newKeySet();
+
+    // 복제본 수와 읽기/쓰기 쿼럼
+    @Getter
+    private final ReplicationPolicy replicationPolicy;
+
+    // 재배치 배치를 병렬로 실행할 실행기
+    private final Executor migrationExecutor;
+
+    // 재배치 배치 크기
+    private final int batchSize;
+
+    // 쓰기마다 증가하는 값 버전
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    // 복제본 간 읽기 분산을 위한 순환 커서
+    private final AtomicInteger readCursor = new AtomicInteger();
+
+    // 재배치 중 변경 전 해시 링 (재배치 중이 아니면 null)
+    private volatile HashRing<T> previousRing;
+
+    public DataManager() {
+        this(ReplicationPolicy.single());
+    }
+
+    /**
+     * 생성자: 복제 정책을 설정
+     * @param replicationPolicy 복제본 수와 쿼럼
+     */
+    public DataManager(ReplicationPolicy replicationPolicy) {
+        this(replicationPolicy, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 생성자: 재배치 실행기와 배치 크기를 설정
+     * @param migrationExecutor 재배치 배치 실행기
+     * @param batchSize 배치당 키 수
+     */
+    public DataManager(Executor migrationExecutor, int batchSize) {
+        this(ReplicationPolicy.single(), migrationExecutor, batchSize);
+    }
+
+    /**
+     * 생성자: 복제 정책과 재배치 실행기, 배치 크기를 설정
+     * @param replicationPolicy 복제본 수와 쿼럼
+     * @param migrationExecutor 재배치 배치 실행기
+     * @param batchSize 배치당 키 수
+     */
+    public DataManager(ReplicationPolicy replicationPolicy, Executor migrationExecutor, int batchSize) {
+        this.replicationPolicy = replicationPolicy;
+        this.migrationExecutor = migrationExecutor;
+        this.batchSize = batchSize;
+    }
+
     /**
      * 데이터를 특정 노드에 저장
      * @param dataKey 데이터 키
@@ -17,9 +82,45 @@ public class DataManager<T> {
      * @param node 저장할 노드
      */
     public void storeData(String dataKey, String dataValue, T node) {
-        nodeDataMap.computeIfAbsent(node, k -> new DataStorage())
-                .store(dataKey, dataValue);
-        log.info("데이터 저장: 키='{}', 노드='{}'", dataKey, node);
+        storageOf(node).store(dataKey, dataValue, versionSequence.incrementAndGet());
+        log.debug("데이터 저장: 키='{}', 노드='{}'", dataKey, node);
+    }
+
+    /**
+     * 해시 링 기준으로 데이터를 복제본 N개에 저장
+     * 응답 가능한 복제본이 쓰기 쿼럼(W)보다 적으면 예외를 던진다.
+     * 재배치 중인 키라면 더 이상 복제본이 아닌 이전 노드의 값을 지워, 읽기가 오래된 값을 보지 않게 한다.
+     * @param dataKey 데이터 키
+     * @param dataValue 데이터 값
+     * @param consistentHash 일관된 해시 인스턴스
+     */
+    public void storeData(String dataKey, String dataValue, ConsistentHashingWithVnodes<T> consistentHash) {
+        if (consistentHash.isBoundedLoad()) {
+            storeBounded(dataKey, dataValue, consistentHash);
+            return;
+        }
+
+        List<T> replicas = consistentHash.getNodesForKey(dataKey, replicationPolicy.getReplicationFactor());
+        VersionedValue value = new VersionedValue(dataValue, versionSequence.incrementAndGet());
+
+        int acks = 0;
+        for (T replica : replicas) {
+            if (isDown(replica)) {
+                continue;
+            }
+            storageOf(replica).store(dataKey, value);
+            acks++;
+        }
+        if (acks < replicationPolicy.getWriteQuorum()) {
+            throw new IllegalStateException("쓰기 쿼럼을 만족하지 못했습니다: 키='" + dataKey + "', 응답="
+                    + acks + ", 필요=" + replicationPolicy.getWriteQuorum());
+        }
+
+        for (T previousReplica : previousOnlyReplicas(dataKey, replicas, consistentHash)) {
+            Optional.ofNullable(nodeDataMap.get(previousReplica))
+                    .ifPresent(storage -> storage.remove(dataKey));
+        }
+        log.debug("데이터 저장: 키='{}', 복제본={}", dataKey, replicas);
     }
 
     /**
@@ -34,20 +135,359 @@ public class DataManager<T> {
     }
 
     /**
-     * 노드 변경 시 데이터 재배치
+     * 해시 링 기준으로 복제본 R개에서 데이터를 읽어 가장 최신 값 반환
+     * 읽기 시작 복제본을 요청마다 돌려가며 골라, 같은 키에 대한 읽기가 여러 복제본으로 분산된다.
+     * 재배치 중인 키는 이전 노드를 먼저 조회한다. (재배치는 복사 후 삭제하므로 이 순서라면 이동 중인 키도 놓치지 않는다)
+     * @param dataKey 데이터 키
+     * @param consistentHash 일관된 해시 인스턴스
+     * @return 저장된 데이터 값
+     */
+    public Optional<String> getData(String dataKey, ConsistentHashingWithVnodes<T> consistentHash) {
+        if (consistentHash.isBoundedLoad()) {
+            return getBounded(dataKey, consistentHash);
+        }
+
+        List<T> replicas = consistentHash.getNodesForKey(dataKey, replicationPolicy.getReplicationFactor());
+        int readQuorum = replicationPolicy.getReadQuorum();
+        int responses = 0;
+        VersionedValue latest = null;
+
+        // 이전 노드에는 값이 있을 때만 응답으로 센다 (이미 이동했을 수 있으므로)
+        for (T previousReplica : previousOnlyReplicas(dataKey, replicas, consistentHash)) {
+            if (isDown(previousReplica) || responses >= readQuorum) {
+                continue;
+            }
+            VersionedValue value = Optional.ofNullable(nodeDataMap.get(previousReplica))
+                    .map(storage -> storage.getVersioned(dataKey))
+                    .orElse(null);
+            if (value != null) {
+                responses++;
+                latest = value.isNewerThan(latest) ? value : latest;
+            }
+        }
+
+        int offset = Math.floorMod(readCursor.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size() && responses < readQuorum; i++) {
+            T replica = replicas.get((offset + i) % replicas.size());
+            if (isDown(replica)) {
+                continue;
+            }
+            DataStorage storage = nodeDataMap.get(replica);
+            VersionedValue value = storage == null ? null : storage.getVersioned(dataKey);
+            responses++;
+            if (value != null && value.isNewerThan(latest)) {
+                latest = value;
+            }
+        }
+
+        if (responses < readQuorum) {
+            throw new IllegalStateException("읽기 쿼럼을 만족하지 못했습니다: 키='" + dataKey + "', 응답="
+                    + responses + ", 필요=" + readQuorum);
+        }
+        return Optional.ofNullable(latest).map(VersionedValue::getValue);
+    }
+
+    /**
+     * 노드를 장애 상태로 표시 (읽기/쓰기에서 제외, 저장된 데이터는 유지)
+     * @param node 장애 노드
+     */
+    public void markNodeDown(T node) {
+        downNodes.add(node);
+        log.info("노드 장애 표시: {}", node);
+    }
+
+    /**
+     * 장애 상태 노드를 복구로 표시
+     * @param node 복구된 노드
+     */
+    public void markNodeUp(T node) {
+        downNodes.remove(node);
+        log.info("노드 복구 표시: {}", node);
+    }
+
+    /**
+     * 노드별 누적 조회 요청 수
+     * @return 노드 -> 조회 수
+     */
+    public Map<T, Long> getReadCounts() {
+        Map<T, Long> counts = new HashMap<>();
+        nodeDataMap.forEach((node, storage) -> counts.put(node, storage.getReadCount()));
+        return counts;
+    }
+
+    /**
+     * 노드별 저장된 키 수 (부하)
+     * @return 노드 -> 키 수
+     */
+    public Map<T, Integer> getLoadCounts() {
+        Map<T, Integer> counts = new HashMap<>();
+        nodeDataMap.forEach((node, storage) -> counts.put(node, storage.size()));
+        return counts;
+    }
+
+    /**
+     * 노드를 추가하고 복제본 목록이 바뀐 구간의 키만 이동
+     * @param node 추가할 노드
+     * @param consistentHash 일관된 해시 인스턴스
+     * @return 재배치 결과
+     */
+    public RebalanceResult addNode(T node, ConsistentHashingWithVnodes<T> consistentHash) {
+        return rebalance(consistentHash, () -> consistentHash.addNode(node));
+    }
+
+    /**
+     * 노드를 제거하고 해당 노드의 키를 새 복제본으로 이동
+     * @param node 제거할 노드
+     * @param consistentHash 일관된 해시 인스턴스
+     * @return 재배치 결과
+     */
+    public RebalanceResult removeNode(T node, ConsistentHashingWithVnodes<T> consistentHash) {
+        RebalanceResult result = rebalance(consistentHash, () -> consistentHash.removeNode(node));
+        DataStorage storage = nodeDataMap.get(node);
+        if (storage != null && storage.size() == 0) {
+            nodeDataMap.remove(node, storage);
+        }
+        return result;
+    }
+
+    /**
+     * 노드 변경 시 데이터 재배치 (전체 검사)
+     * 어떤 구간이 바뀌었는지 모를 때 사용하며, 키를 한곳에 모으지 않고 노드별로 검사해 더 이상 복제본이 아닌 키만 옮긴다.
+     * 변경 구간을 알고 있다면 {@link #addNode}, {@link #removeNode}를 사용한다.
      * @param consistentHash 일관된 해시 인스턴스
      */
     public void redistributeData(ConsistentHashingWithVnodes<T> consistentHash) {
-        Map<String, String> allData = new HashMap<>();
-        nodeDataMap.values().forEach(storage ->
-                allData.putAll(storage.getAllData())
-        );
-
-        nodeDataMap.clear();
-        allData.forEach((key, value) -> {
-            T newNode = consistentHash.getNodeForKey(key);
-            storeData(key, value, newNode);
-            log.info("데이터 재배치: 키='{}', 새 노드='{}'", key, newNode);
-        });
-    }
-}
\ No newline at end of file
+        if (consistentHash.isBoundedLoad()) {
+            log.info("데이터 재배정 완료 (부하 제한 모드): {}개 키 이동", reassignBounded(consistentHash));
+            return;
+        }
+
+        long moved = 0;
+        int replicationFactor = replicationPolicy.getReplicationFactor();
+        for (Map.Entry<T, DataStorage> entry : nodeDataMap.entrySet()) {
+            T node = entry.getKey();
+            DataStorage storage = entry.getValue();
+            for (String key : storage.keys()) {
+                List<T> replicas = consistentHash.getNodesForKey(key, replicationFactor);
+                if (!replicas.contains(node) && moveKey(key, List.of(node), replicas)) {
+                    moved++;
+                }
+            }
+        }
+        log.info("데이터 재배치 완료: {}개 키 이동", moved);
+    }
+
+    // 링 변경 전 스냅샷을 게시한 뒤 변경 구간의 키를 병렬 배치로 이동
+    private synchronized RebalanceResult rebalance(ConsistentHashingWithVnodes<T> consistentHash,
+                                                   Runnable ringMutation) {
+        long startedAt = System.nanoTime();
+        HashRing<T> before = consistentHash.getRing();
+        previousRing = before;
+        try {
+            ringMutation.run();
+            if (consistentHash.isBoundedLoad()) {
+                long moved = reassignBounded(consistentHash);
+                RebalanceResult result = new RebalanceResult(moved, Duration.ofNanos(System.nanoTime() - startedAt));
+                log.info("데이터 재배정 완료 (부하 제한 모드): {}개 키 이동, {}ms", moved, result.getElapsed().toMillis());
+                return result;
+            }
+
+            RingChange<T> change = RingChange.between(before, consistentHash.getRing(),
+                    replicationPolicy.getReplicationFactor());
+            long moved = migrate(change, consistentHash);
+
+            RebalanceResult result = new RebalanceResult(moved, Duration.ofNanos(System.nanoTime() - startedAt));
+            log.info("데이터 재배치 완료: 변경 구간 {}개, {}개 키 이동, {}ms",
+                    change.getRanges().size(), moved, result.getElapsed().toMillis());
+            return result;
+        } finally {
+            previousRing = null;
+        }
+    }
+
+    private long migrate(RingChange<T> change, ConsistentHashingWithVnodes<T> consistentHash) {
+        if (change.isEmpty()) {
+            return 0;
+        }
+
+        Set<T> sourceNodes = new HashSet<>();
+        change.getRanges().forEach(range -> sourceNodes.addAll(range.getFromReplicas()));
+
+        List<CompletableFuture<Integer>> batches = new ArrayList<>();
+        for (T sourceNode : sourceNodes) {
+            DataStorage source = nodeDataMap.get(sourceNode);
+            if (source == null) {
+                continue;
+            }
+
+            List<String> keys = new ArrayList<>(batchSize);
+            List<TokenRange<T>> ranges = new ArrayList<>(batchSize);
+            for (String key : source.keys()) {
+                TokenRange<T> range = change.rangeFor(consistentHash.hash(key));
+                if (range == null || !isFirstHolder(key, sourceNode, range.getFromReplicas())) {
+                    continue;
+                }
+                if (range.getToReplicas().isEmpty()) {
+                    log.warn("해시 링에 노드가 없어 데이터를 이동할 수 없습니다: 키='{}'", key);
+                    continue;
+                }
+                keys.add(key);
+                ranges.add(range);
+                if (keys.size() == batchSize) {
+                    batches.add(submitBatch(keys, ranges));
+                    keys = new ArrayList<>(batchSize);
+                    ranges = new ArrayList<>(batchSize);
+                }
+            }
+            if (!keys.isEmpty()) {
+                batches.add(submitBatch(keys, ranges));
+            }
+        }
+
+        long moved = 0;
+        for (CompletableFuture<Integer> batch : batches) {
+            moved += batch.join();
+        }
+        return moved;
+    }
+
+    // 같은 키가 여러 이전 복제본에 있으면 목록에서 가장 앞선 노드만 이동을 담당
+    private boolean isFirstHolder(String key, T sourceNode, List<T> fromReplicas) {
+        for (T replica : fromReplicas) {
+            if (replica.equals(sourceNode)) {
+                return true;
+            }
+            DataStorage storage = nodeDataMap.get(replica);
+            if (storage != null && storage.peek(key) != null) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private CompletableFuture<Integer> submitBatch(List<String> keys, List<TokenRange<T>> ranges) {
+        return CompletableFuture.supplyAsync(() -> {
+            int moved = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                TokenRange<T> range = ranges.get(i);
+                if (moveKey(keys.get(i), range.getFromReplicas(), range.getToReplicas())) {
+                    moved++;
+                }
+            }
+            return moved;
+        }, migrationExecutor);
+    }
+
+    // 이전 복제본 중 가장 최신 값을 새 복제본에 먼저 복사(더 최신 값이 있으면 유지)한 뒤, 빠지는 복제본에서 삭제
+    private boolean moveKey(String key, List<T> fromReplicas, List<T> toReplicas) {
+        VersionedValue latest = null;
+        for (T replica : fromReplicas) {
+            DataStorage storage = nodeDataMap.get(replica);
+            VersionedValue value = storage == null ? null : storage.peek(key);
+            if (value != null && value.isNewerThan(latest)) {
+                latest = value;
+            }
+        }
+        if (latest == null) {
+            return false;
+        }
+
+        for (T target : toReplicas) {
+            if (!fromReplicas.contains(target)) {
+                storageOf(target).store(key, latest);
+            }
+        }
+        for (T replica : fromReplicas) {
+            DataStorage storage = nodeDataMap.get(replica);
+            if (storage != null && !toReplicas.contains(replica)) {
+                storage.removeIfNotNewer(key, latest.getVersion());
+            }
+        }
+        log.debug("데이터 재배치: 키='{}', 새 복제본={}", key, toReplicas);
+        return true;
+    }
+
+    // 부하 제한 모드 저장: 이미 배정된 노드가 있으면 그 노드에 갱신, 없으면 새로 배정
+    // 키마다 가중치 1로 배정하므로 상한은 노드별 키 수에 대한 것이다 (핫 키의 요청 쏠림은 제한하지 않음)
+    private synchronized void storeBounded(String dataKey, String dataValue,
+                                           ConsistentHashingWithVnodes<T> consistentHash) {
+        if (replicationPolicy.getReplicationFactor() > 1) {
+            throw new IllegalStateException("부하 제한 모드는 복제본 1개만 지원합니다.");
+        }
+        VersionedValue value = new VersionedValue(dataValue, versionSequence.incrementAndGet());
+
+        T assigned = findHolder(dataKey, consistentHash);
+        if (assigned == null) {
+            assigned = consistentHash.assignNode(dataKey);
+        }
+        if (isDown(assigned)) {
+            throw new IllegalStateException("쓰기 쿼럼을 만족하지 못했습니다: 키='" + dataKey + "', 노드=" + assigned);
+        }
+        storageOf(assigned).store(dataKey, value);
+        log.debug("데이터 저장 (부하 제한 모드): 키='{}', 노드='{}'", dataKey, assigned);
+    }
+
+    // 부하 제한 모드 조회: 소유 노드부터 시계 방향으로 키를 가진 노드를 찾음
+    private Optional<String> getBounded(String dataKey, ConsistentHashingWithVnodes<T> consistentHash) {
+        T holder = findHolder(dataKey, consistentHash);
+        if (holder == null || isDown(holder)) {
+            return Optional.empty();
+        }
+        return getData(dataKey, holder);
+    }
+
+    private T findHolder(String dataKey, ConsistentHashingWithVnodes<T> consistentHash) {
+        for (T node : consistentHash.getProbeOrder(dataKey)) {
+            DataStorage storage = nodeDataMap.get(node);
+            if (storage != null && storage.peek(dataKey) != null) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    // 부하 제한 모드에서는 배치가 배정 이력에 따라 달라지므로 노드 변경 시 모든 키를 다시 배정
+    private long reassignBounded(ConsistentHashingWithVnodes<T> consistentHash) {
+        consistentHash.resetLoads();
+        // 이번 재배정에서 옮겨진 키 (옮겨 간 노드를 순회할 때 다시 배정하지 않기 위함)
+        Set<String> movedKeys = new HashSet<>();
+        for (Map.Entry<T, DataStorage> entry : nodeDataMap.entrySet()) {
+            T node = entry.getKey();
+            DataStorage source = entry.getValue();
+            for (String key : source.keys()) {
+                VersionedValue value = source.peek(key);
+                if (value == null || movedKeys.contains(key)) {
+                    continue;
+                }
+                T target = consistentHash.assignNode(key);
+                if (!target.equals(node)) {
+                    storageOf(target).store(key, value);
+                    source.removeIfNotNewer(key, value.getVersion());
+                    movedKeys.add(key);
+                }
+            }
+        }
+        return movedKeys.size();
+    }
+
+    // 재배치 중이라면 변경 전에는 복제본이었지만 지금은 아닌 노드 목록
+    private List<T> previousOnlyReplicas(String dataKey, List<T> replicas,
+                                         ConsistentHashingWithVnodes<T> consistentHash) {
+        HashRing<T> before = previousRing;
+        if (before == null || before.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<T> previousReplicas = before.nodesFor(consistentHash.hash(dataKey),
+                replicationPolicy.getReplicationFactor());
+        previousReplicas.removeAll(replicas);
+        return previousReplicas;
+    }
+
+    private DataStorage storageOf(T node) {
+        return nodeDataMap.computeIfAbsent(node, k -> new DataStorage());
+    }
+
+    private boolean isDown(T node) {
+        return downNodes.contains(node);
+    }
+}
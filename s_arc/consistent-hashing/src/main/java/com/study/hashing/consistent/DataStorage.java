@@ -2,20 +2,34 @@ package com.study.hashing.consistent;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class DataStorage {
     // 실제 데이터 저장소
-    private final Map<String, String> storage = new ConcurrentHashMap<>();
+    private final Map<String, VersionedValue> storage = new ConcurrentHashMap<>();
+
+    // 조회 요청 수 (복제본 간 읽기 분산 확인용)
+    private final LongAdder readCount = new LongAdder();
 
     /**
-     * 데이터 저장
+     * 데이터 저장 (이미 더 최신 버전이 있으면 유지)
      * @param key 데이터 키
      * @param value 데이터 값
+     * @param version 값의 버전
+     */
+    public void store(String key, String value, long version) {
+        store(key, new VersionedValue(value, version));
+    }
+
+    /**
+     * 버전이 붙은 데이터 저장 (이미 더 최신 버전이 있으면 유지)
+     * @param key 데이터 키
+     * @param value 버전이 붙은 값
      */
-    public void store(String key, String value) {
-        storage.put(key, value);
+    public void store(String key, VersionedValue value) {
+        storage.merge(key, value, (current, candidate) -> current.isNewerThan(candidate) ? current : candidate);
         log.debug("데이터 저장됨: key='{}'", key);
     }
 
@@ -25,6 +39,26 @@ public class DataStorage {
      * @return 저장된 값
      */
     public String get(String key) {
+        VersionedValue value = getVersioned(key);
+        return value == null ? null : value.getValue();
+    }
+
+    /**
+     * 버전이 붙은 데이터 조회
+     * @param key 데이터 키
+     * @return 저장된 값과 버전
+     */
+    public VersionedValue getVersioned(String key) {
+        readCount.increment();
+        return storage.get(key);
+    }
+
+    /**
+     * 조회 수에 포함하지 않고 버전이 붙은 데이터 확인 (재배치 등 내부 작업용)
+     * @param key 데이터 키
+     * @return 저장된 값과 버전
+     */
+    public VersionedValue peek(String key) {
         return storage.get(key);
     }
 
@@ -33,6 +67,49 @@ public class DataStorage {
      * @return 저장된 모든 데이터의 복사본
      */
     public Map<String, String> getAllData() {
-        return new HashMap<>(storage);
+        Map<String, String> copy = new HashMap<>();
+        storage.forEach((key, value) -> copy.put(key, value.getValue()));
+        return copy;
+    }
+
+    /**
+     * 데이터 삭제
+     * @param key 데이터 키
+     */
+    public void remove(String key) {
+        storage.remove(key);
+    }
+
+    /**
+     * 데이터 삭제 (저장된 버전이 주어진 버전보다 최신이 아닐 때만)
+     * @param key 데이터 키
+     * @param version 이동이 끝난 값의 버전
+     */
+    public void removeIfNotNewer(String key, long version) {
+        storage.computeIfPresent(key, (k, current) -> current.getVersion() > version ? current : null);
+    }
+
+    /**
+     * 저장된 키 목록 (복사하지 않는 약한 일관성 뷰)
+     * @return 키 집합 뷰
+     */
+    public Set<String> keys() {
+        return storage.keySet();
+    }
+
+    /**
+     * 저장된 데이터 수
+     * @return 데이터 수
+     */
+    public int size() {
+        return storage.size();
+    }
+
+    /**
+     * 누적 조회 요청 수
+     * @return 조회 수
+     */
+    public long getReadCount() {
+        return readCount.sum();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.study.hashing.consistent;
+
+/**
+ * 해시 링에서 사용하는 64비트 해시 함수
+ * 구현체는 상태를 갖지 않아야 하며, 여러 스레드에서 동시에 호출될 수 있다.
+ */
+@FunctionalInterface
+public interface HashFunction {
+
+    /**
+     * 키의 64비트 해시 생성
+     * @param key 해시할 키
+     * @return 해시 값 (부호 있는 long 전체 범위를 링으로 사용)
+     */
+    long hash(String key);
+}
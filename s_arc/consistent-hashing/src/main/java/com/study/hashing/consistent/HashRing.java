@@ -0,0 +1,127 @@
+package com.study.hashing.consistent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * 해시 링의 불변 스냅샷
+ * 정렬된 long[] 토큰 배열과 같은 인덱스의 소유 노드 배열로 구성되며,
+ * 한 번 생성되면 변경되지 않으므로 락 없이 여러 스레드에서 조회할 수 있다.
+ * @param <T> 노드 타입
+ */
+public final class HashRing<T> {
+    private static final HashRing<?> EMPTY = new HashRing<>(new long[0], new Object[0], 0);
+
+    // 오름차순으로 정렬된 가상 노드 토큰
+    private final long[] tokens;
+
+    // tokens[i]를 소유하는 실제 노드
+    private final Object[] owners;
+
+    // 링에 있는 실제 노드 수
+    private final int nodeCount;
+
+    private HashRing(long[] tokens, Object[] owners, int nodeCount) {
+        this.tokens = tokens;
+        this.owners = owners;
+        this.nodeCount = nodeCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> HashRing<T> empty() {
+        return (HashRing<T>) EMPTY;
+    }
+
+    /**
+     * 정렬된 토큰 맵으로부터 스냅샷 생성
+     * @param tokenMap 토큰 -> 노드 맵
+     * @return 새 스냅샷
+     */
+    static <T> HashRing<T> from(NavigableMap<Long, T> tokenMap) {
+        long[] tokens = new long[tokenMap.size()];
+        Object[] owners = new Object[tokenMap.size()];
+        int i = 0;
+        for (Map.Entry<Long, T> entry : tokenMap.entrySet()) {
+            tokens[i] = entry.getKey();
+            owners[i] = entry.getValue();
+            i++;
+        }
+        return new HashRing<>(tokens, owners, new HashSet<>(tokenMap.values()).size());
+    }
+
+    /**
+     * 해시 값을 소유하는 노드 조회 (해시 이상인 첫 토큰, 없으면 링의 처음으로 순환)
+     * @param hash 키의 해시 값
+     * @return 소유 노드
+     */
+    @SuppressWarnings("unchecked")
+    public T nodeFor(long hash) {
+        return (T) owners[indexFor(hash)];
+    }
+
+    /**
+     * 해시 값 위치에서 시계 방향으로 링을 돌며 서로 다른 실제 노드를 최대 n개 수집 (선호 목록)
+     * @param hash 키의 해시 값
+     * @param n 필요한 노드 수
+     * @return 서로 다른 노드 목록 (첫 번째가 소유 노드)
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> nodesFor(long hash, int n) {
+        int limit = Math.min(n, nodeCount);
+        List<T> nodes = new ArrayList<>(limit);
+        if (limit == 0) {
+            return nodes;
+        }
+
+        int idx = indexFor(hash);
+        for (int visited = 0; visited < tokens.length && nodes.size() < limit; visited++) {
+            T owner = (T) owners[idx];
+            if (!nodes.contains(owner)) {
+                nodes.add(owner);
+            }
+            idx = idx + 1 == tokens.length ? 0 : idx + 1;
+        }
+        return nodes;
+    }
+
+    /**
+     * 해시 값을 소유하는 토큰의 인덱스 조회
+     * @param hash 키의 해시 값
+     * @return 토큰 인덱스
+     */
+    public int indexFor(long hash) {
+        int idx = Arrays.binarySearch(tokens, hash);
+        if (idx < 0) {
+            idx = -idx - 1;
+            if (idx == tokens.length) {
+                idx = 0;
+            }
+        }
+        return idx;
+    }
+
+    public long tokenAt(int index) {
+        return tokens[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T ownerAt(int index) {
+        return (T) owners[index];
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int size() {
+        return tokens.length;
+    }
+
+    public boolean isEmpty() {
+        return tokens.length == 0;
+    }
+}
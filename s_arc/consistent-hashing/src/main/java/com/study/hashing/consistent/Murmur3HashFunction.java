@@ -0,0 +1,93 @@
+package com.study.hashing.consistent;
+
+/**
+ * MurmurHash3 (x64_128) 기반 64비트 해시 함수
+ * 문자열을 byte[]로 변환하지 않고 UTF-16 코드 유닛을 직접 읽어 조회 경로에서 객체를 할당하지 않는다.
+ * 128비트 결과 중 앞의 64비트만 사용한다.
+ */
+public final class Murmur3HashFunction implements HashFunction {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final long seed;
+
+    public Murmur3HashFunction() {
+        this(0L);
+    }
+
+    public Murmur3HashFunction(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public long hash(String key) {
+        final int length = key.length();
+        final int blockEnd = length & ~7;
+        long h1 = seed;
+        long h2 = seed;
+
+        // 16바이트(문자 8개) 단위 블록 처리
+        for (int i = 0; i < blockEnd; i += 8) {
+            long k1 = pack(key, i, 4);
+            long k2 = pack(key, i + 4, 4);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        // 남은 문자 처리
+        int remaining = length - blockEnd;
+        if (remaining > 4) {
+            h2 ^= mixK2(pack(key, blockEnd + 4, remaining - 4));
+        }
+        if (remaining > 0) {
+            h1 ^= mixK1(pack(key, blockEnd, Math.min(remaining, 4)));
+        }
+
+        long byteLength = (long) length << 1;
+        h1 ^= byteLength;
+        h2 ^= byteLength;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        return h1 + h2;
+    }
+
+    // 문자 count개(최대 4개)를 리틀 엔디언으로 하나의 long에 채움
+    private static long pack(String key, int offset, int count) {
+        long k = 0;
+        for (int j = 0; j < count; j++) {
+            k |= (long) key.charAt(offset + j) << (j << 4);
+        }
+        return k;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
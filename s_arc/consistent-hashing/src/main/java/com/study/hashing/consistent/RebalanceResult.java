@@ -0,0 +1,20 @@
+package com.study.hashing.consistent;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 데이터 재배치 결과
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RebalanceResult {
+    // 이동한 키 수
+    private final long movedKeys;
+
+    // 재배치 소요 시간
+    private final Duration elapsed;
+}
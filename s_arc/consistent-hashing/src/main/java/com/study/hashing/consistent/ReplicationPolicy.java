@@ -0,0 +1,59 @@
+package com.study.hashing.consistent;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 복제 정책: 복제본 수(N), 쓰기 쿼럼(W), 읽기 쿼럼(R)
+ * W + R > N 이면 읽기가 항상 마지막으로 성공한 쓰기를 본다.
+ */
+@Getter
+@ToString
+public class ReplicationPolicy {
+    private final int replicationFactor;
+
+    private final int writeQuorum;
+
+    private final int readQuorum;
+
+    private ReplicationPolicy(int replicationFactor, int writeQuorum, int readQuorum) {
+        if (replicationFactor < 1) {
+            throw new IllegalArgumentException("복제본 수는 1 이상이어야 합니다: " + replicationFactor);
+        }
+        if (writeQuorum < 1 || writeQuorum > replicationFactor) {
+            throw new IllegalArgumentException("쓰기 쿼럼은 1 이상 " + replicationFactor + " 이하여야 합니다: " + writeQuorum);
+        }
+        if (readQuorum < 1 || readQuorum > replicationFactor) {
+            throw new IllegalArgumentException("읽기 쿼럼은 1 이상 " + replicationFactor + " 이하여야 합니다: " + readQuorum);
+        }
+        this.replicationFactor = replicationFactor;
+        this.writeQuorum = writeQuorum;
+        this.readQuorum = readQuorum;
+    }
+
+    /**
+     * 복제 없이 노드 하나에만 저장
+     */
+    public static ReplicationPolicy single() {
+        return new ReplicationPolicy(1, 1, 1);
+    }
+
+    /**
+     * N개 복제, 과반 쓰기/과반 읽기
+     * @param replicationFactor 복제본 수
+     */
+    public static ReplicationPolicy quorum(int replicationFactor) {
+        int majority = replicationFactor / 2 + 1;
+        return new ReplicationPolicy(replicationFactor, majority, majority);
+    }
+
+    /**
+     * 복제본 수와 쿼럼을 직접 지정
+     * @param replicationFactor 복제본 수
+     * @param writeQuorum 성공으로 볼 최소 쓰기 응답 수
+     * @param readQuorum 결과를 결정하기 전 받을 최소 읽기 응답 수
+     */
+    public static ReplicationPolicy of(int replicationFactor, int writeQuorum, int readQuorum) {
+        return new ReplicationPolicy(replicationFactor, writeQuorum, readQuorum);
+    }
+}
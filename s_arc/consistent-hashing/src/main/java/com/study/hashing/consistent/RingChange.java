@@ -0,0 +1,113 @@
+package com.study.hashing.consistent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import lombok.Getter;
+
+/**
+ * 노드 추가/제거로 소유 노드가 바뀐 구간 목록
+ * @param <T> 노드 타입
+ */
+@Getter
+public class RingChange<T> {
+    // 링 순서대로 정렬된 구간 (링의 끝을 넘는 구간은 있다면 첫 번째)
+    private final List<TokenRange<T>> ranges;
+
+    // 구간 끝 토큰 (오름차순, rangeFor 이진 탐색용)
+    private final long[] ends;
+
+    private RingChange(List<TokenRange<T>> ranges) {
+        this.ranges = Collections.unmodifiableList(ranges);
+        this.ends = new long[ranges.size()];
+        for (int i = 0; i < ends.length; i++) {
+            ends[i] = ranges.get(i).getEnd();
+        }
+    }
+
+    /**
+     * 두 스냅샷을 비교해 소유 노드가 바뀐 구간 계산
+     * @param before 변경 전 스냅샷
+     * @param after 변경 후 스냅샷
+     * @return 변경 구간
+     */
+    static <T> RingChange<T> between(HashRing<T> before, HashRing<T> after) {
+        return between(before, after, 1);
+    }
+
+    /**
+     * 두 스냅샷을 비교해 복제본 목록(선호 목록)이 바뀐 구간 계산
+     * 두 링의 토큰을 합친 경계로 링을 나누면 각 조각 (b[i-1], b[i]]의 선호 목록은 nodesFor(b[i])로 정해진다.
+     * @param before 변경 전 스냅샷
+     * @param after 변경 후 스냅샷
+     * @param replicationFactor 복제본 수
+     * @return 변경 구간 (인접한 같은 이동은 하나로 합침)
+     */
+    static <T> RingChange<T> between(HashRing<T> before, HashRing<T> after, int replicationFactor) {
+        TreeSet<Long> boundaries = new TreeSet<>();
+        for (int i = 0; i < before.size(); i++) {
+            boundaries.add(before.tokenAt(i));
+        }
+        for (int i = 0; i < after.size(); i++) {
+            boundaries.add(after.tokenAt(i));
+        }
+        if (boundaries.isEmpty()) {
+            return new RingChange<>(new ArrayList<>());
+        }
+
+        List<TokenRange<T>> ranges = new ArrayList<>();
+        long previous = boundaries.last();
+        List<T> pendingFrom = null;
+        List<T> pendingTo = null;
+        long pendingStart = 0;
+        long pendingEnd = 0;
+
+        for (long boundary : boundaries) {
+            List<T> from = before.nodesFor(boundary, replicationFactor);
+            List<T> to = after.nodesFor(boundary, replicationFactor);
+
+            if (pendingFrom != null && (!from.equals(pendingFrom) || !to.equals(pendingTo))) {
+                ranges.add(new TokenRange<>(pendingStart, pendingEnd, pendingFrom, pendingTo));
+                pendingFrom = null;
+            }
+            if (!from.equals(to)) {
+                if (pendingFrom == null) {
+                    pendingStart = previous;
+                    pendingFrom = from;
+                    pendingTo = to;
+                }
+                pendingEnd = boundary;
+            }
+            previous = boundary;
+        }
+        if (pendingFrom != null) {
+            ranges.add(new TokenRange<>(pendingStart, pendingEnd, pendingFrom, pendingTo));
+        }
+        return new RingChange<>(ranges);
+    }
+
+    /**
+     * 해시 값이 속한 변경 구간 조회
+     * 구간은 서로 겹치지 않고 끝 토큰 순으로 정렬되어 있으므로, 끝이 hash 이상인 첫 구간만 확인하면 된다.
+     * 그런 구간이 없으면 링의 끝을 넘어 이어지는 첫 구간에 속할 수 있다.
+     * @param hash 키의 해시 값
+     * @return 변경 구간, 변경되지 않은 위치라면 null
+     */
+    public TokenRange<T> rangeFor(long hash) {
+        if (ends.length == 0) {
+            return null;
+        }
+        int idx = Arrays.binarySearch(ends, hash);
+        if (idx < 0) {
+            idx = -idx - 1;
+        }
+        TokenRange<T> range = ranges.get(idx == ends.length ? 0 : idx);
+        return range.contains(hash) ? range : null;
+    }
+
+    public boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+}
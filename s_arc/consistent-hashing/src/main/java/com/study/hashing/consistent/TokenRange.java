@@ -0,0 +1,60 @@
+package com.study.hashing.consistent;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 소유 노드(또는 복제본 목록)가 바뀐 해시 링 구간 (start, end]
+ * start >= end 이면 링의 끝을 넘어 처음으로 이어지는 구간이다.
+ * @param <T> 노드 타입
+ */
+@Getter
+@ToString
+public class TokenRange<T> {
+    // 구간 시작 토큰 (미포함)
+    private final long start;
+
+    // 구간 끝 토큰 (포함)
+    private final long end;
+
+    // 변경 전 복제본 목록 (첫 번째가 소유 노드)
+    private final List<T> fromReplicas;
+
+    // 변경 후 복제본 목록 (첫 번째가 소유 노드)
+    private final List<T> toReplicas;
+
+    public TokenRange(long start, long end, List<T> fromReplicas, List<T> toReplicas) {
+        this.start = start;
+        this.end = end;
+        this.fromReplicas = Collections.unmodifiableList(fromReplicas);
+        this.toReplicas = Collections.unmodifiableList(toReplicas);
+    }
+
+    /**
+     * 변경 전 소유 노드 (링이 비어 있었다면 null)
+     */
+    public T getFrom() {
+        return fromReplicas.isEmpty() ? null : fromReplicas.get(0);
+    }
+
+    /**
+     * 변경 후 소유 노드 (링이 비게 되었다면 null)
+     */
+    public T getTo() {
+        return toReplicas.isEmpty() ? null : toReplicas.get(0);
+    }
+
+    /**
+     * 해시 값이 이 구간에 속하는지 확인
+     * @param hash 키의 해시 값
+     * @return 구간 포함 여부
+     */
+    public boolean contains(long hash) {
+        if (start < end) {
+            return hash > start && hash <= end;
+        }
+        return hash > start || hash <= end;
+    }
+}
@@ -0,0 +1,22 @@
+package com.study.hashing.consistent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 버전이 붙은 데이터 값
+ * 복제본 간 값이 다를 때 버전이 큰 값이 최신이다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class VersionedValue {
+    private final String value;
+
+    private final long version;
+
+    public boolean isNewerThan(VersionedValue other) {
+        return other == null || version > other.version;
+    }
+}
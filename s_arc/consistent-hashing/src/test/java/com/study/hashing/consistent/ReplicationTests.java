@@ -0,0 +1,110 @@
+package com.study.hashing.consistent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+@Slf4j
+class ReplicationTests {
+    private ConsistentHashingWithVnodes<String> consistentHash;
+    private static final int VIRTUAL_NODES = 160;
+    private static final int KEY_COUNT = 5_000;
+
+    @BeforeEach
+    void setUp() {
+        // 5개 노드로 구성된 프로세스 내 클러스터
+        List<String> initialNodes = Arrays.asList("Node1", "Node2", "Node3", "Node4", "Node5");
+        consistentHash = new ConsistentHashingWithVnodes<>(VIRTUAL_NODES, initialNodes);
+    }
+
+    @Test
+    void 선호_목록_테스트() {
+        for (int i = 0; i < 1_000; i++) {
+            String key = "key-" + i;
+            List<String> replicas = consistentHash.getNodesForKey(key, 3);
+
+            assertEquals(3, replicas.size());
+            assertEquals(3, new HashSet<>(replicas).size(), "복제본 노드가 중복됨");
+            assertEquals(consistentHash.getNodeForKey(key), replicas.get(0), "첫 번째 복제본이 소유 노드가 아님");
+        }
+
+        // 노드 수보다 많이 요청하면 전체 노드 반환
+        assertEquals(5, consistentHash.getNodesForKey("key", 10).size());
+    }
+
+    @Test
+    void 노드_장애_시_데이터_보존_테스트() {
+        DataManager<String> dataManager = new DataManager<>(ReplicationPolicy.quorum(3));
+        for (int i = 0; i < KEY_COUNT; i++) {
+            dataManager.storeData("key-" + i, "value-" + i, consistentHash);
+        }
+
+        // 노드 하나가 죽어도 과반 읽기로 모든 데이터를 조회할 수 있어야 함
+        dataManager.markNodeDown("Node2");
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertEquals("value-" + i, dataManager.getData("key-" + i, consistentHash).orElse(null));
+        }
+
+        // 장애 중에도 과반 쓰기는 성공하고, 복구 후에도 최신 값이 조회되어야 함
+        for (int i = 0; i < KEY_COUNT; i++) {
+            dataManager.storeData("key-" + i, "updated-" + i, consistentHash);
+        }
+        dataManager.markNodeUp("Node2");
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertEquals("updated-" + i, dataManager.getData("key-" + i, consistentHash).orElse(null));
+        }
+    }
+
+    @Test
+    void 쓰기_쿼럼_미달_테스트() {
+        DataManager<String> dataManager = new DataManager<>(ReplicationPolicy.of(3, 3, 1));
+        String key = "test-key";
+        dataManager.markNodeDown(consistentHash.getNodesForKey(key, 3).get(1));
+
+        assertThrows(IllegalStateException.class, () -> dataManager.storeData(key, "value", consistentHash));
+    }
+
+    @Test
+    void 핫키_읽기_분산_테스트() {
+        DataManager<String> dataManager = new DataManager<>(ReplicationPolicy.of(3, 3, 1));
+        String hotKey = "hot-key";
+        dataManager.storeData(hotKey, "hot-value", consistentHash);
+
+        int reads = 3_000;
+        for (int i = 0; i < reads; i++) {
+            assertEquals("hot-value", dataManager.getData(hotKey, consistentHash).orElse(null));
+        }
+
+        // 한 노드에 몰리지 않고 복제본 3개에 고르게 분산되어야 함
+        Map<String, Long> readCounts = dataManager.getReadCounts();
+        for (String replica : consistentHash.getNodesForKey(hotKey, 3)) {
+            log.info("노드 {}: {}회 조회", replica, readCounts.get(replica));
+            assertEquals(reads / 3, readCounts.get(replica));
+        }
+    }
+
+    @Test
+    void 복제_재배치_테스트() {
+        DataManager<String> dataManager = new DataManager<>(ReplicationPolicy.quorum(3));
+        for (int i = 0; i < KEY_COUNT; i++) {
+            dataManager.storeData("key-" + i, "value-" + i, consistentHash);
+        }
+
+        RebalanceResult result = dataManager.addNode("Node6", consistentHash);
+        assertTrue(result.getMovedKeys() > 0 && result.getMovedKeys() < KEY_COUNT, "이동한 키 수가 올바르지 않음");
+
+        // 재배치 후 모든 키가 정확히 새 선호 목록의 노드들에만 있어야 함
+        List<String> allNodes = Arrays.asList("Node1", "Node2", "Node3", "Node4", "Node5", "Node6");
+        for (int i = 0; i < KEY_COUNT; i++) {
+            String key = "key-" + i;
+            List<String> replicas = consistentHash.getNodesForKey(key, 3);
+            for (String node : allNodes) {
+                assertEquals(replicas.contains(node), dataManager.getData(key, node).isPresent(),
+                        "복제본 배치가 올바르지 않음: 키=" + key + ", 노드=" + node);
+            }
+            assertEquals("value-" + i, dataManager.getData(key, consistentHash).orElse(null));
+        }
+    }
+}
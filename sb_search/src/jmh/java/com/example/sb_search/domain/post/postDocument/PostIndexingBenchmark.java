@@ -0,0 +1,92 @@
+package com.example.sb_search.domain.post.postDocument;
+
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Config;
+import com.meilisearch.sdk.Index;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TasksQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 입력 시 색인 처리량과 작업 대기열 길이 비교
+ * - perDocument: 문서마다 addDocuments (기존 PostDocumentRepository.save 방식, 작업을 기다리지 않음)
+ * - batched: BATCH_SIZE 건씩 addDocuments 1번 + 작업 완료 대기 (PostDocumentService.addAll 방식)
+ * 각 방식은 빈 인덱스에서 시작하며, 마지막 작업이 끝난 시점까지를 잰다.
+ * 측정 중에는 별도 스레드가 100ms 마다 대기/처리 중인 작업 수를 조회해 최대값을 기록한다.
+ *
+ * 실행 (Meilisearch 실행 중이어야 함):
+ * java -cp ... com.example.sb_search.domain.post.postDocument.PostIndexingBenchmark [documents] [hostUrl] [apiKey]
+ */
+public class PostIndexingBenchmark {
+    private static final String INDEX = "postBench";
+    private static final int BATCH_SIZE = 500;
+    private static final int TASK_TIMEOUT_MILLIS = 600_000;
+
+    public static void main(String[] args) throws Exception {
+        int documents = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        String hostUrl = args.length > 1 ? args[1] : "http://localhost:7700";
+        String apiKey = args.length > 2 ? args[2] : "masterKey";
+        Client client = new Client(new Config(hostUrl, apiKey));
+
+        run("perDocument", client, documents, 1, false);
+        run("batched", client, documents, BATCH_SIZE, true);
+    }
+
+    private static void run(String name, Client client, int documents, int batchSize, boolean waitEachBatch)
+            throws InterruptedException {
+        Index index = client.index(INDEX);
+        index.waitForTask(index.deleteAllDocuments().getTaskUid(), TASK_TIMEOUT_MILLIS, 50);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger maxPending = new AtomicInteger();
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                int pending = client.getTasks(new TasksQuery()
+                        .setIndexUids(new String[]{INDEX})
+                        .setStatuses(new String[]{"enqueued", "processing"})
+                        .setLimit(1_000)).getResults().length;
+                maxPending.accumulateAndGet(pending, Math::max);
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+
+        long startedAt = System.nanoTime();
+        TaskInfo last = null;
+        List<String> batch = new ArrayList<>(batchSize);
+        for (int id = 1; id <= documents; id++) {
+            batch.add(document(id));
+            if (batch.size() == batchSize || id == documents) {
+                last = index.addDocuments("[" + String.join(",", batch) + "]", "id");
+                if (waitEachBatch) {
+                    index.waitForTask(last.getTaskUid(), TASK_TIMEOUT_MILLIS, 50);
+                }
+                batch.clear();
+            }
+        }
+        index.waitForTask(last.getTaskUid(), TASK_TIMEOUT_MILLIS, 50);
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        running.set(false);
+        sampler.interrupt();
+        sampler.join();
+
+        System.out.printf("%s: documents=%d, tasks=%d, docs/s=%.0f, maxPendingTasks=%d, total=%.1fs%n",
+                name, documents, (documents + batchSize - 1) / batchSize, documents / seconds, maxPending.get(), seconds);
+    }
+
+    private static String document(long id) {
+        long timeStamp = 1_700_000_000L + id;
+        return """
+                {"id":%d,"createDate":"2024-01-01T00:00:00","createTimeStamp":%d,"modifyDate":"2024-01-01T00:00:00","modifyTimeStamp":%d,"subject":"subject%d","body":"body%d 주말 카페 추천"}"""
+                .formatted(id, timeStamp, timeStamp, id, id);
+    }
+}
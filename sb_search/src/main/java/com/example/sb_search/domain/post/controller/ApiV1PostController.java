@@ -1,7 +1,12 @@
 package com.example.sb_search.domain.post.controller;
 
+import com.example.sb_search.domain.post.postDocument.service.PostDocumentService;
+import com.example.sb_search.domain.post.postDocument.service.PostIndexingStats;
+import com.example.sb_search.domain.post.postDocument.service.PostReindexService;
 import com.example.sb_search.domain.post.service.PostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -10,4 +15,23 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ApiV1PostController {
     private final PostService postService;
-}
\ No newline at end of file
+    private final PostDocumentService postDocumentService;
+    private final PostReindexService postReindexService;
+
+    // 검색 색인 처리량과 Meilisearch 작업 대기열 길이
+    @GetMapping("/indexing-stats")
+    public PostIndexingStats.Snapshot getIndexingStats() {
+        return postDocumentService.getIndexingStats();
+    }
+
+    // 검색 인덱스 전체 재색인 시작 (이미 진행 중이면 진행 상황만 반환)
+    @PostMapping("/reindex")
+    public PostReindexService.Progress reindex() {
+        return postReindexService.start();
+    }
+
+    @GetMapping("/reindex")
+    public PostReindexService.Progress getReindexProgress() {
+        return postReindexService.getProgress();
+    }
+}
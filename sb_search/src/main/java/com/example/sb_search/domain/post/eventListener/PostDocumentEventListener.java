@@ -7,9 +7,13 @@ import com.example.sb_search.domain.post.postDocument.service.PostDocumentServic
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class PostDocumentEventListener {
@@ -33,21 +37,35 @@ public class PostDocumentEventListener {
         postDocumentService.modify(postDto);
     }
     */
-    @KafkaListener(topics = "AfterPostCreatedEvent", groupId = "1")
-    public void consumeAfterPostCreatedEvent(PostDto postDto) {
-        postDocumentService.add(postDto);
+    /**
+     * 생성/수정 이벤트를 묶어서 색인
+     * 한 번에 최대 maxDocs 건을 가져오고, 쌓인 양이 적으면 브로커가 maxWaitMs 까지 기다렸다가 넘겨준다.
+     * 같은 게시글의 생성/수정이 한 배치에 있으면 최신 것만 색인한다.
+     * 색인 작업이 끝난 뒤에 반환하므로 오프셋은 색인된 뒤에 커밋된다.
+     */
+    @KafkaListener(
+            topics = {"AfterPostCreatedEvent", "AfterPostModifiedEvent"},
+            groupId = "1",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = {
+                    "max.poll.records=${custom.search.indexBatch.maxDocs:500}",
+                    "fetch.max.wait.ms=${custom.search.indexBatch.maxWaitMs:200}",
+                    "fetch.min.bytes=${custom.search.indexBatch.minBytes:1048576}"
+            }
+    )
+    public void consumePostEvents(
+            List<PostDto> postDtos,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps
+    ) {
+        postDocumentService.addAll(postDtos, timestamps);
     }
+
     @KafkaListener(topics = "AfterPostCreatedEvent.DLT", groupId = "1")
     public void consumeAfterPostCreatedEventDLT(byte[] in) {
         String message = new String(in);
         System.out.println("failed message: " + message);
     }
 
-    @KafkaListener(topics = "AfterPostModifiedEvent", groupId = "1")
-    public void consumeAfterPostModifiedEvent(PostDto postDto) {
-        postDocumentService.modify(postDto);
-    }
-
     @KafkaListener(topics = "AfterPostModifiedEvent.DLT", groupId = "1")
     public void consumeAfterPostModifiedEventDLT(byte[] in) {
         String message = new String(in);
@@ -4,11 +4,17 @@ import com.example.sb_search.domain.post.postDocument.document.PostDocument;
 import com.example.sb_search.global.app.AppConfig;
 import com.example.sb_search.global.meilisearch.MeilisearchConfig;
 import com.example.sb_search.global.standard.UtBase;
+import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.Index;
 import com.meilisearch.sdk.SearchRequest;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.Searchable;
+import com.meilisearch.sdk.model.SwapIndexesParams;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -28,6 +34,10 @@ import com.meilisearch.sdk.model.SearchResult;
 @RequiredArgsConstructor
 public class PostDocumentRepository {
 
+    private static final int TASK_TIMEOUT_MILLIS = 60_000;
+    private static final int TASK_POLL_INTERVAL_MILLIS = 50;
+    private static final int PENDING_TASK_LIMIT = 1_000;
+
     private final MeilisearchConfig meilisearchConfig;
     private Index postIndex;
 
@@ -43,6 +53,100 @@ public class PostDocumentRepository {
         );
     }
 
+    /**
+     * 여러 문서를 addDocuments 1번으로 색인하고 작업이 끝날 때까지 대기
+     * 작업이 실패하면 예외를 던져 Kafka 배치가 재시도/DLT 로 가게 한다.
+     * @param postDocuments 색인할 문서 (id 중복 없음)
+     */
+    public void saveAll(List<PostDocument> postDocuments) {
+        TaskInfo taskInfo = getIndex().addDocuments(UtBase.json.toCompactString(postDocuments), "id");
+        getIndex().waitForTask(taskInfo.getTaskUid(), TASK_TIMEOUT_MILLIS, TASK_POLL_INTERVAL_MILLIS);
+
+        Task task = getIndex().getTask(taskInfo.getTaskUid());
+        if ("failed".equalsIgnoreCase(String.valueOf(task.getStatus()))) {
+            throw new IllegalStateException("색인 작업 실패 (taskUid=%d): %s".formatted(taskInfo.getTaskUid(), task.getError()));
+        }
+    }
+
+    /**
+     * 이 인덱스에서 대기 중이거나 처리 중인 작업 수 (최대 PENDING_TASK_LIMIT 까지 셈)
+     */
+    public int countPendingTasks() {
+        TasksResults results = meilisearchConfig.meilisearchClient().getTasks(
+                new TasksQuery()
+                        .setIndexUids(new String[]{getIndexName()})
+                        .setStatuses(new String[]{"enqueued", "processing"})
+                        .setLimit(PENDING_TASK_LIMIT)
+        );
+        return results.getResults().length;
+    }
+
+    /**
+     * 재색인용 새 인덱스 생성 (현재 인덱스의 설정을 그대로 복사)
+     * @param indexName 새 인덱스 이름
+     */
+    public void createIndexLike(String indexName) {
+        Client client = meilisearchConfig.meilisearchClient();
+        // 현재 인덱스가 없으면 교체할 수 없으므로 먼저 만든다 (이미 있으면 작업만 실패하고 넘어감)
+        client.waitForTask(client.createIndex(getIndexName(), "id").getTaskUid());
+        client.waitForTask(client.createIndex(indexName, "id").getTaskUid());
+
+        Index index = client.index(indexName);
+        index.waitForTask(index.updateSettings(getIndex().getSettings()).getTaskUid(), TASK_TIMEOUT_MILLIS, TASK_POLL_INTERVAL_MILLIS);
+    }
+
+    /**
+     * 지정한 인덱스에 문서 추가 (작업 완료를 기다리지 않음)
+     * @return 작업 id
+     */
+    public int addDocuments(String indexName, List<PostDocument> postDocuments) {
+        return meilisearchConfig.meilisearchClient().index(indexName)
+                .addDocuments(UtBase.json.toCompactString(postDocuments), "id")
+                .getTaskUid();
+    }
+
+    public void waitForTask(String indexName, int taskUid) {
+        meilisearchConfig.meilisearchClient().index(indexName)
+                .waitForTask(taskUid, TASK_TIMEOUT_MILLIS, TASK_POLL_INTERVAL_MILLIS);
+    }
+
+    public boolean hasFailedTasks(String indexName) {
+        TasksResults results = meilisearchConfig.meilisearchClient().getTasks(
+                new TasksQuery()
+                        .setIndexUids(new String[]{indexName})
+                        .setStatuses(new String[]{"failed"})
+                        .setLimit(1)
+        );
+        return results.getResults().length > 0;
+    }
+
+    /**
+     * 현재 인덱스와 새 인덱스의 내용을 원자적으로 맞바꿈 (Meilisearch index swap)
+     * 검색은 계속 같은 인덱스 이름을 쓰며, 교체 후 indexName 쪽에는 이전 문서가 남는다.
+     * @param indexName 새로 만든 인덱스 이름
+     */
+    public void swapWithCurrent(String indexName) {
+        Client client = meilisearchConfig.meilisearchClient();
+        TaskInfo taskInfo = client.swapIndexes(new SwapIndexesParams[]{
+                new SwapIndexesParams().setIndexes(new String[]{getIndexName(), indexName})
+        });
+        client.waitForTask(taskInfo.getTaskUid());
+
+        Task task = client.getTask(taskInfo.getTaskUid());
+        if ("failed".equalsIgnoreCase(String.valueOf(task.getStatus()))) {
+            throw new IllegalStateException("인덱스 교체 실패 (taskUid=%d): %s".formatted(taskInfo.getTaskUid(), task.getError()));
+        }
+    }
+
+    public void deleteIndex(String indexName) {
+        Client client = meilisearchConfig.meilisearchClient();
+        client.waitForTask(client.deleteIndex(indexName).getTaskUid());
+    }
+
+    public String getCurrentIndexName() {
+        return getIndexName();
+    }
+
     public void clear() {
         getIndex().deleteAllDocuments();
         getIndex().resetSortableAttributesSettings();
@@ -9,13 +9,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class PostDocumentService {
    private final PostDocumentRepository postDocumentRepository;
+   private final PostIndexingStats postIndexingStats;
 
     public void add(PostDto postDto) {
         PostDocument postDocument = new PostDocument(postDto);
@@ -23,6 +26,36 @@ public class PostDocumentService {
         postDocumentRepository.save(postDocument);
     }
 
+    /**
+     * 여러 게시글을 한 번에 색인
+     * 같은 id 가 여러 번 있으면 가장 최신 것(수정일 -> 이벤트 시각 -> 나중에 받은 순)만 남기고,
+     * addDocuments 1번으로 보낸 뒤 작업이 끝날 때까지 기다린다.
+     * @param postDtos 생성/수정 이벤트로 받은 게시글
+     * @param eventTimestamps 각 이벤트의 발생 시각 (postDtos 와 같은 순서, 없으면 null)
+     * @return 색인한 문서 수
+     */
+    public int addAll(List<PostDto> postDtos, List<Long> eventTimestamps) {
+        Map<Long, Integer> latestIndexById = new LinkedHashMap<>();
+        for (int i = 0; i < postDtos.size(); i++) {
+            latestIndexById.merge(postDtos.get(i).getId(), i,
+                    (current, candidate) -> isNewer(postDtos, eventTimestamps, candidate, current) ? candidate : current);
+        }
+
+        List<PostDocument> postDocuments = latestIndexById.values().stream()
+                .map(i -> new PostDocument(postDtos.get(i)))
+                .toList();
+
+        long startedAt = System.nanoTime();
+        postDocumentRepository.saveAll(postDocuments);
+        postIndexingStats.record(postDtos.size(), postDocuments.size(), startedAt, System.nanoTime() - startedAt);
+
+        return postDocuments.size();
+    }
+
+    public PostIndexingStats.Snapshot getIndexingStats() {
+        return postIndexingStats.snapshot(postDocumentRepository.countPendingTasks());
+    }
+
     public void clear() {
         postDocumentRepository.clear();
     }
@@ -49,4 +82,16 @@ public class PostDocumentService {
 
         postDocumentRepository.save(postDocument);
     }
+
+    // candidate 가 current 보다 최신인지 (candidate 는 항상 current 보다 나중에 받은 이벤트)
+    private static boolean isNewer(List<PostDto> postDtos, List<Long> eventTimestamps, int candidate, int current) {
+        int byModifyDate = postDtos.get(candidate).getModifyDate().compareTo(postDtos.get(current).getModifyDate());
+        if (byModifyDate != 0) {
+            return byModifyDate > 0;
+        }
+        if (eventTimestamps != null) {
+            return eventTimestamps.get(candidate) >= eventTimestamps.get(current);
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.example.sb_search.domain.post.postDocument.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검색 색인 처리량 통계
+ */
+@Component
+public class PostIndexingStats {
+    // 받은 이벤트 수 (중복 포함)
+    private final LongAdder receivedEvents = new LongAdder();
+    // 실제로 색인한 문서 수 (같은 배치의 같은 id 는 1건)
+    private final LongAdder indexedDocuments = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder indexNanos = new LongAdder();
+    private final AtomicLong firstIndexedAt = new AtomicLong();
+    private volatile long lastIndexedAt;
+    private volatile int lastBatchSize;
+
+    /**
+     * @param receivedEvents 받은 이벤트 수
+     * @param indexedDocuments 색인한 문서 수
+     * @param batches addDocuments 호출 수
+     * @param averageBatchSize 배치당 평균 문서 수
+     * @param averageBatchMillis 배치당 평균 소요 시간 (작업 완료 대기 포함)
+     * @param documentsPerSecond 첫 배치부터 마지막 배치까지의 문서 처리량
+     * @param lastBatchSize 마지막 배치의 문서 수
+     * @param pendingTasks 조회 시점에 Meilisearch 에서 대기/처리 중인 작업 수
+     */
+    public record Snapshot(long receivedEvents, long indexedDocuments, long batches, double averageBatchSize,
+                           double averageBatchMillis, double documentsPerSecond, int lastBatchSize,
+                           int pendingTasks) {
+    }
+
+    void record(int events, int documents, long startedAt, long elapsedNanos) {
+        firstIndexedAt.compareAndSet(0, startedAt);
+        receivedEvents.add(events);
+        indexedDocuments.add(documents);
+        batches.increment();
+        indexNanos.add(elapsedNanos);
+        lastBatchSize = documents;
+        lastIndexedAt = startedAt + elapsedNanos;
+    }
+
+    Snapshot snapshot(int pendingTasks) {
+        long batchCount = batches.sum();
+        long documents = indexedDocuments.sum();
+        long first = firstIndexedAt.get();
+        double seconds = first == 0 ? 0 : (lastIndexedAt - first) / 1e9;
+        return new Snapshot(
+                receivedEvents.sum(),
+                documents,
+                batchCount,
+                batchCount == 0 ? 0 : (double) documents / batchCount,
+                batchCount == 0 ? 0 : indexNanos.sum() / 1e6 / batchCount,
+                seconds <= 0 ? 0 : documents / seconds,
+                lastBatchSize,
+                pendingTasks
+        );
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.sb_search.domain.post.postDocument.service;
+
+import com.example.sb_search.domain.post.dto.PostDto;
+import com.example.sb_search.domain.post.entity.Post;
+import com.example.sb_search.domain.post.postDocument.document.PostDocument;
+import com.example.sb_search.domain.post.postDocument.repository.PostDocumentRepository;
+import com.example.sb_search.domain.post.service.PostService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 검색 인덱스 전체 재색인
+ * 1. 현재 인덱스 설정을 복사한 새 인덱스(postV{n}) 생성
+ * 2. 게시글을 id 키셋으로 chunkSize 건씩 읽고, 청크마다 문서 변환 + addDocuments 를 병렬로 수행
+ * 3. 모든 색인 작업이 끝나면 재색인 도중 수정된 게시글을 한 번 더 반영
+ * 4. 현재 인덱스와 새 인덱스를 맞바꾼 뒤(index swap) 이전 문서가 남은 쪽을 삭제
+ * 교체 전까지 검색은 기존 인덱스를 그대로 사용하므로 중단 시간이 없다.
+ * 수정 시각(modifyDate)은 커밋 전에 정해지므로, 다시 반영할 때는 catchUpMarginSeconds(가장 긴 트랜잭션 시간)만큼 앞에서부터 읽는다.
+ * 교체 후 단계에서 실패하면 새 인덱스는 이미 사용 중이므로 FAILED 가 아닌 SWAPPED_WITH_ERRORS 로 끝내고 이전 인덱스를 남겨 둔다.
+ */
+@Service
+@Slf4j
+public class PostReindexService {
+    private static final String INDEX_PREFIX = "postV";
+
+    private final PostService postService;
+    private final PostDocumentRepository postDocumentRepository;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration catchUpMargin;
+
+    // 재색인 작업은 한 번에 하나만 실행
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "post-reindex"));
+    private final AtomicReference<Job> currentJob = new AtomicReference<>();
+
+    public PostReindexService(
+            PostService postService,
+            PostDocumentRepository postDocumentRepository,
+            @Value("${custom.search.reindex.chunkSize:1000}") int chunkSize,
+            @Value("${custom.search.reindex.parallelism:4}") int parallelism,
+            @Value("${custom.search.reindex.catchUpMarginSeconds:60}") long catchUpMarginSeconds
+    ) {
+        this.postService = postService;
+        this.postDocumentRepository = postDocumentRepository;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.catchUpMargin = Duration.ofSeconds(catchUpMarginSeconds);
+    }
+
+    public enum Status {
+        CREATING_INDEX, INDEXING, WAITING_TASKS, CATCHING_UP, SWAPPING, DONE, FAILED,
+        // 교체는 끝났지만 교체 후 반영/정리에 실패 (새 인덱스로 검색 중, 교체 직전 수정분이 빠졌을 수 있음)
+        SWAPPED_WITH_ERRORS
+    }
+
+    /**
+     * @param indexName 새로 채우는 인덱스 이름
+     * @param status 진행 단계
+     * @param total 시작 시점의 게시글 수
+     * @param indexed 색인 요청을 보낸 게시글 수
+     * @param percent 진행률 (%)
+     * @param elapsedSeconds 경과 시간
+     * @param etaSeconds 남은 예상 시간 (계산할 수 없으면 -1)
+     * @param message 실패 사유
+     */
+    public record Progress(String indexName, Status status, long total, long indexed, double percent,
+                           long elapsedSeconds, long etaSeconds, String message) {
+    }
+
+    /**
+     * 재색인 시작 (이미 진행 중이면 진행 중인 작업의 상태를 돌려줌)
+     */
+    public Progress start() {
+        Job running = currentJob.get();
+        if (running != null && running.isRunning()) {
+            return running.progress();
+        }
+        Job job = new Job(INDEX_PREFIX + System.currentTimeMillis(), postService.count());
+        if (!currentJob.compareAndSet(running, job)) {
+            return currentJob.get().progress();
+        }
+
+        jobExecutor.execute(() -> run(job));
+        return job.progress();
+    }
+
+    /**
+     * 최근 재색인 진행 상황 (한 번도 실행하지 않았으면 null)
+     */
+    public Progress getProgress() {
+        Job job = currentJob.get();
+        return job == null ? null : job.progress();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        boolean swapped = false;
+        try {
+            job.status = Status.CREATING_INDEX;
+            LocalDateTime startedAt = LocalDateTime.now();
+            postDocumentRepository.createIndexLike(job.indexName);
+
+            job.status = Status.INDEXING;
+            int lastTaskUid = indexAll(job, workers);
+
+            job.status = Status.WAITING_TASKS;
+            if (lastTaskUid >= 0) {
+                // 한 인덱스의 작업은 등록 순서대로 처리되므로 가장 마지막 작업만 기다리면 된다
+                postDocumentRepository.waitForTask(job.indexName, lastTaskUid);
+            }
+            if (postDocumentRepository.hasFailedTasks(job.indexName)) {
+                throw new IllegalStateException("새 인덱스에 실패한 색인 작업이 있습니다.");
+            }
+
+            // 스캔하는 동안 수정된 게시글은 이미 지나간 청크에 있을 수 있으므로 다시 반영
+            job.status = Status.CATCHING_UP;
+            LocalDateTime caughtUpAt = LocalDateTime.now();
+            catchUp(job.indexName, startedAt);
+
+            job.status = Status.SWAPPING;
+            postDocumentRepository.swapWithCurrent(job.indexName);
+            swapped = true;
+            // 교체 직전에 이전 인덱스로 들어간 수정분을 새 인덱스(현재 이름)에 반영
+            catchUp(postDocumentRepository.getCurrentIndexName(), caughtUpAt);
+            postDocumentRepository.deleteIndex(job.indexName);
+
+            job.finish(Status.DONE, null);
+            log.info("재색인 완료: {}건, {}초", job.indexed.get(), job.elapsed().toSeconds());
+        } catch (Exception e) {
+            if (swapped) {
+                // 되돌릴 수 없으므로 이전 문서가 남은 인덱스(job.indexName)는 지우지 않고 확인/재실행에 맡긴다
+                log.error("재색인 교체 후 처리 실패: {}", job.indexName, e);
+                job.finish(Status.SWAPPED_WITH_ERRORS, e.getMessage());
+                return;
+            }
+            log.error("재색인 실패: {}", job.indexName, e);
+            job.finish(Status.FAILED, e.getMessage());
+            try {
+                postDocumentRepository.deleteIndex(job.indexName);
+            } catch (Exception deleteFailure) {
+                log.warn("재색인용 인덱스 삭제 실패: {}", job.indexName, deleteFailure);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    // 키셋으로 읽으면서 청크마다 변환/전송을 작업 스레드에 맡김 (대기 중인 청크 수를 제한해 메모리를 일정하게 유지)
+    private int indexAll(Job job, ExecutorService workers) throws Exception {
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        AtomicInteger lastTaskUid = new AtomicInteger(-1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        long lastId = 0;
+        while (true) {
+            List<Post> posts = postService.findChunkAfter(lastId, chunkSize);
+            if (posts.isEmpty()) {
+                break;
+            }
+            lastId = posts.get(posts.size() - 1).getId();
+
+            inFlight.acquire();
+            futures.add(workers.submit(() -> {
+                try {
+                    List<PostDocument> postDocuments = posts.stream()
+                            .map(post -> new PostDocument(new PostDto(post)))
+                            .toList();
+                    int taskUid = postDocumentRepository.addDocuments(job.indexName, postDocuments);
+                    lastTaskUid.accumulateAndGet(taskUid, Math::max);
+                    job.indexed.addAndGet(postDocuments.size());
+                } finally {
+                    inFlight.release();
+                }
+            }));
+
+            // 끝난 작업은 결과(예외)를 확인하고 목록에서 뺀다
+            for (var iterator = futures.iterator(); iterator.hasNext(); ) {
+                Future<?> future = iterator.next();
+                if (future.isDone()) {
+                    future.get();
+                    iterator.remove();
+                }
+            }
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return lastTaskUid.get();
+    }
+
+    // since 이후 수정된 게시글을 다시 반영
+    // since 직전에 수정 시각이 찍혔지만 그 뒤에 커밋된 수정은 스캔에서 옛 값으로 읽혔을 수 있으므로 여유를 두고 읽는다
+    private void catchUp(String indexName, LocalDateTime since) {
+        List<PostDocument> postDocuments = postService.findModifiedSince(since.minus(catchUpMargin)).stream()
+                .map(post -> new PostDocument(new PostDto(post)))
+                .toList();
+        if (postDocuments.isEmpty()) {
+            return;
+        }
+        postDocumentRepository.waitForTask(indexName, postDocumentRepository.addDocuments(indexName, postDocuments));
+    }
+
+    private static class Job {
+        final String indexName;
+        final long total;
+        final long startedAtNanos = System.nanoTime();
+        final AtomicLong indexed = new AtomicLong();
+        volatile Status status = Status.CREATING_INDEX;
+        volatile long finishedAtNanos;
+        volatile String message;
+
+        Job(String indexName, long total) {
+            this.indexName = indexName;
+            this.total = total;
+        }
+
+        boolean isRunning() {
+            return status != Status.DONE && status != Status.FAILED && status != Status.SWAPPED_WITH_ERRORS;
+        }
+
+        void finish(Status status, String message) {
+            this.message = message;
+            this.finishedAtNanos = System.nanoTime();
+            this.status = status;
+        }
+
+        Duration elapsed() {
+            long end = isRunning() ? System.nanoTime() : finishedAtNanos;
+            return Duration.ofNanos(end - startedAtNanos);
+        }
+
+        Progress progress() {
+            long done = indexed.get();
+            double seconds = elapsed().toMillis() / 1000.0;
+            long eta;
+            if (!isRunning()) {
+                eta = 0;
+            } else if (done == 0 || seconds == 0) {
+                eta = -1;
+            } else {
+                eta = (long) Math.ceil(Math.max(0, total - done) / (done / seconds));
+            }
+            return new Progress(indexName, status, total, done,
+                    total == 0 ? 100 : Math.min(100, done * 100.0 / total),
+                    (long) seconds, eta, message);
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package com.example.sb_search.domain.post.repository;
 
 import com.example.sb_search.domain.post.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
 import java.util.List;
 public interface PostRepository extends JpaRepository<Post, Long> {
     List<Post> findByOrderByIdDesc();
-}
\ No newline at end of file
+
+    // id 기준 키셋 페이징 (OFFSET 없이 마지막으로 읽은 id 다음부터)
+    List<Post> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    List<Post> findByModifyDateGreaterThanEqualOrderByIdAsc(LocalDateTime modifyDate);
+}
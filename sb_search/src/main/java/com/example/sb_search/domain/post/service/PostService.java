@@ -8,11 +8,13 @@ import com.example.sb_search.domain.post.postDocument.document.PostDocument;
 import com.example.sb_search.domain.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 //import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,6 +64,17 @@ public class PostService {
     }
 
 
+    /**
+     * id 가 lastId 보다 큰 게시글을 id 순으로 최대 size 건 조회 (전체를 한 번에 읽지 않고 이어서 읽기 위함)
+     */
+    public List<Post> findChunkAfter(long lastId, int size) {
+        return postRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(size));
+    }
+
+    public List<Post> findModifiedSince(LocalDateTime modifyDate) {
+        return postRepository.findByModifyDateGreaterThanEqualOrderByIdAsc(modifyDate);
+    }
+
     public Optional<Post> findById(long id) {
         return postRepository.findById(id);
     }
@@ -27,6 +27,12 @@ public class UtBase {
         public static String toString(Object obj) {
             return AppConfig.getObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(obj);
         }
+
+        // 공백 없이 직렬화 (대량 전송용)
+        @SneakyThrows
+        public static String toCompactString(Object obj) {
+            return AppConfig.getObjectMapper().writeValueAsString(obj);
+        }
         @SneakyThrows
         public static <T> T toObject(String jsonStr, Class<T> cls) {
             return AppConfig.getObjectMapper().readValue(jsonStr, cls);
@@ -0,0 +1,146 @@
+package com.example.sb_search.domain.post.postDocument.service;
+
+import com.example.sb_search.domain.post.dto.PostDto;
+import com.example.sb_search.domain.post.postDocument.document.PostDocument;
+import com.example.sb_search.domain.post.postDocument.repository.PostDocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PostDocumentServiceBatchTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private PostDocumentRepository postDocumentRepository;
+    private PostDocumentService postDocumentService;
+
+    @BeforeEach
+    void setUp() {
+        postDocumentRepository = mock(PostDocumentRepository.class);
+        postDocumentService = new PostDocumentService(postDocumentRepository, new PostIndexingStats());
+    }
+
+    @Test
+    @DisplayName("한 배치의 같은 id 는 수정일이 가장 늦은 것 1건만 처음 받은 순서대로 색인")
+    void duplicateIdsKeepLatestModifyDate() {
+        int indexed = postDocumentService.addAll(List.of(
+                post(1, 0, "1-v0"),
+                post(2, 0, "2-v0"),
+                post(1, 2, "1-v2"),
+                post(1, 1, "1-v1"),
+                post(2, 1, "2-v1")
+        ), null);
+
+        assertThat(indexed).isEqualTo(2);
+        assertThat(savedDocuments())
+                .extracting(PostDocument::getId, PostDocument::getSubject)
+                .containsExactly(tuple(1L, "1-v2"), tuple(2L, "2-v1"));
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 예전 수정은 이미 받은 최신 수정을 덮어쓰지 않음")
+    void outOfOrderEventsDoNotOverwriteNewer() {
+        postDocumentService.addAll(List.of(
+                post(1, 3, "최신"),
+                post(1, 1, "예전"),
+                post(1, 2, "중간")
+        ), timestamps(300, 400, 500));
+
+        assertThat(savedDocuments())
+                .extracting(PostDocument::getSubject)
+                .containsExactly("최신");
+    }
+
+    @Test
+    @DisplayName("수정일이 같으면 이벤트 시각이 늦은 것, 그것도 같거나 없으면 나중에 받은 것")
+    void sameModifyDateFallsBackToTimestampThenArrival() {
+        postDocumentService.addAll(List.of(
+                post(1, 1, "늦은 이벤트"),
+                post(1, 1, "이른 이벤트"),
+                post(2, 1, "먼저 받음"),
+                post(2, 1, "나중에 받음")
+        ), timestamps(200, 100, 100, 100));
+        assertThat(savedDocuments())
+                .extracting(PostDocument::getSubject)
+                .containsExactly("늦은 이벤트", "나중에 받음");
+
+        postDocumentService.addAll(List.of(
+                post(3, 1, "먼저 받음"),
+                post(3, 1, "나중에 받음")
+        ), null);
+        assertThat(savedDocuments())
+                .extracting(PostDocument::getSubject)
+                .containsExactly("나중에 받음");
+    }
+
+    @Test
+    @DisplayName("생성/수정 이벤트가 섞인 배치도 id 마다 최신 1건, addDocuments 1번")
+    void mixedCreateAndModifyEventsBecomeOneCall() {
+        // 두 토픽(AfterPostCreatedEvent, AfterPostModifiedEvent)의 레코드가 한 배치로 들어옴
+        int indexed = postDocumentService.addAll(List.of(
+                post(1, 0, "1 생성"),
+                post(2, 0, "2 생성"),
+                post(1, 1, "1 수정"),
+                post(3, 0, "3 생성"),
+                post(2, 2, "2 두 번째 수정"),
+                post(2, 1, "2 첫 번째 수정"),
+                post(4, 0, "4 생성")
+        ), timestamps(10, 20, 30, 40, 60, 50, 70));
+
+        assertThat(indexed).isEqualTo(4);
+        verify(postDocumentRepository, times(1)).saveAll(any());
+        assertThat(savedDocuments())
+                .extracting(PostDocument::getId, PostDocument::getSubject)
+                .containsExactly(
+                        tuple(1L, "1 수정"),
+                        tuple(2L, "2 두 번째 수정"),
+                        tuple(3L, "3 생성"),
+                        tuple(4L, "4 생성"));
+
+        PostIndexingStats.Snapshot stats = postDocumentService.getIndexingStats();
+        assertThat(stats.receivedEvents()).isEqualTo(7);
+        assertThat(stats.indexedDocuments()).isEqualTo(4);
+        assertThat(stats.batches()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("색인 작업이 실패하면 예외를 그대로 던지고 통계에 넣지 않음 (Kafka 배치 재시도)")
+    void failedSaveIsPropagatedAndNotCounted() {
+        doThrow(new IllegalStateException("색인 작업 실패"))
+                .when(postDocumentRepository).saveAll(any());
+
+        assertThatThrownBy(() -> postDocumentService.addAll(List.of(post(1, 0, "1")), null))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(postDocumentService.getIndexingStats().batches()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PostDocument> savedDocuments() {
+        ArgumentCaptor<List<PostDocument>> captor = ArgumentCaptor.forClass(List.class);
+        verify(postDocumentRepository, atLeastOnce()).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static PostDto post(long id, int modifiedMinutes, String subject) {
+        return new PostDto(id, CREATED, CREATED.plusMinutes(modifiedMinutes), subject, "본문 " + subject);
+    }
+
+    private static List<Long> timestamps(long... values) {
+        return Arrays.stream(values).boxed().toList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.sb_search.domain.post.postDocument.service;
+
+import com.example.sb_search.domain.post.postDocument.repository.PostDocumentRepository;
+import com.example.sb_search.domain.post.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PostReindexServiceTest {
+    private static final long MARGIN_SECONDS = 60;
+
+    private PostService postService;
+    private PostDocumentRepository postDocumentRepository;
+    private PostReindexService postReindexService;
+
+    @BeforeEach
+    void setUp() {
+        // 게시글이 없는 상태에서 인덱스 생성 -> 교체 흐름만 실행
+        postService = mock(PostService.class);
+        when(postService.findChunkAfter(anyLong(), anyInt())).thenReturn(List.of());
+        when(postService.findModifiedSince(any())).thenReturn(List.of());
+
+        postDocumentRepository = mock(PostDocumentRepository.class);
+        when(postDocumentRepository.getCurrentIndexName()).thenReturn("post");
+
+        postReindexService = new PostReindexService(postService, postDocumentRepository, 100, 2, MARGIN_SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        postReindexService.shutdown();
+    }
+
+    @Test
+    @DisplayName("재색인 중 수정분은 가장 긴 트랜잭션 시간만큼 앞에서부터 다시 읽는다")
+    void catchUpReadsWithMargin() throws InterruptedException {
+        LocalDateTime before = LocalDateTime.now();
+        PostReindexService.Progress progress = awaitFinished(postReindexService.start());
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(progress.status()).isEqualTo(PostReindexService.Status.DONE);
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(postService, times(2)).findModifiedSince(since.capture());
+        assertThat(since.getAllValues()).allSatisfy(value -> assertThat(value)
+                .isBetween(before.minusSeconds(MARGIN_SECONDS), after.minusSeconds(MARGIN_SECONDS)));
+        verify(postDocumentRepository).deleteIndex(progress.indexName());
+    }
+
+    @Test
+    @DisplayName("교체 전에 실패하면 FAILED, 새 인덱스를 지운다")
+    void failureBeforeSwapIsFailed() throws InterruptedException {
+        when(postDocumentRepository.hasFailedTasks(any())).thenReturn(true);
+
+        PostReindexService.Progress progress = awaitFinished(postReindexService.start());
+
+        assertThat(progress.status()).isEqualTo(PostReindexService.Status.FAILED);
+        verify(postDocumentRepository, never()).swapWithCurrent(any());
+        verify(postDocumentRepository).deleteIndex(progress.indexName());
+    }
+
+    @Test
+    @DisplayName("교체 후에 실패하면 SWAPPED_WITH_ERRORS, 이전 인덱스는 남긴다")
+    void failureAfterSwapIsReportedSeparately() throws InterruptedException {
+        doThrow(new IllegalStateException("이전 인덱스 삭제 실패")).when(postDocumentRepository).deleteIndex(any());
+
+        PostReindexService.Progress progress = awaitFinished(postReindexService.start());
+
+        assertThat(progress.status()).isEqualTo(PostReindexService.Status.SWAPPED_WITH_ERRORS);
+        assertThat(progress.message()).isEqualTo("이전 인덱스 삭제 실패");
+        verify(postDocumentRepository).swapWithCurrent(progress.indexName());
+        // 교체 후 처리에서 한 번 시도한 것 말고는 지우지 않음
+        verify(postDocumentRepository, times(1)).deleteIndex(progress.indexName());
+
+        // 끝난 작업이므로 다시 시작할 수 있다
+        assertThat(postReindexService.start().indexName()).isNotEqualTo(progress.indexName());
+    }
+
+    private PostReindexService.Progress awaitFinished(PostReindexService.Progress started) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            PostReindexService.Progress progress = postReindexService.getProgress();
+            if (progress.indexName().equals(started.indexName()) && progress.etaSeconds() == 0) {
+                return progress;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("재색인이 끝나지 않았습니다.");
+    }
+}
@@ -0,0 +1,115 @@
+package com.surl.studyurl.global.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 리다이렉트 경로 처리량/지연 비교 (캐시 없음 vs TinyLfuCache)
+ * DB 조회는 고정 지연(QUERY_NANOS)으로 흉내 내고, id 는 Zipf(s=1.0) 분포로 뽑으며 일부는 없는 id 로 보낸다.
+ *
+ * 실행: java -cp ... com.surl.studyurl.global.cache.RedirectCacheBenchmark [threads] [seconds]
+ */
+public class RedirectCacheBenchmark {
+    private static final int URL_COUNT = 1_000_000;
+    private static final int CACHE_SIZE = 100_000;
+    private static final double UNKNOWN_RATIO = 0.01;
+    private static final long QUERY_NANOS = 200_000;  // url 컬럼만 읽는 쿼리 1회 (커넥션 획득 + 왕복)
+    private static final Duration NOT_FOUND_TTL = Duration.ofSeconds(10);
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        double[] zipf = zipfTable(URL_COUNT, 1.0);
+
+        run("noCache", threads, seconds, zipf, null);
+        run("tinyLfu", threads, seconds, zipf, new TinyLfuCache<>(CACHE_SIZE));
+    }
+
+    private static void run(String name, int threads, int seconds, double[] zipf,
+                            TinyLfuCache<Long, Optional<String>> cache) throws Exception {
+        LongAdder redirects = new LongAdder();
+        long[][] latencies = new long[threads][];
+        int[] counts = new int[threads];
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            latencies[t] = new long[1 << 22];
+            new Thread(() -> {
+                Random random = new Random(worker);
+                while (System.nanoTime() < deadline) {
+                    long id = random.nextDouble() < UNKNOWN_RATIO
+                            ? URL_COUNT + random.nextInt(URL_COUNT)
+                            : sample(zipf, random);
+                    long startedAt = System.nanoTime();
+                    Optional<String> url = cache == null ? query(id) : lookup(cache, id);
+                    long elapsed = System.nanoTime() - startedAt;
+                    if (url.isPresent() || id >= URL_COUNT) {
+                        redirects.increment();
+                    }
+                    if (counts[worker] < latencies[worker].length) {
+                        latencies[worker][counts[worker]++] = elapsed;
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] all = new long[(int) total];
+        int offset = 0;
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(latencies[t], 0, all, offset, counts[t]);
+            offset += counts[t];
+        }
+        Arrays.sort(all);
+        System.out.printf("%s: threads=%d, redirects/s=%.0f, p50=%.1fus, p99=%.1fus%s%n",
+                name, threads, redirects.sum() / (double) seconds,
+                all[all.length / 2] / 1000.0, all[(int) (all.length * 0.99)] / 1000.0,
+                cache == null ? "" : String.format(", hitRate=%.3f, size=%d", cache.getHitRate(), cache.size()));
+    }
+
+    // SurService.findUrlById 와 같은 흐름
+    private static Optional<String> lookup(TinyLfuCache<Long, Optional<String>> cache, long id) {
+        Optional<String> cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<String> url = query(id);
+        cache.put(id, url, url.isPresent() ? null : NOT_FOUND_TTL);
+        return url;
+    }
+
+    private static Optional<String> query(long id) {
+        LockSupport.parkNanos(QUERY_NANOS);
+        return id < URL_COUNT ? Optional.of("https://example.com/" + id) : Optional.empty();
+    }
+
+    private static double[] zipfTable(int n, double s) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, s);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static long sample(double[] cumulative, Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,116 @@
+package com.surl.studyurl.global.security;
+
+import com.surl.studyurl.domain.member.data.AccessTokenClaims;
+import com.surl.studyurl.domain.member.service.AuthTokenService;
+import com.surl.studyurl.global.app.AppConfig;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthenticationFilter 의 요청당 토큰 처리 비용 비교
+ * - legacy: 요청마다 파서를 새로 만들어 검증(validateToken) 후 한 번 더 파싱(getUserFromAccessToken)
+ * - verify: AuthTokenService.verify 한 번 (파서/키 재사용 + 토큰 해시 캐시)
+ * 사용자 수(users)만큼 토큰을 만들어 두고, 각 요청은 그중 하나를 무작위로 사용한다.
+ * users 가 검증 캐시 크기(50,000)보다 크면 verify 에도 캐시 미스(파싱 + 서명 검증)가 섞인다.
+ *
+ * 실행: java -cp ... com.surl.studyurl.global.security.AuthFilterBenchmark [JMH 옵션, 예: -t 8]
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthFilterBenchmark {
+    private static final String SECRET = "c3R1ZHl1cmwtYmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWhzMjU2LXNpZ25pbmc=";
+
+    @State(Scope.Benchmark)
+    public static class Tokens {
+        @Param({"10000", "100000"})
+        int users;
+
+        String[] tokens;
+        AuthTokenService authTokenService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            new AppConfig().setJwtSecretKey(SECRET);
+            authTokenService = new AuthTokenService();
+            tokens = new String[users];
+            for (int i = 0; i < users; i++) {
+                tokens[i] = genToken(i);
+            }
+        }
+    }
+
+    // 스레드마다 따로 뽑아 난수 생성기 경합이 측정에 섞이지 않게 한다
+    @State(Scope.Thread)
+    public static class Picker {
+        private final SplittableRandom random = new SplittableRandom();
+
+        String next(Tokens tokens) {
+            return tokens.tokens[random.nextInt(tokens.tokens.length)];
+        }
+    }
+
+    // 변경 전 AuthTokenService.validateToken + getDataFrom 와 같은 흐름
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public SecurityUser legacy(Tokens tokens, Picker picker) {
+        String token = picker.next(tokens);
+        try {
+            Jwts.parser().setSigningKey(SECRET).build().parseClaimsJws(token);
+        } catch (Exception e) {
+            return null;
+        }
+        Claims payload = Jwts.parser().setSigningKey(SECRET).build().parseClaimsJws(token).getPayload();
+        List<String> authorities = payload.get("authorities", List.class);
+        return new SecurityUser(payload.get("id", Integer.class), payload.get("userid", String.class), "",
+                authorities.stream().map(SimpleGrantedAuthority::new).toList());
+    }
+
+    // 변경 후 AuthenticationFilter -> MemberService.verifyAccessToken + getUserFromAccessToken(claims)
+    @Benchmark
+    public SecurityUser verify(Tokens tokens, Picker picker) {
+        AccessTokenClaims claims = tokens.authTokenService.verify(picker.next(tokens));
+        if (!claims.valid()) {
+            return null;
+        }
+        return new SecurityUser(claims.id(), claims.userid(), "",
+                claims.authorities().stream().map(SimpleGrantedAuthority::new).toList());
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .include(AuthFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static String genToken(long id) {
+        Date issuedAt = new Date();
+        return Jwts.builder()
+                .claims(Jwts.claims()
+                        .add("id", id)
+                        .add("userid", "user" + id)
+                        .add("authorities", List.of("ROLE_MEMBER"))
+                        .build())
+                .issuedAt(issuedAt)
+                .expiration(new Date(issuedAt.getTime() + Duration.ofHours(1).toMillis()))
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+    }
+}
@@ -0,0 +1,84 @@
+package com.surl.studyurl.standard.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SURL 생성 시 번호 발급 + 짧은 코드 변환 처리량 비교 (1/8/64 스레드)
+ * - identity: 생성마다 INSERT 로 번호를 받아 오는 방식. DB 왕복(ROUND_TRIP_NANOS)을 커넥션 풀(POOL_SIZE) 안에서 기다림
+ * - block: 시퀀스 한 번에 ID_BLOCK_SIZE 개를 예약하고 메모리에서 나눠 주는 방식 (예약 시에만 DB 왕복)
+ * DB 는 고정 지연으로 흉내 내며, 두 방식 모두 번호를 섞은 짧은 코드까지 만든다.
+ *
+ * 실행: java -cp ... com.surl.studyurl.standard.util.ShortCodeBenchmark [seconds]
+ */
+public class ShortCodeBenchmark {
+    private static final long ROUND_TRIP_NANOS = 300_000;
+    private static final int POOL_SIZE = 10;
+    private static final int ID_BLOCK_SIZE = 10_000;
+
+    private static final ShortCode SHORT_CODE = new ShortCode(0x5eed5eedL);
+    private static final Semaphore CONNECTIONS = new Semaphore(POOL_SIZE);
+
+    private static long identitySequence;
+    private static long blockNext;
+    private static long blockLimit;
+    private static long blockSequence;
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        for (int threads : new int[]{1, 8, 64}) {
+            run("identity", threads, seconds, ShortCodeBenchmark::identityId);
+            run("block", threads, seconds, ShortCodeBenchmark::blockId);
+        }
+    }
+
+    private static void run(String name, int threads, int seconds, IdSource idSource) throws Exception {
+        LongAdder creates = new LongAdder();
+        LongAdder codeChars = new LongAdder();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    codeChars.add(SHORT_CODE.encode(idSource.next()).length());
+                    creates.increment();
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        System.out.printf("%-8s threads=%2d creates/s=%,12.0f (avg code length %.1f)%n",
+                name, threads, creates.sum() / (double) seconds, codeChars.sum() / (double) creates.sum());
+    }
+
+    // 생성마다 DB 왕복 (커넥션 풀 크기만큼만 동시에)
+    private static long identityId() {
+        CONNECTIONS.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+            synchronized (ShortCodeBenchmark.class) {
+                return ++identitySequence;
+            }
+        } finally {
+            CONNECTIONS.release();
+        }
+    }
+
+    // Hibernate pooled 옵티마이저와 같은 흐름: 블록이 비었을 때만 시퀀스 호출
+    private static synchronized long blockId() {
+        if (blockNext == blockLimit) {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+            blockNext = blockSequence * ID_BLOCK_SIZE + 1;
+            blockLimit = blockNext + ID_BLOCK_SIZE;
+            blockSequence++;
+        }
+        return blockNext++;
+    }
+
+    @FunctionalInterface
+    private interface IdSource {
+        long next();
+    }
+}
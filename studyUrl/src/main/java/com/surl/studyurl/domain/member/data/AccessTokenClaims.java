@@ -0,0 +1,30 @@
+package com.surl.studyurl.domain.member.data;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.List;
+
+/**
+ * 엑세스 토큰 검증 결과
+ * 서명 검증과 클레임 추출을 한 번의 파싱으로 처리한 결과이며, 유효하지 않으면 valid 만 false 로 채운다.
+ */
+public record AccessTokenClaims(
+        boolean valid,
+        long id,
+        String userid,
+        List<String> authorities,
+        long expiresAtMillis
+) {
+    public static final AccessTokenClaims INVALID = new AccessTokenClaims(false, 0, null, List.of(), 0);
+
+    @SuppressWarnings("unchecked")
+    public static AccessTokenClaims from(Claims payload) {
+        return new AccessTokenClaims(
+                true,
+                payload.get("id", Number.class).longValue(),
+                payload.get("userid", String.class),
+                List.copyOf((List<String>) payload.get("authorities", List.class)),
+                payload.getExpiration() == null ? Long.MAX_VALUE : payload.getExpiration().getTime()
+        );
+    }
+}
@@ -1,21 +1,50 @@
 package com.surl.studyurl.domain.member.service;
 
+import com.surl.studyurl.domain.member.data.AccessTokenClaims;
 import com.surl.studyurl.domain.member.entity.Member;
+import com.surl.studyurl.global.cache.TinyLfuCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import com.surl.studyurl.global.app.AppConfig;
+
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
-import java.util.List;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class AuthTokenService {
+
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 50_000;
+
+    // 토큰 원문 대신 SHA-256 값을 키로 사용 (메모리에 토큰 원문을 남기지 않음)
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // 검증에 성공한 토큰 (토큰 해시 -> 클레임), 토큰의 exp 까지만 유지
+    private final TinyLfuCache<ByteBuffer, AccessTokenClaims> verifiedTokens = new TinyLfuCache<>(VERIFIED_TOKEN_CACHE_SIZE);
+
+    // 키와 파서는 한 번만 만든다 (비밀키는 AppConfig 가 설정된 뒤에 읽어야 하므로 처음 사용할 때 생성)
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
     public String genToken(Member member, long expireSeconds) {
         Claims claims = Jwts
                 .claims()
@@ -29,10 +58,10 @@ public class AuthTokenService {
         Date expiration = new Date(issuedAt.getTime() + 1000 * expireSeconds);
 
         return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(issuedAt)
-                .setExpiration(expiration)
-                .signWith(SignatureAlgorithm.HS256, AppConfig.getJwtSecretKey())
+                .claims(claims)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(signingKey(), Jwts.SIG.HS256)
                 .compact();
     }
 
@@ -40,26 +69,48 @@ public class AuthTokenService {
         return genToken(member, AppConfig.getAccessTokenExpirationSec());
     }
 
+    /**
+     * 토큰 검증과 클레임 추출을 한 번에 처리
+     * 검증에 성공한 토큰은 만료 시각까지 캐시하므로, 같은 토큰의 다음 요청은 파싱과 서명 검증을 하지 않는다.
+     * @param token 엑세스 토큰
+     * @return 검증 결과 (유효하지 않으면 AccessTokenClaims.INVALID)
+     */
+    public AccessTokenClaims verify(String token) {
+        ByteBuffer key = hash(token);
+        AccessTokenClaims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        AccessTokenClaims claims;
+        try {
+            claims = AccessTokenClaims.from(parser().parseSignedClaims(token).getPayload());
+        } catch (Exception e) {
+            // 위조/만료된 토큰은 캐시하지 않는다 (임의 토큰으로 캐시를 채우지 못하게)
+            return AccessTokenClaims.INVALID;
+        }
+
+        long ttlMillis = claims.expiresAtMillis() - System.currentTimeMillis();
+        if (ttlMillis > 0) {
+            verifiedTokens.put(key, claims, Duration.ofMillis(ttlMillis));
+        }
+        return claims;
+    }
+
     public Map<String, Object> getDataFrom(String token) {
-        Claims payload = Jwts.parser()
-                .setSigningKey(AppConfig.getJwtSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getPayload();
+        AccessTokenClaims claims = verify(token);
+        if (!claims.valid()) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
         return Map.of(
-                "id", payload.get("id", Integer.class),
-                "userid", payload.get("userid", String.class),
-                "authorities", payload.get("authorities", List.class)
+                "id", claims.id(),
+                "userid", claims.userid(),
+                "authorities", claims.authorities()
         );
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(AppConfig.getJwtSecretKey()).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).valid();
     }
 
     public String genRefreshToken() {
@@ -68,4 +119,28 @@ public class AuthTokenService {
         random.nextBytes(bytes);
         return Base64.getUrlEncoder().encodeToString(bytes);
     }
-}
\ No newline at end of file
+
+    private SecretKey signingKey() {
+        SecretKey key = signingKey;
+        if (key == null) {
+            // 기존 signWith(alg, String)/setSigningKey(String) 과 같이 비밀키 문자열을 Base64 로 해석
+            key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(AppConfig.getJwtSecretKey()));
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser parser() {
+        JwtParser current = parser;
+        if (current == null) {
+            // 동시에 여러 번 만들어져도 설정이 같으므로 마지막 것을 쓰면 된다
+            current = Jwts.parser().verifyWith(signingKey()).build();
+            parser = current;
+        }
+        return current;
+    }
+
+    private static ByteBuffer hash(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
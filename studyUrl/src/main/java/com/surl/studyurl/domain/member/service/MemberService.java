@@ -1,5 +1,6 @@
 package com.surl.studyurl.domain.member.service;
 
+import com.surl.studyurl.domain.member.data.AccessTokenClaims;
 import com.surl.studyurl.domain.member.entity.Member;
 import com.surl.studyurl.domain.member.repository.MemberRepository;
 import com.surl.studyurl.global.exception.GlobalException;
@@ -9,10 +10,9 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -79,21 +79,36 @@ public class MemberService {
     }
 
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public SecurityUser getUserFromAccessToken(String accessToken) {
-        Map<String, Object> payloadBody = authTokenService.getDataFrom(accessToken);
-
-        long id = (int) payloadBody.get("id");
-        String userid = (String) payloadBody.get("userid");
-        List<String> authorities = (List<String>) payloadBody.get("authorities");
+        AccessTokenClaims claims = authTokenService.verify(accessToken);
+        if (!claims.valid()) {
+            throw new GlobalException("401-1", "유효하지 않은 엑세스 토큰입니다.");
+        }
+        return getUserFromAccessToken(claims);
+    }
 
+    // 이미 검증된 클레임으로 사용자 정보 생성 (토큰을 다시 파싱하지 않음)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public SecurityUser getUserFromAccessToken(AccessTokenClaims claims) {
         return new SecurityUser(
-                id,
-                userid,
+                claims.id(),
+                claims.userid(),
                 "",
-                authorities.stream().map(SimpleGrantedAuthority::new).toList()
+                claims.authorities().stream().map(SimpleGrantedAuthority::new).toList()
         );
     }
 
+    /**
+     * 엑세스 토큰 검증 (검증과 클레임 추출을 한 번의 파싱으로 처리)
+     * 요청마다 호출되므로 트랜잭션(DB 커넥션)을 열지 않는다.
+     * @param accessToken 엑세스 토큰
+     * @return 검증 결과
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AccessTokenClaims verifyAccessToken(String accessToken) {
+        return authTokenService.verify(accessToken);
+    }
 
     public boolean validateToken(String token) {
         return authTokenService.validateToken(token);
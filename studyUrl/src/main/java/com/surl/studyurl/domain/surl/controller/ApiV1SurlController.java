@@ -4,16 +4,23 @@ import com.surl.studyurl.domain.surl.data.SurCreateReqBody;
 import com.surl.studyurl.domain.surl.data.SurModifyReqBody;
 import com.surl.studyurl.domain.surl.data.SurlCreateRespBody;
 import com.surl.studyurl.domain.surl.entity.Surl;
+import com.surl.studyurl.domain.surl.service.SurBulkService;
 import com.surl.studyurl.domain.surl.service.SurService;
 import com.surl.studyurl.global.httpsdata.ReqData;
 import com.surl.studyurl.global.httpsdata.RespData;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 @RestController
 @RequestMapping("/api/v1/surls")
 @RequiredArgsConstructor
@@ -21,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class ApiV1SurlController {
 
     private final SurService surService;
+    private final SurBulkService surBulkService;
     private final ReqData reqData;
 
     @PostMapping("")
@@ -32,6 +40,19 @@ public class ApiV1SurlController {
         return RespData.of(new SurlCreateRespBody(surl.getShortUrl()));
     }
 
+    /**
+     * SURL 대량 생성
+     * 본문은 JSON 배열 또는 NDJSON, 응답은 항목마다 한 줄씩 NDJSON 으로 저장되는 대로 내려간다.
+     * 묶음 단위로 커밋하므로 중간에 실패해도 앞서 응답한 항목은 생성된 상태로 남는다.
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("isAuthenticated()")
+    public void bulkCreate(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        surBulkService.createAll(reqData.getMember(), request.getInputStream(), response.getOutputStream());
+    }
+
     @PutMapping("/{id}")
     public void modify(
             @PathVariable long id,
@@ -1,8 +1,9 @@
 package com.surl.studyurl.domain.surl.controller;
 
 
-import com.surl.studyurl.domain.surl.entity.Surl;
 import com.surl.studyurl.domain.surl.service.SurService;
+import com.surl.studyurl.global.app.AppConfig;
+import com.surl.studyurl.global.exception.GlobalException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,7 +16,18 @@ public class MoveController {
 
     @GetMapping("/{id:\\d+}")
     public String move(@PathVariable long id){
-        Surl surl = surService.findById(id).get();
-        return "redirect:" + surl.getUrl();
+        String url = surService.findUrlById(id)
+                .orElseThrow(GlobalException.E404::new);
+        return "redirect:" + url;
+    }
+
+    // 짧은 코드는 항상 영문으로 시작하므로 숫자 주소와 겹치지 않는다
+    @GetMapping("/{code:[A-Za-z][0-9A-Za-z]*}")
+    public String moveByCode(@PathVariable String code){
+        long id = AppConfig.getShortCode().decode(code);
+        if (id < 0) {
+            throw new GlobalException.E404();
+        }
+        return move(id);
     }
 }
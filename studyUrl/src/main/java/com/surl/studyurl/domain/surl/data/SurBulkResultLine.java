@@ -0,0 +1,16 @@
+package com.surl.studyurl.domain.surl.data;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 대량 생성 결과 한 줄 (NDJSON), 실패한 항목은 shortUrl 대신 msg 를 채운다
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SurBulkResultLine(long index, String url, String shortUrl, String msg) {
+
+    public static SurBulkResultLine success(long index, String url, String shortUrl) {
+        return new SurBulkResultLine(index, url, shortUrl, null);
+    }
+
+    public static SurBulkResultLine fail(long index, String url, String msg) {
+        return new SurBulkResultLine(index, url, null, msg);
+    }
+}
@@ -7,9 +7,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.*;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
@@ -19,16 +20,25 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 @Setter
 public class Surl extends BaseTime {
+    // 시퀀스 호출 한 번에 번호 10,000개를 예약하고 메모리에서 나눠 준다 (hi/lo, Hibernate pooled 옵티마이저)
+    // IDENTITY 와 달리 저장 시 번호를 받으려고 바로 INSERT 하지 않으므로 INSERT 를 JDBC 배치로 묶을 수 있다.
+    public static final int ID_BLOCK_SIZE = 10_000;
+
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "surl_id")
+    @SequenceGenerator(name = "surl_id", sequenceName = "surl_id_seq", allocationSize = ID_BLOCK_SIZE)
     private Long id;
     @ManyToOne
     private Member author;
     private String url;
     private String title;
 
+    public String getShortCode(){
+        return AppConfig.getShortCode().encode(id);
+    }
+
     public String getShortUrl(){
-        return AppConfig.getSiteBackUrl()+"/"+id;
+        return AppConfig.getSiteBackUrl()+"/"+getShortCode();
     }
 
 }
\ No newline at end of file
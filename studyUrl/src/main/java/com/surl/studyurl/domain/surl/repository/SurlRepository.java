@@ -2,5 +2,14 @@ package com.surl.studyurl.domain.surl.repository;
 
 import com.surl.studyurl.domain.surl.entity.Surl;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface SurlRepository extends JpaRepository<Surl,Long> { }
+import java.util.Optional;
+
+public interface SurlRepository extends JpaRepository<Surl,Long> {
+
+    // 리다이렉트용: 엔티티와 작성자를 읽지 않고 url 컬럼만 조회
+    @Query("select s.url from Surl s where s.id = :id")
+    Optional<String> findUrlById(@Param("id") long id);
+}
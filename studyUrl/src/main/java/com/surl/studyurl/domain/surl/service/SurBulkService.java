@@ -0,0 +1,143 @@
+package com.surl.studyurl.domain.surl.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.surl.studyurl.domain.member.entity.Member;
+import com.surl.studyurl.domain.surl.data.SurBulkResultLine;
+import com.surl.studyurl.domain.surl.data.SurCreateReqBody;
+import com.surl.studyurl.domain.surl.entity.Surl;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * SURL 대량 생성
+ * 요청 본문(JSON 배열 또는 NDJSON)을 한 항목씩 읽어 BATCH_SIZE 개마다 한 트랜잭션으로 저장하고,
+ * 저장된 묶음의 결과를 바로 NDJSON 으로 내보낸다. 요청/응답 크기와 상관없이 메모리에는 한 묶음만 올라간다.
+ * 항목마다 SurCreateReqBody 의 검증 규칙(@NotBlank 등)을 적용하고, 어긴 항목은 저장하지 않고 그 자리에서 실패 줄을 쓴다.
+ */
+@Service
+@Slf4j
+public class SurBulkService {
+    public static final int BATCH_SIZE = 500;
+
+    private final SurService surService;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final Validator validator;
+
+    public SurBulkService(SurService surService, ObjectMapper objectMapper, Validator validator) {
+        this.surService = surService;
+        this.validator = validator;
+        this.reader = objectMapper.readerFor(SurCreateReqBody.class);
+        // 줄마다 flush 하지 않고 묶음이 끝날 때만 내보낸다
+        this.writer = objectMapper.writerFor(SurBulkResultLine.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * @param author 작성자
+     * @param in JSON 배열 또는 줄마다 객체 하나인 NDJSON
+     * @param out 항목별 결과를 NDJSON 으로 쓸 스트림
+     * @return 생성된 SURL 수
+     */
+    public long createAll(Member author, InputStream in, OutputStream out) throws IOException {
+        long index = 0;
+        long created = 0;
+        List<SurCreateReqBody> batch = new ArrayList<>(BATCH_SIZE);
+        List<Long> batchIndexes = new ArrayList<>(BATCH_SIZE);
+
+        // readValues 는 최상위 배열의 원소와 공백으로 구분된 최상위 값 나열을 모두 하나씩 읽는다
+        try (MappingIterator<SurCreateReqBody> items = reader.readValues(in);
+             JsonGenerator generator = writer.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+
+            while (true) {
+                SurCreateReqBody item;
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    item = items.nextValue();
+                } catch (DatabindException e) {
+                    // 문법은 맞지만 항목 모양이 다름 (null, 타입 불일치): 그 항목만 실패 처리하고 다음 값부터 계속 읽는다
+                    writeLine(generator, SurBulkResultLine.fail(index++, null, "항목 형식 오류: " + e.getOriginalMessage()));
+                    continue;
+                } catch (JsonProcessingException e) {
+                    // 형식이 깨진 뒤로는 위치를 알 수 없으므로 지금까지 읽은 것만 저장하고 중단
+                    created += flush(author, batch, batchIndexes, generator);
+                    writeLine(generator, SurBulkResultLine.fail(index, null, "요청 형식 오류: " + e.getOriginalMessage()));
+                    return created;
+                }
+
+                String invalid = validate(item);
+                if (invalid != null) {
+                    writeLine(generator, SurBulkResultLine.fail(index++, item.url(), invalid));
+                    continue;
+                }
+
+                batch.add(item);
+                batchIndexes.add(index++);
+                if (batch.size() == BATCH_SIZE) {
+                    created += flush(author, batch, batchIndexes, generator);
+                }
+            }
+
+            created += flush(author, batch, batchIndexes, generator);
+        }
+
+        log.info("SURL 대량 생성: {}건 요청, {}건 생성", index, created);
+        return created;
+    }
+
+    // 단건 생성의 @Valid 와 같은 규칙으로 검사 (통과하면 null, 아니면 "필드: 메시지" 목록)
+    private String validate(SurCreateReqBody item) {
+        Set<ConstraintViolation<SurCreateReqBody>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private int flush(Member author, List<SurCreateReqBody> batch, List<Long> batchIndexes,
+                      JsonGenerator generator) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Surl> surls = surService.createAll(author, batch);
+        for (int i = 0; i < surls.size(); i++) {
+            Surl surl = surls.get(i);
+            writeLine(generator, SurBulkResultLine.success(batchIndexes.get(i), surl.getUrl(), surl.getShortUrl()));
+        }
+        // 묶음마다 응답을 내보내 클라이언트가 진행 상황을 바로 받게 한다
+        generator.flush();
+
+        batch.clear();
+        batchIndexes.clear();
+        return surls.size();
+    }
+
+    private void writeLine(JsonGenerator generator, SurBulkResultLine line) throws IOException {
+        writer.writeValue(generator, line);
+        generator.writeRaw('\n');
+    }
+}
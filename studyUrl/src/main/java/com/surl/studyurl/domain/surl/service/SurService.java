@@ -1,12 +1,22 @@
 package com.surl.studyurl.domain.surl.service;
 
 import com.surl.studyurl.domain.member.entity.Member;
+import com.surl.studyurl.domain.surl.data.SurCreateReqBody;
 import com.surl.studyurl.domain.surl.entity.Surl;
 import com.surl.studyurl.domain.surl.repository.SurlRepository;
+import com.surl.studyurl.global.cache.TinyLfuCache;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -14,7 +24,16 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class SurService {
 
+    private static final int URL_CACHE_SIZE = 100_000;
+    // 없는 id 는 짧게만 기억 (생성 직전에 조회된 id 가 잠시 404 로 남는 시간의 상한)
+    private static final Duration NOT_FOUND_TTL = Duration.ofSeconds(10);
+
     private final SurlRepository surlRepository;
+    private final EntityManager entityManager;
+
+    // 리다이렉트용 id -> url 캐시 (없는 id 는 Optional.empty() 로 저장)
+    private final TinyLfuCache<Long, Optional<String>> urlCache = new TinyLfuCache<>(URL_CACHE_SIZE);
+
     public long count() {
         return surlRepository.count();
     }
@@ -28,16 +47,92 @@ public class SurService {
                 .build();
 
         surlRepository.save(surl);
+        invalidateUrlAfterCommit(surl.getId());
 
         return surl;
     }
+
+    /**
+     * 여러 SURL 을 한 트랜잭션에서 JDBC 배치 INSERT 로 생성
+     * id 는 시퀀스 블록에서 미리 받으므로 INSERT 를 모아서 보낼 수 있다.
+     * 저장 후 영속성 컨텍스트를 비워, 여러 번 호출해도 쌓이지 않게 한다.
+     * @param author 작성자
+     * @param reqBodies 생성할 url/title 목록
+     * @return 생성된 SURL (요청 순서와 같음, 영속성 컨텍스트에서 분리된 상태)
+     */
+    @Transactional
+    public List<Surl> createAll(Member author, List<SurCreateReqBody> reqBodies) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(reqBodies.size());
+
+        List<Surl> surls = new ArrayList<>(reqBodies.size());
+        for (SurCreateReqBody reqBody : reqBodies) {
+            surls.add(Surl.builder()
+                    .author(author)
+                    .url(reqBody.url())
+                    .title(reqBody.title())
+                    .build());
+        }
+
+        surlRepository.saveAll(surls);
+        surlRepository.flush();
+        entityManager.clear();
+
+        invalidateUrlsAfterCommit(surls.stream().map(Surl::getId).toList());
+
+        return surls;
+    }
+
     public Optional<Surl> findById(long id){
         return surlRepository.findById(id);
     }
 
+    /**
+     * 리다이렉트할 url 조회 (캐시 -> url 컬럼만 읽는 쿼리)
+     * 캐시에 있으면 트랜잭션도 DB 커넥션도 사용하지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<String> findUrlById(long id) {
+        Optional<String> cached = urlCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<String> url = surlRepository.findUrlById(id);
+        urlCache.put(id, url, url.isPresent() ? null : NOT_FOUND_TTL);
+        return url;
+    }
+
     @Transactional
     public void modify(long id, String title) {
         Surl surl = surlRepository.findById(id).get();
         surl.setTitle(title);
+        invalidateUrlAfterCommit(id);
+    }
+
+    // 커밋 전에 지우면 다른 요청이 커밋 전 값을 다시 캐시할 수 있으므로 커밋 후에 지운다
+    private void invalidateUrlAfterCommit(long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            urlCache.invalidate(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                urlCache.invalidate(id);
+            }
+        });
+    }
+
+    private void invalidateUrlsAfterCommit(List<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(urlCache::invalidate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(urlCache::invalidate);
+            }
+        });
     }
 }
@@ -1,6 +1,7 @@
 package com.surl.studyurl.global.app;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surl.studyurl.standard.util.ShortCode;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -88,6 +89,15 @@ public class AppConfig {
         this.genFileDirPath = genFileDirPath;
     }
 
+    @Getter
+    private static ShortCode shortCode = new ShortCode(0);
+
+    // 0 이면 번호를 섞지 않고 base62 로만 변환
+    @Value("${custom.shortCode.scrambleKey:0}")
+    public void setShortCodeScrambleKey(long scrambleKey) {
+        this.shortCode = new ShortCode(scrambleKey);
+    }
+
     @Getter
     private static String siteBackUrl;
 
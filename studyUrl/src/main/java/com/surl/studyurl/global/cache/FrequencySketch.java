@@ -0,0 +1,105 @@
+package com.surl.studyurl.global.cache;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 최근 접근 빈도를 근사하는 count-min sketch (4비트 카운터, 4개 행)
+ * 카운터 증가가 샘플 크기(최대 크기의 10배)에 도달하면 모든 카운터를 절반으로 줄여 오래된 인기도를 잊는다.
+ * 캐시 세그먼트마다 락이 따로라 여러 스레드가 동시에 부르므로, 카운터가 든 long 을 CAS 로 고쳐 증가가 유실되지 않게 한다.
+ * 절반으로 줄이기는 한 스레드만 하고, 그동안의 증가는 long 단위로 원자적으로 섞인다.
+ */
+class FrequencySketch {
+    private static final int[] SEEDS = {0x97cb3127, 0x2e2c8b0f, 0x6a09e667, 0xbb67ae85};
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    // long 하나에 4비트 카운터 16개
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+    private final AtomicBoolean resetting = new AtomicBoolean();
+
+    FrequencySketch(int maximumSize) {
+        int counters = ceilingPowerOfTwo(Math.max(16, maximumSize) * 4);
+        this.table = new AtomicLongArray(counters >>> 4);
+        this.tableMask = table.length() - 1;
+        this.sampleSize = Math.max(10, maximumSize * 10);
+    }
+
+    /**
+     * 키의 추정 접근 빈도 (0~15)
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            int offset = counterOffset(hash, i);
+            frequency = Math.min(frequency, (int) ((table.get(index) >>> offset) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * 키의 접근 빈도 1 증가 (15에서 포화)
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), counterOffset(hash, i));
+        }
+        if (added && additions.incrementAndGet() >= sampleSize && resetting.compareAndSet(false, true)) {
+            try {
+                reset();
+            } finally {
+                resetting.set(false);
+            }
+        }
+    }
+
+    // 4비트 카운터 하나를 1 올림 (15면 그대로), 같은 long 의 다른 카운터를 고친 스레드와 겹치면 다시 시도
+    private boolean incrementAt(int index, int offset) {
+        while (true) {
+            long current = table.get(index);
+            if (((current >>> offset) & 0xfL) == 0xfL) {
+                return false;
+            }
+            if (table.compareAndSet(index, current, current + (1L << offset))) {
+                return true;
+            }
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length(); i++) {
+            table.getAndUpdate(i, value -> (value >>> 1) & RESET_MASK);
+        }
+        additions.getAndUpdate(value -> value >>> 1);
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash + SEEDS[row]) * SEEDS[row];
+        h ^= h >>> 16;
+        return h & tableMask;
+    }
+
+    // 행마다 long 안의 서로 다른 4비트 칸 사용 (행 i는 i*4 ~ i*4+15 칸 중 하나)
+    private static int counterOffset(int hash, int row) {
+        int slot = (hash >>> (row << 3)) & 3;
+        return ((row << 2) + slot) << 2;
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x45d9f3b;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+}
@@ -0,0 +1,223 @@
+package com.surl.studyurl.global.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 크기 제한이 있는 메모리 캐시 (W-TinyLFU 방식의 축출)
+ * 새 항목은 작은 윈도우 LRU(전체의 1%)에 먼저 들어가고, 윈도우에서 밀려난 항목은
+ * 메인 LRU의 가장 오래된 항목과 접근 빈도(count-min sketch)를 비교해 더 자주 쓰인 쪽만 남는다.
+ * 한 번 스캔되고 마는 키가 자주 쓰이는 키를 밀어내지 않으면서, 갑자기 몰리는 새 키도 윈도우에서 바로 캐시된다.
+ * 세그먼트마다 락을 따로 두어 조회끼리의 경쟁을 줄였다.
+ * 항목마다 만료 시간을 줄 수 있다 (없는 키를 잠깐만 기억하는 부정 캐시 등).
+ */
+public class TinyLfuCache<K, V> {
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final FrequencySketch sketch;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public TinyLfuCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다: " + maximumSize);
+        }
+        int segmentCount = Math.min(ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors() * 4),
+                ceilingPowerOfTwo(Math.max(1, maximumSize / 64)));
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        int perSegment = Math.max(2, maximumSize / segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * 캐시 조회
+     * @param key 키
+     * @return 캐시된 값 (없거나 만료되었으면 null)
+     */
+    public V getIfPresent(K key) {
+        sketch.increment(key);
+        V value = segmentFor(key).get(key, System.nanoTime());
+        if (value == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 읽어 저장 (같은 키를 동시에 읽으면 loader가 여러 번 호출될 수 있음)
+     * @param key 키
+     * @param loader 원본 조회 함수 (null 반환 시 저장하지 않음)
+     * @return 값
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, null);
+    }
+
+    /**
+     * 만료 시간을 지정해 저장
+     * @param key 키
+     * @param value 값
+     * @param ttl 만료 시간 (null 이면 만료 없음)
+     */
+    public void put(K key, V value, Duration ttl) {
+        long expiresAt = ttl == null ? Long.MAX_VALUE : System.nanoTime() + ttl.toNanos();
+        segmentFor(key).put(key, value, expiresAt, sketch);
+    }
+
+    public void invalidate(K key) {
+        segmentFor(key).remove(key);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & segmentMask];
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        // 접근 순서로 정렬 (맨 앞이 가장 오래 안 쓰인 항목)
+        private final LinkedHashMap<K, Entry<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<K, Entry<V>> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final int windowCapacity;
+        private final int mainCapacity;
+
+        private Segment(int capacity) {
+            this.windowCapacity = Math.max(1, capacity / 100);
+            this.mainCapacity = Math.max(1, capacity - windowCapacity);
+        }
+
+        V get(K key, long now) {
+            lock.lock();
+            try {
+                Map<K, Entry<V>> owner = window;
+                Entry<V> entry = window.get(key);
+                if (entry == null) {
+                    owner = main;
+                    entry = main.get(key);
+                }
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.isExpired(now)) {
+                    owner.remove(key);
+                    return null;
+                }
+                return entry.value();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(K key, V value, long expiresAt, FrequencySketch sketch) {
+            Entry<V> entry = new Entry<>(value, expiresAt);
+            lock.lock();
+            try {
+                if (main.containsKey(key)) {
+                    main.put(key, entry);
+                    return;
+                }
+                window.put(key, entry);
+                if (window.size() <= windowCapacity) {
+                    return;
+                }
+
+                // 윈도우에서 밀려난 후보를 메인에 들일지 결정
+                Iterator<Map.Entry<K, Entry<V>>> windowIterator = window.entrySet().iterator();
+                Map.Entry<K, Entry<V>> candidate = windowIterator.next();
+                windowIterator.remove();
+                if (main.size() < mainCapacity) {
+                    main.put(candidate.getKey(), candidate.getValue());
+                    return;
+                }
+
+                Iterator<Map.Entry<K, Entry<V>>> mainIterator = main.entrySet().iterator();
+                Map.Entry<K, Entry<V>> victim = mainIterator.next();
+                if (victim.getValue().isExpired(System.nanoTime())
+                        || sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                    mainIterator.remove();
+                    main.put(candidate.getKey(), candidate.getValue());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(K key) {
+            lock.lock();
+            try {
+                window.remove(key);
+                main.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return window.size() + main.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.surl.studyurl.global.security;
 
+import com.surl.studyurl.domain.member.data.AccessTokenClaims;
 import com.surl.studyurl.domain.member.service.MemberService;
 import com.surl.studyurl.global.httpsdata.ReqData;
 import com.surl.studyurl.global.httpsdata.RespData;
@@ -12,7 +13,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -20,6 +21,8 @@ public class AuthenticationFilter extends OncePerRequestFilter {
     private final MemberService memberService;
     private final ReqData reqData;
 
+    private static final Set<String> PERMIT_ALL_URIS = Set.of("/api/v1/members/login", "/api/v1/members/join", "/api/v1/members/logout");
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         if (!request.getRequestURI().startsWith("/api/")) {
@@ -27,7 +30,7 @@ public class AuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (List.of("/api/v1/members/login", "/api/v1/members/join", "/api/v1/members/logout").contains(request.getRequestURI())) {
+        if (PERMIT_ALL_URIS.contains(request.getRequestURI())) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -44,13 +47,16 @@ public class AuthenticationFilter extends OncePerRequestFilter {
             // 엑세스 토큰이 존재하면
             if (!accessToken.isBlank()) {
                 // 유효성 체크하여 만료되었으면 리프레시 토큰으로 새로운 엑세스 토큰을 발급받고 응답헤더에 추가
-                if (!memberService.validateToken(accessToken)) {
+                // 검증과 클레임 추출을 한 번에 처리 (같은 토큰은 만료 전까지 캐시된 결과 사용)
+                AccessTokenClaims claims = memberService.verifyAccessToken(accessToken);
+                if (!claims.valid()) {
                     RespData<String> rs = memberService.refreshAccessToken(refreshToken);
                     accessToken = rs.getData();
                     reqData.setHeader("Authorization", "Bearer " + refreshToken + " " + accessToken);
+                    claims = memberService.verifyAccessToken(accessToken);
                 }
 
-                SecurityUser securityUser = memberService.getUserFromAccessToken(accessToken);
+                SecurityUser securityUser = memberService.getUserFromAccessToken(claims);
                 // 세션에 로그인하는 것이 아닌 1회성(이번 요청/응답 생명주기에서만 인정됨)으로 로그인 처리
                 // API 요청은, 로그인이 필요하다면 이렇게 매번 요청마다 로그인 처리가 되어야 하는게 맞다.
                 reqData.setLogin(securityUser);
@@ -62,15 +68,17 @@ public class AuthenticationFilter extends OncePerRequestFilter {
             // 엑세스 토큰이 존재하면
             if (!accessToken.isBlank()) {
                 // 유효성 체크하여 만료되었으면 리프레시 토큰으로 새로운 엑세스 토큰을 발급받고 응답쿠키에 추가
-                if (!memberService.validateToken(accessToken)) {
+                AccessTokenClaims claims = memberService.verifyAccessToken(accessToken);
+                if (!claims.valid()) {
                     String refreshToken = reqData.getCookieValue("refreshToken", "");
 
                     RespData<String> rs = memberService.refreshAccessToken(refreshToken);
                     accessToken = rs.getData();
                     reqData.setCrossDomainCookie("accessToken", accessToken);
+                    claims = memberService.verifyAccessToken(accessToken);
                 }
 
-                SecurityUser securityUser = memberService.getUserFromAccessToken(accessToken);
+                SecurityUser securityUser = memberService.getUserFromAccessToken(claims);
                 // 세션에 로그인하는 것이 아닌 1회성(이번 요청/응답 생명주기에서만 인정됨)으로 로그인 처리
                 // API 요청은, 로그인이 필요하다면 이렇게 매번 요청마다 로그인 처리가 되어야 하는게 맞다.
                 reqData.setLogin(securityUser);
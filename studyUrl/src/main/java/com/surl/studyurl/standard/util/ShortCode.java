@@ -0,0 +1,138 @@
+package com.surl.studyurl.standard.util;
+
+/**
+ * SURL 번호 <-> 짧은 코드 변환기
+ * 첫 글자는 영문(52진수), 나머지는 base62 로 표현해 코드가 항상 영문으로 시작한다.
+ * 그래서 예전 숫자 주소(/{id})와 경로가 겹치지 않으며, 2^40 미만 번호는 7글자 이내가 된다.
+ * 키를 주면 2^40 미만 번호를 4라운드 Feistel 순열로 섞어 연속 번호가 연속 코드로 보이지 않게 한다.
+ * 순열은 1:1 이므로 코드에서 번호를 그대로 되돌릴 수 있고 충돌이 없다.
+ */
+public class ShortCode {
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int LETTERS = 52;
+    private static final int BASE = 62;
+
+    private static final int HALF_BITS = 20;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final long SCRAMBLE_LIMIT = 1L << (HALF_BITS * 2);
+    private static final int ROUNDS = 4;
+
+    private static final int[] INDEX = new int[128];
+
+    static {
+        java.util.Arrays.fill(INDEX, -1);
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            INDEX[ALPHABET.charAt(i)] = i;
+        }
+    }
+
+    // 라운드 키 (null 이면 섞지 않음)
+    private final long[] roundKeys;
+
+    /**
+     * @param scrambleKey 순열 키 (0 이면 섞지 않음)
+     */
+    public ShortCode(long scrambleKey) {
+        if (scrambleKey == 0) {
+            this.roundKeys = null;
+            return;
+        }
+        this.roundKeys = new long[ROUNDS];
+        long seed = scrambleKey;
+        for (int i = 0; i < ROUNDS; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(seed) | 1;
+        }
+    }
+
+    public String encode(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("음수 번호는 변환할 수 없습니다: " + id);
+        }
+        long value = scramble(id);
+
+        // 나머지 자리 수: 첫 글자(52가지) 뒤에 붙는 base62 자리 수
+        int rest = 0;
+        long capacity = LETTERS;
+        while (value >= capacity) {
+            rest++;
+            if (capacity > Long.MAX_VALUE / BASE) {
+                break;
+            }
+            capacity *= BASE;
+        }
+
+        char[] code = new char[rest + 1];
+        for (int i = rest; i >= 1; i--) {
+            code[i] = ALPHABET.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        code[0] = ALPHABET.charAt((int) value);
+        return new String(code);
+    }
+
+    /**
+     * @param code 짧은 코드
+     * @return SURL 번호 (형식이 잘못되었으면 -1)
+     */
+    public long decode(String code) {
+        if (code == null || code.isEmpty() || code.length() > 11) {
+            return -1;
+        }
+        int lead = indexOf(code.charAt(0));
+        if (lead < 0 || lead >= LETTERS) {
+            return -1;
+        }
+        long value = lead;
+        for (int i = 1; i < code.length(); i++) {
+            int digit = indexOf(code.charAt(i));
+            if (digit < 0 || value > (Long.MAX_VALUE - digit) / BASE) {
+                return -1;
+            }
+            value = value * BASE + digit;
+        }
+        return unscramble(value);
+    }
+
+    private long scramble(long id) {
+        if (roundKeys == null || id >= SCRAMBLE_LIMIT) {
+            return id;
+        }
+        long left = id >>> HALF_BITS;
+        long right = id & HALF_MASK;
+        for (long key : roundKeys) {
+            long next = left ^ round(right, key);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private long unscramble(long value) {
+        if (roundKeys == null || value >= SCRAMBLE_LIMIT) {
+            return value;
+        }
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int i = ROUNDS - 1; i >= 0; i--) {
+            long previous = right ^ round(left, roundKeys[i]);
+            right = left;
+            left = previous;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private static long round(long half, long key) {
+        return mix(half * key) & HALF_MASK;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int indexOf(char c) {
+        return c < 128 ? INDEX[c] : -1;
+    }
+}
@@ -0,0 +1,149 @@
+package com.surl.studyurl.domain.surl.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surl.studyurl.domain.member.entity.Member;
+import com.surl.studyurl.domain.surl.data.SurCreateReqBody;
+import com.surl.studyurl.domain.surl.entity.Surl;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SurBulkServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private ValidatorFactory validatorFactory;
+    private SurBulkService surBulkService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.byDefaultProvider().configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .buildValidatorFactory();
+
+        // 묶음 크기만 기록하고, 요청 순서대로 번호를 붙인 SURL 을 돌려줌
+        SurService surService = mock(SurService.class);
+        when(surService.createAll(any(), any())).thenAnswer(invocation -> {
+            List<SurCreateReqBody> reqBodies = new ArrayList<>(invocation.getArgument(1));
+            batchSizes.add(reqBodies.size());
+            return reqBodies.stream().map(reqBody -> surl(nextId.getAndIncrement(), reqBody.url())).toList();
+        });
+
+        surBulkService = new SurBulkService(surService, objectMapper, validatorFactory.getValidator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void insertsInBatchesAndWritesOneLinePerItem() throws IOException {
+        int total = SurBulkService.BATCH_SIZE * 2 + 7;
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < total; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"url\":\"https://example.com/").append(i).append("\"}");
+        }
+        body.append(']');
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long created = surBulkService.createAll(Member.builder().build(), in(body.toString()), out);
+
+        assertThat(created).isEqualTo(total);
+        assertThat(batchSizes).containsExactly(SurBulkService.BATCH_SIZE, SurBulkService.BATCH_SIZE, 7);
+
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).hasSize(total);
+        for (int i = 0; i < total; i++) {
+            JsonNode line = lines.get(i);
+            assertThat(line.get("index").asLong()).isEqualTo(i);
+            assertThat(line.get("url").asText()).isEqualTo("https://example.com/" + i);
+            assertThat(line.get("shortUrl").asText()).isEqualTo("http://localhost/" + (i + 1));
+            assertThat(line.has("msg")).isFalse();
+        }
+    }
+
+    @Test
+    void readsNdjsonAndReportsInvalidItemsInPlace() throws IOException {
+        String body = """
+                {"url":"https://a.com","title":"a"}
+                {"url":"  ","title":"blank"}
+                {"title":"missing"}
+                null
+                {"url":["https://x.com"]}
+                {"url":"https://b.com"}
+                """;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long created = surBulkService.createAll(Member.builder().build(), in(body), out);
+
+        assertThat(created).isEqualTo(2);
+        assertThat(batchSizes).containsExactly(2);
+
+        // 실패 줄은 검증 즉시, 성공 줄은 묶음 저장 후에 나오므로 index 로 짝을 맞춘다
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).extracting(line -> line.get("index").asLong()).containsExactly(1L, 2L, 3L, 4L, 0L, 5L);
+        assertThat(lines.get(0).get("url").asText()).isEqualTo("  ");
+        assertThat(lines.get(0).get("msg").asText()).startsWith("url: ");
+        assertThat(lines.get(1).has("url")).isFalse();
+        assertThat(lines.get(1).get("msg").asText()).startsWith("url: ");
+        // 모양이 다른 항목은 그 항목만 실패하고 다음 항목부터 계속 읽음
+        assertThat(lines.get(2).get("msg").asText()).startsWith("항목 형식 오류");
+        assertThat(lines.get(3).get("msg").asText()).startsWith("항목 형식 오류");
+        assertThat(lines.get(4).get("shortUrl").asText()).isEqualTo("http://localhost/1");
+        assertThat(lines.get(5).get("shortUrl").asText()).isEqualTo("http://localhost/2");
+    }
+
+    @Test
+    void malformedBodyKeepsWhatWasReadAndStops() throws IOException {
+        String body = "[{\"url\":\"https://a.com\"},{\"url\":\"https://b.com\"},{\"url\":";
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long created = surBulkService.createAll(Member.builder().build(), in(body), out);
+
+        assertThat(created).isEqualTo(2);
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(2).get("index").asLong()).isEqualTo(2);
+        assertThat(lines.get(2).get("msg").asText()).startsWith("요청 형식 오류");
+    }
+
+    private static ByteArrayInputStream in(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws IOException {
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+        assertThat(ndjson).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static Surl surl(long id, String url) {
+        Surl surl = mock(Surl.class);
+        when(surl.getUrl()).thenReturn(url);
+        when(surl.getShortUrl()).thenReturn("http://localhost/" + id);
+        return surl;
+    }
+}
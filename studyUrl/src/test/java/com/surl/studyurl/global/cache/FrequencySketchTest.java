@@ -0,0 +1,68 @@
+package com.surl.studyurl.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrequencySketchTest {
+
+    @Test
+    void countsUpToFifteen() {
+        FrequencySketch sketch = new FrequencySketch(1_024);
+
+        assertThat(sketch.frequency("hot")).isZero();
+        for (int i = 1; i <= 20; i++) {
+            sketch.increment("hot");
+            assertThat(sketch.frequency("hot")).isEqualTo(Math.min(i, 15));
+        }
+    }
+
+    @Test
+    void halvesCountersAfterSampleSize() {
+        FrequencySketch sketch = new FrequencySketch(1_024);
+        for (int i = 0; i < 12; i++) {
+            sketch.increment("old");
+        }
+        assertThat(sketch.frequency("old")).isGreaterThanOrEqualTo(12);
+
+        // 샘플 크기(최대 크기의 10배)만큼 다른 키를 세면 전체가 절반으로 줄어듦
+        for (int i = 0; i < 10_240; i++) {
+            sketch.increment(i);
+        }
+        assertThat(sketch.frequency("old")).isBetween(6, 7);
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws Exception {
+        // 샘플 크기에 닿지 않게 크게 잡고, 모든 스레드가 같은 키들을 동시에 올림
+        FrequencySketch sketch = new FrequencySketch(1 << 16);
+        int threads = 12;
+        int keys = 2_000;
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int key = 0; key < keys; key++) {
+                        sketch.increment(key);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+
+        // count-min 은 실제 횟수보다 작게 세지 않음 (증가가 유실되면 작아짐)
+        for (int key = 0; key < keys; key++) {
+            assertThat(sketch.frequency(key)).as("key %d", key).isGreaterThanOrEqualTo(threads);
+        }
+    }
+}
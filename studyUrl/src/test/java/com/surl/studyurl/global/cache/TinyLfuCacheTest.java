@@ -0,0 +1,139 @@
+package com.surl.studyurl.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TinyLfuCacheTest {
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThatThrownBy(() -> new TinyLfuCache<Long, String>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getLoadsOnceAndCountsHits() {
+        TinyLfuCache<Long, String> cache = new TinyLfuCache<>(100);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(1L, key -> {
+                loads.incrementAndGet();
+                return "https://www.naver.com";
+            })).isEqualTo("https://www.naver.com");
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getHitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void doesNotStoreNullFromLoader() {
+        TinyLfuCache<Long, String> cache = new TinyLfuCache<>(100);
+
+        assertThat(cache.get(1L, key -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void expiresEntryAfterTtl() throws Exception {
+        TinyLfuCache<Long, String> cache = new TinyLfuCache<>(100);
+        cache.put(1L, "짧게", Duration.ofMillis(50));
+        cache.put(2L, "계속");
+
+        assertThat(cache.getIfPresent(1L)).isEqualTo("짧게");
+        Thread.sleep(100L);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.getIfPresent(2L)).isEqualTo("계속");
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        TinyLfuCache<Long, String> cache = new TinyLfuCache<>(100);
+        cache.put(1L, "값");
+
+        cache.invalidate(1L);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void neverGrowsPastMaximumSize() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(1_000);
+
+        for (int i = 0; i < 50_000; i++) {
+            cache.put(i, i);
+        }
+
+        assertThat(cache.size()).isBetween(1L, 1_000L);
+    }
+
+    @Test
+    void scanDoesNotEvictFrequentlyUsedKeys() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+        for (int hot = 0; hot < 90; hot++) {
+            cache.put(hot, hot);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int hot = 0; hot < 90; hot++) {
+                cache.getIfPresent(hot);
+            }
+        }
+
+        // 인기 키가 계속 쓰이는 사이로 한 번씩만 쓰이는 키가 대량으로 지나감
+        for (int cold = 1_000; cold < 11_000; cold++) {
+            cache.get(cold, key -> key);
+            cache.getIfPresent(cold % 90);
+        }
+
+        long kept = IntStream.range(0, 90).filter(hot -> cache.getIfPresent(hot) != null).count();
+        assertThat(kept).isGreaterThanOrEqualTo(85);
+    }
+
+    @Test
+    void concurrentAccessKeepsSizeBoundAndValues() throws Exception {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(500);
+        int threads = 8;
+        AtomicInteger wrongValues = new AtomicInteger();
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 50_000; i++) {
+                        // 앞쪽 키가 자주 쓰이도록 치우치게 뽑음
+                        int key = random.nextBoolean() ? random.nextInt(100) : random.nextInt(5_000);
+                        Integer value = cache.get(key, k -> k * 10);
+                        if (value != key * 10) {
+                            wrongValues.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+
+        assertThat(wrongValues.get()).isZero();
+        assertThat(cache.size()).isBetween(1L, 500L);
+        assertThat(cache.getHitRate()).isGreaterThan(0.3);
+    }
+}
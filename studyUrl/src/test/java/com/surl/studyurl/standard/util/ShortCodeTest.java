@@ -0,0 +1,87 @@
+package com.surl.studyurl.standard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShortCodeTest {
+    // 섞는 범위의 경계
+    private static final long LIMIT = 1L << 40;
+    private static final long[] KEYS = {0, 1, 42, -7, 0x5DEECE66DL};
+
+    @Test
+    void roundTripsWithAndWithoutScrambleKey() {
+        for (long key : KEYS) {
+            ShortCode shortCode = new ShortCode(key);
+            LongStream.concat(LongStream.range(0, 100_000), LongStream.of(LIMIT - 1, LIMIT, LIMIT + 1, Long.MAX_VALUE))
+                    .forEach(id -> assertThat(shortCode.decode(shortCode.encode(id)))
+                            .as("key=%d, id=%d", key, id)
+                            .isEqualTo(id));
+        }
+    }
+
+    @Test
+    void codesAreDistinctAcrossScrambleBoundary() {
+        for (long key : KEYS) {
+            ShortCode shortCode = new ShortCode(key);
+            Set<String> codes = new HashSet<>();
+            // 경계 아래는 순열로 섞이고 위는 그대로이므로 두 구간의 코드가 겹치면 안 됨
+            for (long id = LIMIT - 50_000; id < LIMIT + 50_000; id++) {
+                String code = shortCode.encode(id);
+                assertThat(codes.add(code)).as("key=%d, id=%d, code=%s", key, id, code).isTrue();
+                assertThat(shortCode.decode(code)).isEqualTo(id);
+            }
+            // 2^40 미만 번호는 섞여도 7글자 이내
+            assertThat(shortCode.encode(LIMIT - 1)).hasSizeLessThanOrEqualTo(7);
+        }
+    }
+
+    @Test
+    void firstCharacterIsAlwaysLetter() {
+        Random random = new Random(12_345);
+        for (long key : KEYS) {
+            ShortCode shortCode = new ShortCode(key);
+            LongStream.concat(
+                    LongStream.of(0, 51, 52, 61, 62, LIMIT - 1, LIMIT, Long.MAX_VALUE),
+                    LongStream.generate(() -> random.nextLong() >>> (1 + random.nextInt(63))).limit(100_000)
+            ).forEach(id -> {
+                String code = shortCode.encode(id);
+                assertThat(Character.isLetter(code.charAt(0))).as("id=%d, code=%s", id, code).isTrue();
+                assertThat(code).matches("[A-Za-z][0-9A-Za-z]*");
+            });
+        }
+    }
+
+    @Test
+    void scrambleKeyHidesSequentialIds() {
+        ShortCode plain = new ShortCode(0);
+        ShortCode scrambled = new ShortCode(42);
+
+        assertThat(plain.encode(0)).isEqualTo("A");
+        assertThat(plain.encode(1)).isEqualTo("B");
+        // 연속 번호의 섞인 코드는 대부분 원래 코드와 다름
+        long same = LongStream.range(0, 1_000).filter(id -> plain.encode(id).equals(scrambled.encode(id))).count();
+        assertThat(same).isLessThan(10);
+        assertThat(new ShortCode(43).encode(1)).isNotEqualTo(scrambled.encode(1));
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        ShortCode shortCode = new ShortCode(42);
+
+        assertThatThrownBy(() -> shortCode.encode(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(shortCode.decode(null)).isEqualTo(-1);
+        assertThat(shortCode.decode("")).isEqualTo(-1);
+        assertThat(shortCode.decode("1abc")).isEqualTo(-1);
+        assertThat(shortCode.decode("ab-c")).isEqualTo(-1);
+        assertThat(shortCode.decode("가나")).isEqualTo(-1);
+        assertThat(shortCode.decode("zzzzzzzzzzzz")).isEqualTo(-1);
+        assertThat(shortCode.decode("zzzzzzzzzzz")).isEqualTo(-1);
+    }
+}
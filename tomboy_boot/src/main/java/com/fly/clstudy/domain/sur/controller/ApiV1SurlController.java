@@ -5,18 +5,26 @@ import com.fly.clstudy.domain.member.entity.Member;
 import com.fly.clstudy.domain.member.service.MemberService;
 import com.fly.clstudy.domain.sur.data.*;
 import com.fly.clstudy.domain.sur.dto.SurlDto;
+import com.fly.clstudy.domain.sur.service.SurlBulkService;
+import com.fly.clstudy.domain.sur.service.SurlClickCounter;
 import com.fly.clstudy.domain.sur.service.SurlService;
 import com.fly.clstudy.global.exceptions.GlobalException;
 import com.fly.clstudy.global.https.ReqData;
 import com.fly.clstudy.global.https.RespData;
 import com.fly.clstudy.global.jpa.util.EmpClass;
 import com.fly.clstudy.domain.sur.entity.Surl;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -30,6 +38,8 @@ public class ApiV1SurlController {
         private final ReqData rq;
         private final AuthService authService;
         private final MemberService memberService;
+        private final SurlClickCounter surlClickCounter;
+        private final SurlBulkService surlBulkService;
 
         @PostMapping("")
         @Transactional
@@ -42,6 +52,21 @@ public class ApiV1SurlController {
             ));
     }
 
+    /**
+     * SURL 대량 생성
+     * 본문은 JSON 배열 또는 NDJSON, 응답은 항목마다 한 줄씩 NDJSON 으로 저장되는 대로 내려간다.
+     * 묶음 단위로 커밋하므로 중간에 실패해도 앞서 응답한 항목은 생성된 상태로 남는다.
+     * (클래스의 읽기 전용 트랜잭션 안에서 실행되면 모든 묶음이 그 트랜잭션에 합류하므로 트랜잭션 없이 실행)
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void addAll(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Member member = rq.getMember();
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        surlBulkService.addAll(member, request.getInputStream(), response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     @Transactional
     public RespData<SurlGetRespBody> get(@PathVariable long id){
@@ -68,6 +93,16 @@ public class ApiV1SurlController {
         return RespData.OK;
     }
 
+    @GetMapping("/click-metrics")
+    public RespData<SurlClickMetricsRespBody> getClickMetrics() {
+        return RespData.of(new SurlClickMetricsRespBody(
+                surlClickCounter.getUnflushedCount(),
+                surlClickCounter.getUnflushedCounts(),
+                surlClickCounter.getFlushedCount(),
+                surlClickCounter.getLastFlushDate()
+        ));
+    }
+
     @GetMapping("")
     public RespData<SurlGetItemsRespBody> getItems() {
 
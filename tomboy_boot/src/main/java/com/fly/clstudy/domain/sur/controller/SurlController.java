@@ -1,5 +1,6 @@
 package com.fly.clstudy.domain.sur.controller;
 
+import com.fly.clstudy.global.app.AppConfig;
 import com.fly.clstudy.global.exceptions.GlobalException;
 import com.fly.clstudy.global.https.ReqData;
 import com.fly.clstudy.global.https.RespData;
@@ -66,7 +67,7 @@ public class SurlController {
 
         return surlService.add(member, body, url);
     }
-    @GetMapping("/g/{id}")
+    @GetMapping("/g/{id:\\d+}")
     @Transactional
     public String go(
             @PathVariable long id
@@ -77,4 +78,18 @@ public class SurlController {
 
         return "redirect:" + surl.getUrl();
     }
+
+    // 짧은 코드는 항상 영문으로 시작하므로 숫자 주소와 겹치지 않는다
+    @GetMapping("/g/{code:[A-Za-z][0-9A-Za-z]*}")
+    @Transactional
+    public String goByCode(
+            @PathVariable String code
+    ) {
+        long id = AppConfig.getShortCode().decode(code);
+        if (id < 0) {
+            throw new GlobalException.E404();
+        }
+
+        return go(id);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.fly.clstudy.domain.sur.data;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 대량 생성 결과 한 줄 (NDJSON), 실패한 항목은 id 대신 msg 를 채운다
+@AllArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SurlBulkResultLine {
+    private long index;
+    private Long id;
+    private String url;
+    private String msg;
+
+    public static SurlBulkResultLine success(long index, long id, String url) {
+        return new SurlBulkResultLine(index, id, url, null);
+    }
+
+    public static SurlBulkResultLine fail(long index, String url, String msg) {
+        return new SurlBulkResultLine(index, null, url, msg);
+    }
+}
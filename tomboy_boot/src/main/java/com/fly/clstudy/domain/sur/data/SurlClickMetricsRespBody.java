@@ -0,0 +1,16 @@
+package com.fly.clstudy.domain.sur.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+public class SurlClickMetricsRespBody {
+    private long unflushedCount;
+    private Map<Long, Long> unflushedCounts;
+    private long flushedCount;
+    private LocalDateTime lastFlushDate;
+}
@@ -9,6 +9,7 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 public class SurlDto {
     private long id;
+    private String shortCode;
     private LocalDateTime createDate;
     private LocalDateTime modifyDate;
     private long authorId;
@@ -19,6 +20,7 @@ public class SurlDto {
 
     public SurlDto(Surl surl) {
         this.id = surl.getId();
+        this.shortCode = surl.getShortCode();
         this.createDate = surl.getCreateDate();
         this.modifyDate = surl.getModifyDate();
         this.authorId = surl.getAuthor().getId();
@@ -2,7 +2,9 @@ package com.fly.clstudy.domain.sur.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fly.clstudy.domain.member.entity.Member;
+import com.fly.clstudy.global.app.AppConfig;
 import com.fly.clstudy.global.jpa.entity.BaseTime;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToOne;
 import lombok.*;
@@ -21,10 +23,14 @@ public class Surl extends BaseTime {
     private Member author;
     private String body;
     private String url;
+    // 클릭 수는 SurlClickCounter 가 "count = count + ?" 로만 올린다.
+    // 엔티티 수정 시 UPDATE 에 포함되면 읽어 둔 옛 값으로 덮어써 반영된 클릭이 사라지므로 제외
     @Setter(AccessLevel.NONE)
+    @Column(updatable = false)
     private long count;
 
-    public void increaseCount() {
-        count++;
+    // 외부에 노출하는 주소 코드 (저장 전이라 번호가 없으면 null)
+    public String getShortCode() {
+        return getId() == null ? null : AppConfig.getShortCode().encode(getId());
     }
 }
\ No newline at end of file
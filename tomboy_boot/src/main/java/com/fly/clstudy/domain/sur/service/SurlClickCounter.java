@@ -0,0 +1,191 @@
+package com.fly.clstudy.domain.sur.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SURL 클릭 수를 메모리에서 모았다가 묶음 UPDATE 로 반영하는 카운터
+ * 클릭마다 Surl 행을 수정하면 인기 링크가 그 행의 락에 줄을 서므로, 클릭은 id 별 LongAdder 만 올리고
+ * 백그라운드 스레드가 flushIntervalMs 마다 (또는 미반영 클릭이 flushThreshold 를 넘으면)
+ * "count = count + ?" 배치로 한 번에 반영한다. 종료 시에도 남은 클릭을 반영한다.
+ * 배치는 한 트랜잭션으로 실행하므로 중간에 실패하면 전부 롤백되고, 다시 쌓아 둔 클릭이 두 번 반영되지 않는다.
+ */
+@Slf4j
+@Component
+public class SurlClickCounter {
+    private static final String UPDATE_SQL = "UPDATE surl SET count = count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushThreshold;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final LongAdder unflushed = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "surl-click-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile LocalDateTime lastFlushDate;
+
+    public SurlClickCounter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${custom.surl.click.flushIntervalMs:1000}") long flushIntervalMs,
+            @Value("${custom.surl.click.flushThreshold:10000}") long flushThreshold
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushThreshold = flushThreshold;
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 클릭 1회 기록 (DB 에는 다음 반영 때 적용)
+     * @param surlId SURL 번호
+     */
+    public void increment(long surlId) {
+        add(surlId, 1);
+        unflushed.increment();
+
+        // 합계 계산은 셀 전체를 읽으므로 가끔만 확인
+        if (ThreadLocalRandom.current().nextInt(64) == 0
+                && unflushed.sum() >= flushThreshold
+                && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    // 카운터에 클릭을 더함
+    // 더하는 사이 반영 스레드가 카운터를 정리했다면, 정리 뒤 회수되지 못한 클릭을 새 카운터로 옮김
+    // (sumThenReset 은 셀 단위로 가져가므로 반영 스레드와 겹쳐도 한 클릭은 한쪽만 가져감)
+    private void add(long surlId, long clicks) {
+        LongAdder adder = pending.computeIfAbsent(surlId, id -> new LongAdder());
+        adder.add(clicks);
+        while (pending.get(surlId) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved == 0) {
+                return;
+            }
+            adder = pending.computeIfAbsent(surlId, id -> new LongAdder());
+            adder.add(moved);
+        }
+    }
+
+    /**
+     * 모은 클릭을 DB 에 반영 (한 번에 한 스레드만)
+     * @return 반영한 클릭 수
+     */
+    public synchronized long flush() {
+        flushRequested.set(false);
+
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            } else if (pending.remove(id, adder)) {
+                // 한동안 클릭이 없으면 정리하고, 정리 직전에 카운터를 잡은 스레드의 클릭을 한 번 더 회수
+                // (정리 뒤에 더한 스레드는 add 에서 직접 옮김)
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    deltas.put(id, late);
+                }
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), entry.getKey()});
+            total += entry.getValue();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs));
+        } catch (RuntimeException e) {
+            // 롤백되어 반영되지 않은 클릭은 다시 쌓아 두고 다음 주기에 재시도
+            deltas.forEach(this::add);
+            throw e;
+        }
+
+        unflushed.add(-total);
+        flushed.add(total);
+        lastFlushDate = LocalDateTime.now();
+        log.debug("SURL 클릭 반영: {}건, {}개 SURL", total, deltas.size());
+        return total;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("SURL 클릭 반영 실패", e);
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 클릭 수
+     */
+    public long getUnflushedCount() {
+        return unflushed.sum();
+    }
+
+    /**
+     * SURL 별 아직 반영되지 않은 클릭 수
+     */
+    public Map<Long, Long> getUnflushedCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        pending.forEach((id, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                counts.put(id, count);
+            }
+        });
+        return counts;
+    }
+
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    public LocalDateTime getLastFlushDate() {
+        return lastFlushDate;
+    }
+
+    @PreDestroy
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
@@ -1,13 +1,22 @@
 package com.fly.clstudy.domain.sur.service;
 
+import com.fly.clstudy.domain.sur.data.SurlAddReqBody;
 import com.fly.clstudy.domain.sur.repository.SurlRepository;
 import com.fly.clstudy.global.https.RespData;
 import com.fly.clstudy.domain.member.entity.Member;
 import com.fly.clstudy.domain.sur.entity.Surl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +24,12 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SurlService {
+    private static final String INSERT_SQL =
+            "INSERT INTO surl (create_date, modify_date, author_id, body, url, count) VALUES (?, ?, ?, ?, ?, 0)";
+
     private final SurlRepository surlRepository;
+    private final SurlClickCounter surlClickCounter;
+    private final JdbcTemplate jdbcTemplate;
 
     public List<Surl> findAll() {
         return surlRepository.findAll();
@@ -34,13 +48,53 @@ public class SurlService {
         return RespData.of("%d번 SURL이 생성되었습니다.".formatted(surl.getId()), surl);
     }
 
+    /**
+     * 여러 SURL 을 한 트랜잭션에서 JDBC 배치 INSERT 로 생성
+     * Surl 의 id 는 IDENTITY 라 JPA 로 저장하면 한 건씩 INSERT 되므로, 같은 커넥션에서 직접 배치로 보내고
+     * 생성된 키를 요청 순서대로 돌려받는다. (엔티티를 만들지 않으므로 영속성 컨텍스트에도 쌓이지 않음)
+     * @param author 작성자
+     * @param reqBodies 생성할 body/url 목록
+     * @return 생성된 SURL 번호 (요청 순서와 같음)
+     */
+    @Transactional
+    public List<Long> addAll(Member author, List<SurlAddReqBody> reqBodies) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (SurlAddReqBody reqBody : reqBodies) {
+                    ps.setTimestamp(1, now);
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, author.getId());
+                    ps.setString(4, reqBody.getBody());
+                    ps.setString(5, reqBody.getUrl());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(reqBodies.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                // 드라이버가 배치의 키를 모두 돌려주지 않으면 결과를 짝지을 수 없으므로 롤백
+                if (ids.size() != reqBodies.size()) {
+                    throw new IllegalStateException(
+                            "생성된 SURL 번호 수(%d)가 요청 수(%d)와 다릅니다.".formatted(ids.size(), reqBodies.size()));
+                }
+                return ids;
+            }
+        });
+    }
+
     public Optional<Surl> findById(long id) {
         return surlRepository.findById(id);
     }
 
-    @Transactional
+    // 클릭마다 행을 수정하지 않고 메모리에 모았다가 SurlClickCounter 가 묶어서 반영
     public void increaseCount(Surl surl) {
-        surl.increaseCount();
+        surlClickCounter.increment(surl.getId());
     }
 
     @Transactional
@@ -1,8 +1,10 @@
 package com.fly.clstudy.global.app;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fly.clstudy.global.jpa.util.ShortCode;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -24,4 +26,13 @@ public class AppConfig {
         this.objectMapper = objectMapper;
     }
 
+    @Getter
+    private static ShortCode shortCode = new ShortCode(0);
+
+    // 0 이면 번호를 섞지 않고 base62 로만 변환
+    @Value("${custom.shortCode.scrambleKey:0}")
+    public void setShortCodeScrambleKey(long scrambleKey) {
+        this.shortCode = new ShortCode(scrambleKey);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.fly.clstudy.domain.sur.entity;
+
+import com.fly.clstudy.domain.sur.service.SurlClickCounter;
+import com.fly.clstudy.domain.sur.service.SurlService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SurlCountColumnTest {
+    @Autowired
+    private SurlService surlService;
+    @Autowired
+    private SurlClickCounter surlClickCounter;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void modifyAfterClickFlushKeepsFlushedClicks() {
+        Surl surl = surlService.add(null, "네이버", "https://www.naver.com").getData();
+        entityManager.flush();
+
+        // 영속 상태의 surl 은 count = 0 을 들고 있는 채로 클릭이 DB 에 반영됨
+        for (int i = 0; i < 5; i++) {
+            surlClickCounter.increment(surl.getId());
+        }
+        surlClickCounter.flush();
+
+        surlService.modify(surl, "구글", "https://www.google.com");
+        entityManager.flush();
+
+        Long count = jdbcTemplate.queryForObject("SELECT count FROM surl WHERE id = ?", Long.class, surl.getId());
+        assertThat(count).isEqualTo(5L);
+        String url = jdbcTemplate.queryForObject("SELECT url FROM surl WHERE id = ?", String.class, surl.getId());
+        assertThat(url).isEqualTo("https://www.google.com");
+    }
+}
@@ -0,0 +1,143 @@
+package com.fly.clstudy.domain.sur.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.fly.clstudy.domain.member.entity.Member;
+import com.fly.clstudy.domain.sur.data.SurlAddReqBody;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SurlBulkServiceTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ParameterNamesModule());
+    private final List<List<String>> batches = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private ValidatorFactory validatorFactory;
+    private SurlBulkService surlBulkService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.byDefaultProvider().configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .buildValidatorFactory();
+
+        // 묶음마다 url 목록만 기록하고, 요청 순서대로 번호를 붙여 돌려줌
+        SurlService surlService = mock(SurlService.class);
+        when(surlService.addAll(any(), any())).thenAnswer(invocation -> {
+            List<SurlAddReqBody> reqBodies = invocation.getArgument(1);
+            batches.add(reqBodies.stream().map(SurlAddReqBody::getUrl).toList());
+            return reqBodies.stream().map(reqBody -> nextId.getAndIncrement()).collect(Collectors.toList());
+        });
+
+        surlBulkService = new SurlBulkService(surlService, objectMapper, validatorFactory.getValidator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void insertsInBatchesAndWritesOneLinePerItem() throws IOException {
+        int total = SurlBulkService.BATCH_SIZE * 2 + 7;
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < total; i++) {
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"body\":\"캠페인\",\"url\":\"https://example.com/").append(i).append("\"}");
+        }
+        body.append(']');
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long created = surlBulkService.addAll(Member.builder().build(), in(body.toString()), out);
+
+        assertThat(created).isEqualTo(total);
+        assertThat(batches).extracting(List::size)
+                .containsExactly(SurlBulkService.BATCH_SIZE, SurlBulkService.BATCH_SIZE, 7);
+
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).hasSize(total);
+        for (int i = 0; i < total; i++) {
+            JsonNode line = lines.get(i);
+            assertThat(line.get("index").asLong()).isEqualTo(i);
+            assertThat(line.get("id").asLong()).isEqualTo(i + 1);
+            assertThat(line.get("url").asText()).isEqualTo("https://example.com/" + i);
+            assertThat(line.has("msg")).isFalse();
+        }
+    }
+
+    @Test
+    void readsNdjsonAndReportsInvalidItemsInPlace() throws IOException {
+        String body = """
+                {"body":"a","url":"https://a.com"}
+                {"body":"","url":"https://blank-body.com"}
+                {"body":"no url"}
+                null
+                {"body":"b","url":["https://x.com"]}
+                {"body":"c","url":"https://c.com"}
+                """;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long created = surlBulkService.addAll(Member.builder().build(), in(body), out);
+
+        assertThat(created).isEqualTo(2);
+        assertThat(batches).containsExactly(List.of("https://a.com", "https://c.com"));
+
+        // 실패 줄은 검증 즉시, 성공 줄은 묶음 저장 후에 나오므로 index 로 짝을 맞춘다
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).extracting(line -> line.get("index").asLong()).containsExactly(1L, 2L, 3L, 4L, 0L, 5L);
+        assertThat(lines.get(0).get("url").asText()).isEqualTo("https://blank-body.com");
+        assertThat(lines.get(0).get("msg").asText()).startsWith("body: ");
+        assertThat(lines.get(1).get("msg").asText()).startsWith("url: ");
+        assertThat(lines.get(2).get("msg").asText()).startsWith("항목 형식 오류");
+        assertThat(lines.get(3).get("msg").asText()).startsWith("항목 형식 오류");
+        assertThat(lines.subList(0, 4)).allSatisfy(line -> assertThat(line.has("id")).isFalse());
+        assertThat(lines.get(4).get("id").asLong()).isEqualTo(1);
+        assertThat(lines.get(5).get("id").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    void malformedBodyKeepsWhatWasReadAndStops() throws IOException {
+        String body = "[{\"body\":\"a\",\"url\":\"https://a.com\"},{\"body\":\"b\",\"url\":";
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long created = surlBulkService.addAll(Member.builder().build(), in(body), out);
+
+        assertThat(created).isEqualTo(1);
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1).get("index").asLong()).isEqualTo(1);
+        assertThat(lines.get(1).get("msg").asText()).startsWith("요청 형식 오류");
+    }
+
+    private static ByteArrayInputStream in(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws IOException {
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+        assertThat(ndjson).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,152 @@
+package com.fly.clstudy.domain.sur.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SurlClickCounterTest {
+    private static final int THREADS = 32;
+    private static final int CLICKS_PER_THREAD = 100_000;
+    private static final int SURL_COUNT = 50;
+
+    @Test
+    void concurrentClicksAreNeverLost() throws Exception {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        SurlClickCounter counter = new SurlClickCounter(jdbcTemplate, jdbcTemplate, 5, 1_000);
+
+        long[][] expected = new long[THREADS][SURL_COUNT + 1];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int worker = t;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < CLICKS_PER_THREAD; i++) {
+                        // 절반은 인기 링크 1번, 나머지는 고르게
+                        long id = random.nextBoolean() ? 1 : 1 + random.nextInt(SURL_COUNT);
+                        counter.increment(id);
+                        expected[worker][(int) id]++;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+        counter.close();
+
+        for (int id = 1; id <= SURL_COUNT; id++) {
+            long clicks = 0;
+            for (long[] perThread : expected) {
+                clicks += perThread[id];
+            }
+            assertThat(jdbcTemplate.counts.getOrDefault((long) id, 0L)).as("surl %d", id).isEqualTo(clicks);
+        }
+        assertThat(counter.getFlushedCount()).isEqualTo((long) THREADS * CLICKS_PER_THREAD);
+        assertThat(counter.getUnflushedCount()).isZero();
+        assertThat(jdbcTemplate.batches).isGreaterThan(1);
+    }
+
+    @Test
+    void failedFlushIsRetried() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        SurlClickCounter counter = new SurlClickCounter(jdbcTemplate, jdbcTemplate, 60_000, Long.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            counter.increment(7);
+        }
+
+        jdbcTemplate.failNext.set(true);
+        assertThatThrownBy(counter::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(counter.getUnflushedCounts()).containsEntry(7L, 10L);
+
+        assertThat(counter.flush()).isEqualTo(10);
+        assertThat(jdbcTemplate.counts).containsEntry(7L, 10L);
+        counter.close();
+    }
+
+    @Test
+    void batchFailingPartwayIsRolledBackAndAppliedOnce() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        SurlClickCounter counter = new SurlClickCounter(jdbcTemplate, jdbcTemplate, 60_000, Long.MAX_VALUE);
+        for (long id = 1; id <= 4; id++) {
+            for (int i = 0; i < 5; i++) {
+                counter.increment(id);
+            }
+        }
+
+        // 4개 중 2개 행을 반영한 뒤 실패
+        jdbcTemplate.failAfterRows.set(2);
+        assertThatThrownBy(counter::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(jdbcTemplate.counts).isEmpty();
+        assertThat(jdbcTemplate.rollbacks).isEqualTo(1);
+
+        assertThat(counter.flush()).isEqualTo(20);
+        assertThat(jdbcTemplate.counts).containsOnly(
+                Map.entry(1L, 5L), Map.entry(2L, 5L), Map.entry(3L, 5L), Map.entry(4L, 5L));
+        counter.close();
+    }
+
+    // "count = count + ?" 배치를 트랜잭션 단위로 메모리에 누적 (커밋 때 반영, 롤백 때 버림)
+    private static class RecordingJdbcTemplate extends JdbcTemplate implements PlatformTransactionManager {
+        private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+        private final Map<Long, Long> staged = new HashMap<>();
+        private final AtomicBoolean failNext = new AtomicBoolean();
+        private final AtomicInteger failAfterRows = new AtomicInteger(-1);
+        private volatile int batches;
+        private volatile int rollbacks;
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("DB 장애");
+            }
+            int failAfter = failAfterRows.getAndSet(-1);
+            for (int i = 0; i < batchArgs.size(); i++) {
+                if (i == failAfter) {
+                    throw new IllegalStateException("DB 장애 (배치 중간)");
+                }
+                Object[] args = batchArgs.get(i);
+                staged.merge((Long) args[1], (Long) args[0], Long::sum);
+            }
+            batches++;
+            return new int[batchArgs.size()];
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            staged.forEach((id, delta) -> counts.merge(id, delta, Long::sum));
+            staged.clear();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            staged.clear();
+            rollbacks++;
+        }
+    }
+}